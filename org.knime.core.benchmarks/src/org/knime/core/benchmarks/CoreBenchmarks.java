@@ -0,0 +1,142 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.benchmarks;
+
+import static org.junit.Assert.assertFalse;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the JMH benchmarks of the data container and table I/O stack and writes the results as JSON. The benchmarks
+ * can be run either via {@link #main(String[])} or as JUnit test (which is what the <code>benchmark</code> Maven
+ * profile does). The run is configured by the following system properties:
+ * <ul>
+ * <li><code>knime.benchmark.include</code>: regular expression selecting the benchmarks to run (default: all)</li>
+ * <li><code>knime.benchmark.result</code>: the JSON file the results are written to (default:
+ * <code>jmh-result.json</code> in the working directory)</li>
+ * <li><code>knime.benchmark.forks</code>: the number of JVM forks per benchmark (default: 0). Forking requires the
+ * core classes to be available on a flat class path and hence doesn't work when run inside the OSGi framework.</li>
+ * </ul>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class CoreBenchmarks {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(CoreBenchmarks.class);
+
+    /** System property holding the regular expression selecting the benchmarks to run. */
+    public static final String PROPERTY_INCLUDE = "knime.benchmark.include";
+
+    /** System property holding the path of the JSON result file. */
+    public static final String PROPERTY_RESULT = "knime.benchmark.result";
+
+    /** System property holding the number of forks. */
+    public static final String PROPERTY_FORKS = "knime.benchmark.forks";
+
+    private static final String DEF_INCLUDE = "org\\.knime\\.core\\..*Benchmark";
+
+    private static final String DEF_RESULT = "jmh-result.json";
+
+    /**
+     * Runs the benchmarks as configured by the system properties.
+     *
+     * @return the results of the run
+     * @throws RunnerException if running the benchmarks fails
+     */
+    public static Collection<RunResult> run() throws RunnerException {
+        final String result = System.getProperty(PROPERTY_RESULT, DEF_RESULT);
+        final Options options = new OptionsBuilder() //
+            .include(System.getProperty(PROPERTY_INCLUDE, DEF_INCLUDE)) //
+            .forks(Integer.getInteger(PROPERTY_FORKS, 0)) //
+            .mode(Mode.AverageTime) //
+            .warmupIterations(3) //
+            .warmupTime(TimeValue.seconds(2)) //
+            .measurementIterations(5) //
+            .measurementTime(TimeValue.seconds(2)) //
+            .timeUnit(TimeUnit.MILLISECONDS) //
+            .shouldFailOnError(true) //
+            .resultFormat(ResultFormatType.JSON) //
+            .result(result) //
+            .build();
+        final Collection<RunResult> results = new Runner(options).run();
+        LOGGER.info("Wrote results of " + results.size() + " benchmark(s) to " + result);
+        return results;
+    }
+
+    /**
+     * Runs the benchmarks as part of a test run.
+     *
+     * @throws RunnerException if running the benchmarks fails
+     */
+    @Test
+    public void runBenchmarks() throws RunnerException {
+        assertFalse("No benchmarks have been run", run().isEmpty());
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args ignored, use the system properties to configure the run
+     * @throws RunnerException if running the benchmarks fails
+     */
+    public static void main(final String[] args) throws RunnerException {
+        run();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.benchmarks;
+
+import java.util.SplittableRandom;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Creates the synthetic, reproducible input data used by the benchmarks. Tables consist of a configurable number of
+ * columns of a configurable {@link CellKind}; the cell values are drawn from a seeded random generator so that
+ * repeated runs (and runs on different machines) operate on the same data.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class SyntheticTables {
+
+    /** The seed of the random generator used for creating the cell values. */
+    private static final long SEED = 0x5DEECE66DL;
+
+    /** The number of distinct values in string columns (so that sorting and joining see duplicates). */
+    private static final int STRING_CARDINALITY = 10_000;
+
+    /** The cell types of the generated columns. */
+    public enum CellKind {
+            /** All columns contain {@link DoubleCell}s. */
+            DOUBLE,
+            /** All columns contain {@link StringCell}s. */
+            STRING,
+            /** The columns alternate between {@link IntCell}, {@link DoubleCell}, {@link StringCell} and
+             * {@link LongCell}. */
+            MIXED;
+
+        /**
+         * @param columnIndex the index of a column
+         * @return the type of the column with the given index
+         */
+        DataType getType(final int columnIndex) {
+            switch (this) {
+                case DOUBLE:
+                    return DoubleCell.TYPE;
+                case STRING:
+                    return StringCell.TYPE;
+                default:
+                    switch (columnIndex % 4) {
+                        case 0:
+                            return IntCell.TYPE;
+                        case 1:
+                            return DoubleCell.TYPE;
+                        case 2:
+                            return StringCell.TYPE;
+                        default:
+                            return LongCell.TYPE;
+                    }
+            }
+        }
+    }
+
+    private SyntheticTables() {
+    }
+
+    /**
+     * Creates the spec of a synthetic table.
+     *
+     * @param width the number of columns
+     * @param kind the cell type of the columns
+     * @return the spec with columns named &quot;Column 0&quot;, &quot;Column 1&quot;, ...
+     */
+    public static DataTableSpec createSpec(final int width, final CellKind kind) {
+        final DataColumnSpec[] colSpecs = new DataColumnSpec[width];
+        for (int i = 0; i < width; i++) {
+            colSpecs[i] = new DataColumnSpecCreator("Column " + i, kind.getType(i)).createSpec();
+        }
+        return new DataTableSpec(colSpecs);
+    }
+
+    /**
+     * Creates the rows of a synthetic table. The rows are kept in memory, which allows benchmarks to measure the
+     * writing of tables without the cost of generating the data.
+     *
+     * @param spec the spec as created by {@link #createSpec(int, CellKind)}
+     * @param rowCount the number of rows
+     * @return the rows, with row keys &quot;Row0&quot;, &quot;Row1&quot;, ...
+     */
+    public static DataRow[] createRows(final DataTableSpec spec, final int rowCount) {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final DataRow[] rows = new DataRow[rowCount];
+        final DataCell[] cells = new DataCell[spec.getNumColumns()];
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < cells.length; c++) {
+                cells[c] = createCell(spec.getColumnSpec(c).getType(), random, rowCount);
+            }
+            rows[r] = new DefaultRow(RowKey.createRowKey((long)r), cells);
+        }
+        return rows;
+    }
+
+    /**
+     * Creates a synthetic {@link BufferedDataTable}.
+     *
+     * @param exec the context used to create the table (see {@link #createExecutionContext()})
+     * @param width the number of columns
+     * @param kind the cell type of the columns
+     * @param rowCount the number of rows
+     * @param maxCellsInMemory the number of cells that are kept in memory, 0 to force the table being written to disk
+     * @return the table
+     */
+    public static BufferedDataTable createTable(final ExecutionContext exec, final int width, final CellKind kind,
+        final int rowCount, final int maxCellsInMemory) {
+        final DataTableSpec spec = createSpec(width, kind);
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final BufferedDataContainer container = exec.createDataContainer(spec, true, maxCellsInMemory);
+        final DataCell[] cells = new DataCell[width];
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < width; c++) {
+                cells[c] = createCell(spec.getColumnSpec(c).getType(), random, rowCount);
+            }
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)r), cells));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /**
+     * Creates an execution context that is not part of a workflow. Tables created with this context are owned by a
+     * dummy node and can be disposed using {@link ExecutionContext#clearTable(BufferedDataTable)}.
+     *
+     * @return a new execution context
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static ExecutionContext createExecutionContext() {
+        return new ExecutionContext(new DefaultNodeProgressMonitor(),
+            new Node((NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0])),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+    }
+
+    private static DataCell createCell(final DataType type, final SplittableRandom random, final int rowCount) {
+        if (type.equals(IntCell.TYPE)) {
+            return new IntCell(random.nextInt(rowCount));
+        } else if (type.equals(LongCell.TYPE)) {
+            return new LongCell(random.nextLong());
+        } else if (type.equals(StringCell.TYPE)) {
+            return new StringCell("Value " + random.nextInt(STRING_CARDINALITY));
+        } else {
+            return new DoubleCell(random.nextDouble());
+        }
+    }
+}
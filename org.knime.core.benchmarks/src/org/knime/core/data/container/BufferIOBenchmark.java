@@ -0,0 +1,144 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import org.knime.core.benchmarks.SyntheticTableState;
+import org.knime.core.benchmarks.SyntheticTables;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks saving and loading a {@link Buffer} with each {@link CompressionFormat}. All tables are written to disk
+ * right away and the LRU cache is disabled so that each load reads (and decompresses) the file.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+public class BufferIOBenchmark extends SyntheticTableState {
+
+    /** The compression of the table files. */
+    @Param({"NONE", "GZIP", "SNAPPY"})
+    public CompressionFormat m_compression;
+
+    private DataTableSpec m_spec;
+
+    private DataRow[] m_rows;
+
+    private DataContainerSettings m_settings;
+
+    private ContainerTable m_table;
+
+    /** Creates the rows and writes the table that is read by {@link #load(Blackhole)}. */
+    @Setup(Level.Trial)
+    public void createTable() {
+        m_spec = SyntheticTables.createSpec(m_width, m_cellKind);
+        m_rows = SyntheticTables.createRows(m_spec, m_rowCount);
+        m_settings = DataContainerSettings.getDefault() //
+            .withMaxCellsInMemory(0) //
+            .withBufferSettings(BufferSettings.getDefault() //
+                .withLRU(false) //
+                .withOutputFormat(new DefaultTableStoreFormat(
+                    DefaultTableStoreSettings.getDefault().withCompression(m_compression))));
+        m_table = write();
+    }
+
+    /** Deletes the table read by {@link #load(Blackhole)}. */
+    @TearDown(Level.Trial)
+    public void clearTable() {
+        m_table.clear();
+    }
+
+    /**
+     * Writes the rows to a new table file.
+     *
+     * @return the size of the written table
+     */
+    @Benchmark
+    public long save() {
+        final ContainerTable table = write();
+        final long size = table.size();
+        table.clear();
+        return size;
+    }
+
+    /**
+     * Reads all cells of the table file.
+     *
+     * @param blackhole consumes the cells
+     */
+    @Benchmark
+    public void load(final Blackhole blackhole) {
+        try (final CloseableRowIterator it = m_table.iterator()) {
+            while (it.hasNext()) {
+                for (final DataCell cell : it.next()) {
+                    blackhole.consume(cell);
+                }
+            }
+        }
+    }
+
+    private ContainerTable write() {
+        final DataContainer container = new DataContainer(m_spec, m_settings);
+        for (final DataRow row : m_rows) {
+            container.addRowToTable(row);
+        }
+        container.close();
+        return (ContainerTable)container.getTable();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import org.knime.core.benchmarks.SyntheticTableState;
+import org.knime.core.benchmarks.SyntheticTables;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the execution of {@link ColumnRearranger}s via
+ * {@link ExecutionContext#createColumnRearrangeTable(BufferedDataTable, ColumnRearranger,
+ * org.knime.core.node.ExecutionMonitor)}: filtering columns only, and appending a computed column sequentially and
+ * concurrently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+public class ColumnRearrangerBenchmark extends SyntheticTableState {
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_table;
+
+    /** Creates the input table. */
+    @Setup(Level.Trial)
+    public void createTable() {
+        m_exec = SyntheticTables.createExecutionContext();
+        m_table = SyntheticTables.createTable(m_exec, m_width, m_cellKind, m_rowCount, -1);
+    }
+
+    /** Deletes the input table. */
+    @TearDown(Level.Trial)
+    public void clearTable() {
+        m_exec.clearTable(m_table);
+    }
+
+    /**
+     * Removes every other column.
+     *
+     * @return the size of the output table
+     * @throws CanceledExecutionException not thrown
+     */
+    @Benchmark
+    public long filterColumns() throws CanceledExecutionException {
+        final ColumnRearranger rearranger = new ColumnRearranger(m_table.getDataTableSpec());
+        for (int i = m_width - 1; i >= 0; i -= 2) {
+            rearranger.remove(i);
+        }
+        return execute(rearranger);
+    }
+
+    /**
+     * Appends a column holding the hash code of each row's cells.
+     *
+     * @return the size of the output table
+     * @throws CanceledExecutionException not thrown
+     */
+    @Benchmark
+    public long appendColumn() throws CanceledExecutionException {
+        return execute(createAppendingRearranger(false));
+    }
+
+    /**
+     * Appends a column holding the hash code of each row's cells, computed concurrently.
+     *
+     * @return the size of the output table
+     * @throws CanceledExecutionException not thrown
+     */
+    @Benchmark
+    public long appendColumnConcurrently() throws CanceledExecutionException {
+        return execute(createAppendingRearranger(true));
+    }
+
+    private ColumnRearranger createAppendingRearranger(final boolean processConcurrently) {
+        final ColumnRearranger rearranger = new ColumnRearranger(m_table.getDataTableSpec());
+        rearranger.append(new SingleCellFactory(processConcurrently,
+            new DataColumnSpecCreator("Row hash", IntCell.TYPE).createSpec()) {
+            @Override
+            public DataCell getCell(final DataRow row) {
+                int hash = 1;
+                for (final DataCell cell : row) {
+                    hash = 31 * hash + cell.hashCode();
+                }
+                return new IntCell(hash);
+            }
+        });
+        return rearranger;
+    }
+
+    private long execute(final ColumnRearranger rearranger) throws CanceledExecutionException {
+        final BufferedDataTable result = m_exec.createColumnRearrangeTable(m_table, rearranger, m_exec);
+        final long size = result.size();
+        m_exec.clearTable(result);
+        return size;
+    }
+}
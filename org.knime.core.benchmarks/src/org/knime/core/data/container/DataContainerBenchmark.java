@@ -0,0 +1,112 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import org.knime.core.benchmarks.SyntheticTableState;
+import org.knime.core.benchmarks.SyntheticTables;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link DataContainer#addRowToTable(DataRow)} and {@link DataContainer#close()}, i.e., the cost of
+ * creating a table including domain calculation and duplicate checking, once with all rows kept in memory and once
+ * with all rows written to disk.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+public class DataContainerBenchmark extends SyntheticTableState {
+
+    private DataTableSpec m_spec;
+
+    private DataRow[] m_rows;
+
+    /** Creates the rows that are added to the containers. */
+    @Setup(Level.Trial)
+    public void createRows() {
+        m_spec = SyntheticTables.createSpec(m_width, m_cellKind);
+        m_rows = SyntheticTables.createRows(m_spec, m_rowCount);
+    }
+
+    /**
+     * Writes a table that is kept in memory.
+     *
+     * @return the size of the written table
+     */
+    @Benchmark
+    public long writeInMemory() {
+        return write(DataContainerSettings.getDefault().withMaxCellsInMemory(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Writes a table that is written to disk.
+     *
+     * @return the size of the written table
+     */
+    @Benchmark
+    public long writeToDisk() {
+        return write(DataContainerSettings.getDefault().withMaxCellsInMemory(0));
+    }
+
+    private long write(final DataContainerSettings settings) {
+        final DataContainer container = new DataContainer(m_spec, settings);
+        for (final DataRow row : m_rows) {
+            container.addRowToTable(row);
+        }
+        container.close();
+        final ContainerTable table = (ContainerTable)container.getTable();
+        final long size = table.size();
+        table.clear();
+        return size;
+    }
+}
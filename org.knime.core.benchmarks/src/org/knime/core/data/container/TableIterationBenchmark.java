@@ -0,0 +1,140 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import org.knime.core.benchmarks.SyntheticTableState;
+import org.knime.core.benchmarks.SyntheticTables;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks iterating a {@link BufferedDataTable} that has been written to disk, comparing the plain
+ * {@link BufferedDataTable#iterator() iterator} with {@link BufferedDataTable#filter(TableFilter) filtered
+ * iterators} that materialize a single column or a range of rows only.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+public class TableIterationBenchmark extends SyntheticTableState {
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_table;
+
+    /** Creates the table that is iterated. */
+    @Setup(Level.Trial)
+    public void createTable() {
+        m_exec = SyntheticTables.createExecutionContext();
+        m_table = SyntheticTables.createTable(m_exec, m_width, m_cellKind, m_rowCount, 0);
+    }
+
+    /** Deletes the table. */
+    @TearDown(Level.Trial)
+    public void clearTable() {
+        m_exec.clearTable(m_table);
+    }
+
+    /**
+     * Iterates all cells of the table.
+     *
+     * @param blackhole consumes the cells
+     */
+    @Benchmark
+    public void iterator(final Blackhole blackhole) {
+        try (final CloseableRowIterator it = m_table.iterator()) {
+            while (it.hasNext()) {
+                for (final DataCell cell : it.next()) {
+                    blackhole.consume(cell);
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterates the first column of the table.
+     *
+     * @param blackhole consumes the cells
+     */
+    @Benchmark
+    public void iteratorWithColumnFilter(final Blackhole blackhole) {
+        try (final CloseableRowIterator it = m_table.filter(TableFilter.materializeCols(0)).iterator()) {
+            while (it.hasNext()) {
+                blackhole.consume(it.next().getCell(0));
+            }
+        }
+    }
+
+    /**
+     * Iterates all cells of the last tenth of the table's rows.
+     *
+     * @param blackhole consumes the cells
+     */
+    @Benchmark
+    public void iteratorWithRowFilter(final Blackhole blackhole) {
+        final long to = m_table.size() - 1;
+        final TableFilter filter = TableFilter.filterRangeOfRows(to - m_table.size() / 10, to);
+        try (final CloseableRowIterator it = m_table.filter(filter).iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                for (final DataCell cell : row) {
+                    blackhole.consume(cell);
+                }
+            }
+        }
+    }
+}
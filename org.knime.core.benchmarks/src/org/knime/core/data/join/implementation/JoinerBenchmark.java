@@ -0,0 +1,133 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.join.implementation;
+
+import org.knime.core.benchmarks.SyntheticTableState;
+import org.knime.core.benchmarks.SyntheticTables;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.join.JoinSpecification;
+import org.knime.core.data.join.JoinSpecification.InputTable;
+import org.knime.core.data.join.JoinSpecification.OutputRowOrder;
+import org.knime.core.data.join.JoinTableSettings;
+import org.knime.core.data.join.JoinTableSettings.JoinColumn;
+import org.knime.core.data.join.implementation.JoinerFactory.JoinAlgorithm;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks a left outer join of two synthetic tables on their first column. The right table has half the rows of
+ * the left table; as both are generated from the same seed, the tables share join values for all cell types.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+public class JoinerBenchmark extends SyntheticTableState {
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_left;
+
+    private BufferedDataTable m_right;
+
+    private JoinSpecification m_joinSpec;
+
+    /**
+     * Creates the tables to join.
+     *
+     * @throws InvalidSettingsException not thrown
+     */
+    @Setup(Level.Trial)
+    public void createTables() throws InvalidSettingsException {
+        m_exec = SyntheticTables.createExecutionContext();
+        m_left = SyntheticTables.createTable(m_exec, m_width, m_cellKind, m_rowCount, -1);
+        m_right = SyntheticTables.createTable(m_exec, m_width, m_cellKind, m_rowCount / 2, -1);
+        final String[] includes =
+            m_left.getDataTableSpec().stream().map(DataColumnSpec::getName).toArray(String[]::new);
+        final JoinColumn[] joinColumns = new JoinColumn[]{new JoinColumn(includes[0])};
+        final JoinTableSettings leftSettings =
+            new JoinTableSettings(true, joinColumns, includes, InputTable.LEFT, m_left);
+        final JoinTableSettings rightSettings =
+            new JoinTableSettings(false, joinColumns, includes, InputTable.RIGHT, m_right);
+        m_joinSpec = new JoinSpecification.Builder(leftSettings, rightSettings) //
+            .columnNameDisambiguator(name -> name.concat("*")) //
+            .outputRowOrder(OutputRowOrder.ARBITRARY) //
+            .rowKeyFactory(JoinSpecification.createConcatRowKeysFactory("_")) //
+            .build();
+    }
+
+    /** Deletes the tables to join. */
+    @TearDown(Level.Trial)
+    public void clearTables() {
+        m_exec.clearTable(m_left);
+        m_exec.clearTable(m_right);
+    }
+
+    /**
+     * Joins the tables into a single output table.
+     *
+     * @return the size of the joined table
+     * @throws CanceledExecutionException not thrown
+     * @throws InvalidSettingsException not thrown
+     */
+    @Benchmark
+    public long join() throws CanceledExecutionException, InvalidSettingsException {
+        final BufferedDataTable joined = JoinAlgorithm.AUTO.getFactory().create(m_joinSpec, m_exec)
+            .joinOutputCombined().getResults().getTable();
+        final long size = joined.size();
+        m_exec.clearTable(joined);
+        return size;
+    }
+}
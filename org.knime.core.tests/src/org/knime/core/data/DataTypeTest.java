@@ -0,0 +1,183 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.collection.ListCell;
+import org.knime.core.data.collection.ListDataValue;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests the type lookup and compatibility checks of {@link DataType}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("static-method")
+public final class DataTypeTest {
+
+    private static final List<Class<? extends DataValue>> VALUE_CLASSES = List.of(DataValue.class,
+        DoubleValue.class, IntValue.class, LongValue.class, BooleanValue.class, StringValue.class, NominalValue.class,
+        BoundedValue.class, ComplexNumberValue.class, CollectionDataValue.class, ListDataValue.class);
+
+    /**
+     * Compares {@link DataType#isCompatible(Class)} with the assignability of the type's value classes.
+     */
+    @Test
+    public void testIsCompatible() {
+        final List<DataType> types = List.of(DoubleCell.TYPE, IntCell.TYPE, LongCell.TYPE, BooleanCell.TYPE,
+            StringCell.TYPE, ListCell.getCollectionType(IntCell.TYPE),
+            DataType.getCommonSuperType(IntCell.TYPE, StringCell.TYPE));
+        for (DataType type : types) {
+            for (Class<? extends DataValue> valueClass : VALUE_CLASSES) {
+                final boolean expected =
+                    type.getValueClasses().stream().anyMatch(valueClass::isAssignableFrom);
+                assertEquals(expected, type.isCompatible(valueClass),
+                    "Wrong compatibility of " + type + " to " + valueClass.getSimpleName());
+            }
+        }
+        assertTrue(IntCell.TYPE.isCompatible(DoubleValue.class));
+        assertFalse(DoubleCell.TYPE.isCompatible(IntValue.class));
+        assertFalse(IntCell.TYPE.isCompatible(StringValue.class));
+
+        final DataType missingType = DataType.getMissingCell().getType();
+        for (Class<? extends DataValue> valueClass : VALUE_CLASSES) {
+            assertTrue(missingType.isCompatible(valueClass), "Missing type not compatible to " + valueClass);
+        }
+    }
+
+    /**
+     * Tests that concurrent lookups of a type that hasn't been created before return the same instance.
+     *
+     * @throws Exception if the lookup fails
+     */
+    @Test
+    public void testConcurrentGetType() throws Exception {
+        final int nrThreads = 16;
+        final ExecutorService executor = Executors.newFixedThreadPool(nrThreads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<DataType>> futures = new ArrayList<>();
+            for (int i = 0; i < nrThreads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return DataType.getType(TestCell.class);
+                }));
+            }
+            start.countDown();
+            final DataType type = futures.get(0).get();
+            for (Future<DataType> future : futures) {
+                assertSame(type, future.get(), "Type not interned");
+            }
+            assertSame(type, DataType.getType(TestCell.class));
+            assertTrue(type.isCompatible(StringValue.class));
+            assertFalse(type.isCompatible(DoubleValue.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that the common super type of native types is determined correctly and only once.
+     */
+    @Test
+    public void testCommonSuperType() {
+        assertSame(DoubleCell.TYPE, DataType.getCommonSuperType(IntCell.TYPE, DoubleCell.TYPE));
+        assertSame(DoubleCell.TYPE, DataType.getCommonSuperType(DoubleCell.TYPE, IntCell.TYPE));
+
+        final DataType superType = DataType.getCommonSuperType(IntCell.TYPE, StringCell.TYPE);
+        assertSame(superType, DataType.getCommonSuperType(IntCell.TYPE, StringCell.TYPE));
+        assertTrue(superType.isASuperTypeOf(IntCell.TYPE));
+        assertTrue(superType.isASuperTypeOf(StringCell.TYPE));
+        assertFalse(superType.isCompatible(StringValue.class));
+        assertEquals(superType, DataType.getCommonSuperType(StringCell.TYPE, IntCell.TYPE));
+    }
+
+    /** A cell type that is only used by this test. */
+    private static final class TestCell extends DataCell implements StringValue {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String getStringValue() {
+            return "test";
+        }
+
+        @Override
+        public String toString() {
+            return getStringValue();
+        }
+
+        @Override
+        protected boolean equalsDataCell(final DataCell dc) {
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Testcases for {@link ParallelDomainCalculator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelDomainCalculatorTest {
+
+    private static final int ROW_COUNT = 10_000;
+
+    private ExecutionContext m_exec;
+
+    /**
+     * Creates the execution context.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Before
+    public void setUp() {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Checks that the parallel calculation yields the same bounds and possible values (in the same order) as the
+     * sequential one.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testSameAsSequential() throws Exception {
+        final BufferedDataTable table = createTable(new DataTableSpec(createColumnSpecs()));
+
+        final var sequential = new DataTableDomainCreator(table.getDataTableSpec(), false);
+        sequential.updateDomain(table, m_exec);
+
+        final var parallel = new DataTableDomainCreator(table.getDataTableSpec(), false);
+        new ParallelDomainCalculator(parallel).setParallelism(4).setMinRowsPerRange(500).updateDomain(table, m_exec);
+
+        assertSameDomains(sequential.createSpec(), parallel.createSpec());
+    }
+
+    /**
+     * Checks that domain values of the input spec which are to be retained come first, both sequentially and in
+     * parallel.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testInitialDomainRetained() throws Exception {
+        final DataColumnSpec[] colSpecs = createColumnSpecs();
+        final var stringCol = new DataColumnSpecCreator(colSpecs[3]);
+        stringCol.setDomain(new DataColumnDomainCreator(new DataCell[]{new StringCell("initial"),
+            new StringCell("v7")}).createDomain());
+        colSpecs[3] = stringCol.createSpec();
+        final BufferedDataTable table = createTable(new DataTableSpec(colSpecs));
+
+        final var sequential = new DataTableDomainCreator(table.getDataTableSpec(), true);
+        sequential.updateDomain(table, m_exec);
+
+        final var parallel = new DataTableDomainCreator(table.getDataTableSpec(), true);
+        new ParallelDomainCalculator(parallel).setParallelism(3).setMinRowsPerRange(100).updateDomain(table, m_exec);
+
+        final DataTableSpec parallelSpec = parallel.createSpec();
+        assertSameDomains(sequential.createSpec(), parallelSpec);
+        assertThat("Unexpected first domain value",
+            parallelSpec.getColumnSpec(3).getDomain().getValues().iterator().next(), is(new StringCell("initial")));
+    }
+
+    /**
+     * Checks that too many possible values drop the domain values in the parallel case, too.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testTooManyPossibleValues() throws Exception {
+        final BufferedDataTable table = createTable(new DataTableSpec(createColumnSpecs()));
+
+        final var parallel = new DataTableDomainCreator(table.getDataTableSpec(), false);
+        parallel.setMaxPossibleValues(10);
+        new ParallelDomainCalculator(parallel).setParallelism(4).setMinRowsPerRange(500).updateDomain(table, m_exec);
+
+        assertThat("Unexpected domain values", parallel.createSpec().getColumnSpec(3).getDomain().hasValues(),
+            is(false));
+    }
+
+    private static void assertSameDomains(final DataTableSpec expected, final DataTableSpec actual) {
+        for (var i = 0; i < expected.getNumColumns(); i++) {
+            final DataColumnDomain exp = expected.getColumnSpec(i).getDomain();
+            final DataColumnDomain act = actual.getColumnSpec(i).getDomain();
+            final String name = expected.getColumnSpec(i).getName();
+            assertThat("Unexpected lower bound in " + name, act.getLowerBound(), is(exp.getLowerBound()));
+            assertThat("Unexpected upper bound in " + name, act.getUpperBound(), is(exp.getUpperBound()));
+            assertThat("Unexpected domain values in " + name, toList(act), is(toList(exp)));
+        }
+        assertThat("Unexpected spec", actual, is(expected));
+    }
+
+    private static List<DataCell> toList(final DataColumnDomain domain) {
+        return domain.hasValues() ? new ArrayList<>(domain.getValues()) : null;
+    }
+
+    private static DataColumnSpec[] createColumnSpecs() {
+        return new DataColumnSpec[]{new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec()};
+    }
+
+    private BufferedDataTable createTable(final DataTableSpec spec) {
+        final var random = new Random(42);
+        final BufferedDataContainer container = m_exec.createDataContainer(spec);
+        for (var i = 0; i < ROW_COUNT; i++) {
+            final DataCell doubleCell = i % 97 == 0 ? new DoubleCell(Double.NaN)
+                : (i % 89 == 0 ? DataType.getMissingCell() : new DoubleCell(random.nextGaussian() * 1000));
+            final DataCell intCell = i % 83 == 0 ? DataType.getMissingCell() : new IntCell(random.nextInt());
+            final DataCell longCell = new LongCell(random.nextLong());
+            // values first appear in a random order spread over the whole table
+            final DataCell stringCell = new StringCell("v" + random.nextInt(1 + i / 200));
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), doubleCell, intCell, longCell,
+                stringCell));
+        }
+        container.close();
+        return container.getTable();
+    }
+}
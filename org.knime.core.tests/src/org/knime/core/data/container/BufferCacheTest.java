@@ -48,7 +48,10 @@
  */
 package org.knime.core.data.container;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.ref.WeakReference;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -171,6 +174,49 @@ public void testSoftRefCache() throws InterruptedException {
         }
     }
 
+    /**
+     * Tests that flushed tables which are pushed out of the LRU cache are demoted to the off-heap tier, from where
+     * the bytes of their files can be read, and that invalidation also removes them from the off-heap tier. Also tests
+     * that the files of tables are forgotten once they have been demoted.
+     *
+     * @throws IOException if reading the table files fails
+     */
+    @Test
+    public void testOffHeapTier() throws IOException {
+        final int k = BufferSettings.getDefault().getLRUCacheSize();
+        final List<Pair<Buffer, List<BlobSupportDataRow>>> tables = generateKTables(k + 1, true);
+        final BufferCache cache = new BufferCache();
+        cache.setOffHeapCacheSize(1 << 20);
+        addTablesToCache(tables, cache, true);
+
+        // the first table has been pushed out of the LRU cache by the last one
+        final Buffer demoted = tables.get(0).getFirst();
+        final Optional<InputStream> stream = cache.openOffHeap(demoted);
+        Assert.assertTrue("Table has not been demoted off-heap.", stream.isPresent());
+        try (InputStream in = stream.get()) {
+            Assert.assertArrayEquals("Off-heap copy differs from table file.",
+                Files.readAllBytes(demoted.getOffHeapCacheableFile().get().toPath()), in.readAllBytes());
+        }
+        Assert.assertFalse("Recently used table has been demoted off-heap.",
+            cache.openOffHeap(tables.get(k).getFirst()).isPresent());
+        Assert.assertEquals("Demoted table still a candidate for demotion.", k, cache.getNrFlushedFiles());
+
+        cache.invalidate(demoted);
+        Assert.assertFalse("Invalidated table still off-heap.", cache.openOffHeap(demoted).isPresent());
+
+        // a disabled off-heap tier does not keep any tables
+        final BufferCache disabledCache = new BufferCache();
+        disabledCache.setOffHeapCacheSize(0);
+        final List<Pair<Buffer, List<BlobSupportDataRow>>> otherTables = generateKTables(k + 1, true);
+        addTablesToCache(otherTables, disabledCache, true);
+        for (Pair<Buffer, List<BlobSupportDataRow>> table : otherTables) {
+            Assert.assertFalse("Table demoted into disabled off-heap tier.",
+                disabledCache.openOffHeap(table.getFirst()).isPresent());
+        }
+        Assert.assertEquals("Discarded table still a candidate for demotion.", k,
+            disabledCache.getNrFlushedFiles());
+    }
+
     private static List<Pair<Buffer, List<BlobSupportDataRow>>> generateKTables(final int k,
         final boolean flushToDisk) {
 
@@ -74,6 +74,11 @@ public void testDefault() {
         assertEquals("Wrong default (LRU cache size)", BufferSettings.DEF_LRU_CACHE_SIZE, settings.getLRUCacheSize());
         assertEquals("Wrong default (enable LRU cache flag)", BufferSettings.DEF_TABLE_CACHE.equals("LRU"),
             settings.useLRU());
+        assertEquals("Wrong default (off-heap cache size)", BufferSettings.DEF_OFF_HEAP_CACHE_SIZE,
+            settings.getOffHeapCacheSize());
+        assertEquals("Wrong default (byte budget)", BufferSettings.DEF_MAX_BYTES_IN_MEMORY,
+            settings.getMaxBytesInMemory());
+        assertEquals("Wrong default (read-ahead flag)", BufferSettings.DEF_READ_AHEAD, settings.useReadAhead());
         assertEquals("Wrong default (output format)",
             TableStoreFormatRegistry.getInstance().getInstanceTableStoreFormat(), settings.getOutputFormat(spec));
     }
@@ -88,15 +93,29 @@ public void testChangedValues() {
 
         final int lruCacheSize = def.getLRUCacheSize() * -1;
         final boolean useLRU = !def.useLRU();
+        final long offHeapCacheSize = def.getOffHeapCacheSize() + 1024;
+        final long maxBytesInMemory = def.getMaxBytesInMemory() + 2048;
+        final boolean readAhead = !def.useReadAhead();
         final TableStoreFormat outputFormat = new DefaultTableStoreFormat();
 
         final BufferSettings settings = BufferSettings.getDefault()//
             .withOutputFormat(outputFormat)//
             .withLRU(useLRU)//
-            .withLRUCacheSize(lruCacheSize);
+            .withLRUCacheSize(lruCacheSize)//
+            .withOffHeapCacheSize(offHeapCacheSize)//
+            .withMaxBytesInMemory(maxBytesInMemory)//
+            .withReadAhead(readAhead);
 
         assertEquals("Modified settings created wrong LRU cache size", lruCacheSize, settings.getLRUCacheSize());
         assertEquals("Modified settings created wrong enable LRU flag", useLRU, settings.useLRU());
+        assertEquals("Modified settings created wrong off-heap cache size", offHeapCacheSize,
+            settings.getOffHeapCacheSize());
+        assertEquals("Modified settings created wrong byte budget", maxBytesInMemory, settings.getMaxBytesInMemory());
+        assertEquals("Modified settings created wrong read-ahead flag", readAhead, settings.useReadAhead());
+        assertEquals("Default settings has been modified (byte budget)", BufferSettings.DEF_MAX_BYTES_IN_MEMORY,
+            def.getMaxBytesInMemory());
+        assertEquals("Default settings has been modified (off-heap cache size)",
+            BufferSettings.DEF_OFF_HEAP_CACHE_SIZE, def.getOffHeapCacheSize());
         assertTrue("Modified settings created wrong output format",
             outputFormat == settings.getOutputFormat(new DataTableSpecCreator().createSpec()));
         assertFalse("Default settings has been modified (output format)",
@@ -48,12 +48,20 @@
  */
 package org.knime.core.data.container;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.data.util.memory.MemoryAlertSystemTest;
 
@@ -103,6 +111,147 @@ public void testMediumSizedTables() throws InterruptedException {
         Assert.assertTrue("Previously flushed medium-sized table not flushed any more.", buffer.isFlushedToDisk());
     }
 
+    /**
+     * Tests that with a byte budget for rows held in memory, a narrow numeric table with more cells than the default
+     * cell threshold stays in memory, whereas a table with few but large cells goes to disk.
+     */
+    @Test
+    public void testMaxBytesInMemory() {
+        final DataContainerSettings settings = DataContainerSettings.getDefault().withBufferSettings(
+            BufferSettings.getDefault().withLRU(false).withMaxBytesInMemory(4L << 20));
+
+        final DataContainer narrow = new DataContainer(
+            new DataTableSpec(new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec()), settings);
+        final int narrowRows = 2 * DataContainerSettings.getDefault().getMaxCellsInMemory();
+        for (int i = 0; i < narrowRows; i++) {
+            narrow.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new DoubleCell(i)));
+        }
+        narrow.close();
+        final Buffer narrowBuffer = ((BufferedContainerTable)narrow.getBufferedTable()).getBuffer();
+        Assert.assertFalse("Narrow table within byte budget flushed to disk.", narrowBuffer.isFlushedToDisk());
+        Assert.assertTrue("No size estimated for narrow table.",
+            narrowBuffer.getEstimatedSizeInMemory().getAsLong() >= narrowRows * 24L);
+
+        final DataContainer wide = new DataContainer(
+            new DataTableSpec(new DataColumnSpecCreator("string", StringCell.TYPE).createSpec()), settings);
+        final String largeValue = "x".repeat(100_000);
+        for (int i = 0; i < 100; i++) {
+            wide.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new StringCell(largeValue)));
+        }
+        wide.close();
+        final Buffer wideBuffer = ((BufferedContainerTable)wide.getBufferedTable()).getBuffer();
+        Assert.assertTrue("Wide table exceeding byte budget not flushed to disk.", wideBuffer.isFlushedToDisk());
+        Assert.assertEquals("Flushed table still estimated to be in memory.", 0L,
+            wideBuffer.getEstimatedSizeInMemory().getAsLong());
+
+        narrowBuffer.clear();
+        wideBuffer.clear();
+    }
+
+    /**
+     * Tests that a table read from disk with read-ahead returns all rows in order, and that closing the iterator
+     * early stops reading ahead without affecting subsequent iterations.
+     */
+    @Test(timeout = 10000)
+    public void testReadAhead() {
+        final DataContainerSettings settings = DataContainerSettings.getDefault().withMaxCellsInMemory(0)
+            .withBufferSettings(BufferSettings.getDefault().withReadAhead(true));
+        final DataContainer container = new DataContainer(
+            new DataTableSpec(new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec()), settings);
+        final int rowCount = 10 * ReadAheadRowIterator.BATCH_SIZE + 7;
+        for (int i = 0; i < rowCount; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new DoubleCell(i)));
+        }
+        container.close();
+        final Buffer buffer = ((BufferedContainerTable)container.getBufferedTable()).getBuffer();
+        Assert.assertTrue("Table not written to disk.", buffer.isFlushedToDisk());
+
+        // close early, in the middle of a batch
+        try (final CloseableRowIterator it = buffer.iterator()) {
+            Assert.assertTrue("Table not read ahead.", it instanceof ReadAheadRowIterator);
+            for (int i = 0; i < ReadAheadRowIterator.BATCH_SIZE + 3; i++) {
+                Assert.assertEquals("Wrong row read ahead.", RowKey.createRowKey((long)i), it.next().getKey());
+            }
+        }
+
+        // read all rows
+        try (final CloseableRowIterator it = buffer.iterator()) {
+            int i = 0;
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                Assert.assertEquals("Wrong row read ahead.", RowKey.createRowKey((long)i), row.getKey());
+                Assert.assertEquals("Wrong cell read ahead.", new DoubleCell(i), row.getCell(0));
+                i++;
+            }
+            Assert.assertEquals("Wrong number of rows read ahead.", rowCount, i);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Tests that interrupting the consuming thread neither fails reading ahead nor gets lost, and that closing the
+     * iterator doesn't clear the interrupt.
+     */
+    @Test(timeout = 10000)
+    public void testReadAheadInterrupted() {
+        final DataContainerSettings settings = DataContainerSettings.getDefault().withMaxCellsInMemory(0)
+            .withBufferSettings(BufferSettings.getDefault().withReadAhead(true));
+        final DataContainer container = new DataContainer(
+            new DataTableSpec(new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec()), settings);
+        final int rowCount = 3 * ReadAheadRowIterator.BATCH_SIZE;
+        for (int i = 0; i < rowCount; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new DoubleCell(i)));
+        }
+        container.close();
+        final Buffer buffer = ((BufferedContainerTable)container.getBufferedTable()).getBuffer();
+
+        try (final CloseableRowIterator it = buffer.iterator()) {
+            Thread.currentThread().interrupt();
+            for (int i = 0; i < ReadAheadRowIterator.BATCH_SIZE + 1; i++) {
+                Assert.assertEquals("Wrong row read ahead.", RowKey.createRowKey((long)i), it.next().getKey());
+            }
+        } finally {
+            Assert.assertTrue("Interrupt not restored.", Thread.interrupted());
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Tests that the number of read-ahead threads is bounded and that iterators that don't get one read their rows
+     * on the consuming thread.
+     */
+    @Test(timeout = 30000)
+    public void testReadAheadBoundedThreads() {
+        final DataContainerSettings settings = DataContainerSettings.getDefault().withMaxCellsInMemory(0)
+            .withBufferSettings(BufferSettings.getDefault().withReadAhead(true));
+        final DataContainer container = new DataContainer(
+            new DataTableSpec(new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec()), settings);
+        // more rows than fit into the queue, so the background threads stay busy until the rows are consumed
+        final int rowCount = (ReadAheadRowIterator.QUEUE_CAPACITY + 4) * ReadAheadRowIterator.BATCH_SIZE;
+        for (int i = 0; i < rowCount; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new DoubleCell(i)));
+        }
+        container.close();
+        final Buffer buffer = ((BufferedContainerTable)container.getBufferedTable()).getBuffer();
+
+        final int iteratorCount = Runtime.getRuntime().availableProcessors() + 2;
+        final List<ReadAheadRowIterator> iterators = new ArrayList<>();
+        for (int i = 0; i < iteratorCount; i++) {
+            iterators.add((ReadAheadRowIterator)buffer.iterator());
+        }
+        Assert.assertTrue("Number of read-ahead threads not bounded.",
+            iterators.stream().filter(it -> !it.isReadingAhead()).count() >= 2);
+        for (final ReadAheadRowIterator it : iterators) {
+            int i = 0;
+            while (it.hasNext()) {
+                Assert.assertEquals("Wrong row read.", RowKey.createRowKey((long)i), it.next().getKey());
+                i++;
+            }
+            Assert.assertEquals("Wrong number of rows read.", rowCount, i);
+        }
+        buffer.clear();
+    }
+
     /**
      * Tests that when a memory alert is thrown while an in-memory table is being iterated over, that table is
      * garbage-collected and iteration continues by reading the flushed table from disk.
@@ -0,0 +1,234 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.MissingValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell.UnmaterializedDataCellException;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.xml.XMLCell;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests the {@link ColumnarTableStoreFormat}, i.e. writing and reading tables with multiple chunks, missing values,
+ * column and row filters and the round trip through a zip file.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class ColumnarTableStoreFormatTest {
+
+    /** Not a multiple of the chunk size so that the last chunk is partially filled. */
+    private static final int ROW_COUNT = 1000;
+
+    private static final int CHUNK_SIZE = 64;
+
+    private static DataTableSpec createSpec() {
+        return new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("boolean", BooleanCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("unique-string", StringCell.TYPE).createSpec());
+    }
+
+    private static DataRow[] createRows() {
+        return IntStream.range(0, ROW_COUNT).mapToObj(i -> new DefaultRow(RowKey.createRowKey((long)i), //
+            i % 7 == 0 ? DataType.getMissingCell() : new IntCell(i), //
+            i % 11 == 0 ? new MissingCell("error " + i) : new StringCell("value " + (i % 5)), //
+            new LongCell(Long.MAX_VALUE - i), //
+            i % 13 == 0 ? DataType.getMissingCell() : new DoubleCell(i + .5), //
+            i % 3 == 0 ? BooleanCell.TRUE : BooleanCell.FALSE, //
+            new StringCell("unique ä " + i))).toArray(DataRow[]::new);
+    }
+
+    private static ContainerTable write(final DataRow[] rows) {
+        return write(createSpec(), rows);
+    }
+
+    private static ContainerTable write(final DataTableSpec spec, final DataRow[] rows) {
+        final DataContainerSettings settings = DataContainerSettings.getDefault().withMaxCellsInMemory(0)
+            .withBufferSettings(BufferSettings.getDefault().withOutputFormat(new ColumnarTableStoreFormat(CHUNK_SIZE)));
+        final DataContainer cont = new DataContainer(spec, settings);
+        for (final DataRow r : rows) {
+            cont.addRowToTable(r);
+        }
+        cont.close();
+        return (ContainerTable)cont.getTable();
+    }
+
+    private static void assertCellEquals(final String msg, final DataCell refCell, final DataCell dataCell) {
+        if (refCell.isMissing()) {
+            assertThat(msg + " is missing", dataCell.isMissing(), is(true));
+            assertThat(msg + " error message", ((MissingValue)dataCell).getError(),
+                equalTo(((MissingValue)refCell).getError()));
+        } else {
+            assertThat(msg, dataCell, equalTo(refCell));
+        }
+    }
+
+    /** Only tables with primitive columns are accepted, others will use the fallback format. */
+    @Test
+    public void testAccepts() {
+        final ColumnarTableStoreFormat format = new ColumnarTableStoreFormat();
+        assertThat("Accepts primitive columns", format.accepts(createSpec()), is(true));
+        assertThat("Accepts XML columns", format.accepts(
+            new DataTableSpec(new DataColumnSpecCreator("xml", XMLCell.TYPE).createSpec())), is(false));
+    }
+
+    /** Writes and reads all rows, checks that the columnar format was used. */
+    @Test
+    public void testWriteAndRead() {
+        final DataRow[] rows = createRows();
+        final ContainerTable table = write(rows);
+        final Buffer buffer = ((BufferedContainerTable)table).getBuffer();
+        assertThat("Format", buffer.getOutputFormat(), instanceOf(ColumnarTableStoreFormat.class));
+        try (final CloseableRowIterator it = table.iterator()) {
+            for (int i = 0; i < rows.length; i++) {
+                assertThat("Iterator has row " + i, it.hasNext(), is(true));
+                final DataRow row = it.next();
+                assertThat("Row key " + i, row.getKey(), equalTo(rows[i].getKey()));
+                for (int j = 0; j < row.getNumCells(); j++) {
+                    assertCellEquals("Cell " + j + " in row " + i, rows[i].getCell(j), row.getCell(j));
+                }
+            }
+            assertThat("Iterator has more rows", it.hasNext(), is(false));
+        }
+    }
+
+    /** Cells of a subtype of the column type are stored by the column's value and read as the column's cell class. */
+    @Test
+    public void testSubtypeCells() {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec());
+        final DataRow[] rows = IntStream.range(0, ROW_COUNT).mapToObj(i -> new DefaultRow(RowKey.createRowKey((long)i),
+            i % 3 == 0 ? new IntCell(i) : new LongCell(i), //
+            i % 5 == 0 ? new IntCell(i) : new DoubleCell(i + .5))).toArray(DataRow[]::new);
+        final ContainerTable table = write(spec, rows);
+        assertThat("Format", ((BufferedContainerTable)table).getBuffer().getOutputFormat(),
+            instanceOf(ColumnarTableStoreFormat.class));
+        try (final CloseableRowIterator it = table.iterator()) {
+            for (int i = 0; i < rows.length; i++) {
+                final DataRow row = it.next();
+                assertThat("Cell 0 in row " + i, row.getCell(0), equalTo(new LongCell(i)));
+                assertThat("Cell 1 in row " + i, row.getCell(1),
+                    equalTo(new DoubleCell(i % 5 == 0 ? i : (i + .5))));
+            }
+            assertThat("Iterator has more rows", it.hasNext(), is(false));
+        }
+    }
+
+    /** Row ranges spanning chunk boundaries and unmaterialized columns. */
+    @Test
+    public void testFilter() {
+        final DataRow[] rows = createRows();
+        final ContainerTable table = write(rows);
+        final int from = CHUNK_SIZE * 3 - 5;
+        final int to = CHUNK_SIZE * 7 + 2;
+        final TableFilter filter =
+            new TableFilter.Builder().withMaterializeColumnIndices(1, 4).withFromRowIndex(from).withToRowIndex(to)
+                .build();
+        try (final CloseableRowIterator it = table.iteratorWithFilter(filter, new ExecutionMonitor())) {
+            for (int i = from; i <= to; i++) {
+                assertThat("Iterator has row " + i, it.hasNext(), is(true));
+                final DataRow row = it.next();
+                assertThat("Row key " + i, row.getKey(), equalTo(rows[i].getKey()));
+                assertCellEquals("Cell 1 in row " + i, rows[i].getCell(1), row.getCell(1));
+                assertCellEquals("Cell 4 in row " + i, rows[i].getCell(4), row.getCell(4));
+                assertThrows(UnmaterializedDataCellException.class, () -> row.getCell(0));
+            }
+            assertThat("Iterator has more rows", it.hasNext(), is(false));
+        }
+    }
+
+    /** Round trip through a zip file, as done when a workflow is saved and loaded. */
+    @Test
+    public void testZipRoundTrip() throws Exception {
+        final DataRow[] rows = createRows();
+        final ContainerTable table = write(rows);
+        final File file = FileUtil.createTempFile("columnarRoundTrip", ".zip");
+        file.deleteOnExit();
+        DataContainer.writeToZip(table, file, new ExecutionMonitor());
+        final ContainerTable readTable = DataContainer.readFromZip(file);
+        assertThat("Row count", readTable.size(), is((long)ROW_COUNT));
+        try (final CloseableRowIterator it = readTable.iterator()) {
+            for (int i = 0; i < rows.length; i++) {
+                final DataRow row = it.next();
+                assertThat("Row key " + i, row.getKey(), equalTo(rows[i].getKey()));
+                for (int j = 0; j < row.getNumCells(); j++) {
+                    assertCellEquals("Cell " + j + " in row " + i, rows[i].getCell(j), row.getCell(j));
+                }
+            }
+        }
+        readTable.clear();
+    }
+
+}
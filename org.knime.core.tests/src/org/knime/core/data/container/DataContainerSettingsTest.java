@@ -57,6 +57,7 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataTableSpecCreator;
 import org.knime.core.data.def.DoubleCell;
+import org.knime.core.util.ShardedDuplicateChecker;
 
 import junit.framework.TestCase;
 
@@ -130,7 +131,8 @@ public void testChangedValues() {
             .withInitializedDomain(initDomain)//
             .withMaxContainerThreads(maxContainerThreads)//
             .withMaxThreadsPerContainer(maxThreadsPerDataContainer)//
-            .withBufferSettings(bSettings);
+            .withBufferSettings(bSettings)//
+            .withDuplicateCheckerCreator(() -> new ShardedDuplicateChecker(2));
 
         assertEquals("Modified settings created wrong cache size", cacheSize, settings.getRowBatchSize());
         assertEquals("Modified settings created wrong maximum number of cells in memory", maxCellsInMemory,
@@ -159,6 +161,12 @@ public void testChangedValues() {
         assertNotEquals("Default settings has been modified (initialize domain flag)", def.getInitializeDomain(),
             settings.getInitializeDomain());
         assertNotEquals("Default BufferSettings have not been modified", def.getBufferSettings().equals(bSettings));
+        assertTrue("Modified settings created wrong duplicate checker",
+            settings.createDuplicateChecker() instanceof ShardedDuplicateChecker);
+        assertTrue("Modified settings lost duplicate checker", settings.withMaxCellsInMemory(1)
+            .createDuplicateChecker() instanceof ShardedDuplicateChecker);
+        assertFalse("Default settings has been modified (duplicate checker)",
+            def.createDuplicateChecker() instanceof ShardedDuplicateChecker);
     }
 
     /**
@@ -0,0 +1,165 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests the concurrent execution of cell factories in {@link RearrangeColumnsTable}, which hands batches of rows to
+ * the workers.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RearrangeColumnsTableTest {
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ExecutionContext exec() {
+        return new ExecutionContext(new DefaultNodeProgressMonitor(),
+            new Node((NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0])),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+    }
+
+    private static BufferedDataTable createTable(final ExecutionContext exec, final int rowCount) {
+        final BufferedDataContainer cont =
+            exec.createDataContainer(new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec()));
+        for (int i = 0; i < rowCount; i++) {
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    private static BufferedDataTable appendConcurrently(final ExecutionContext exec, final BufferedDataTable table,
+        final int workers) throws Exception {
+        final SingleCellFactory factory =
+            new SingleCellFactory(new DataColumnSpecCreator("index", LongCell.TYPE).createSpec()) {
+                @Override
+                public DataCell getCell(final DataRow row, final long rowIndex) {
+                    // some computations are slower than others to shuffle the completion order
+                    if (rowIndex % 997 == 0) {
+                        try {
+                            Thread.sleep(1);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    return new LongCell(rowIndex * 10 + ((IntCell)row.getCell(0)).getIntValue());
+                }
+
+                @Override
+                public DataCell getCell(final DataRow row) {
+                    throw new IllegalStateException("Not to be called");
+                }
+            };
+        factory.setParallelProcessing(true, workers, 10 * workers);
+        final ColumnRearranger rearranger = new ColumnRearranger(table.getDataTableSpec());
+        rearranger.append(factory);
+        return exec.createColumnRearrangeTable(table, rearranger, exec);
+    }
+
+    private static void assertRowsInOrder(final BufferedDataTable result, final int rowCount) {
+        assertEquals("Wrong row count", rowCount, result.size());
+        long index = 0;
+        try (final CloseableRowIterator it = result.iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                assertEquals("Wrong row key", RowKey.createRowKey(index), row.getKey());
+                assertEquals("Wrong computed cell", new LongCell(index * 11), row.getCell(1));
+                index++;
+            }
+        }
+        assertEquals("Wrong number of rows iterated", rowCount, index);
+    }
+
+    /**
+     * Tests that the rows computed in batches by several workers are written in input order and that the factory is
+     * passed the correct row indices.
+     *
+     * @throws Exception if the execution fails
+     */
+    @Test
+    public void testConcurrentExecutionKeepsRowOrder() throws Exception {
+        final ExecutionContext exec = exec();
+        final int rowCount = 100_000;
+        assertRowsInOrder(appendConcurrently(exec, createTable(exec, rowCount), 4), rowCount);
+    }
+
+    /**
+     * Tests the corner cases of an empty table, a single row, and a single worker.
+     *
+     * @throws Exception if the execution fails
+     */
+    @Test
+    public void testConcurrentExecutionCornerCases() throws Exception {
+        final ExecutionContext exec = exec();
+        assertRowsInOrder(appendConcurrently(exec, createTable(exec, 0), 4), 0);
+        assertRowsInOrder(appendConcurrently(exec, createTable(exec, 1), 4), 1);
+        assertRowsInOrder(appendConcurrently(exec, createTable(exec, 5000), 1), 5000);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeSettings;
+
+/**
+ * Tests the {@link RowBlockIndex} and reading ranges of rows from tables written with such an index.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class RowBlockIndexTest {
+
+    private static final int INTERVAL = 64;
+
+    private static final int ROW_COUNT = 1000;
+
+    private String m_previousInterval;
+
+    /** Sets a small index interval. */
+    @Before
+    public void setInterval() {
+        m_previousInterval =
+            System.setProperty(KNIMEConstants.PROPERTY_TABLE_ROW_INDEX_INTERVAL, Integer.toString(INTERVAL));
+    }
+
+    /** Restores the index interval. */
+    @After
+    public void restoreInterval() {
+        if (m_previousInterval == null) {
+            System.clearProperty(KNIMEConstants.PROPERTY_TABLE_ROW_INDEX_INTERVAL);
+        } else {
+            System.setProperty(KNIMEConstants.PROPERTY_TABLE_ROW_INDEX_INTERVAL, m_previousInterval);
+        }
+    }
+
+    /**
+     * Tests the lookup of blocks and saving/loading the index.
+     *
+     * @throws Exception not expected
+     */
+    @Test
+    public void testSaveLoad() throws Exception {
+        final RowBlockIndex index = new RowBlockIndex(100);
+        final long[] offsets = {0L, 17L, 300L, 70_000L, 5_000_000_000L};
+        for (int i = 1; i < offsets.length; i++) {
+            index.addBlock(offsets[i]);
+        }
+        Assert.assertThat("Block of row 0", index.getBlockForRow(0), is(0));
+        Assert.assertThat("Block of row 99", index.getBlockForRow(99), is(0));
+        Assert.assertThat("Block of row 100", index.getBlockForRow(100), is(1));
+        Assert.assertThat("Block of row beyond last block", index.getBlockForRow(10_000), is(4));
+        Assert.assertThat("First row of block 3", index.getFirstRowOfBlock(3), is(300L));
+
+        final NodeSettings settings = new NodeSettings("format");
+        index.save(settings);
+        final RowBlockIndex loaded = RowBlockIndex.load(settings).orElseThrow();
+        Assert.assertThat("Interval after load", loaded.getInterval(), is(100));
+        Assert.assertThat("Number of blocks after load", loaded.getNrBlocks(), is(offsets.length));
+        for (int i = 0; i < offsets.length; i++) {
+            Assert.assertThat("Offset of block " + i, loaded.getBlockOffset(i), is(offsets[i]));
+        }
+        Assert.assertThat("Index in empty settings", RowBlockIndex.load(new NodeSettings("empty")).isPresent(),
+            is(false));
+    }
+
+    /**
+     * Tests that tables are written without index unless the interval is configured.
+     */
+    @Test
+    public void testNoIndexByDefault() {
+        System.clearProperty(KNIMEConstants.PROPERTY_TABLE_ROW_INDEX_INTERVAL);
+        Assert.assertThat("Interval if not configured", RowBlockIndex.getConfiguredInterval(), is(0));
+        System.setProperty(KNIMEConstants.PROPERTY_TABLE_ROW_INDEX_INTERVAL, "foo");
+        Assert.assertThat("Interval if invalid", RowBlockIndex.getConfiguredInterval(), is(0));
+    }
+
+    /**
+     * Writes tables using all compression formats and reads ranges of rows starting in different blocks.
+     */
+    @Test
+    public void testReadRangeOfRows() {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec());
+        final DataContainerSettings settings =
+            DataContainerSettings.getDefault().withMaxCellsInMemory(0).withInitializedDomain(false);
+        for (final CompressionFormat cFormat : CompressionFormat.values()) {
+            final DataContainer cont = new DataContainer(spec,
+                settings.withBufferSettings(BufferSettings.getDefault().withOutputFormat(
+                    new DefaultTableStoreFormat(DefaultTableStoreSettings.getDefault().withCompression(cFormat)))));
+            for (int i = 0; i < ROW_COUNT; i++) {
+                cont.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i),
+                    new StringCell("Row " + i)));
+            }
+            @SuppressWarnings("resource")
+            final Buffer b = ((BufferedDataContainerDelegate)cont.getDataContainerDelegate()).getBuffer();
+            cont.close();
+
+            // full iteration across all blocks
+            assertRange(b, null, 0, ROW_COUNT - 1, cFormat);
+            // ranges starting at, after and before block boundaries, in the last block, and single rows
+            assertRange(b, TableFilter.filterRangeOfRows(INTERVAL, 2 * INTERVAL + 5), INTERVAL, 2 * INTERVAL + 5,
+                cFormat);
+            assertRange(b, TableFilter.filterRangeOfRows(INTERVAL + 7, INTERVAL + 7), INTERVAL + 7, INTERVAL + 7,
+                cFormat);
+            assertRange(b, TableFilter.filterRangeOfRows(3 * INTERVAL - 1, 5 * INTERVAL), 3 * INTERVAL - 1,
+                5 * INTERVAL, cFormat);
+            assertRange(b, TableFilter.filterRowsFromIndex(ROW_COUNT - 3), ROW_COUNT - 3, ROW_COUNT - 1, cFormat);
+            assertRange(b, TableFilter.filterRowsFromIndex(900), 900, ROW_COUNT - 1, cFormat);
+        }
+    }
+
+    private static void assertRange(final Buffer b, final TableFilter filter, final int from, final int to,
+        final CompressionFormat cFormat) {
+        try (final CloseableRowIterator it = filter == null ? b.iterator() : b.iteratorWithFilter(filter)) {
+            for (int i = from; i <= to; i++) {
+                Assert.assertThat("Iterator has row " + i + " (" + cFormat + ")", it.hasNext(), is(true));
+                final DataRow row = it.next();
+                Assert.assertThat("Row key (" + cFormat + ")", row.getKey(), equalTo(RowKey.createRowKey((long)i)));
+                Assert.assertThat("Int cell (" + cFormat + ")", row.getCell(0), equalTo(new IntCell(i)));
+                Assert.assertThat("String cell (" + cFormat + ")", row.getCell(1),
+                    equalTo(new StringCell("Row " + i)));
+            }
+            Assert.assertThat("Iterator with more than " + (to - from + 1) + " rows (" + cFormat + ")", it.hasNext(),
+                is(false));
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.vector.bitvector.DenseBitVectorCellFactory;
+import org.knime.core.data.vector.bytevector.DenseByteVectorCellFactory;
+import org.knime.core.data.xml.XMLCellFactory;
+
+/**
+ * Tests that the {@link RowSizeEstimator} accounts for the content of large core cells rather than assuming a fixed
+ * size.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class RowSizeEstimatorTest {
+
+    private static final int LARGE = 100_000;
+
+    @Test
+    void testXMLCell() throws Exception {
+        final DataCell cell = XMLCellFactory.create("<root>" + "x".repeat(LARGE) + "</root>");
+        assertThat(RowSizeEstimator.estimate(cell)).isGreaterThan(2L * LARGE);
+    }
+
+    @Test
+    void testListCell() {
+        final List<StringCell> elements = Collections.nCopies(100, new StringCell("x".repeat(LARGE / 100)));
+        final DataCell cell = CollectionCellFactory.createListCell(elements);
+        assertThat(RowSizeEstimator.estimate(cell)).isGreaterThan(2L * LARGE);
+        assertThat(RowSizeEstimator.estimate(CollectionCellFactory.createSetCell(elements)))
+            .isLessThan(RowSizeEstimator.estimate(cell));
+    }
+
+    @Test
+    void testSparseListCell() {
+        final StringCell defaultElement = new StringCell("");
+        final List<StringCell> elements = Collections.nCopies(LARGE, defaultElement);
+        final long sparseSize =
+            RowSizeEstimator.estimate(CollectionCellFactory.createSparseListCell(elements, defaultElement));
+        // only the default element is held
+        assertThat(sparseSize).isLessThan(RowSizeEstimator.estimate(CollectionCellFactory.createListCell(elements)));
+    }
+
+    @Test
+    void testVectorCells() {
+        assertThat(RowSizeEstimator.estimate(new DenseBitVectorCellFactory(64L * LARGE).createDataCell()))
+            .isGreaterThan(8L * LARGE);
+        assertThat(RowSizeEstimator.estimate(new DenseByteVectorCellFactory(LARGE).createDataCell()))
+            .isGreaterThan(LARGE);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container.filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Unit tests for the {@link RowRangeSpliterator} and the range-partitioned iteration methods of
+ * {@link BufferedDataTable}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RowRangeSpliteratorTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("a", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("b", IntCell.TYPE).createSpec());
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static BufferedDataTable createTable(final int nrRows) {
+        final ExecutionContext exec = new ExecutionContext(new DefaultNodeProgressMonitor(),
+            new Node((NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0])),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+        final BufferedDataContainer cont = exec.createDataContainer(SPEC);
+        for (int i = 0; i < nrRows; i++) {
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i), new IntCell(-i)));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    /** Iterator over the row indices of a filter's range that counts how many iterators are open. */
+    private static final class RangeIterator extends CloseableRowIterator {
+
+        private final AtomicInteger m_openCount;
+
+        private long m_index;
+
+        private final long m_to;
+
+        private boolean m_closed;
+
+        RangeIterator(final TableFilter filter, final AtomicInteger openCount) {
+            m_index = filter.getFromRowIndex().get();
+            m_to = filter.getToRowIndex().get();
+            m_openCount = openCount;
+            m_openCount.incrementAndGet();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_index <= m_to;
+        }
+
+        @Override
+        public DataRow next() {
+            final long i = m_index++;
+            return new DefaultRow(RowKey.createRowKey(i), new IntCell((int)i));
+        }
+
+        @Override
+        public void close() {
+            if (!m_closed) {
+                m_closed = true;
+                m_openCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Tests that splitting halves the row range, respects the minimum split size, and that the parts cover all rows.
+     */
+    @Test
+    public void testTrySplit() {
+        final AtomicInteger open = new AtomicInteger();
+        final RowRangeSpliterator spliterator = new RowRangeSpliterator(f -> new RangeIterator(f, open),
+            new TableFilter.Builder().build(), 0, 9, ConcurrentHashMap.newKeySet(), 2);
+        assertEquals(10, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED | Spliterator.ORDERED));
+
+        final Spliterator<DataRow> prefix = spliterator.trySplit();
+        assertEquals(5, prefix.estimateSize());
+        assertEquals(5, spliterator.estimateSize());
+        final Spliterator<DataRow> prefixOfSuffix = spliterator.trySplit();
+        assertEquals(2, prefixOfSuffix.estimateSize());
+        assertEquals(3, spliterator.estimateSize());
+        assertNull("Parts smaller than twice the minimum split size must not be split", spliterator.trySplit());
+
+        final List<Long> indices = new ArrayList<>();
+        for (final Spliterator<DataRow> s : List.of(prefix, prefixOfSuffix, spliterator)) {
+            s.forEachRemaining(r -> indices.add(Long.parseLong(r.getKey().getString().substring(3))));
+        }
+        assertEquals(range(0, 10), indices);
+        assertEquals("All iterators must be closed after traversal", 0, open.get());
+    }
+
+    /**
+     * Tests that {@link RowRangeSpliterator#close()} closes iterators of parts that were not fully traversed.
+     */
+    @Test
+    public void testCloseReleasesPartiallyTraversedParts() {
+        final AtomicInteger open = new AtomicInteger();
+        final RowRangeSpliterator spliterator = new RowRangeSpliterator(f -> new RangeIterator(f, open),
+            new TableFilter.Builder().build(), 0, 99, ConcurrentHashMap.newKeySet(), 10);
+        final Spliterator<DataRow> prefix = spliterator.trySplit();
+        assertTrue(prefix.tryAdvance(r -> {
+        }));
+        assertTrue(spliterator.tryAdvance(r -> {
+        }));
+        assertNull("Parts must not be split once their traversal started", spliterator.trySplit());
+        assertEquals(2, open.get());
+        spliterator.close();
+        assertEquals(0, open.get());
+    }
+
+    /**
+     * Tests that {@link BufferedDataTable#split(int)} returns disjoint, consecutive ranges that cover the table.
+     */
+    @Test
+    public void testSplitTable() {
+        final BufferedDataTable table = createTable(10);
+        final List<CloseableDataRowIterable> splits = table.split(3);
+        assertEquals(3, splits.size());
+        final List<Long> indices = new ArrayList<>();
+        final List<Integer> sizes = new ArrayList<>();
+        for (final CloseableDataRowIterable split : splits) {
+            int size = 0;
+            try (final CloseableRowIterator it = split.iterator()) {
+                while (it.hasNext()) {
+                    indices.add((long)((IntValue)it.next().getCell(0)).getIntValue());
+                    size++;
+                }
+            }
+            sizes.add(size);
+        }
+        assertEquals(List.of(4, 3, 3), sizes);
+        assertEquals(range(0, 10), indices);
+
+        assertEquals("Number of splits must not exceed number of rows", 5, createTable(5).split(8).size());
+        assertTrue(createTable(0).split(4).isEmpty());
+    }
+
+    /**
+     * Tests that splits retain the row range and the columns to materialize of a filter.
+     */
+    @Test
+    public void testSplitTableWithFilter() {
+        final BufferedDataTable table = createTable(20);
+        final TableFilter filter =
+            new TableFilter.Builder().withMaterializeColumnIndices(1).withFromRowIndex(5).withToRowIndex(14).build();
+        final List<CloseableDataRowIterable> splits = table.split(4, filter);
+        assertEquals(4, splits.size());
+        final List<Long> indices = new ArrayList<>();
+        for (final CloseableDataRowIterable split : splits) {
+            try (final CloseableRowIterator it = split.iterator()) {
+                while (it.hasNext()) {
+                    final DataCell cell = it.next().getCell(1);
+                    indices.add((long)-((IntValue)cell).getIntValue());
+                }
+            }
+        }
+        assertEquals(range(5, 15), indices);
+    }
+
+    /**
+     * Tests that a parallel stream over a table visits every row exactly once.
+     */
+    @Test
+    public void testParallelStream() {
+        final int nrRows = 5 * (int)RowRangeSpliterator.MIN_SPLIT_SIZE + 17;
+        final BufferedDataTable table = createTable(nrRows);
+        try (final Stream<DataRow> stream = table.stream().parallel()) {
+            final List<Integer> values = stream.map(r -> ((IntValue)r.getCell(0)).getIntValue())
+                .collect(Collectors.toList());
+            assertEquals(IntStream.range(0, nrRows).boxed().collect(Collectors.toList()), values);
+        }
+        try (final Stream<DataRow> stream = table.stream(TableFilter.filterRangeOfRows(100, 199))) {
+            assertEquals(100, stream.count());
+        }
+        try (final Stream<DataRow> stream = createTable(0).stream().parallel()) {
+            assertFalse(stream.findAny().isPresent());
+        }
+    }
+
+    private static List<Long> range(final long from, final long to) {
+        return IntStream.range((int)from, (int)to).mapToObj(i -> (long)i).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ColumnarTableStoreFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat;
+import org.knime.core.data.def.IntCell;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Tests that the {@link TableStoreFormatRegistry} keeps the standard KNIME format as default and fallback when other
+ * formats are registered.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class TableStoreFormatRegistryTest {
+
+    @Test
+    void testDefaultFormatFirst() {
+        final var registry = TableStoreFormatRegistry.getInstance();
+        assertThat(registry.getTableStoreFormats()) //
+            .as("registered formats").hasAtLeastOneElementOfType(ColumnarTableStoreFormat.class) //
+            .first().as("fallback format").isInstanceOf(DefaultTableStoreFormat.class);
+        assertThat(registry.getDefaultTableStoreFormat()).isInstanceOf(DefaultTableStoreFormat.class);
+    }
+
+    @Test
+    void testFallbackForUnknownFormat() {
+        final var prefs =
+            InstanceScope.INSTANCE.getNode(FrameworkUtil.getBundle(TableStoreFormatRegistry.class).getSymbolicName());
+        final var previous = prefs.get(TableStoreFormatRegistry.PREF_KEY_STORAGE_FORMAT, null);
+        prefs.put(TableStoreFormatRegistry.PREF_KEY_STORAGE_FORMAT, "org.knime.UnknownTableStoreFormat");
+        try {
+            final var registry = TableStoreFormatRegistry.getInstance();
+            assertThat(registry.getInstanceTableStoreFormat()).isInstanceOf(DefaultTableStoreFormat.class);
+            final var intSpec = new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec());
+            assertThat(registry.getFormatFor(intSpec)).isInstanceOf(DefaultTableStoreFormat.class);
+        } finally {
+            if (previous == null) {
+                prefs.remove(TableStoreFormatRegistry.PREF_KEY_STORAGE_FORMAT);
+            } else {
+                prefs.put(TableStoreFormatRegistry.PREF_KEY_STORAGE_FORMAT, previous);
+            }
+        }
+    }
+}
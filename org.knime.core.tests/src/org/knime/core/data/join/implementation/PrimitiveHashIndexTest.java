@@ -0,0 +1,274 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.join.implementation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.join.JoinSpecification;
+import org.knime.core.data.join.JoinSpecification.DataCellComparisonMode;
+import org.knime.core.data.join.JoinSpecification.InputTable;
+import org.knime.core.data.join.JoinSpecification.OutputRowOrder;
+import org.knime.core.data.join.JoinTableSettings;
+import org.knime.core.data.join.JoinTableSettings.JoinColumn;
+import org.knime.core.data.join.JoinTableSettings.SpecialJoinColumn;
+import org.knime.core.data.join.JoinTestInput;
+import org.knime.core.data.join.results.JoinResult;
+import org.knime.core.data.join.results.JoinResult.OutputSplit;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.CanceledExecutionException.CancelChecker;
+import org.knime.core.node.InvalidSettingsException;
+
+/**
+ * Tests that joins on numeric columns use the {@link PrimitiveHashIndex} and give the same results as comparing the
+ * join column cells.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public class PrimitiveHashIndexTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec( //
+        new DataColumnSpecCreator("Long", LongCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("Int", IntCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("Double", DoubleCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("Payload", StringCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("MixedLong", LongCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("MixedDouble", DoubleCell.TYPE).createSpec());
+
+    private static final int ROW_COUNT = 3_000;
+
+    private static final BufferedDataTable LEFT = createTable("L", 1L);
+
+    private static final BufferedDataTable RIGHT = createTable("R", 2L);
+
+    /**
+     * Creates a table with many duplicate keys and some missing values. The mixed columns contain some
+     * {@link IntCell}s, the long column only in the left table and the double column only in the right table.
+     */
+    private static BufferedDataTable createTable(final String prefix, final long seed) {
+        final var rng = new Random(seed);
+        final BufferedDataContainer container = JoinTestInput.EXEC.createDataContainer(SPEC);
+        for (var i = 0; i < ROW_COUNT; i++) {
+            final int value = rng.nextInt(ROW_COUNT / 2) - ROW_COUNT / 4;
+            final DataCell longCell = rng.nextInt(50) == 0 ? DataType.getMissingCell() : new LongCell(value);
+            final DataCell intCell = rng.nextInt(50) == 0 ? DataType.getMissingCell() : new IntCell(value / 3);
+            final DataCell doubleCell = new DoubleCell(rng.nextInt(7) * 0.5);
+            final var isLeft = "L".equals(prefix);
+            final DataCell mixedLongCell =
+                isLeft && rng.nextInt(10) == 0 ? new IntCell(value) : new LongCell(value);
+            final int smallValue = rng.nextInt(7);
+            final DataCell mixedDoubleCell =
+                !isLeft && rng.nextInt(10) == 0 ? new IntCell(smallValue) : new DoubleCell(smallValue);
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i).getString() + prefix, longCell,
+                intCell, doubleCell, new StringCell(prefix + i), mixedLongCell, mixedDoubleCell));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static JoinSpecification spec(final DataCellComparisonMode mode, final Object[] leftColumns,
+        final Object[] rightColumns) throws InvalidSettingsException {
+        final var leftSettings = new JoinTableSettings(true, JoinColumn.array(leftColumns), new String[]{"Payload"},
+            InputTable.LEFT, LEFT);
+        final var rightSettings = new JoinTableSettings(false, JoinColumn.array(rightColumns),
+            new String[]{"Payload"}, InputTable.RIGHT, RIGHT);
+        return new JoinSpecification.Builder(leftSettings, rightSettings) //
+            .columnNameDisambiguator(name -> name.concat("*")) //
+            .dataCellComparisonMode(mode) //
+            .outputRowOrder(OutputRowOrder.ARBITRARY) //
+            .rowKeyFactory(JoinSpecification.createConcatRowKeysFactory("+")) //
+            .build();
+    }
+
+    private static HashIndex index(final JoinSpecification spec) {
+        final CancelChecker neverCanceled = () -> {
+            // not needed for creating the index
+        };
+        return HashIndex.create(spec, null, InputTable.RIGHT, neverCanceled);
+    }
+
+    @Test
+    public void testCreate() throws InvalidSettingsException {
+        final var strict = DataCellComparisonMode.STRICT;
+        final var asLong = DataCellComparisonMode.NUMERIC_AS_LONG;
+        final var asString = DataCellComparisonMode.AS_STRING;
+        assertThat(index(spec(strict, new Object[]{"Long"}, new Object[]{"Long"})),
+            is(instanceOf(PrimitiveHashIndex.class)));
+        assertThat(index(spec(strict, new Object[]{"Int", "Double"}, new Object[]{"Int", "Double"})),
+            is(instanceOf(PrimitiveHashIndex.class)));
+        assertThat(index(spec(asLong, new Object[]{"Int"}, new Object[]{"Long"})),
+            is(instanceOf(PrimitiveHashIndex.class)));
+        // integers never equal longs in strict mode
+        assertThat(index(spec(strict, new Object[]{"Int"}, new Object[]{"Long"})),
+            is(instanceOf(CellHashIndex.class)));
+        assertThat(index(spec(asString, new Object[]{"Long"}, new Object[]{"Long"})),
+            is(instanceOf(CellHashIndex.class)));
+        assertThat(index(spec(strict, new Object[]{"Payload"}, new Object[]{"Payload"})),
+            is(instanceOf(CellHashIndex.class)));
+        assertThat(index(spec(strict, new Object[]{"Long", "Int", "Double"}, new Object[]{"Long", "Int", "Double"})),
+            is(instanceOf(CellHashIndex.class)));
+        assertThat(index(spec(strict, new Object[]{SpecialJoinColumn.ROW_KEY}, new Object[]{"Long"})),
+            is(instanceOf(CellHashIndex.class)));
+    }
+
+    @Test
+    public void testSingleLongColumn() throws CanceledExecutionException, InvalidSettingsException {
+        checkJoin(DataCellComparisonMode.STRICT, new Object[]{"Long"}, new Object[]{"Long"},
+            (l, r) -> equalLongs(l, r, 0, 0));
+    }
+
+    @Test
+    public void testIntAsLong() throws CanceledExecutionException, InvalidSettingsException {
+        checkJoin(DataCellComparisonMode.NUMERIC_AS_LONG, new Object[]{"Int"}, new Object[]{"Long"},
+            (l, r) -> equalLongs(l, r, 1, 0));
+    }
+
+    @Test
+    public void testTwoColumns() throws CanceledExecutionException, InvalidSettingsException {
+        checkJoin(DataCellComparisonMode.STRICT, new Object[]{"Int", "Double"}, new Object[]{"Int", "Double"},
+            (l, r) -> equalLongs(l, r, 1, 1) && !l.getCell(2).isMissing() && !r.getCell(2).isMissing()
+                && ((DoubleValue)l.getCell(2)).getDoubleValue() == ((DoubleValue)r.getCell(2)).getDoubleValue());
+    }
+
+    /**
+     * Columns may contain cells of a subtype of the column type, e.g. an {@link IntCell} in a {@link LongCell} column,
+     * which must neither equal a {@link LongCell} with the same value in strict mode nor an equal {@link DoubleCell}.
+     */
+    @Test
+    public void testMixedCellClasses() throws CanceledExecutionException, InvalidSettingsException {
+        checkJoin(DataCellComparisonMode.STRICT, new Object[]{"MixedLong"}, new Object[]{"MixedLong"},
+            (l, r) -> equalCells(l, r, 4));
+        checkJoin(DataCellComparisonMode.STRICT, new Object[]{"MixedDouble"}, new Object[]{"MixedDouble"},
+            (l, r) -> equalCells(l, r, 5));
+        checkJoin(DataCellComparisonMode.STRICT, new Object[]{"Long", "MixedDouble"},
+            new Object[]{"Long", "MixedDouble"}, (l, r) -> equalCells(l, r, 0) && equalCells(l, r, 5));
+        checkJoin(DataCellComparisonMode.NUMERIC_AS_LONG, new Object[]{"MixedLong"}, new Object[]{"Int"},
+            (l, r) -> equalLongs(l, r, 4, 1));
+        // integers are compared as longs, but never equal a double
+        checkJoin(DataCellComparisonMode.NUMERIC_AS_LONG, new Object[]{"MixedDouble"}, new Object[]{"MixedDouble"},
+            (l, r) -> (l.getCell(5) instanceof LongValue && r.getCell(5) instanceof LongValue)
+                ? equalLongs(l, r, 5, 5) : equalCells(l, r, 5));
+    }
+
+    private static boolean equalCells(final DataRow left, final DataRow right, final int col) {
+        final var l = left.getCell(col);
+        return !l.isMissing() && l.equals(right.getCell(col));
+    }
+
+    private static boolean equalLongs(final DataRow left, final DataRow right, final int leftCol,
+        final int rightCol) {
+        final var l = left.getCell(leftCol);
+        final var r = right.getCell(rightCol);
+        return !l.isMissing() && !r.isMissing() && ((LongValue)l).getLongValue() == ((LongValue)r).getLongValue();
+    }
+
+    /**
+     * Joins {@link #LEFT} and {@link #RIGHT}, in one and in many passes, and compares the matches and left unmatched
+     * rows to a nested loop join using the given predicate.
+     */
+    private static void checkJoin(final DataCellComparisonMode mode, final Object[] leftColumns,
+        final Object[] rightColumns, final BiPredicate<DataRow, DataRow> matches)
+        throws CanceledExecutionException, InvalidSettingsException {
+        assertThat(index(spec(mode, leftColumns, rightColumns)), is(instanceOf(PrimitiveHashIndex.class)));
+
+        final Set<String> expectedMatches = new HashSet<>();
+        final Set<String> expectedUnmatched = new HashSet<>();
+        for (final DataRow left : LEFT) {
+            var matched = false;
+            for (final DataRow right : RIGHT) {
+                if (matches.test(left, right)) {
+                    expectedMatches.add(left.getKey().getString() + "+" + right.getKey().getString());
+                    matched = true;
+                }
+            }
+            if (!matched) {
+                expectedUnmatched.add(left.getKey().getString());
+            }
+        }
+
+        for (final boolean memoryLow : new boolean[]{false, true}) {
+            final var blockHashJoin = new BlockHashJoin(spec(mode, leftColumns, rightColumns), JoinTestInput.EXEC);
+            blockHashJoin.getProgress().m_assumeMemoryLow = memoryLow;
+            final JoinResult<OutputSplit> results = blockHashJoin.joinOutputSplit();
+            assertThat(keys(results.getResults().getMatches()), is(expectedMatches));
+            assertThat(keys(results.getResults().getLeftOuter()), is(expectedUnmatched));
+        }
+    }
+
+    private static Set<String> keys(final BufferedDataTable table) {
+        final Set<String> keys = new HashSet<>();
+        for (final DataRow row : table) {
+            keys.add(row.getKey().getString());
+        }
+        return keys;
+    }
+}
@@ -149,6 +149,29 @@ void testMergePhase(final ExecutionContext exec) throws CanceledExecutionExcepti
         }
     }
 
+    /** Merges 16 chunks into a materialized iterator with {@code k=3}, merging up to four groups concurrently. */
+    @Test
+    void testParallelMergePhase(final ExecutionContext exec) throws CanceledExecutionException {
+        final var n = 2_000;
+        final var randomData = createChunks(exec, n, 16, 271828182L);
+        final var tables = randomData.getFirst();
+        final var doublesSorted = randomData.getSecond();
+
+        final var sorter = new AbstractTableSorter(n, SPEC, COMP) {};
+        sorter.setMaxOpenContainers(3);
+        sorter.setParallelism(4);
+        sorter.setSortInMemory(false);
+
+        final var ioHandler = BufferedDataTableSorter.createTableIOHandler(exec);
+        try (final var mergePhase = sorter.createMergePhase(ioHandler, new ArrayDeque<>(tables), n)) {
+            assertEquals(3, mergePhase.computeNumLevels(true));
+
+            try (final var iter = mergePhase.mergeIntoMaterializedIterator(exec)) {
+                checkResult(iter, doublesSorted);
+            }
+        }
+    }
+
     /**
      * Creates a specified number of rows, distributed over a given number of chunks. Each row has one duplicate.
      *
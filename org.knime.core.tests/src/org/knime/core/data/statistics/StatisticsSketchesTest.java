@@ -0,0 +1,196 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.statistics.StatisticsSketches.DistinctCountSketch;
+import org.knime.core.data.statistics.StatisticsSketches.HeavyHittersSketch;
+import org.knime.core.data.statistics.StatisticsSketches.MomentsSketch;
+import org.knime.core.data.statistics.StatisticsSketches.QuantileSketch;
+
+/**
+ * Tests the {@link StatisticsSketches}, in particular that sketches updated on disjoint parts of the data and merged
+ * afterwards stay within their error bounds.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class StatisticsSketchesTest {
+
+    private static final int NUM_PARTS = 4;
+
+    @Test
+    void testMergedQuantilesWithinRankError() {
+        final var random = new Random(42);
+        final var values = new double[200_000];
+        final var sketches = new QuantileSketch[NUM_PARTS];
+        for (int p = 0; p < NUM_PARTS; p++) {
+            sketches[p] = new QuantileSketch(0.01);
+        }
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian() * 10 + (i % 5);
+            sketches[i % NUM_PARTS].update(values[i]);
+        }
+        for (int p = 1; p < NUM_PARTS; p++) {
+            sketches[0].merge(sketches[p]);
+        }
+        Arrays.sort(values);
+        final double[] fractions = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99};
+        final var quantiles = sketches[0].getQuantiles(fractions);
+        assertThat(sketches[0].getCount()).isEqualTo(values.length);
+        for (int f = 0; f < fractions.length; f++) {
+            final var rank = Math.abs(Arrays.binarySearch(values, quantiles[f])) / (double)values.length;
+            assertThat(rank).as("Rank of %s quantile", fractions[f]).isCloseTo(fractions[f], within(0.02));
+        }
+    }
+
+    @Test
+    void testQuantilesExactForFewValues() {
+        final var sketch = new QuantileSketch(0.01);
+        for (int i = 100; i >= 1; i--) {
+            sketch.update(i);
+        }
+        assertThat(sketch.getQuantiles(0, 0.25, 0.5, 1)).containsExactly(1.0, 25.0, 50.0, 100.0);
+        assertThat(new QuantileSketch(0.01).getQuantiles(0.5)).containsExactly((Double)null);
+    }
+
+    @Test
+    void testMergedMomentsEqualSinglePass() {
+        final var random = new Random(7);
+        final var single = new MomentsSketch();
+        final var parts = new MomentsSketch[NUM_PARTS];
+        for (int p = 0; p < NUM_PARTS; p++) {
+            parts[p] = new MomentsSketch();
+        }
+        for (int i = 0; i < 10_000; i++) {
+            final var value = random.nextDouble() * random.nextDouble() * 100;
+            single.update(value);
+            parts[i % NUM_PARTS].update(value);
+        }
+        parts[0].merge(new MomentsSketch());
+        for (int p = 1; p < NUM_PARTS; p++) {
+            parts[0].merge(parts[p]);
+        }
+        assertThat(parts[0].getCount()).isEqualTo(single.getCount());
+        assertThat(parts[0].getMin()).isEqualTo(single.getMin());
+        assertThat(parts[0].getMax()).isEqualTo(single.getMax());
+        assertThat(parts[0].getMean()).isCloseTo(single.getMean(), within(1e-9));
+        assertThat(parts[0].getVariance()).isCloseTo(single.getVariance(), within(1e-7));
+        assertThat(parts[0].getSkewness()).isCloseTo(single.getSkewness(), within(1e-9));
+        assertThat(parts[0].getKurtosis()).isCloseTo(single.getKurtosis(), within(1e-9));
+    }
+
+    @Test
+    void testMomentsOfKnownValues() {
+        final var sketch = new MomentsSketch();
+        for (double value : new double[]{2, 4, 4, 4, 5, 5, 7, 9}) {
+            sketch.update(value);
+        }
+        assertThat(sketch.getMean()).isCloseTo(5, within(1e-12));
+        assertThat(sketch.getSum()).isCloseTo(40, within(1e-12));
+        assertThat(sketch.getVariance()).isCloseTo(32.0 / 7, within(1e-12));
+        assertThat(new MomentsSketch().getMean()).isNaN();
+    }
+
+    @Test
+    void testDistinctCount() {
+        final var small = new DistinctCountSketch(0.01);
+        for (int i = 0; i < 3000; i++) {
+            small.update(new StringCell("value" + (i % 1000)));
+        }
+        assertThat(small.getEstimate()).as("Small cardinalities are counted exactly").isEqualTo(1000);
+
+        final var parts = new DistinctCountSketch[NUM_PARTS];
+        for (int p = 0; p < NUM_PARTS; p++) {
+            parts[p] = new DistinctCountSketch(0.01);
+        }
+        for (int i = 0; i < 400_000; i++) {
+            // every value is added to two parts
+            parts[i % NUM_PARTS].update(new DoubleCell(i % 200_000));
+        }
+        for (int p = 1; p < NUM_PARTS; p++) {
+            parts[0].merge(parts[p]);
+        }
+        assertThat((double)parts[0].getEstimate()).isCloseTo(200_000, within(200_000 * 0.04));
+    }
+
+    @Test
+    void testHeavyHitters() {
+        final var parts = new HeavyHittersSketch[NUM_PARTS];
+        for (int p = 0; p < NUM_PARTS; p++) {
+            parts[p] = new HeavyHittersSketch(100);
+        }
+        for (int i = 0; i < 100_000; i++) {
+            // "frequent" makes up 10% of the values, all other values are unique
+            final var value = i % 10 == 0 ? "frequent" : ("value" + i);
+            parts[i % NUM_PARTS].update(new StringCell(value));
+        }
+        for (int p = 1; p < NUM_PARTS; p++) {
+            parts[0].merge(parts[p]);
+        }
+        final var mostFrequent = parts[0].getMostFrequentValues(1).get(0);
+        assertThat(mostFrequent.getFirst()).isEqualTo(new StringCell("frequent"));
+        // underestimated by at most n / (capacity + 1)
+        assertThat((double)mostFrequent.getSecond()).isCloseTo(10_000, within(100_000 / 101.0));
+
+        final var exact = new HeavyHittersSketch(10);
+        for (int i = 0; i < 100; i++) {
+            exact.update(new DoubleCell(i % 3));
+        }
+        assertThat(exact.getMostFrequentValues(10)).hasSize(3);
+        assertThat(exact.getMostFrequentValues(10).get(0).getSecond()).isEqualTo(34L);
+    }
+}
@@ -47,14 +47,18 @@
 package org.knime.core.data.statistics;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.knime.testing.util.TableTestUtil.assertTableResults;
 import static org.knime.testing.util.TableTestUtil.createTableFromColumns;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValue;
 import org.knime.core.data.collection.CollectionCellFactory;
@@ -62,6 +66,10 @@
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
+import org.knime.core.data.statistics.UnivariateStatistics.Approximation;
+import org.knime.core.data.statistics.UnivariateStatistics.Statistic;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.util.Pair;
 import org.knime.testing.util.TableTestUtil;
 
@@ -137,4 +145,50 @@ void testFormatMostFrequentValuesWithMissing() {
         assertThat(result).as("Most Common Strings")
             .isEqualTo(new String[]{"a (1; 25.0%)", "b (1; 25.0%)", "c (1; 25.0%)", "? (1; 25.0%)"});
     }
+
+    @Test
+    void testApproximateStatisticsMatchExactOnes() throws CanceledExecutionException {
+        final var numbers = new Object[]{1.0, 2.0, 2.0, 3.0, 3.0, 3.0, 4.0, 4.0, 4.0, 4.0, null, Double.NaN, -7.5};
+        final var strings = new Object[]{"a", "b", "b", "c", "c", "c", "d", "d", "d", "d", null, "e", "f"};
+        final var table = createTableFromColumns(new TableTestUtil.ObjectColumn("number", DoubleCell.TYPE, numbers),
+            new TableTestUtil.ObjectColumn("string", StringCell.TYPE, strings));
+        final var exec = TableTestUtil.getExec();
+        final var columns = new String[]{"number", "string"};
+
+        // quantiles and most common values differ in interpolation and the order of ties, respectively
+        final var statistics = EnumSet.allOf(Statistic.class);
+        statistics.removeAll(EnumSet.range(Statistic.QUANTILE_1, Statistic.QUANTILE_99));
+        statistics.removeAll(EnumSet.of(Statistic.MEAN_ABSOLUTE_DEVIATION, Statistic.K_MOST_COMMON));
+        final var exact = toRows(UnivariateStatistics.computeStatisticsTable(table, columns, exec, statistics));
+        final var approximate = toRows(UnivariateStatistics.computeApproximateStatisticsTable(table, columns, exec,
+            statistics, Approximation.DEFAULT));
+        assertThat(approximate).hasSameSizeAs(exact);
+        for (int r = 0; r < exact.size(); r++) {
+            for (int c = 0; c < exact.get(r).getNumCells(); c++) {
+                final var expected = exact.get(r).getCell(c);
+                final var actual = approximate.get(r).getCell(c);
+                if (expected instanceof DoubleCell expectedDouble && actual instanceof DoubleCell actualDouble) {
+                    assertThat(actualDouble.getDoubleValue()).as("Cell %d of row %d", c, r)
+                        .isCloseTo(expectedDouble.getDoubleValue(), within(1e-9));
+                } else {
+                    assertThat(actual).as("Cell %d of row %d", c, r).isEqualTo(expected);
+                }
+            }
+        }
+
+        final var sketched = toRows(UnivariateStatistics.computeApproximateStatisticsTable(table, columns, exec,
+            EnumSet.of(Statistic.QUANTILE_50, Statistic.K_MOST_COMMON), new Approximation(0.05, 0.05, 10)));
+        assertThat(((DoubleCell)sketched.get(0).getCell(0)).getDoubleValue()).isEqualTo(3.0);
+        assertThat(sketched.get(0).getCell(1).toString()).startsWith("4 (4; ");
+        assertThat(sketched.get(1).getCell(0).isMissing()).isTrue();
+        assertThat(sketched.get(1).getCell(1).toString()).startsWith("d (4; 33.33%), c (3; 25.0%), b (2; ");
+    }
+
+    private static List<DataRow> toRows(final BufferedDataTable table) {
+        final List<DataRow> rows = new ArrayList<>();
+        for (DataRow row : table) {
+            rows.add(row);
+        }
+        return rows;
+    }
 }
@@ -46,8 +46,11 @@
 
 import static org.junit.Assert.assertThat;
 
+import java.util.Random;
+
 import org.hamcrest.core.Is;
 import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
 
 import junit.framework.TestCase;
 
@@ -1085,6 +1088,137 @@ public void testToHexString() {
         assertEquals(hex, bv.toHexString());
     }
 
+    /**
+     * Tests that the in-place AND, OR, and XOR operations have the same result as the ones creating a new vector.
+     */
+    public void testInPlaceOperations() {
+        Random rand = new Random(17);
+        for (int run = 0; run < 500; run++) {
+            DenseBitVector bv1 = createRandomVector(rand, 1 + rand.nextInt(400));
+            DenseBitVector bv2 = createRandomVector(rand, 1 + rand.nextInt((int)bv1.length()));
+
+            DenseBitVector result = new DenseBitVector(bv1);
+            result.andInPlace(bv2);
+            assertEquals("Wrong AND result for " + bv1 + " and " + bv2, bv1.and(bv2), result);
+            assertEquals(bv1.and(bv2).nextSetBit(0), result.nextSetBit(0));
+            assertEquals(bv1.and(bv2).cardinality(), result.cardinality());
+
+            result = new DenseBitVector(bv1);
+            result.orInPlace(bv2);
+            assertEquals("Wrong OR result for " + bv1 + " and " + bv2, bv1.or(bv2), result);
+            assertEquals(bv1.or(bv2).cardinality(), result.cardinality());
+
+            result = new DenseBitVector(bv1);
+            result.xorInPlace(bv2);
+            assertEquals("Wrong XOR result for " + bv1 + " and " + bv2, bv1.xor(bv2), result);
+            assertEquals(bv1.xor(bv2).cardinality(), result.cardinality());
+            assertEquals(bv1.xor(bv2).isEmpty(), result.isEmpty());
+
+            // AND also works with a longer operand
+            result = new DenseBitVector(bv2);
+            result.andInPlace(bv1);
+            assertEquals(bv1.and(bv2).cardinality(), result.cardinality());
+            assertEquals(bv2.length(), result.length());
+        }
+
+        DenseBitVector bv = new DenseBitVector(100);
+        bv.set(3);
+        bv.xorInPlace(bv);
+        assertTrue(bv.isEmpty());
+        bv.orInPlace(new DenseBitVector(10));
+        assertTrue(bv.isEmpty());
+        try {
+            bv.orInPlace(new DenseBitVector(101));
+            fail("Expected exception not thrown");
+        } catch (IllegalArgumentException iae) {
+            // expected
+        }
+        try {
+            bv.xorInPlace(new DenseBitVector(101));
+            fail("Expected exception not thrown");
+        } catch (IllegalArgumentException iae) {
+            // expected
+        }
+    }
+
+    /**
+     * Tests the similarity kernels against the results of the operations creating a new vector.
+     */
+    public void testSimilarity() {
+        Random rand = new Random(42);
+        for (int run = 0; run < 500; run++) {
+            DenseBitVector bv1 = createRandomVector(rand, 1 + rand.nextInt(400));
+            DenseBitVector bv2 = createRandomVector(rand, 1 + rand.nextInt(400));
+
+            long intersection = bv1.and(bv2).cardinality();
+            long union = bv1.or(bv2).cardinality();
+            assertEquals(intersection, bv1.cardinalityOfIntersection(bv2));
+            assertEquals(union, bv1.cardinalityOfUnion(bv2));
+            assertEquals(bv1.xor(bv2).cardinality(), bv1.hammingDistance(bv2));
+            double expected = union == 0 ? 1.0 : intersection / (double)union;
+            assertEquals(expected, bv1.tanimotoSimilarity(bv2), 0.0);
+            assertEquals(expected, bv2.tanimotoSimilarity(bv1), 0.0);
+            assertEquals(expected, new DenseBitVectorSimilarity(bv1).tanimoto(bv2), 0.0);
+        }
+        DenseBitVector empty = new DenseBitVector(10);
+        assertEquals(1.0, empty.tanimotoSimilarity(new DenseBitVector(70)), 0.0);
+        DenseBitVector bv = new DenseBitVector(70);
+        bv.set(65);
+        assertEquals(0.0, empty.tanimotoSimilarity(bv), 0.0);
+        assertEquals(0.0, bv.tanimotoSimilarity(empty), 0.0);
+    }
+
+    /**
+     * Tests the batch comparison of a query with dense, sparse, and missing cells.
+     */
+    public void testSimilarityBatch() {
+        Random rand = new Random(7);
+        DenseBitVector query = createRandomVector(rand, 300);
+        DenseBitVectorSimilarity similarity = new DenseBitVectorSimilarity(query);
+        assertEquals(query.cardinality(), similarity.getQueryCardinality());
+
+        DataCell[] cells = new DataCell[50];
+        DenseBitVector[] vectors = new DenseBitVector[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            vectors[i] = createRandomVector(rand, 1 + rand.nextInt(400));
+            if (i % 2 == 0) {
+                cells[i] = new DenseBitVectorCell(vectors[i]);
+            } else {
+                SparseBitVector sparse = new SparseBitVector(vectors[i].length());
+                for (long b = vectors[i].nextSetBit(0); b >= 0; b = vectors[i].nextSetBit(b + 1)) {
+                    sparse.set(b);
+                }
+                cells[i] = new SparseBitVectorCell(sparse);
+            }
+        }
+        cells[cells.length - 1] = DataType.getMissingCell();
+
+        double[] result = new double[cells.length];
+        similarity.tanimoto(cells, result);
+        for (int i = 0; i < cells.length - 1; i++) {
+            assertEquals("Wrong similarity for cell " + i, query.tanimotoSimilarity(vectors[i]), result[i], 1e-12);
+        }
+        assertTrue(Double.isNaN(result[cells.length - 1]));
+    }
+
+    /**
+     * Creates a vector of the given length with random bits set in a random sub-range.
+     */
+    private static DenseBitVector createRandomVector(final Random rand, final int length) {
+        DenseBitVector result = new DenseBitVector(length);
+        if (rand.nextInt(10) == 0) {
+            return result;
+        }
+        int from = rand.nextInt(length);
+        int to = from + rand.nextInt(length - from) + 1;
+        for (int i = from; i < to; i++) {
+            if (rand.nextInt(3) == 0) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
     /**
      * Checks that the hashCode of dense and sparse bit vectors are identical.
      *
@@ -48,8 +48,11 @@
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import org.hamcrest.core.Is;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
 import org.knime.core.data.vector.bitvector.DenseBitVector;
 
 import junit.framework.Assert;
@@ -824,6 +827,119 @@ public void testFactory() {
     }
 
 
+    /**
+     * Tests that the in-place add, max, and min operations have the same result as the ones creating a new vector.
+     */
+    public void testInPlaceOperations() {
+        Random rand = new Random(17);
+        for (int run = 0; run < 200; run++) {
+            DenseByteVector bv1 = createRandomVector(rand, 1 + rand.nextInt(100), 100);
+            DenseByteVector bv2 = createRandomVector(rand, 1 + rand.nextInt(bv1.length()), 100);
+
+            DenseByteVector result = new DenseByteVector(bv1);
+            result.addInPlace(bv2, true);
+            assertEquals(bv1.add(bv2, true), result);
+            result = new DenseByteVector(bv1);
+            result.addInPlace(bv2, false);
+            assertEquals(bv1.add(bv2, false), result);
+
+            result = new DenseByteVector(bv1);
+            result.maxInPlace(bv2);
+            assertEquals(bv1.max(bv2), result);
+
+            result = new DenseByteVector(bv1);
+            result.minInPlace(bv2);
+            assertEquals(bv1.min(bv2), result);
+            result = new DenseByteVector(bv2);
+            result.minInPlace(bv1);
+            assertEquals(bv2.min(bv1).sumOfAllCounts(), result.sumOfAllCounts());
+        }
+
+        // counts are treated as unsigned values
+        DenseByteVector bv = new DenseByteVector(new byte[]{(byte)200, 10, (byte)250});
+        bv.addInPlace(new DenseByteVector(new byte[]{100, 100}), false);
+        assertEquals("{255, 110, 250}", bv.toString());
+        bv.maxInPlace(new DenseByteVector(new byte[]{(byte)130, (byte)130}));
+        assertEquals("{255, 130, 250}", bv.toString());
+        bv.minInPlace(new DenseByteVector(new byte[]{(byte)140, 120}));
+        assertEquals("{140, 120, 0}", bv.toString());
+        try {
+            bv.addInPlace(new DenseByteVector(4), true);
+            fail("Expected exception not thrown");
+        } catch (IllegalArgumentException iae) {
+            // expected
+        }
+    }
+
+    /**
+     * Tests the similarity kernels, including the batch comparison of a query with dense, sparse, and missing cells.
+     */
+    public void testSimilarity() {
+        Random rand = new Random(42);
+        for (int run = 0; run < 200; run++) {
+            DenseByteVector bv1 = createRandomVector(rand, 1 + rand.nextInt(100), 256);
+            DenseByteVector bv2 = createRandomVector(rand, 1 + rand.nextInt(100), 256);
+
+            long sumOfMin = 0;
+            long sumOfMax = 0;
+            for (int i = 0; i < Math.max(bv1.length(), bv2.length()); i++) {
+                int c1 = i < bv1.length() ? bv1.get(i) : 0;
+                int c2 = i < bv2.length() ? bv2.get(i) : 0;
+                sumOfMin += Math.min(c1, c2);
+                sumOfMax += Math.max(c1, c2);
+            }
+            assertEquals(sumOfMin, bv1.sumOfMin(bv2));
+            assertEquals(sumOfMax, bv1.sumOfMax(bv2));
+            double expected = sumOfMax == 0 ? 1.0 : sumOfMin / (double)sumOfMax;
+            assertEquals(expected, bv1.tanimotoSimilarity(bv2), 0.0);
+            assertEquals(expected, bv2.tanimotoSimilarity(bv1), 0.0);
+        }
+
+        DenseByteVector query = createRandomVector(rand, 80, 256);
+        DenseByteVectorSimilarity similarity = new DenseByteVectorSimilarity(query);
+        assertEquals(query.sumOfAllCounts(), similarity.getQuerySumOfCounts());
+        DataCell[] cells = new DataCell[30];
+        DenseByteVector[] vectors = new DenseByteVector[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            vectors[i] = createRandomVector(rand, 1 + rand.nextInt(100), 256);
+            if (i % 2 == 0) {
+                cells[i] = new DenseByteVectorCell(vectors[i]);
+            } else {
+                long[] indices = new long[vectors[i].length()];
+                for (int j = 0; j < indices.length; j++) {
+                    indices[j] = j;
+                }
+                cells[i] = new SparseByteVectorCell(
+                    new SparseByteVector(indices.length, indices, vectors[i].getAllCountsAsBytes()));
+            }
+        }
+        cells[0] = DataType.getMissingCell();
+        double[] result = new double[cells.length];
+        similarity.tanimoto(cells, result);
+        assertTrue(Double.isNaN(result[0]));
+        for (int i = 1; i < cells.length; i++) {
+            assertEquals("Wrong similarity for cell " + i, query.tanimotoSimilarity(vectors[i]), result[i], 1e-12);
+        }
+    }
+
+    /**
+     * Creates a vector of the given length with random counts (below the given bound) in a random sub-range.
+     */
+    private static DenseByteVector createRandomVector(final Random rand, final int length, final int bound) {
+        DenseByteVector result = new DenseByteVector(length);
+        if (rand.nextInt(10) == 0) {
+            return result;
+        }
+        int from = rand.nextInt(length);
+        int to = from + rand.nextInt(length - from) + 1;
+        for (int i = from; i < to; i++) {
+            if (rand.nextInt(3) == 0) {
+                result.set(i, rand.nextInt(bound));
+            }
+        }
+        return result;
+    }
+
     /**
      * Checks that the hashCode of dense and sparse byte vectors are identical.
      *
@@ -0,0 +1,152 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.NodeFactory.NodeType;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.extension.NodeSpec.Factory;
+import org.knime.core.node.extension.NodeSpec.Metadata;
+import org.knime.core.node.extension.NodeSpec.Metadata.Vendor;
+import org.knime.core.node.extension.NodeSpec.Ports;
+import org.knime.core.node.extension.NodeSpec.Ports.Port;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.CoreToDefUtil;
+import org.knime.shared.workflow.def.impl.VendorDefBuilder;
+
+/**
+ * Tests writing and reading node specifications with the {@link NodeSpecCachePersistor}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class NodeSpecCachePersistorTest {
+
+    @TempDir
+    Path m_tempDir;
+
+    private static List<NodeSpec> createNodeSpecs() throws Exception {
+        final var tableType = CoreToDefUtil.toPortTypeDef(BufferedDataTable.TYPE);
+        final var optionalType = CoreToDefUtil.toPortTypeDef(PortObject.TYPE_OPTIONAL);
+        final var vendorDef = new VendorDefBuilder().setName("Test Extension").setSymbolicName("org.knime.test")
+            .setVendor("KNIME AG, Zurich, Switzerland").setVersion("5.3.0.v202610181200").build();
+        final var emptyVendorDef = new VendorDefBuilder().build();
+
+        final var settings = new NodeSettings("settings");
+        settings.addString("key", "value");
+        settings.addInt("count", 42);
+
+        final var description = "<p>Port description \u00e4\u00f6\u00fc</p>".repeat(10000); // > 64KB
+        final var ports = new Ports(List.of(new Port(0, tableType, "Input table", description)),
+            List.of(tableType, optionalType), List.of(new Port(0, optionalType, "Output", null)));
+        final var full = new NodeSpec(new Factory("org.knime.test.DynamicFactory#Node", "org.knime.test.DynamicFactory",
+            settings), NodeType.Manipulator, ports,
+            new Metadata(new Vendor(vendorDef, emptyVendorDef), "Test Node", NodeType.Manipulator, "/test/category",
+                "org.knime.test.OtherFactory", List.of("keyword"), List.of("test", "category")),
+            new URL("file:/tmp/icon.png"), true, false);
+
+        final var minimal = new NodeSpec(new Factory("org.knime.test.Factory", "org.knime.test.Factory", null),
+            NodeType.Other, new Ports(List.of(), List.of(), List.of()),
+            new Metadata(new Vendor(emptyVendorDef, emptyVendorDef), "Minimal", NodeType.Other, "/", null,
+                List.of(), List.of()),
+            null, false, true);
+        return List.of(full, minimal);
+    }
+
+    /**
+     * Node specs read from the file equal the written ones.
+     */
+    @Test
+    void testRoundTrip() throws Exception {
+        final var file = m_tempDir.resolve(NodeSpecCachePersistor.FILE_NAME);
+        final var nodeSpecs = createNodeSpecs();
+        new NodeSpecCachePersistor(file, "key").save(nodeSpecs);
+        assertThat(file).isRegularFile();
+
+        final var loaded = new NodeSpecCachePersistor(file, "key").load();
+        assertThat(loaded).isPresent();
+        assertThat(loaded.get()).hasSize(nodeSpecs.size());
+        for (var i = 0; i < nodeSpecs.size(); i++) {
+            // node settings and defs do not implement equals, compare the string representation
+            final var expected = nodeSpecs.get(i);
+            final var actual = loaded.get().get(i);
+            assertThat(actual).hasToString(expected.toString());
+            assertThat(actual.metadata().vendor().feature().getVendor())
+                .isEqualTo(expected.metadata().vendor().feature().getVendor());
+            assertThat(actual.ports().getSupportedInputPortTypes())
+                .containsExactlyElementsOf(expected.ports().getSupportedInputPortTypes().toList());
+        }
+    }
+
+    /**
+     * A file written for a different set of extensions is ignored, a corrupt file is ignored and deleted.
+     */
+    @Test
+    void testInvalidation() throws Exception {
+        final var file = m_tempDir.resolve(NodeSpecCachePersistor.FILE_NAME);
+        assertThat(new NodeSpecCachePersistor(file, "key").load()).isEmpty();
+
+        new NodeSpecCachePersistor(file, "key").save(createNodeSpecs());
+        assertThat(new NodeSpecCachePersistor(file, "other key").load()).isEmpty();
+
+        final var bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThat(new NodeSpecCachePersistor(file, "key").load()).isEmpty();
+        assertThat(file).doesNotExist();
+    }
+}
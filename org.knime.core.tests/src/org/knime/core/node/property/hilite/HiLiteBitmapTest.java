@@ -0,0 +1,216 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.property.hilite;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.knime.core.data.RowKey;
+
+/**
+ * Tests the {@link HiLiteBitmap} that stores the hilite state of a {@link HiLiteHandler}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class HiLiteBitmapTest {
+
+    private static Set<RowKey> keys(final int from, final int to, final int step) {
+        return IntStream.range(from, to).filter(i -> (i - from) % step == 0).mapToObj(i -> new RowKey("Row" + i))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Tests that adding and removing keys returns exactly the keys whose status changed.
+     */
+    @Test
+    public void testAddAndRemoveReturnChangedKeys() {
+        final HiLiteBitmap bitmap = new HiLiteBitmap();
+        assertTrue(bitmap.isEmpty());
+        assertEquals(keys(0, 10, 1), bitmap.addAll(keys(0, 10, 1)));
+        assertEquals(keys(10, 20, 1), bitmap.addAll(keys(5, 20, 1)));
+        assertEquals(20, bitmap.size());
+        assertTrue(bitmap.addAll(keys(0, 20, 1)).isEmpty());
+
+        assertEquals(keys(0, 20, 2), bitmap.removeAll(keys(0, 30, 2)));
+        assertEquals(10, bitmap.size());
+        assertTrue(bitmap.contains(new RowKey("Row1")));
+        assertFalse(bitmap.contains(new RowKey("Row2")));
+        assertFalse(bitmap.contains(new RowKey("Unknown")));
+        assertEquals(keys(1, 20, 2), bitmap.toSet());
+    }
+
+    /**
+     * Tests that chunks switch between the sparse and the dense representation and that multiple chunks work.
+     */
+    @Test
+    public void testManyKeys() {
+        final HiLiteBitmap bitmap = new HiLiteBitmap();
+        final Set<RowKey> all = keys(0, 200_000, 1);
+        // dense chunks
+        assertEquals(all, bitmap.addAll(all));
+        assertEquals(all.size(), bitmap.size());
+        // sparse chunks again
+        final Set<RowKey> odd = keys(1, 200_000, 2);
+        assertEquals(odd, bitmap.removeAll(odd));
+        assertEquals(keys(0, 200_000, 100), bitmap.removeAll(keys(0, 200_000, 100)));
+        final Set<RowKey> expected = new LinkedHashSet<>(keys(0, 200_000, 2));
+        expected.removeAll(keys(0, 200_000, 100));
+        assertEquals(expected.size(), bitmap.size());
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(bitmap.toSet()));
+        for (final RowKey key : all) {
+            assertEquals(key.toString(), expected.contains(key), bitmap.contains(key));
+        }
+    }
+
+    /**
+     * Tests that the hilit keys are returned in hilite order.
+     */
+    @Test
+    public void testOrder() {
+        final HiLiteBitmap bitmap = new HiLiteBitmap();
+        bitmap.addAll(List.of(new RowKey("Row7"), new RowKey("Row2"), new RowKey("Row5")));
+        assertEquals(List.of(new RowKey("Row7"), new RowKey("Row2"), new RowKey("Row5")),
+            new ArrayList<>(bitmap.toSet()));
+    }
+
+    /**
+     * Tests that the indices of unhilit keys are released so that hiliting and unhiliting ever new keys doesn't grow
+     * the bitmap unboundedly, and that compaction retains the hilit keys and their order.
+     */
+    @Test
+    public void testCompaction() {
+        final HiLiteBitmap bitmap = new HiLiteBitmap();
+        final Set<RowKey> retained = keys(0, 100, 1);
+        bitmap.addAll(retained);
+        for (int i = 1; i <= 100; i++) {
+            final Set<RowKey> transientKeys = keys(i * 1000, i * 1000 + 500, 1);
+            assertEquals(transientKeys, bitmap.addAll(transientKeys));
+            assertEquals(transientKeys, bitmap.removeAll(transientKeys));
+            assertTrue("Too many indices: " + bitmap.getNrIndices(), bitmap.getNrIndices() <= 1000);
+        }
+        assertEquals(new ArrayList<>(retained), new ArrayList<>(bitmap.toSet()));
+        for (final RowKey key : retained) {
+            assertTrue(key.toString(), bitmap.contains(key));
+        }
+        assertFalse(bitmap.contains(new RowKey("Row1000")));
+        assertEquals(retained, bitmap.removeAll(retained));
+        assertTrue(bitmap.isEmpty());
+        assertTrue(bitmap.getNrIndices() <= 100);
+    }
+
+    /**
+     * Tests replacing and clearing the keys.
+     */
+    @Test
+    public void testReplaceAndClear() {
+        final HiLiteBitmap bitmap = new HiLiteBitmap();
+        bitmap.addAll(keys(0, 100, 1));
+        assertTrue(bitmap.containsExactly(keys(0, 100, 1)));
+        assertFalse(bitmap.containsExactly(keys(0, 100, 2)));
+        bitmap.replace(keys(50, 150, 1));
+        assertTrue(bitmap.containsExactly(keys(50, 150, 1)));
+        assertFalse(bitmap.contains(new RowKey("Row0")));
+        bitmap.clear();
+        assertTrue(bitmap.isEmpty());
+        assertFalse(bitmap.contains(new RowKey("Row50")));
+        assertTrue(bitmap.toSet().isEmpty());
+        assertEquals(keys(0, 10, 1), bitmap.addAll(keys(0, 10, 1)));
+    }
+
+    /**
+     * Tests that <code>null</code> keys are rejected without modifying the state.
+     */
+    @Test
+    public void testNullKeys() {
+        final HiLiteBitmap bitmap = new HiLiteBitmap();
+        final List<RowKey> withNull = new ArrayList<>(keys(0, 10, 1));
+        withNull.add(null);
+        try {
+            bitmap.addAll(withNull);
+            fail("Null keys should not be allowed");
+        } catch (IllegalArgumentException e) { // NOSONAR expected
+        }
+        assertTrue(bitmap.isEmpty());
+        bitmap.addAll(keys(0, 10, 1));
+        try {
+            bitmap.removeAll(withNull);
+            fail("Null keys should not be allowed");
+        } catch (IllegalArgumentException e) { // NOSONAR expected
+        }
+        assertEquals(10, bitmap.size());
+    }
+
+    /**
+     * Tests that the handler reports the hilit keys in hilite order.
+     */
+    @Test
+    public void testHandler() {
+        final HiLiteHandler handler = new HiLiteHandler();
+        handler.fireHiLiteEvent(new KeyEvent(this, keys(500, 1000, 1)), false);
+        handler.fireHiLiteEvent(new KeyEvent(this, keys(0, 500, 1)), false);
+        final List<RowKey> expected = new ArrayList<>(keys(500, 1000, 1));
+        expected.addAll(keys(0, 500, 1));
+        assertEquals(expected, new ArrayList<>(handler.getHiLitKeys()));
+        handler.fireUnHiLiteEvent(new KeyEvent(this, keys(0, 1000, 2)), false);
+        assertTrue(handler.isHiLit(new RowKey("Row1")));
+        assertFalse(handler.isHiLit(new RowKey("Row2")));
+        handler.fireReplaceHiLiteEvent(new KeyEvent(this, keys(0, 10, 1)), false);
+        assertEquals(keys(0, 10, 1), handler.getHiLitKeys());
+    }
+}
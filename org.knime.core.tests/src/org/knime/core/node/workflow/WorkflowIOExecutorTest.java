@@ -0,0 +1,133 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Tests the ordering and cancellation of concurrent node loads and the nesting of save operations in the
+ * {@link WorkflowIOExecutor}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class WorkflowIOExecutorTest {
+
+    private static final NodeID A = NodeID.ROOTID.createChild(1);
+
+    private static final NodeID B = NodeID.ROOTID.createChild(2);
+
+    private static final NodeID C = NodeID.ROOTID.createChild(3);
+
+    @Test
+    void testLoadsRunAfterPredecessors() throws CanceledExecutionException {
+        final List<NodeID> loaded = new CopyOnWriteArrayList<>();
+        try (final var loads = new WorkflowIOExecutor.NodeLoads()) {
+            loads.addLoadedByCaller(A);
+            loads.submit(B, List.of(A), () -> loaded.add(B));
+            loads.submit(C, List.of(B), () -> !loaded.add(C));
+            assertThat(loaded).as("loads waiting for a node loaded by the caller").isEmpty();
+            loads.setLoaded(A);
+            assertThat(loads.await(C)).isFalse();
+            assertThat(loads.await(B)).isTrue();
+            assertThat(loaded).containsExactly(B, C);
+        }
+    }
+
+    @Test
+    void testCanceledLoadCancelsSuccessors() throws CanceledExecutionException {
+        final List<NodeID> loaded = new CopyOnWriteArrayList<>();
+        try (final var loads = new WorkflowIOExecutor.NodeLoads()) {
+            loads.submit(A, Collections.emptyList(), () -> {
+                throw new CanceledExecutionException();
+            });
+            loads.submit(B, List.of(A), () -> loaded.add(B));
+            loads.submit(C, Collections.emptyList(), () -> loaded.add(C));
+            assertThatThrownBy(() -> loads.await(A)).isInstanceOf(CanceledExecutionException.class);
+            assertThatThrownBy(() -> loads.await(B)).isInstanceOf(CanceledExecutionException.class);
+            assertThat(loads.await(C)).as("independent node").isTrue();
+            assertThat(loaded).containsExactly(C);
+        }
+    }
+
+    @Test
+    void testCloseSkipsPendingLoads() {
+        final List<NodeID> loaded = new CopyOnWriteArrayList<>();
+        final var loads = new WorkflowIOExecutor.NodeLoads();
+        loads.addLoadedByCaller(A);
+        loads.submit(B, List.of(A), () -> loaded.add(B));
+        loads.close();
+        assertThat(loaded).as("loads after the caller aborted").isEmpty();
+    }
+
+    @Test
+    void testNestedSaveScopes() throws Exception {
+        assertThat(WorkflowIOExecutor.isDeferringWrites()).isFalse();
+        try (final var outer = WorkflowIOExecutor.openSaveScope(new ExecutionMonitor())) {
+            assertThat(outer.isDeferring()).isEqualTo(WorkflowIOExecutor.isParallel());
+            assertThat(WorkflowIOExecutor.isDeferringWrites()).isEqualTo(WorkflowIOExecutor.isParallel());
+            try (final var inner = WorkflowIOExecutor.openSaveScope(new ExecutionMonitor())) {
+                assertThat(inner.isDeferring()).as("nested save operation").isFalse();
+                inner.awaitWrites(new ExecutionMonitor());
+            }
+            assertThat(WorkflowIOExecutor.isDeferringWrites()).isEqualTo(WorkflowIOExecutor.isParallel());
+            outer.awaitWrites(new ExecutionMonitor());
+        }
+        assertThat(WorkflowIOExecutor.isDeferringWrites()).isFalse();
+    }
+
+}
@@ -0,0 +1,362 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow.capture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.exec.SandboxedNodeCreator;
+import org.knime.core.node.exec.dataexchange.PortObjectIDSettings;
+import org.knime.core.node.exec.dataexchange.PortObjectRepository;
+import org.knime.core.node.exec.dataexchange.in.PortObjectInNodeFactory;
+import org.knime.core.node.exec.dataexchange.in.PortObjectInNodeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeID.NodeIDSuffix;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.capture.WorkflowSegment.Input;
+import org.knime.core.node.workflow.capture.WorkflowSegment.Output;
+import org.knime.core.node.workflow.capture.WorkflowSegment.PortID;
+import org.knime.core.node.workflow.capture.WorkflowSegmentExecutorPool.Statistics;
+import org.knime.testing.node.blocking.BlockingNodeFactory;
+import org.knime.testing.node.blocking.BlockingRepository;
+import org.knime.testing.node.blocking.BlockingRepository.LockedMethod;
+import org.knime.testing.node.executioncount.ExecutionCountNodeFactory;
+import org.knime.testing.node.executioncount.ExecutionCountNodeModel;
+
+/**
+ * Tests the reuse, waiting, disposal and statistics of the {@link WorkflowSegmentExecutorPool}.
+ *
+ * The workflow segment passes its input through an execution counting node and a blocking node to its first output.
+ * Its second output is a static table passed through another execution counting node, which doesn't depend on the
+ * input. Each executor of the pool is a metanode next to the host node.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class WorkflowSegmentExecutorPoolTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+
+    private static final int STATIC_VALUE = 42;
+
+    private WorkflowManager m_project;
+
+    private NativeNodeContainer m_hostNode;
+
+    private ExecutionContext m_exec;
+
+    private UUID m_staticTableID;
+
+    private String m_lockID;
+
+    private ReentrantLock m_lock;
+
+    private WorkflowSegment m_segment;
+
+    private int m_inputCountIndex;
+
+    private int m_staticCountIndex;
+
+    private ExecutorService m_callers;
+
+    @BeforeEach
+    void createSegment() throws Exception {
+        m_project = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), new WorkflowCreationHelper());
+        var hostID = m_project.createAndAddNode(new PortObjectInNodeFactory());
+        m_hostNode = m_project.getNodeContainer(hostID, NativeNodeContainer.class, true);
+        m_exec = m_hostNode.createExecutionContext();
+        NodeContext.pushContext(m_hostNode);
+
+        m_staticTableID = PortObjectRepository.add(createTable(STATIC_VALUE));
+        m_lockID = getClass().getSimpleName() + "-" + UUID.randomUUID();
+        m_lock = new ReentrantLock();
+        BlockingRepository.put(m_lockID, LockedMethod.EXECUTE, m_lock);
+        m_callers = Executors.newCachedThreadPool();
+
+        var wfm = WorkflowManager.EXTRACTED_WORKFLOW_ROOT.createAndAddProject("segment", new WorkflowCreationHelper());
+        var inputCount = wfm.createAndAddNode(new ExecutionCountNodeFactory());
+        var blocking = wfm.createAndAddNode(new BlockingNodeFactory());
+        setLockID(wfm, blocking);
+        wfm.addConnection(inputCount, 1, blocking, 1);
+        var staticTable = wfm.createAndAddNode(SandboxedNodeCreator.TABLE_READ_NODE_FACTORY);
+        setStaticTable(wfm, staticTable);
+        var staticCount = wfm.createAndAddNode(new ExecutionCountNodeFactory());
+        wfm.addConnection(staticTable, 1, staticCount, 1);
+        m_inputCountIndex = inputCount.getIndex();
+        m_staticCountIndex = staticCount.getIndex();
+
+        var inputs = List.of(new Input(BufferedDataTable.TYPE, SPEC, Set.of(new PortID(suffix(wfm, inputCount), 1))));
+        var outputs = List.of(new Output(BufferedDataTable.TYPE, SPEC, new PortID(suffix(wfm, blocking), 1)),
+            new Output(BufferedDataTable.TYPE, SPEC, new PortID(suffix(wfm, staticCount), 1)));
+        m_segment = new WorkflowSegment(wfm, inputs, outputs, Set.of());
+    }
+
+    @AfterEach
+    void disposeWorkflows() {
+        m_callers.shutdownNow();
+        m_segment.disposeWorkflow();
+        BlockingRepository.removeAll(m_lockID);
+        PortObjectRepository.remove(m_staticTableID);
+        NodeContext.removeLastContext();
+        m_project.getParent().removeProject(m_project.getID());
+    }
+
+    private void setLockID(final WorkflowManager wfm, final NodeID id) throws InvalidSettingsException {
+        var settings = new NodeSettings("settings");
+        wfm.saveNodeSettings(id, settings);
+        settings.getNodeSettings("model").addString("lock_id", m_lockID);
+        wfm.loadNodeSettings(id, settings);
+    }
+
+    private void setStaticTable(final WorkflowManager wfm, final NodeID id) throws InvalidSettingsException {
+        var portObjectIDSettings = new PortObjectIDSettings();
+        portObjectIDSettings.setId(m_staticTableID);
+        var settings = new NodeSettings("settings");
+        wfm.saveNodeSettings(id, settings);
+        PortObjectInNodeModel.setInputNodeSettings(settings, portObjectIDSettings);
+        wfm.loadNodeSettings(id, settings);
+    }
+
+    private static NodeIDSuffix suffix(final WorkflowManager wfm, final NodeID id) {
+        return NodeIDSuffix.create(wfm.getID(), id);
+    }
+
+    private WorkflowSegmentExecutorPool createPool(final int maxSize) throws Exception {
+        return new WorkflowSegmentExecutorPool(m_segment, "segment", m_hostNode, false, w -> {
+        }, maxSize);
+    }
+
+    private BufferedDataTable createTable(final int value) {
+        var container = m_exec.createDataContainer(SPEC);
+        container.addRowToTable(new DefaultRow(RowKey.createRowKey(0L), new IntCell(value)));
+        container.close();
+        return container.getTable();
+    }
+
+    private PortObject[] execute(final WorkflowSegmentExecutorPool pool, final int value) throws Exception {
+        return pool.executeWorkflow(new PortObject[]{createTable(value)}, m_exec).getFirst();
+    }
+
+    /** Executes the pool on another thread, the input table is created by the calling thread. */
+    private Future<PortObject[]> submit(final WorkflowSegmentExecutorPool pool, final int value) {
+        var input = new PortObject[]{createTable(value)};
+        return m_callers.submit(() -> pool.executeWorkflow(input, m_exec).getFirst());
+    }
+
+    private static int getValue(final PortObject table) {
+        try (var iterator = ((BufferedDataTable)table).iterator()) {
+            return ((IntCell)iterator.next().getCell(0)).getIntValue();
+        }
+    }
+
+    /** @return the metanodes of the template and the members of the pool */
+    private List<WorkflowManager> getExecutorMetanodes() {
+        return m_project.getNodeContainers().stream() //
+            .filter(WorkflowManager.class::isInstance) //
+            .map(WorkflowManager.class::cast) //
+            .toList();
+    }
+
+    private static NativeNodeContainer getNode(final WorkflowManager metanode, final int index) {
+        // node id suffixes of the segment are retained in the metanodes
+        return metanode.getNodeContainer(metanode.getID().createChild(index), NativeNodeContainer.class, true);
+    }
+
+    private static int getExecutionCount(final WorkflowManager metanode, final int index) {
+        return ((ExecutionCountNodeModel)getNode(metanode, index).getNodeModel()).getCounter();
+    }
+
+    @Test
+    void testReuseWithoutReload() throws Exception {
+        var pool = createPool(2);
+        try {
+            for (var i = 0; i < 3; i++) {
+                var result = execute(pool, i);
+                assertThat(getValue(result[0])).isEqualTo(i);
+                assertThat(getValue(result[1])).isEqualTo(STATIC_VALUE);
+            }
+            assertThat(getExecutorMetanodes()).as("template and a single member").hasSize(2) //
+                .extracting(m -> getExecutionCount(m, m_inputCountIndex)).containsExactlyInAnyOrder(0, 3);
+            assertThat(pool.getStatistics().size()).isEqualTo(1);
+        } finally {
+            pool.dispose();
+        }
+        assertThat(getExecutorMetanodes()).as("metanodes after dispose").isEmpty();
+    }
+
+    @Test
+    void testResetKeepsInputIndependentNodesExecuted() throws Exception {
+        var pool = createPool(1);
+        try {
+            for (var i = 0; i < 3; i++) {
+                assertThat(getValue(execute(pool, i)[1])).isEqualTo(STATIC_VALUE);
+            }
+            var member = getExecutorMetanodes().stream() //
+                .filter(m -> getExecutionCount(m, m_inputCountIndex) > 0) //
+                .findFirst().orElseThrow();
+            assertThat(getExecutionCount(member, m_inputCountIndex)).isEqualTo(3);
+            assertThat(getExecutionCount(member, m_staticCountIndex)).as("executions of the input independent node")
+                .isEqualTo(1);
+            assertThat(getNode(member, m_staticCountIndex).getNodeContainerState().isExecuted())
+                .as("input independent node executed after reset").isTrue();
+            assertThat(getNode(member, m_inputCountIndex).getNodeContainerState().isExecuted())
+                .as("input dependent node executed after reset").isFalse();
+        } finally {
+            pool.dispose();
+        }
+    }
+
+    @Test
+    void testWaitsIfAllMembersAreBusy() throws Exception {
+        var pool = createPool(1);
+        try {
+            pool.prewarm();
+            final Future<PortObject[]> blocked;
+            final Future<PortObject[]> waiting;
+            m_lock.lock();
+            try {
+                blocked = submit(pool, 1);
+                await().atMost(5, TimeUnit.SECONDS).until(m_lock::hasQueuedThreads);
+                waiting = submit(pool, 2);
+                await().atMost(5, TimeUnit.SECONDS).until(() -> pool.getStatistics().poolWaits() == 1);
+                assertThat(waiting).as("call waiting for the busy member").isNotDone();
+                assertThat(blocked).isNotDone();
+            } finally {
+                m_lock.unlock();
+            }
+            assertThat(getValue(blocked.get(5, TimeUnit.SECONDS)[0])).isEqualTo(1);
+            assertThat(getValue(waiting.get(5, TimeUnit.SECONDS)[0])).isEqualTo(2);
+            assertThat(getExecutorMetanodes()).as("template and a single member").hasSize(2) //
+                .extracting(m -> getExecutionCount(m, m_inputCountIndex)).containsExactlyInAnyOrder(0, 2);
+        } finally {
+            pool.dispose();
+        }
+    }
+
+    @Test
+    void testDisposeWhileInUse() throws Exception {
+        var pool = createPool(1);
+        pool.prewarm();
+        final Future<PortObject[]> inUse;
+        m_lock.lock();
+        try {
+            inUse = submit(pool, 1);
+            await().atMost(5, TimeUnit.SECONDS).until(m_lock::hasQueuedThreads);
+            var waiting = submit(pool, 2);
+            await().atMost(5, TimeUnit.SECONDS).until(() -> pool.getStatistics().poolWaits() == 1);
+
+            pool.dispose();
+            assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> execute(pool, 3)).isInstanceOf(IllegalStateException.class);
+            assertThat(getExecutorMetanodes()).as("metanode of the member in use").hasSize(1);
+        } finally {
+            m_lock.unlock();
+        }
+        assertThat(getValue(inUse.get(5, TimeUnit.SECONDS)[0])).as("result of the call during dispose").isEqualTo(1);
+        assertThat(getExecutorMetanodes()).as("metanodes after the member has been returned").isEmpty();
+    }
+
+    @Test
+    void testStatistics() throws Exception {
+        var pool = createPool(2);
+        try {
+            assertThat(pool.getStatistics()).isEqualTo(new Statistics(0, 0, 0, 0, 0, 0));
+            assertThat(pool.getStatistics().averageCallNanos()).isZero();
+
+            execute(pool, 1);
+            execute(pool, 2);
+            var stats = pool.getStatistics();
+            assertThat(stats.calls()).isEqualTo(2);
+            assertThat(stats.poolHits()).as("calls after the lazy creation of the member").isEqualTo(1);
+            assertThat(stats.poolWaits()).isZero();
+            assertThat(stats.size()).isEqualTo(1);
+            assertThat(stats.maxCallNanos()).isPositive();
+            assertThat(stats.totalCallNanos()).isGreaterThanOrEqualTo(stats.maxCallNanos());
+            assertThat(stats.averageCallNanos()).isEqualTo(stats.totalCallNanos() / 2);
+
+            pool.prewarm();
+            assertThat(pool.getStatistics().size()).isEqualTo(2);
+            execute(pool, 3);
+            stats = pool.getStatistics();
+            assertThat(stats.calls()).isEqualTo(3);
+            assertThat(stats.poolHits()).isEqualTo(2);
+            assertThat(stats.poolWaits()).isZero();
+        } finally {
+            pool.dispose();
+        }
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow.virtual.parchunk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.LoopEndParallelizeNode;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
+import org.knime.core.node.workflow.virtual.VirtualNodeInput;
+
+/**
+ * Tests the dynamic scheduling of tasks to the chunks of a parallel chunk loop ({@link ChunkTaskDispatcher}) using
+ * stub start and end nodes and chunks.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class ChunkTaskDispatcherTest {
+
+    private static final String TASK_VARIABLE = "task";
+
+    /** Each task is processed exactly once and its result is passed on along with its index. */
+    @Test
+    void testAllTasksProcessedOnce() {
+        final StubEndNode endNode = new StubEndNode(i -> false);
+        final ChunkTaskDispatcher dispatcher = new ChunkTaskDispatcher(new StubStartNode(), endNode, 3, 20);
+        final StubChunk[] chunks = addChunks(dispatcher, 3, i -> false);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispatcher.nrFinishedTasks() == 20);
+        assertThat(dispatcher.nrFailedTasks()).isZero();
+        assertThat(endNode.m_finishedTasks).hasSize(20)
+            .containsExactlyInAnyOrderElementsOf(IntStream.range(0, 20).boxed().toList());
+        int nrExecutedTasks = 0;
+        for (StubChunk chunk : chunks) {
+            nrExecutedTasks += chunk.m_executedTasks.size();
+            chunk.m_results.forEach((task, result) -> assertThat(endNode.m_results.get(task))
+                .as("result of task %d", task).isSameAs(result));
+        }
+        // the first task of each chunk is set up by the framework
+        assertThat(nrExecutedTasks).isEqualTo(20 - 3);
+        dispatcher.dispose();
+    }
+
+    /** A failed task is counted and no further tasks are handed out. */
+    @Test
+    void testFailureStopsDispatching() {
+        final StubEndNode endNode = new StubEndNode(i -> false);
+        final ChunkTaskDispatcher dispatcher = new ChunkTaskDispatcher(new StubStartNode(), endNode, 1, 10);
+        addChunks(dispatcher, 1, task -> task == 4);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispatcher.nrFailedTasks() == 1);
+        assertThat(dispatcher.nrFinishedTasks()).isEqualTo(4);
+        assertThat(endNode.m_finishedTasks).containsExactly(0, 1, 2, 3);
+        dispatcher.dispose();
+    }
+
+    /** A failure of the end node to collect a result fails the task and stops dispatching. */
+    @Test
+    void testFailureOfEndNodeStopsDispatching() {
+        final StubEndNode endNode = new StubEndNode(task -> task == 2);
+        final ChunkTaskDispatcher dispatcher = new ChunkTaskDispatcher(new StubStartNode(), endNode, 1, 10);
+        final StubChunk[] chunks = addChunks(dispatcher, 1, task -> false);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispatcher.nrFailedTasks() == 1);
+        assertThat(dispatcher.nrFinishedTasks()).isEqualTo(2);
+        assertThat(chunks[0].m_executedTasks).containsExactly(1, 2);
+        dispatcher.dispose();
+    }
+
+    /** Once stopped (e.g. canceled), running tasks are still collected but no new ones are handed out. */
+    @Test
+    void testStop() throws InterruptedException {
+        final StubEndNode endNode = new StubEndNode(i -> false);
+        final ChunkTaskDispatcher dispatcher = new ChunkTaskDispatcher(new StubStartNode(), endNode, 2, 10);
+        final StubChunk chunk = new StubChunk(dispatcher, 0, task -> false);
+        chunk.m_executing = true;
+        dispatcher.addChunk(0, chunk);
+        dispatcher.stop();
+        chunk.finish(0);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispatcher.nrFinishedTasks() == 1);
+        // give a wrongly dispatched task the chance to show up
+        Thread.sleep(100);
+        assertThat(chunk.m_executedTasks).isEmpty();
+        assertThat(dispatcher.nrFailedTasks()).isZero();
+        dispatcher.dispose();
+    }
+
+    /** A loop whose chunk blocks during dispatching (e.g. as its workflow is locked) doesn't stall other loops. */
+    @Test
+    void testBlockedLoopDoesNotStallOtherLoops() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final StubEndNode blockedEndNode = new StubEndNode(i -> false);
+        final ChunkTaskDispatcher blockedDispatcher =
+            new ChunkTaskDispatcher(new StubStartNode(), blockedEndNode, 1, 2);
+        final StubChunk blockedChunk = new StubChunk(blockedDispatcher, 0, task -> false) {
+            @Override
+            public void executeTask(final VirtualNodeInput input) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) { // NOSONAR
+                    Thread.currentThread().interrupt();
+                }
+                super.executeTask(input);
+            }
+        };
+        blockedChunk.finish(0);
+        blockedDispatcher.addChunk(0, blockedChunk);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> blockedDispatcher.nrFinishedTasks() == 1);
+
+        final StubEndNode endNode = new StubEndNode(i -> false);
+        final ChunkTaskDispatcher dispatcher = new ChunkTaskDispatcher(new StubStartNode(), endNode, 2, 10);
+        addChunks(dispatcher, 2, task -> false);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispatcher.nrFinishedTasks() == 10);
+        assertThat(blockedDispatcher.nrFinishedTasks()).isEqualTo(1);
+
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> blockedDispatcher.nrFinishedTasks() == 2);
+        blockedDispatcher.dispose();
+        dispatcher.dispose();
+    }
+
+    /** State changes after disposal are ignored. */
+    @Test
+    void testChunkChangedAfterDispose() {
+        final ChunkTaskDispatcher dispatcher =
+            new ChunkTaskDispatcher(new StubStartNode(), new StubEndNode(i -> false), 1, 2);
+        dispatcher.dispose();
+        dispatcher.chunkChanged(0);
+        assertThat(dispatcher.nrFinishedTasks()).isZero();
+    }
+
+    /** The master validates up front that an end node claiming dynamic scheduling support implements it. */
+    @Test
+    void testMasterValidatesEndNode() {
+        final StubStartNode startNode = new StubStartNode();
+        final LoopEndParallelizeNode incompleteEndNode = new IncompleteEndNode();
+        assertThatThrownBy(() -> new ParallelizedChunkContentMaster(null, incompleteEndNode, 2, startNode, 5))
+            .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("taskFinished");
+        assertThatThrownBy(() -> new ParallelizedChunkContentMaster(null, new StubEndNode(i -> false), 2, null, 5))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ParallelizedChunkContentMaster(null, new StubEndNode(i -> false), 5, startNode,
+            2)).isInstanceOf(IllegalArgumentException.class);
+        // as many tasks as chunks doesn't need any support by the end node
+        assertThat(new ParallelizedChunkContentMaster(null, incompleteEndNode, 2, startNode, 2).isDynamicScheduling())
+            .isFalse();
+
+        final ParallelizedChunkContentMaster master =
+            new ParallelizedChunkContentMaster(null, new StubEndNode(i -> false), 2, startNode, 5);
+        assertThat(master.isDynamicScheduling()).isTrue();
+        assertThat(master.nrTasks()).isEqualTo(5);
+        master.cleanupChunks();
+    }
+
+    private static StubChunk[] addChunks(final ChunkTaskDispatcher dispatcher, final int nrChunks,
+        final IntPredicate failingTasks) {
+        final StubChunk[] chunks = new StubChunk[nrChunks];
+        for (int i = 0; i < nrChunks; i++) {
+            chunks[i] = new StubChunk(dispatcher, i, failingTasks);
+            // the first task is executed by the framework before the chunk is registered
+            chunks[i].finish(i);
+            dispatcher.addChunk(i, chunks[i]);
+        }
+        return chunks;
+    }
+
+    /** Chunk that finishes a task right away, unless it is to fail. */
+    private static class StubChunk implements ChunkTaskDispatcher.Chunk {
+
+        private final ChunkTaskDispatcher m_dispatcher;
+
+        private final int m_index;
+
+        private final IntPredicate m_failingTasks;
+
+        final List<Integer> m_executedTasks = new CopyOnWriteArrayList<>();
+
+        final Map<Integer, PortObject[]> m_results = new ConcurrentHashMap<>();
+
+        volatile boolean m_executing;
+
+        volatile boolean m_executed;
+
+        private volatile PortObject[] m_result;
+
+        StubChunk(final ChunkTaskDispatcher dispatcher, final int index, final IntPredicate failingTasks) {
+            m_dispatcher = dispatcher;
+            m_index = index;
+            m_failingTasks = failingTasks;
+        }
+
+        void finish(final int task) {
+            m_result = new PortObject[0];
+            m_results.put(task, m_result);
+            m_executed = !m_failingTasks.test(task);
+            m_executing = false;
+            m_dispatcher.chunkChanged(m_index);
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return m_executed;
+        }
+
+        @Override
+        public boolean executionInProgress() {
+            return m_executing;
+        }
+
+        @Override
+        public PortObject[] getOutportContent() {
+            return m_result;
+        }
+
+        @Override
+        public void executeTask(final VirtualNodeInput input) {
+            final int task = input.getFlowVariables().get(0).getIntValue();
+            m_executedTasks.add(task);
+            m_executed = false;
+            m_executing = true;
+            finish(task);
+        }
+    }
+
+    /** Start node that provides the task index as flow variable of the task input. */
+    private static final class StubStartNode implements LoopStartParallelizeNode {
+
+        @Override
+        public VirtualNodeInput getVirtualNodeInput(final int chunkIndex) {
+            return new VirtualNodeInput(new PortObject[0], List.of(new FlowVariable(TASK_VARIABLE, chunkIndex)));
+        }
+
+        @Override
+        public int getNrRemoteChunks() {
+            return 0;
+        }
+
+        @Override
+        public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+            // not needed
+        }
+
+        @Override
+        public void setNewInternalPortObjectNotifier(final Runnable notifier) {
+            // not needed
+        }
+    }
+
+    /** End node that records the finished tasks, failing for some of them. */
+    private static final class StubEndNode implements LoopEndParallelizeNode {
+
+        private final IntPredicate m_failingTasks;
+
+        final List<Integer> m_finishedTasks = new CopyOnWriteArrayList<>();
+
+        final Map<Integer, PortObject[]> m_results = new ConcurrentHashMap<>();
+
+        StubEndNode(final IntPredicate failingTasks) {
+            m_failingTasks = failingTasks;
+        }
+
+        @Override
+        public void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+            // not needed
+        }
+
+        @Override
+        public void updateStatus() {
+            // not needed
+        }
+
+        @Override
+        public boolean supportsDynamicScheduling() {
+            return true;
+        }
+
+        @Override
+        public void taskFinished(final int taskIndex, final PortObject[] results) throws Exception {
+            if (m_failingTasks.test(taskIndex)) {
+                throw new IllegalStateException("Task " + taskIndex + " failed");
+            }
+            m_finishedTasks.add(taskIndex);
+            m_results.put(taskIndex, results);
+        }
+    }
+
+    /** End node that claims dynamic scheduling support without implementing it. */
+    private static final class IncompleteEndNode implements LoopEndParallelizeNode {
+
+        @Override
+        public void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+            // not needed
+        }
+
+        @Override
+        public void updateStatus() {
+            // not needed
+        }
+
+        @Override
+        public boolean supportsDynamicScheduling() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link ShardedDuplicateChecker}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ShardedDuplicateCheckerTest {
+
+    /**
+     * Adds unique keys to a checker that keeps only few fingerprints in memory, hence spills many runs which are
+     * merged in several passes.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testNoDuplicatesWithSpilling() throws IOException {
+        final ShardedDuplicateChecker dc = new ShardedDuplicateChecker(4, 100, 3);
+        try {
+            for (int i = 0; i < 50000; i++) {
+                dc.addKey("Row" + i);
+            }
+            dc.checkForDuplicates();
+        } finally {
+            dc.clear();
+        }
+    }
+
+    /**
+     * Tests that a duplicate is detected when added if its twin is still held in memory.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testEarlyDuplicate() throws IOException {
+        final ShardedDuplicateChecker dc = new ShardedDuplicateChecker(4);
+        try {
+            dc.addKey("A");
+            dc.addKey("B");
+            dc.addKey("A");
+            fail("Duplicate not detected");
+        } catch (DuplicateKeyException e) {
+            assertEquals("A", e.getKey());
+        } finally {
+            dc.clear();
+        }
+    }
+
+    /**
+     * Tests that a duplicate is detected by the merge if its twin has already been spilled to disk.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testDuplicateAfterSpilling() throws IOException {
+        for (int shards : new int[]{1, 3}) {
+            final ShardedDuplicateChecker dc = new ShardedDuplicateChecker(shards, 10, 2);
+            try {
+                for (int i = 0; i < 1000; i++) {
+                    dc.addKey("Row" + i);
+                }
+                dc.addKey("Row17");
+                dc.checkForDuplicates();
+                fail("Duplicate not detected with " + shards + " shard(s)");
+            } catch (DuplicateKeyException e) {
+                assertEquals("Row17", e.getKey());
+            } finally {
+                dc.clear();
+            }
+        }
+    }
+
+    /**
+     * Tests that very long keys (which cannot be written with {@link java.io.DataOutput#writeUTF(String)}) and the
+     * empty key are supported.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testLongAndEmptyKeys() throws IOException {
+        final ShardedDuplicateChecker dc = new ShardedDuplicateChecker(2);
+        final String longKey = "x".repeat(100000);
+        try {
+            dc.addKey("");
+            dc.addKey(longKey);
+            dc.addKey(longKey + "y");
+            dc.addKey(longKey);
+            fail("Duplicate not detected");
+        } catch (DuplicateKeyException e) {
+            assertEquals(longKey, e.getKey());
+        } finally {
+            dc.clear();
+        }
+    }
+
+    /**
+     * Adds disjoint sets of keys from several threads, followed by a duplicate.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        final ShardedDuplicateChecker dc = new ShardedDuplicateChecker(8, 1000, 50);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        dc.addKey("Row" + thread + "_" + i);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+            dc.addKey("Row2_12345");
+            dc.checkForDuplicates();
+            fail("Duplicate not detected");
+        } catch (DuplicateKeyException e) {
+            assertEquals("Row2_12345", e.getKey());
+        } finally {
+            executor.shutdown();
+            dc.clear();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.util.ThreadPool.Backend;
+
+/**
+ * Tests that all {@link Backend backends} of the {@link ThreadPool} respect the limits of (sub) pools, support
+ * invisible threads and propagate the {@link NodeContext}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class ThreadPoolBackendTest {
+
+    private static final int TASK_COUNT = 50;
+
+    /**
+     * Tests that no more tasks than allowed by a pool and its sub pools run concurrently.
+     *
+     * @param backend the backend under test
+     * @throws Exception if the test fails
+     */
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testSubPoolLimits(final Backend backend) throws Exception {
+        final ThreadPool root = new ThreadPool(4, backend);
+        final ThreadPool sub = root.createSubPool(2);
+        final AtomicInteger rootRunning = new AtomicInteger();
+        final AtomicInteger rootMax = new AtomicInteger();
+        final AtomicInteger subRunning = new AtomicInteger();
+        final AtomicInteger subMax = new AtomicInteger();
+        final AtomicInteger finished = new AtomicInteger();
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+            final boolean inSub = (i % 2) == 0;
+            (inSub ? sub : root).enqueue(() -> {
+                rootMax.accumulateAndGet(rootRunning.incrementAndGet(), Math::max);
+                if (inSub) {
+                    subMax.accumulateAndGet(subRunning.incrementAndGet(), Math::max);
+                }
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                if (inSub) {
+                    subRunning.decrementAndGet();
+                }
+                rootRunning.decrementAndGet();
+                finished.incrementAndGet();
+            });
+        }
+        root.waitForTermination();
+
+        assertEquals(TASK_COUNT, finished.get(), "Not all tasks have finished");
+        assertTrue(rootMax.get() <= 4, "Too many concurrent tasks in root pool: " + rootMax.get());
+        assertTrue(subMax.get() <= 2, "Too many concurrent tasks in sub pool: " + subMax.get());
+        assertEquals(0, root.getRunningThreads(), "Running threads after termination");
+        assertEquals(0, root.getQueueSize(), "Queued futures after termination");
+    }
+
+    /**
+     * Tests that waiting for a task of the same pool from within a task does not dead-lock a pool with a single
+     * thread.
+     *
+     * @param backend the backend under test
+     * @throws Exception if the test fails
+     */
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testNestedTasks(final Backend backend) throws Exception {
+        final ThreadPool root = new ThreadPool(1, backend);
+        Future<Integer> outer = root.enqueue(() -> {
+            List<Future<Integer>> inner = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                final int value = i;
+                inner.add(root.enqueue(() -> value));
+            }
+            int sum = 0;
+            for (Future<Integer> f : inner) {
+                sum += f.get();
+            }
+            return sum;
+        });
+        assertEquals(45, outer.get(30, TimeUnit.SECONDS).intValue(), "Wrong result of nested tasks");
+    }
+
+    /**
+     * Tests {@link ThreadPool#runInvisible(java.util.concurrent.Callable)} and
+     * {@link ThreadPool#currentPool()}.
+     *
+     * @param backend the backend under test
+     * @throws Exception if the test fails
+     */
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testRunInvisible(final Backend backend) throws Exception {
+        final ThreadPool root = new ThreadPool(1, backend);
+        final ThreadPool sub = root.createSubPool(1);
+        assertNull(ThreadPool.currentPool(), "Current pool outside of a pool thread");
+        assertThrows(IllegalThreadStateException.class, () -> root.runInvisible(() -> null));
+
+        Future<ThreadPool> outer = root.enqueue(() -> root.runInvisible(() -> {
+            // the only thread of the root pool is invisible now, hence another task can run
+            return sub.submit(ThreadPool::currentPool).get();
+        }));
+        assertSame(sub, outer.get(30, TimeUnit.SECONDS), "Wrong current pool");
+
+        root.waitForTermination();
+        assertEquals(0, root.getRunningThreads(), "Running threads after termination");
+    }
+
+    /**
+     * Tests that more tasks than a fork/join pool compensates for by default (256) can wait invisibly at the same time
+     * without the wait failing.
+     *
+     * @param backend the backend under test
+     * @throws Exception if the test fails
+     */
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testManyInvisibleWaits(final Backend backend) throws Exception {
+        final int nrTasks = 300;
+        final ThreadPool root = new ThreadPool(1, backend);
+        final CountDownLatch allWaiting = new CountDownLatch(nrTasks);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < nrTasks; i++) {
+            futures.add(root.enqueue(() -> root.runInvisible(() -> {
+                allWaiting.countDown();
+                return release.await(60, TimeUnit.SECONDS);
+            })));
+        }
+        try {
+            assertTrue(allWaiting.await(60, TimeUnit.SECONDS),
+                "Only " + (nrTasks - allWaiting.getCount()) + " of " + nrTasks + " tasks are waiting invisibly");
+        } finally {
+            release.countDown();
+        }
+        for (Future<Boolean> f : futures) {
+            assertTrue(f.get(60, TimeUnit.SECONDS), "Invisible wait was not released");
+        }
+        root.waitForTermination();
+        assertEquals(0, root.getRunningThreads(), "Running threads after termination");
+    }
+
+    /**
+     * Tests that tasks run with the node context of the thread that has submitted them.
+     *
+     * @param backend the backend under test
+     * @throws Exception if the test fails
+     */
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testNodeContextPropagation(final Backend backend) throws Exception {
+        final ThreadPool root = new ThreadPool(2, backend);
+        final Object contextObject = new Object();
+        Future<Object> future;
+        NodeContext.pushContext(contextObject);
+        try {
+            future = root.enqueue(
+                () -> NodeContext.getContext().getContextObjectForClass(Object.class).orElse(null));
+        } finally {
+            NodeContext.removeLastContext();
+        }
+        assertSame(contextObject, future.get(30, TimeUnit.SECONDS), "Node context not propagated");
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.util.tokenizer;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import junit.framework.TestCase;
+
+/**
+ * JUnit test for the {@link TokenizerFileChunk}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class TokenizerFileChunkTest extends TestCase {
+
+    private Path m_file;
+
+    @Override
+    protected void setUp() throws Exception {
+        m_file = Files.createTempFile("tokenizer-chunks", ".csv");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Files.deleteIfExists(m_file);
+    }
+
+    /**
+     * Tests that the tokens of all chunks are the tokens of the whole file, for various numbers of chunks.
+     *
+     * @throws Exception if something goes wrong
+     */
+    public void testSplitSameTokens() throws Exception {
+        Files.writeString(m_file, createContent(2000), StandardCharsets.UTF_8);
+        final TokenizerSettings settings = createSettings();
+        assertTrue("Settings should allow splitting", settings.canSplitAtLineFeeds());
+
+        final List<String> expected = readAllTokens(
+            TokenizerFileChunk.split(m_file, StandardCharsets.UTF_8, settings, 1).get(0).createTokenizer());
+        for (int maxChunks : new int[]{2, 3, 8, 50}) {
+            final List<TokenizerFileChunk> chunks =
+                TokenizerFileChunk.split(m_file, StandardCharsets.UTF_8, settings, maxChunks);
+            assertTrue("Too few chunks", chunks.size() > 1);
+            assertTrue("Too many chunks", chunks.size() <= maxChunks);
+            assertEquals("First chunk must start at 0", 0, chunks.get(0).getStart());
+            assertEquals("Last chunk must end at the end of the file", Files.size(m_file),
+                chunks.get(chunks.size() - 1).getEnd());
+            final List<String> actual = new ArrayList<>();
+            for (int i = 0; i < chunks.size(); i++) {
+                if (i > 0) {
+                    assertEquals("Chunks must be contiguous", chunks.get(i - 1).getEnd(), chunks.get(i).getStart());
+                }
+                actual.addAll(readAllTokens(chunks.get(i).createTokenizer()));
+            }
+            assertEquals("Wrong tokens with " + maxChunks + " chunks", expected, actual);
+        }
+    }
+
+    /**
+     * Tests that chunks can be tokenized concurrently.
+     *
+     * @throws Exception if something goes wrong
+     */
+    public void testParallelTokenizing() throws Exception {
+        Files.writeString(m_file, createContent(5000), StandardCharsets.ISO_8859_1);
+        final TokenizerSettings settings = createSettings();
+        settings.setReadBlockSize(TokenizerSettings.DEFAULT_READ_BLOCK_SIZE);
+        final Charset charset = StandardCharsets.ISO_8859_1;
+
+        final List<String> expected =
+            readAllTokens(TokenizerFileChunk.split(m_file, charset, settings, 1).get(0).createTokenizer());
+        final List<TokenizerFileChunk> chunks = TokenizerFileChunk.split(m_file, charset, settings, 4);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<List<String>>> futures = new ArrayList<>();
+            for (TokenizerFileChunk chunk : chunks) {
+                futures.add(executor.submit(() -> readAllTokens(chunk.createTokenizer())));
+            }
+            final List<String> actual = new ArrayList<>();
+            for (Future<List<String>> future : futures) {
+                actual.addAll(future.get());
+            }
+            assertEquals("Wrong tokens", expected, actual);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests that the file is not split if tokens could span across line feeds or the charset doesn't allow to find
+     * line feeds on byte level.
+     *
+     * @throws Exception if something goes wrong
+     */
+    public void testNoSplit() throws Exception {
+        Files.writeString(m_file, createContent(2000), StandardCharsets.UTF_16);
+
+        TokenizerSettings settings = createSettings();
+        assertEquals("UTF-16 must not be split", 1,
+            TokenizerFileChunk.split(m_file, StandardCharsets.UTF_16, settings, 4).size());
+
+        settings.allowLFinQuotes(true);
+        assertFalse("Line feeds in quotes must prevent splitting", settings.canSplitAtLineFeeds());
+        assertEquals("Line feeds in quotes must prevent splitting", 1,
+            TokenizerFileChunk.split(m_file, StandardCharsets.UTF_8, settings, 4).size());
+
+        settings = createSettings();
+        settings.addBlockCommentPattern("/*", "*/", false, false);
+        assertFalse("Block comments must prevent splitting", settings.canSplitAtLineFeeds());
+
+        settings = createSettings();
+        settings.setLineContinuationCharacter('\\');
+        assertFalse("Line continuations must prevent splitting", settings.canSplitAtLineFeeds());
+
+        settings = new TokenizerSettings();
+        settings.addDelimiterPattern(",", false, false, false);
+        assertFalse("Line feeds must be delimiters", settings.canSplitAtLineFeeds());
+    }
+
+    private static TokenizerSettings createSettings() {
+        final TokenizerSettings settings = new TokenizerSettings();
+        settings.addDelimiterPattern("\n", false, true, false);
+        settings.addDelimiterPattern(",", false, false, false);
+        settings.addQuotePattern("\"", "\"", '\\');
+        settings.addSingleLineCommentPattern("#", false, false);
+        settings.addWhiteSpaceCharacter(' ');
+        settings.setSkipFirstLines(2);
+        return settings;
+    }
+
+    /** Creates lines with quotes, comments, empty lines, and different line endings. */
+    private static String createContent(final int lines) {
+        final Random random = new Random(7);
+        final StringBuilder content = new StringBuilder("skipped, first\nskipped, second\n");
+        for (int i = 0; i < lines; i++) {
+            final String lineEnd = random.nextBoolean() ? "\n" : "\r\n";
+            switch (random.nextInt(6)) {
+                case 0:
+                    content.append("# comment ").append(i).append(lineEnd);
+                    break;
+                case 1:
+                    content.append(lineEnd);
+                    break;
+                default:
+                    content.append(i).append(", \"quoted, \\\" ").append(random.nextInt()).append("\" , ")
+                        .append(random.nextDouble()).append(",\u00e4\u00f6").append(lineEnd);
+            }
+        }
+        return content.toString();
+    }
+
+    private static List<String> readAllTokens(final Tokenizer tokenizer) throws TokenizerException, IOException {
+        final List<String> result = new ArrayList<>();
+        CharSequence token;
+        while ((token = tokenizer.nextTokenSequence()) != null) {
+            result.add(token + "|" + tokenizer.lastTokenWasQuoted() + "|" + tokenizer.lastTokenWasDelimiter());
+        }
+        return result;
+    }
+}
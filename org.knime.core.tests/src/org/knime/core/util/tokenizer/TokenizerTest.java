@@ -45,6 +45,8 @@
 package org.knime.core.util.tokenizer;
 
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
 
 import junit.framework.TestCase;
 
@@ -1585,4 +1587,67 @@ public void testAddWhiteSpaceCharacter() throws TokenizerException {
         token = ft.nextToken();
         assertNull(token);
     }
+
+    /**
+     * Tests that reading blocks of characters (and returning tokens as character sequences) yields the same tokens as
+     * reading character by character, for various block sizes.
+     * @throws TokenizerException if somethings goes wrong.
+     */
+    public void testReadBlockSize() throws TokenizerException {
+        final String inputString = "h1,h2,\"h 3\"\r\n# comment\r\n\r\n"
+            + "  12 ,'a,b' , \"x\\\"y\" /* block\n comment */,\r\n"
+            + "long token without any special characters, \u00e4\u00f6\u00fc \\\n continued\n\n;;end";
+        TokenizerSettings fts = new TokenizerSettings();
+        fts.addDelimiterPattern("\n", false, true, false);
+        fts.addDelimiterPattern(",", false, false, false);
+        fts.addDelimiterPattern(";", true, false, false);
+        fts.addQuotePattern("\"", "\"", '\\');
+        fts.addQuotePattern("'", "'");
+        fts.addSingleLineCommentPattern("#", false, false);
+        fts.addBlockCommentPattern("/*", "*/", false, false);
+        fts.addWhiteSpaceCharacter(' ');
+        fts.setLineContinuationCharacter('\\');
+        fts.setSkipFirstLines(1);
+
+        final List<String> expected = readAllTokens(inputString, fts, false);
+        assertTrue("Too few tokens", expected.size() > 10);
+        for (int blockSize : new int[]{1, 2, 3, 7, 64, TokenizerSettings.DEFAULT_READ_BLOCK_SIZE}) {
+            fts.setReadBlockSize(blockSize);
+            assertEquals("Wrong tokens for block size " + blockSize, expected,
+                readAllTokens(inputString, fts, false));
+            assertEquals("Wrong token sequences for block size " + blockSize, expected,
+                readAllTokens(inputString, fts, true));
+        }
+        final Tokenizer ft = new Tokenizer(new StringReader(inputString));
+        ft.setSettings(fts);
+        assertEquals("Wrong read block size", TokenizerSettings.DEFAULT_READ_BLOCK_SIZE,
+            ft.getSettings().getReadBlockSize());
+    }
+
+    /**
+     * Reads all tokens, pushing back every third one, and returns them together with the quoted and delimiter
+     * flags.
+     */
+    private static List<String> readAllTokens(final String input, final TokenizerSettings settings,
+        final boolean asSequence) throws TokenizerException {
+        final Tokenizer ft = new Tokenizer(new StringReader(input));
+        ft.setSettings(settings);
+        final List<String> result = new ArrayList<String>();
+        int count = 0;
+        while (true) {
+            final CharSequence token = asSequence ? ft.nextTokenSequence() : ft.nextToken();
+            if (token == null) {
+                break;
+            }
+            final String tokenStr = token.toString();
+            if (++count % 3 == 0) {
+                ft.pushBack();
+                final CharSequence again = asSequence ? ft.nextTokenSequence() : ft.nextToken();
+                assertEquals("Pushed back token differs", tokenStr, again.toString());
+            }
+            result.add(tokenStr + "|" + ft.lastTokenWasQuoted() + "|" + ft.lastTokenWasDelimiter() + "|"
+                + ft.getLineNumber());
+        }
+        return result;
+    }
 } // TokenizerTest
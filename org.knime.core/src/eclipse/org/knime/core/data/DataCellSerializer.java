@@ -92,6 +92,21 @@ void serialize(final T cell, final DataCellDataOutput output)
      */
     T deserialize(final DataCellDataInput input) throws IOException;
 
+    /**
+     * Estimates the number of bytes of heap memory retained by the given cell. The estimate is used by tables that
+     * limit the rows they keep in memory by a byte budget rather than by a number of cells (see
+     * {@link org.knime.core.data.container.BufferSettings#withMaxBytesInMemory(long)}). It should be cheap to compute
+     * and may be rough, but should not underestimate cells of considerable size (such as documents or images).
+     *
+     * @param cell the cell whose size to estimate
+     * @return the estimated size in bytes, or a negative value if unknown (the default), in which case a generic
+     *         estimate is used
+     * @since 5.3
+     */
+    default long estimateRetainedSize(final T cell) {
+        return -1;
+    }
+
 
     /**
      * Returns the cell class that this serializer reads and writes. The class is determined from the generic argument.
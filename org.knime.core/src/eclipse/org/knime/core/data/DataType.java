@@ -54,7 +54,6 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -63,6 +62,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -222,10 +222,31 @@ public String toString() {
      * added to this map. This map makes sure that the <code>getType()</code>
      * method is fast and that there will be no duplicate <code>DataType</code>
      * instances for  different instances of the
-     * {@link org.knime.core.data.DataValue} implementation.
+     * {@link org.knime.core.data.DataValue} implementation. It's a concurrent
+     * map as types are looked up by many threads creating cells in parallel.
      */
     private static final Map<ClassAndSubDataTypePair, DataType>
-        CLASS_TO_TYPE_MAP = new HashMap<ClassAndSubDataTypePair, DataType>();
+        CLASS_TO_TYPE_MAP = new ConcurrentHashMap<ClassAndSubDataTypePair, DataType>();
+
+    private static final AtomicInteger VALUE_CLASS_COUNTER = new AtomicInteger();
+
+    /**
+     * Assigns each {@link DataValue} class a unique, small index, which is used to encode the compatible value
+     * classes of a type as bit set (see {@link #isCompatible(Class)}).
+     */
+    private static final ClassValue<Integer> VALUE_CLASS_INDEX = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+            return VALUE_CLASS_COUNTER.getAndIncrement();
+        }
+    };
+
+    /**
+     * Caches the result of {@link #getCommonSuperType(DataType, DataType)} for pairs of native types that are not
+     * super types of each other (the expensive case, which scans all registered types). Only native types are cached
+     * as they are interned and hence their number is bounded.
+     */
+    private static final Map<DataTypePair, DataType> COMMON_SUPER_TYPE_CACHE = new ConcurrentHashMap<>();
 
     /** Checks whether the given package name starts with either {@code "com.knime."} or {@code "org.knime."}. */
     private static final Predicate<String> IS_KNIME_PACKAGE = Pattern.compile("^(?:com|org)\\.knime\\.").asPredicate();
@@ -262,7 +283,7 @@ protected int compareDataValues(
      */
     private static final Map<Class<? extends DataValue>, UtilityFactory>
         VALUE_CLASS_TO_UTILITY =
-            new HashMap<Class<? extends DataValue>, UtilityFactory>();
+            new ConcurrentHashMap<Class<? extends DataValue>, UtilityFactory>();
 
     /**
      * Recursive method that walks up the inheritance tree of a given class and
@@ -398,12 +419,26 @@ public static DataType getCommonSuperType(final DataType type1, final DataType t
          * This only prevents extensions from messing with the KNIME-internal type hierarchy, not with types introduced
          * by other foreign extensions. Our goal here is to prevent accidental breakage, not malicious code.
          */
+        final boolean isCacheable = type1.m_cellClass != null && type2.m_cellClass != null;
+        final var key = isCacheable ? new DataTypePair(type1, type2) : null;
+        if (isCacheable) {
+            final var cached = COMMON_SUPER_TYPE_CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
         final var nonNativeCandidate = new DataType(type1, type2);
-        return DataTypeRegistry.getInstance().availableDataTypes() //
+        final var result = DataTypeRegistry.getInstance().availableDataTypes() //
                 .stream() //
                 .filter(type -> !type.isImpostor() && type.equalsNoPreferredValueClass(nonNativeCandidate)) //
                 .findFirst() //
                 .orElse(nonNativeCandidate);
+        if (isCacheable) {
+            // not using computeIfAbsent as the computation may recurse for collection types
+            final var previous = COMMON_SUPER_TYPE_CACHE.putIfAbsent(key, result);
+            return previous != null ? previous : result;
+        }
+        return result;
     }
 
     /**
@@ -534,8 +569,7 @@ public static DataType getType(final Class<? extends DataCell> cell) {
         ClassAndSubDataTypePair key = new ClassAndSubDataTypePair(cell, null, null);
         DataType result = CLASS_TO_TYPE_MAP.get(key);
         if (result == null) {
-            result = new DataType(cell, null, Collections.EMPTY_LIST);
-            CLASS_TO_TYPE_MAP.put(key, result);
+            result = internType(key, new DataType(cell, null, Collections.EMPTY_LIST));
         }
         return result;
     }
@@ -588,12 +622,22 @@ public static DataType getType(final Class<? extends DataCell> cellClass,
         ClassAndSubDataTypePair key = new ClassAndSubDataTypePair(cellClass, collectionElementType, adapterList);
         DataType result = CLASS_TO_TYPE_MAP.get(key);
         if (result == null) {
-            result = new DataType(cellClass, collectionElementType, adapterList);
-            CLASS_TO_TYPE_MAP.put(key, result);
+            result = internType(key, new DataType(cellClass, collectionElementType, adapterList));
         }
         return result;
     }
 
+    /**
+     * Adds a newly created type to the type map unless another thread was faster, in which case the other instance is
+     * returned so that there is only one instance per key. (The type is not created in a
+     * {@link Map#computeIfAbsent(Object, java.util.function.Function) computeIfAbsent} call as its constructor may
+     * recursively look up further types.)
+     */
+    private static DataType internType(final ClassAndSubDataTypePair key, final DataType type) {
+        DataType previous = CLASS_TO_TYPE_MAP.putIfAbsent(key, type);
+        return previous != null ? previous : type;
+    }
+
     /**
      * Determines the <code>UtilityFactory</code> for a given
      * {@link org.knime.core.data.DataValue} implementation.
@@ -653,7 +697,10 @@ public static UtilityFactory getUtilityFor(
                 // fall back - no meta information available
                 result = DataValue.UTILITY;
             }
-            VALUE_CLASS_TO_UTILITY.put(value, result);
+            UtilityFactory previous = VALUE_CLASS_TO_UTILITY.putIfAbsent(value, result);
+            if (previous != null) {
+                result = previous;
+            }
         }
         return result;
     }
@@ -732,6 +779,15 @@ public static DataType createNonNativeType(final List<Class<? extends DataValue>
     /** a map that caches whether certain encountered types are subtypes of this type */
     private final Map<DataType, Boolean> m_subTypes = new ConcurrentHashMap<>(100, 1 / 3f);
 
+    /**
+     * The indices (see {@link #VALUE_CLASS_INDEX}) of all value classes this type is compatible to, i.e. the value
+     * classes and all their super interfaces, encoded as bit set. Lazily initialized by
+     * {@link #isCompatible(Class)}. The field is volatile so that other threads never see the array before its
+     * elements are written; concurrent threads may compute it more than once, which is fine as the content is always
+     * the same.
+     */
+    private volatile long[] m_compatibleValueClassBits;
+
     private String m_name;
 
     /** the cached hash code of this type */
@@ -1226,13 +1282,53 @@ private boolean isASuperTypeOfInternal(final DataType type) {
      * @throws NullPointerException If the argument is null.
      */
     public boolean isCompatible(final Class<? extends DataValue> valueClass) {
-        for (Class<? extends DataValue> cl : m_valueClasses) {
+        long[] bits = m_compatibleValueClassBits;
+        if (bits == null) {
+            bits = computeCompatibleValueClassBits();
+            m_compatibleValueClassBits = bits;
+        }
+        if (bits.length == 0) {
             // a missing value is by definition always compatible, see also DataCell#isMissing()
-            if (MissingValue.class.equals(cl) || valueClass.isAssignableFrom(cl)) {
-                return true;
+            return true;
+        }
+        final int index = VALUE_CLASS_INDEX.get(valueClass);
+        final int word = index >>> 6;
+        return word < bits.length && (bits[word] & (1L << index)) != 0;
+    }
+
+    /**
+     * Computes the bit set for {@link #m_compatibleValueClassBits}. Returns an empty array if this type is the missing
+     * value type, which is compatible to any value class.
+     */
+    private long[] computeCompatibleValueClassBits() {
+        if (m_valueClasses.contains(MissingValue.class)) {
+            return new long[0];
+        }
+        final Set<Class<?>> compatibleClasses = new LinkedHashSet<>();
+        for (Class<? extends DataValue> cl : m_valueClasses) {
+            addAssignableDataValueClasses(compatibleClasses, cl);
+        }
+        long[] bits = new long[1];
+        for (Class<?> cl : compatibleClasses) {
+            final int index = VALUE_CLASS_INDEX.get(cl);
+            final int word = index >>> 6;
+            if (word >= bits.length) {
+                bits = Arrays.copyOf(bits, Math.max(word + 1, 2 * bits.length));
             }
+            bits[word] |= 1L << index;
         }
-        return false;
+        return bits;
+    }
+
+    /** Adds the argument and all its super classes and interfaces that are assignable to {@link DataValue}. */
+    private static void addAssignableDataValueClasses(final Set<Class<?>> set, final Class<?> current) {
+        if (current == null || !DataValue.class.isAssignableFrom(current) || !set.add(current)) {
+            return;
+        }
+        for (Class<?> c : current.getInterfaces()) {
+            addAssignableDataValueClasses(set, c);
+        }
+        addAssignableDataValueClasses(set, current.getSuperclass());
     }
 
     /** Returns true if this data type {@linkplain #isCompatible(Class) is compatible} to {@link AdapterValue}
@@ -1486,6 +1582,20 @@ private static String stripEnd(final String toStrip, final String... ends) {
         return result;
     }
 
+    /** Key of the {@link #COMMON_SUPER_TYPE_CACHE}, using identity as the cached types are interned. */
+    private record DataTypePair(DataType first, DataType second) {
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(first) + System.identityHashCode(second);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof DataTypePair other && other.first == first && other.second == second;
+        }
+    }
+
     private static final class ClassAndSubDataTypePair {
         private final Class<? extends DataCell> m_cellClass;
         private final DataType m_elementDataType;
@@ -106,7 +106,8 @@ public final class DataTypeRegistry {
 
     private final Map<String, Class<? extends DataValue>> m_valueClassMap;
 
-    private Collection<DataType> m_allDataTypes;
+    /** Lazily initialized, volatile so that {@link #availableDataTypes()} doesn't need to lock once initialized. */
+    private volatile Collection<DataType> m_allDataTypes;
 
     private final Map<String, Class<? extends ValueFactory<?, ?>>> m_valueFactoryClassMap;
 
@@ -212,7 +213,15 @@ Optional<DataCellFactory> getFactory(final String className, final FileStoreFact
      *
      * @return a (possibly empty) collection with data types
      */
-    public synchronized Collection<DataType> availableDataTypes() {
+    public Collection<DataType> availableDataTypes() {
+        final var allDataTypes = m_allDataTypes;
+        if (allDataTypes != null) {
+            return allDataTypes;
+        }
+        return initAvailableDataTypes();
+    }
+
+    private synchronized Collection<DataType> initAvailableDataTypes() {
         // perform lazy initialization
         if (m_allDataTypes != null) {
             return m_allDataTypes;
@@ -239,7 +248,7 @@ public synchronized Collection<DataType> availableDataTypes() {
         }
 
         m_allDataTypes = Collections.unmodifiableCollection(types);
-        return types;
+        return m_allDataTypes;
     }
 
     /**
@@ -0,0 +1,227 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Updates a {@link DataTableDomainCreator} by scanning a {@link BufferedDataTable} in parallel. The table is split into
+ * contiguous row ranges, each of which is scanned by its own copy of the domain creator on a sub pool of the
+ * {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}. The copies are merged in the order of their ranges, so
+ * the bounds, the possible values (including their order) and the column meta data are the same as after a sequential
+ * {@link DataTableDomainCreator#updateDomain(BufferedDataTable, ExecutionMonitor)}.
+ *
+ * <p>
+ * Typical usage when recomputing the domain of a large table:
+ *
+ * <pre>
+ * DataTableDomainCreator domainCreator = new DataTableDomainCreator(table.getDataTableSpec(), false);
+ * new ParallelDomainCalculator(domainCreator).updateDomain(table, exec);
+ * BufferedDataTable result = exec.createSpecReplacerTable(table, domainCreator.createSpec());
+ * </pre>
+ *
+ * Tables with fewer than two ranges' worth of rows (see {@link #setMinRowsPerRange(long)}) are scanned sequentially
+ * by the calling thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.3
+ */
+public final class ParallelDomainCalculator {
+
+    /** The default minimum number of rows per range. */
+    public static final long DEF_MIN_ROWS_PER_RANGE = 50_000;
+
+    /** Number of rows after which a range task checks for cancellation and reports progress. */
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final DataTableDomainCreator m_domainCreator;
+
+    private int m_parallelism;
+
+    private long m_minRowsPerRange = DEF_MIN_ROWS_PER_RANGE;
+
+    /**
+     * Creates a new calculator that updates the given domain creator. The parallelism defaults to the maximum number of
+     * threads of the global thread pool.
+     *
+     * @param domainCreator the domain creator to update, its initial state (e.g. domain values taken from the input
+     *            spec) is retained
+     */
+    public ParallelDomainCalculator(final DataTableDomainCreator domainCreator) {
+        m_domainCreator = CheckUtils.checkArgumentNotNull(domainCreator, "Domain creator must not be null");
+        m_parallelism = KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads();
+    }
+
+    /**
+     * Sets the maximum number of ranges that are scanned concurrently.
+     *
+     * @param parallelism the parallelism, must be &gt;= 1
+     * @return this
+     */
+    public ParallelDomainCalculator setParallelism(final int parallelism) {
+        CheckUtils.checkArgument(parallelism >= 1, "Parallelism must be >= 1 but is %d", parallelism);
+        m_parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the minimum number of rows per range. Smaller ranges are not worth the overhead of a separate task and of
+     * merging the possible values.
+     *
+     * @param minRowsPerRange the minimum number of rows, must be &gt;= 1
+     * @return this
+     */
+    public ParallelDomainCalculator setMinRowsPerRange(final long minRowsPerRange) {
+        CheckUtils.checkArgument(minRowsPerRange >= 1, "Minimum rows per range must be >= 1 but is %d",
+            minRowsPerRange);
+        m_minRowsPerRange = minRowsPerRange;
+        return this;
+    }
+
+    /**
+     * Updates the domain creator by scanning the whole table. Note that the table's structure must match the table spec
+     * that has been provided to the constructor of the domain creator.
+     *
+     * @param table the table to be processed
+     * @param exec an execution monitor to check for cancellation and report progress. Might be <code>null</code> if not
+     *            needed.
+     * @throws CanceledExecutionException when execution is cancelled
+     */
+    public void updateDomain(final BufferedDataTable table, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final long size = table.size();
+        final int rangeCount = (int)Math.min(m_parallelism, size / m_minRowsPerRange);
+        if (rangeCount <= 1) {
+            m_domainCreator.updateDomain(table, exec, size);
+            return;
+        }
+        CheckUtils.checkArgument(m_domainCreator.getInputSpec().equalStructure(table.getDataTableSpec()),
+            "Spec of table to scan does not match spec given in constructor");
+
+        final long baseBatchId = m_domainCreator.getBatchId();
+        final var pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(rangeCount);
+        final var aborted = new AtomicBoolean();
+        final var processedRows = new AtomicLong();
+        final List<Future<DataTableDomainCreator>> futures = new ArrayList<>(rangeCount);
+        for (var r = 0; r < rangeCount; r++) {
+            final long from = size * r / rangeCount;
+            final long to = size * (r + 1) / rangeCount - 1;
+            // copies carry the initial state of the creator and a batch id that is increasing with the row index,
+            // thus merging them in range order retains the order of first occurrence of the possible values
+            final var rangeCreator = new DataTableDomainCreator(m_domainCreator);
+            rangeCreator.setBatchId(baseBatchId + r);
+            futures.add(pool.enqueue(() -> scanRange(table, from, to, rangeCreator, exec, aborted, processedRows)));
+        }
+
+        try {
+            for (final Future<DataTableDomainCreator> future : futures) {
+                m_domainCreator.merge(future.get());
+            }
+        } catch (ExecutionException e) { // NOSONAR the cause is rethrown
+            final var cause = e.getCause();
+            if (cause instanceof CanceledExecutionException cee) {
+                throw cee;
+            } else if (cause instanceof RuntimeException re) {
+                throw re;
+            } else if (cause instanceof Error err) {
+                throw err;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) { // NOSONAR interrupt flag is restored
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while calculating domain");
+        } finally {
+            aborted.set(true);
+            futures.forEach(f -> f.cancel(false));
+        }
+        m_domainCreator.setBatchId(baseBatchId + rangeCount - 1);
+
+        if (exec != null) {
+            exec.checkCanceled();
+            exec.setProgress(1.0);
+        }
+    }
+
+    private static DataTableDomainCreator scanRange(final BufferedDataTable table, final long from, final long to,
+        final DataTableDomainCreator rangeCreator, final ExecutionMonitor exec, final AtomicBoolean aborted,
+        final AtomicLong processedRows) throws CanceledExecutionException {
+        final long size = table.size();
+        try (CloseableRowIterator it = table.filter(TableFilter.filterRangeOfRows(from, to)).iterator()) {
+            var sinceCheck = 0;
+            while (it.hasNext()) {
+                rangeCreator.updateDomain(it.next());
+                if (++sinceCheck == CHECK_INTERVAL) {
+                    sinceCheck = 0;
+                    if (aborted.get()) {
+                        return rangeCreator;
+                    }
+                    final long processed = processedRows.addAndGet(CHECK_INTERVAL);
+                    if (exec != null) {
+                        exec.checkCanceled();
+                        exec.setProgress(Math.min(processed / (double)size, 1.0),
+                            () -> String.format("Row %,d/%,d", processed, size));
+                    }
+                }
+            }
+        }
+        return rangeCreator;
+    }
+}
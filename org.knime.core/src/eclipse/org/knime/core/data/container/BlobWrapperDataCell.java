@@ -159,6 +159,14 @@ public DataCell getCell() {
         return cell;
     }
 
+    /**
+     * @return the wrapped blob cell if it is hard-referenced by this wrapper (i.e., retained in memory), otherwise
+     *         <code>null</code>
+     */
+    BlobDataCell getHardReferencedCell() {
+        return m_hardCellRef;
+    }
+
     /** Framework method to set buffer and address.
      * @param address Address to set.
      * @param buffer Owner buffer to set.
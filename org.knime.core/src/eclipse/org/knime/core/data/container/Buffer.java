@@ -73,6 +73,7 @@
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -527,6 +528,21 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
     /** maximum number of rows that are in memory. */
     private final int m_maxRowsInMem;
 
+    /**
+     * Maximum number of (estimated) bytes that all open buffers keep in memory, if positive. In that case it replaces
+     * {@link #m_maxRowsInMem} as threshold (unless that is 0), see {@link BufferSettings#getMaxBytesInMemory()}.
+     */
+    private final long m_maxBytesInMem;
+
+    /** The estimated heap size of the rows held in memory, only computed if {@link #m_maxBytesInMem} is positive. */
+    private long m_estimatedBytesInMem;
+
+    /** The part of {@link #m_estimatedBytesInMem} reserved from the {@link BufferMemoryBudget} while being open. */
+    private long m_reservedBytesInMem;
+
+    /** Set once the rows held in memory have exceeded the {@link BufferMemoryBudget}. */
+    private boolean m_exceedsMemoryBudget;
+
     /**
      * A table held in memory while still being modifiable and before being added to the cache. This is only ever true
      * when the writing buffer is not closed and rows are still being added to it. Setting this field to
@@ -632,8 +648,10 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         m_flushedToDisk = false;
         m_bufferSettings = settings;
         m_maxRowsInMem = maxRowsInMemory;
+        m_maxBytesInMem = m_bufferSettings.getMaxBytesInMemory();
         m_lifecycle = m_bufferSettings.useLRU() ? new SoftRefLRULifecycle() : new MemorizeIfSmallLifecycle();
         CACHE.setLRUCacheSize(m_bufferSettings.getLRUCacheSize());
+        CACHE.setOffHeapCacheSize(m_bufferSettings.getOffHeapCacheSize());
         /**
          * independent of the lifecycle, if maxRowsInMemory is zero, the buffer is expected to flush to disk (e.g, see
          * {@link org.knime.core.data.sort.DataTableSorter#createDataContainer(DataTableSpec, boolean)}).
@@ -707,8 +725,10 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         m_flushedToDisk = true;
         m_bufferSettings = settings;
         m_maxRowsInMem = 0;
+        m_maxBytesInMem = 0;
         m_lifecycle = m_bufferSettings.useLRU() ? new SoftRefLRULifecycle() : new MemorizeIfSmallLifecycle();
         CACHE.setLRUCacheSize(m_bufferSettings.getLRUCacheSize());
+        CACHE.setOffHeapCacheSize(m_bufferSettings.getOffHeapCacheSize());
         try {
             readMetaFromFile(metaIn, fileStoreDir);
         } catch (InvalidSettingsException ise) {
@@ -817,7 +837,7 @@ synchronized void addBlobSupportDataRow(final BlobSupportDataRow row) throws IOE
         }
         if (m_listWhileAddRow != null) {
             m_listWhileAddRow.add(row);
-            if (m_listWhileAddRow.size() > m_maxRowsInMem) {
+            if (exceedsInMemoryThreshold(row)) {
                 m_lifecycle.onAddRowToLargeList();
             }
         } else {
@@ -826,6 +846,68 @@ synchronized void addBlobSupportDataRow(final BlobSupportDataRow row) throws IOE
         }
     }
 
+    /**
+     * Determines whether the rows held in memory, including a just added row, exceed the row or byte threshold.
+     *
+     * @param row the row just added to {@link #m_listWhileAddRow}
+     * @return whether the buffer holds too many rows (or bytes) to be kept in memory
+     */
+    private boolean exceedsInMemoryThreshold(final BlobSupportDataRow row) {
+        if (m_maxBytesInMem <= 0) {
+            return m_listWhileAddRow.size() > m_maxRowsInMem;
+        }
+        final long rowSize = RowSizeEstimator.estimate(row);
+        m_estimatedBytesInMem += rowSize;
+        if (!m_exceedsMemoryBudget) {
+            if (BufferMemoryBudget.tryReserve(rowSize, m_maxBytesInMem)) {
+                m_reservedBytesInMem += rowSize;
+            } else {
+                m_exceedsMemoryBudget = true;
+            }
+        }
+        return m_exceedsMemoryBudget;
+    }
+
+    /**
+     * @return whether the rows held in memory when closing this buffer exceeded the row or byte threshold
+     */
+    private boolean exceededInMemoryThreshold() {
+        return m_maxBytesInMem > 0 ? m_exceedsMemoryBudget : (size() > m_maxRowsInMem);
+    }
+
+    /** Gives back the bytes this buffer reserved from the {@link BufferMemoryBudget}. */
+    private void releaseMemoryBudget() {
+        if (m_reservedBytesInMem > 0) {
+            BufferMemoryBudget.release(m_reservedBytesInMem);
+            m_reservedBytesInMem = 0;
+        }
+    }
+
+    /**
+     * Returns the estimated heap memory retained by the rows this buffer holds in memory. The size is only estimated
+     * if the buffer limits its in-memory rows by a byte budget (see {@link BufferSettings#getMaxBytesInMemory()}).
+     *
+     * @return the estimated size in bytes (0 if the table is not held in memory), or empty if not estimated
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 5.3
+     */
+    public synchronized OptionalLong getEstimatedSizeInMemory() {
+        if (m_maxBytesInMem <= 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(m_listWhileAddRow != null || CACHE.contains(this) ? m_estimatedBytesInMem : 0);
+    }
+
+    /**
+     * @return the estimated heap memory (in bytes) retained by the rows of all open buffers that limit their in-memory
+     *         rows by a byte budget
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 5.3
+     */
+    public static long getEstimatedSizeInMemoryOfOpenBuffers() {
+        return BufferMemoryBudget.getReserved();
+    }
+
     /**
      * @throws IOException
      */
@@ -1225,6 +1307,7 @@ void closeInternal() {
             flushBuffer();
             closeWriterAndWriteMeta();
         }
+        releaseMemoryBudget();
         m_localRepository = null;
     }
 
@@ -1391,6 +1474,24 @@ private void initOutputReader(final NodeSettingsRO outputFormatSettings, final i
         m_outputReader.setBufferAndDataRepository(this, m_dataRepository);
     }
 
+    /**
+     * @return the file this buffer has been flushed to if the rows can be read from a byte-exact copy of it (as done
+     *         by {@link BufferCache} for tables demoted off-heap), otherwise empty
+     */
+    Optional<File> getOffHeapCacheableFile() {
+        final AbstractTableStoreReader outputReader = m_outputReader;
+        final File binFile = m_binFile;
+        return outputReader instanceof DefaultTableStoreReader && binFile != null ? Optional.of(binFile)
+            : Optional.empty();
+    }
+
+    /**
+     * @return a stream over the off-heap copy of the file this buffer has been flushed to, if there is one
+     */
+    Optional<InputStream> openOffHeapCopy() {
+        return CACHE.openOffHeap(this);
+    }
+
     /**
      * Have all data rows that we have encountered so far been written to disk? This is true for reading buffers in
      * general, but is also true for writing buffers if the table store writer has already been opened in anticipation
@@ -1654,8 +1755,14 @@ final synchronized CloseableRowIterator iteratorWithFilter(final TableFilter fil
             }
 
             // Case 2: We don't have have the table in memory.
-            final TableStoreCloseableRowIterator tableStoreIt =
+            TableStoreCloseableRowIterator tableStoreIt =
                 filter == null ? m_outputReader.iterator() : m_outputReader.iteratorWithFilter(filter, exec);
+            if (filter == null && m_bufferSettings.useReadAhead() && m_outputReader instanceof DefaultTableStoreReader
+                && size() > ReadAheadRowIterator.BATCH_SIZE) {
+                // decode rows on a background thread; the file iterator is owned by the read-ahead iterator
+                tableStoreIt.setBuffer(this);
+                tableStoreIt = new ReadAheadRowIterator(tableStoreIt, size());
+            }
             // register the table store iterator with this buffer
             tableStoreIt.setBuffer(this);
             m_nrOpenInputStreams.incrementAndGet();
@@ -1990,6 +2097,7 @@ synchronized void clear() {
 
                 BufferTracker.getInstance().bufferCleared(this);
                 m_listWhileAddRow = null;
+                releaseMemoryBudget();
                 CACHE.invalidate(this);
                 m_openResources.releaseResourcesAndClear();
                 if (m_binFile != null) {
@@ -2068,6 +2176,8 @@ private static void logDebug(final String message, final Throwable t) {
     synchronized void flushBuffer() {
         writeList(m_listWhileAddRow);
         m_listWhileAddRow = null; // don't write to internal cache any more
+        m_estimatedBytesInMem = 0;
+        releaseMemoryBudget();
     }
 
     private void writeList(final List<BlobSupportDataRow> list) {
@@ -2658,7 +2768,7 @@ interface Lifecycle {
 
         /**
          * Synchronously called after adding a row to this buffer's m_listWhileAddRow if it is larger than
-         * m_maxRowsInMem
+         * m_maxRowsInMem (or, if set, its rows exceed the byte budget m_maxBytesInMem)
          *
          * @throws IOException any kind of I/O error when handling the data row
          */
@@ -2802,7 +2912,7 @@ public void onCloseIfCached() {
             m_fitsIntoMemory = true;
             setRestoreIntoMemoryOnCacheMiss();
 
-            if (size() <= m_maxRowsInMem) {
+            if (!exceededInMemoryThreshold()) {
                 m_memoryAlertListener = new BufferFlusher(Buffer.this);
                 m_memoryAlertListener.register();
             } else {
@@ -48,9 +48,12 @@
  */
 package org.knime.core.data.container;
 
+import java.io.File;
+import java.io.InputStream;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -74,6 +77,11 @@
  * tables are cleared for garbage collection before they have been flushed to disk. How this cache is used by the
  * {@link Buffer} class is specified by means of a Lifecycle.
  *
+ * Optionally, the cache has a third, off-heap tier (see {@link OffHeapTableCache}). Tables that have been flushed to
+ * disk and are pushed out of the LRU cache because it is full are demoted to this tier: a copy of their file is kept
+ * off-heap, from where the table can be read again without accessing the disk. Tables are not demoted while memory is
+ * low, in particular not when they are dropped from the LRU cache on memory alert.
+ *
  * @author Marc Bux, KNIME GmbH, Berlin, Germany
  */
 final class BufferCache {
@@ -105,8 +113,7 @@ final class BufferCache {
      * they were last accessed. When memory becomes scarce, the garbage collector should clear weak-referenced tables
      * first and then proceed with soft-referenced tables in the order in which they were least recently used.
      */
-    private LRUCache<Long, SoftReference<List<BlobSupportDataRow>>> m_LRUCache =
-        new LRUCache<>(m_LRUCacheSize, m_LRUCacheSize);
+    private LRUCache<Long, SoftReference<List<BlobSupportDataRow>>> m_LRUCache = createLRUCache(m_LRUCacheSize);
 
     /**
      * A map of weak references to tables evicted from the LRU cache.
@@ -118,16 +125,34 @@ final class BufferCache {
      */
     private final ReferenceQueue<List<BlobSupportDataRow>> m_weakCacheRefQueue = new ReferenceQueue<>();
 
+    /**
+     * The files of tables that have been flushed to disk and can be demoted to the off-heap tier once they are dropped
+     * from the LRU cache. Only contains tables that are in the LRU cache or pending demotion; entries are removed once
+     * the table has been demoted or can no longer be.
+     */
+    private final Map<Long, File> m_flushedFiles = new HashMap<>();
+
+    /** Tables dropped from the LRU cache that are yet to be demoted to the off-heap tier. */
+    private final List<Long> m_pendingDemotions = new ArrayList<>();
+
+    /** The off-heap tier, holding copies of the files of tables that have been dropped from the LRU cache. */
+    private final OffHeapTableCache m_offHeapCache =
+        new OffHeapTableCache(BufferSettings.getDefault().getOffHeapCacheSize());
+
     /**
      * We should remove soft-referenced tables from the LRU cache on memory alert. Otherwise, the LRU cache would block
      * memory despite memory alerts. This could lead to a scenario where new buffers are always flushed to disk and old
-     * buffers are kept in the LRU cache indefinitely.
+     * buffers are kept in the LRU cache indefinitely. The removed tables and those pending demotion are not demoted to
+     * the off-heap tier, as copying their files would take time and memory right when memory is short; their files are
+     * forgotten instead.
      */
     private final MemoryAlertListener m_memoryAlertListener = new MemoryAlertListener() {
         @Override
         protected boolean memoryAlert(final MemoryAlert alert) {
             synchronized (BufferCache.this) {
                 m_LRUCache.clear();
+                m_pendingDemotions.clear();
+                m_flushedFiles.clear();
             }
             return false;
         }
@@ -150,6 +175,8 @@ protected boolean memoryAlert(final MemoryAlert alert) {
 
     private long m_nMisses = 0;
 
+    private long m_nOffHeapHits = 0;
+
     private long m_timeOfLastLog = System.currentTimeMillis();
 
     BufferCache() {
@@ -180,19 +207,87 @@ private void logStatistics() {
             LOGGER.debugWithFormat("\t%d cache hits (softly referenced)", m_nSoftHits);
             LOGGER.debugWithFormat("\t%d cache hits (weakly referenced)", m_nWeakHits);
             LOGGER.debugWithFormat("\t%d cache misses", m_nMisses);
+            LOGGER.debugWithFormat("\t%d cache misses served off-heap", m_nOffHeapHits);
+            m_offHeapCache.logStatistics();
 
             m_timeOfLastLog = time;
             assert m_nAccesses == m_nHardHits + m_nSoftHits + m_nWeakHits + m_nMisses;
         }
     }
 
+    private LRUCache<Long, SoftReference<List<BlobSupportDataRow>>> createLRUCache(final int size) {
+        return new LRUCache<>(size, size) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Entry<Long, SoftReference<List<BlobSupportDataRow>>> e) {
+                final boolean remove = super.removeEldestEntry(e);
+                if (remove) {
+                    m_pendingDemotions.add(e.getKey());
+                }
+                return remove;
+            }
+        };
+    }
+
+    /**
+     * Copies the files of tables that have been dropped from the LRU cache to the off-heap tier. Must not be called
+     * while holding the lock on this cache, since copying the files can take a while. Called whenever tables are put
+     * into the LRU cache. Pending tables are discarded if memory is low.
+     */
+    private void demotePending() {
+        if (m_offHeapCache.isDisabled() || MemoryAlertSystem.getInstanceUncollected().isMemoryLow()) {
+            synchronized (this) {
+                final List<Long> discarded = new ArrayList<>(m_pendingDemotions);
+                m_pendingDemotions.clear();
+                discarded.forEach(this::forgetFlushedFile);
+            }
+            return;
+        }
+        while (true) {
+            final long uniqueId;
+            final File file;
+            synchronized (this) {
+                if (m_pendingDemotions.isEmpty()) {
+                    return;
+                }
+                uniqueId = m_pendingDemotions.remove(m_pendingDemotions.size() - 1);
+                file = m_flushedFiles.get(uniqueId);
+            }
+            final boolean demoted = file != null && m_offHeapCache.put(uniqueId, file);
+            synchronized (this) {
+                if (demoted && !m_flushedFiles.containsKey(uniqueId)) {
+                    // invalidated while copying
+                    m_offHeapCache.remove(uniqueId);
+                }
+                forgetFlushedFile(uniqueId);
+            }
+        }
+    }
+
+    /**
+     * Removes the file of a table from the demotion candidates unless the table is (again) in the LRU cache or pending
+     * demotion.
+     */
+    private void forgetFlushedFile(final Long uniqueId) {
+        assert Thread.holdsLock(this);
+        if (!m_LRUCache.containsKey(uniqueId) && !m_pendingDemotions.contains(uniqueId)) {
+            m_flushedFiles.remove(uniqueId);
+        }
+    }
+
     /**
      * Puts a fully-read table into the cache, from where it can be retrieved but no longer modified.
      *
      * @param buffer the buffer which the table is associated with
      * @param list a fully read table
      */
-    synchronized void put(final Buffer buffer, final List<BlobSupportDataRow> list) {
+    void put(final Buffer buffer, final List<BlobSupportDataRow> list) {
+        putInternal(buffer, list);
+        demotePending();
+    }
+
+    private synchronized void putInternal(final Buffer buffer, final List<BlobSupportDataRow> list) {
         CheckUtils.checkArgumentNotNull(buffer);
         CheckUtils.checkArgumentNotNull(list);
 
@@ -233,7 +328,12 @@ synchronized void clearForGarbageCollection(final Buffer buffer) {
             throw new IllegalStateException("Unflushed buffer illegally cleared for garbage collection.");
         }
 
-        m_hardMap.remove(buffer.getUniqueID());
+        final Long uniqueId = buffer.getUniqueID();
+        m_hardMap.remove(uniqueId);
+        if (m_LRUCache.containsKey(uniqueId) || m_pendingDemotions.contains(uniqueId)) {
+            // tables not in the LRU cache are never demoted
+            buffer.getOffHeapCacheableFile().ifPresent(file -> m_flushedFiles.put(uniqueId, file));
+        }
     }
 
     /**
@@ -253,14 +353,38 @@ synchronized boolean contains(final Buffer buffer) {
         return false;
     }
 
+    /**
+     * Opens a stream over the copy of the file of a table that has been demoted to the off-heap tier. Tables are only
+     * demoted after they have been flushed to disk, so the stream yields the same bytes as the file.
+     *
+     * @param buffer the buffer which the table is associated with
+     * @return a stream over the off-heap copy of the buffer's file, if the table has been demoted off-heap
+     */
+    Optional<InputStream> openOffHeap(final Buffer buffer) {
+        CheckUtils.checkArgumentNotNull(buffer);
+        final Optional<InputStream> stream = m_offHeapCache.open(buffer.getUniqueID());
+        if (stream.isPresent()) {
+            synchronized (this) {
+                m_nOffHeapHits++;
+            }
+        }
+        return stream;
+    }
+
     /**
      * Retrieve the table associated with a buffer from the cache.
      *
      * @param buffer the buffer which the to-be-retrieved table is associated with
      * @return a table represented as a list of datarows, if such a table is present in the cache
      */
-    synchronized Optional<List<BlobSupportDataRow>> get(final Buffer buffer) {
-        return getInternal(buffer, false);
+    Optional<List<BlobSupportDataRow>> get(final Buffer buffer) {
+        final Optional<List<BlobSupportDataRow>> result;
+        synchronized (this) {
+            result = getInternal(buffer, false);
+        }
+        // putting the table back into the LRU cache may have pushed out another one
+        demotePending();
+        return result;
     }
 
     /**
@@ -324,6 +448,7 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
             /** Table has been garbage collected; it should be removed from the LRU cache to make room for other
              * tables. */
             m_LRUCache.remove(uniqueId);
+            forgetFlushedFile(uniqueId);
         }
 
         if (!hit) {
@@ -344,6 +469,9 @@ synchronized void invalidate(final Buffer buffer) {
 
         m_hardMap.remove(uniqueId);
         m_LRUCache.remove(uniqueId);
+        m_pendingDemotions.remove(uniqueId);
+        m_flushedFiles.remove(uniqueId);
+        m_offHeapCache.remove(uniqueId);
         final WeakReference<List<BlobSupportDataRow>> previousValue = m_weakCache.remove(uniqueId);
 
         if (previousValue != null && previousValue.get() != null) {
@@ -362,7 +490,7 @@ synchronized void setLRUCacheSize(final int newSize) {
         }
 
         /** Since there is no way of adjusting the cache size of an LRUCache, we have to create a new cache. */
-        final LRUCache<Long, SoftReference<List<BlobSupportDataRow>>> cache = new LRUCache<>(newSize, newSize);
+        final LRUCache<Long, SoftReference<List<BlobSupportDataRow>>> cache = createLRUCache(newSize);
 
         /** If the new cache is smaller than the old one, the least-recently-accessed entries will be entered first
          * and then also evicted first when the new cache size is reached. */
@@ -374,4 +502,20 @@ synchronized void setLRUCacheSize(final int newSize) {
         m_LRUCache = cache;
     }
 
+    /**
+     * @return the number of flushed tables that are candidates for being demoted to the off-heap tier
+     */
+    synchronized int getNrFlushedFiles() {
+        return m_flushedFiles.size();
+    }
+
+    /**
+     * Can be used to adjust the byte budget of the off-heap tier at runtime.
+     *
+     * @param newSize the new budget of the off-heap tier in bytes, 0 to disable it
+     */
+    void setOffHeapCacheSize(final long newSize) {
+        m_offHeapCache.setBudget(newSize);
+    }
+
 }
@@ -83,7 +83,7 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     private final DefaultTableStoreReader m_tableFormatReader;
 
     /** Row pointer. */
-    private int m_pointer;
+    private long m_pointer;
 
     /** Content of the rows that get returned in {@link #next()} when the
      * table is {@link #close()}'d. Will be instantiated lazy. */
@@ -106,9 +106,18 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
      * @throws IOException If stream reading fails.
      */
     BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader) throws IOException {
-        // init the pointer
-        m_pointer = 0;
+        this(tableFormatReader, 0L);
+    }
 
+    /** Inits iterator, opens input stream and positions it at the given row. If the file has a {@link RowBlockIndex},
+     * the stream is opened at the block containing the row, otherwise at the beginning of the file. The rows before the
+     * argument row are skipped without deserializing their cells.
+     * @param tableFormatReader The associated buffer.
+     * @param fromRowIndex The index of the first row to return, smaller than the table size.
+     * @throws IOException If stream reading fails.
+     */
+    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader, final long fromRowIndex)
+        throws IOException {
         // check for file existence
         if (tableFormatReader.getBinFile() == null) {
             throw new IOException("Unable to read table from file, table has been cleared.");
@@ -119,9 +128,44 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
         assert m_tableFormatReader.getReadVersion() >= 6 : "Iterator is not backward compatible, use instead "
             + BufferFromFileIteratorVersion1x.class.getSimpleName();
 
+        // init the pointer to the first row of the block to start reading at
+        final RowBlockIndex rowBlockIndex = fromRowIndex > 0 ? tableFormatReader.getRowBlockIndex() : null;
+        final int block = rowBlockIndex != null ? rowBlockIndex.getBlockForRow(fromRowIndex) : 0;
+        m_pointer = rowBlockIndex != null ? rowBlockIndex.getFirstRowOfBlock(block) : 0;
+        final long offset = rowBlockIndex != null ? rowBlockIndex.getBlockOffset(block) : 0L;
+
         // open the input stream
         m_dataCellStreamReader = new DataCellStreamReader(tableFormatReader);
-        m_inStream = new BlockableDCObjectInputVersion2(getInputStream(tableFormatReader), m_dataCellStreamReader);
+        m_inStream =
+            new BlockableDCObjectInputVersion2(getInputStream(tableFormatReader, offset), m_dataCellStreamReader);
+        try {
+            skipRows(fromRowIndex - m_pointer);
+        } catch (IOException ioe) {
+            performClose();
+            throw ioe;
+        }
+    }
+
+    /** Skips rows by reading over the blocks of their key and cells (without deserializing them).
+     * @param count The number of rows to skip.
+     * @throws IOException If reading fails. */
+    private void skipRows(final long count) throws IOException {
+        final int colCount = m_tableFormatReader.getTableSpec().getNumColumns();
+        final boolean hasRowKey = m_tableFormatReader.isReadRowKey();
+        for (long r = 0; r < count; r++) {
+            if (hasRowKey) {
+                m_inStream.endBlock();
+            }
+            for (int i = 0; i < colCount; i++) {
+                m_inStream.endBlock();
+            }
+            byte eoRow = m_inStream.readControlByte();
+            if (eoRow != BYTE_ROW_SEPARATOR) {
+                throw new IOException("Expected end of row byte while skipping row " + (m_pointer + 1) + ", got '"
+                    + eoRow + "', (byte " + (int)eoRow + ")");
+            }
+            m_pointer++;
+        }
     }
 
 
@@ -0,0 +1,100 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accounts for the estimated heap memory of rows that open {@link Buffer Buffers} hold in memory, if the buffers
+ * limit their in-memory rows by a byte budget (see {@link BufferSettings#getMaxBytesInMemory()}). All open buffers
+ * share one budget: a buffer whose rows would not fit into what the other buffers leave of the budget goes to disk.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BufferMemoryBudget {
+
+    /** Estimated bytes reserved by all open buffers. */
+    private static final AtomicLong RESERVED = new AtomicLong();
+
+    private BufferMemoryBudget() {
+    }
+
+    /**
+     * Reserves the given number of bytes if they fit into the budget.
+     *
+     * @param bytes the number of bytes to reserve
+     * @param budget the total number of bytes that may be reserved by all buffers
+     * @return whether the bytes have been reserved
+     */
+    static boolean tryReserve(final long bytes, final long budget) {
+        long reserved;
+        do {
+            reserved = RESERVED.get();
+            if (reserved + bytes > budget) {
+                return false;
+            }
+        } while (!RESERVED.compareAndSet(reserved, reserved + bytes));
+        return true;
+    }
+
+    /**
+     * Releases bytes previously reserved via {@link #tryReserve(long, long)}.
+     *
+     * @param bytes the number of bytes to release
+     */
+    static void release(final long bytes) {
+        RESERVED.addAndGet(-bytes);
+    }
+
+    /**
+     * @return the estimated number of bytes currently reserved by all open buffers
+     */
+    static long getReserved() {
+        return RESERVED.get();
+    }
+}
@@ -55,6 +55,7 @@
 import org.knime.core.data.container.storage.TableStoreFormatRegistry;
 import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.WorkflowTableBackendSettings;
 
 /**
  * The buffer settings. Solely used for benchmarking.
@@ -77,6 +78,15 @@ public final class BufferSettings {
     /** The default number of tables that can be kept in the soft-references LRU cache before being weak-referenced. */
     static final int DEF_LRU_CACHE_SIZE = 32;
 
+    /** The default size of the off-heap cache in bytes, 0 meaning that no tables are cached off-heap. */
+    static final long DEF_OFF_HEAP_CACHE_SIZE = 0;
+
+    /** The default byte budget for rows held in memory, 0 meaning that the number of cells is limited instead. */
+    static final long DEF_MAX_BYTES_IN_MEMORY = 0;
+
+    /** The default for whether to read tables from disk with read-ahead. */
+    static final boolean DEF_READ_AHEAD = false;
+
     /** The enable LRU caching flag. */
     private final boolean m_enableLRU;
 
@@ -86,13 +96,25 @@ public final class BufferSettings {
     /** The output table store format. */
     private final TableStoreFormat m_outputFormat;
 
+    /** The off-heap cache size in bytes. */
+    private final long m_offHeapCacheSize;
+
+    /** The byte budget for rows held in memory by all open buffers. */
+    private final long m_maxBytesInMemory;
+
+    /** The enable read-ahead flag. */
+    private final boolean m_readAhead;
+
     /**
      * Default constructor.
      */
     BufferSettings() {
         m_enableLRU = initLRU();
         m_lruCacheSize = DEF_LRU_CACHE_SIZE;
-        m_outputFormat = TableStoreFormatRegistry.getInstance().getInstanceTableStoreFormat();
+        m_outputFormat = WorkflowTableBackendSettings.getTableStoreFormatForCurrentContext();
+        m_offHeapCacheSize = initOffHeapCacheSize();
+        m_maxBytesInMemory = initMaxBytesInMemory();
+        m_readAhead = initReadAhead();
     }
 
     /**
@@ -101,12 +123,19 @@ public final class BufferSettings {
      * @param enableLRU the enable LRU flag
      * @param lruCacheSize the LRU cache size
      * @param outputFormat the output format
+     * @param offHeapCacheSize the off-heap cache size in bytes
+     * @param maxBytesInMemory the byte budget for rows held in memory
+     * @param readAhead the enable read-ahead flag
      * @noreference This constructor is not intended to be referenced by clients.
      */
-    private BufferSettings(final boolean enableLRU, final int lruCacheSize, final TableStoreFormat outputFormat) {
+    private BufferSettings(final boolean enableLRU, final int lruCacheSize, final TableStoreFormat outputFormat,
+        final long offHeapCacheSize, final long maxBytesInMemory, final boolean readAhead) {
         m_enableLRU = enableLRU;
         m_lruCacheSize = lruCacheSize;
         m_outputFormat = outputFormat;
+        m_offHeapCacheSize = offHeapCacheSize;
+        m_maxBytesInMemory = maxBytesInMemory;
+        m_readAhead = readAhead;
     }
 
     /**
@@ -130,6 +159,69 @@ private static boolean initLRU() {
         return DEF_TABLE_CACHE.equals("LRU");
     }
 
+    /**
+     * Initializes the off-heap cache size w.r.t. the defined properties.
+     *
+     * @return the off-heap cache size in bytes
+     */
+    private static long initOffHeapCacheSize() {
+        final String valOffHeap = System.getProperty(KNIMEConstants.PROPERTY_TABLE_CACHE_OFF_HEAP_MB);
+        if (valOffHeap != null) {
+            try {
+                final long sizeInMB = Long.parseLong(valOffHeap.trim());
+                if (sizeInMB >= 0) {
+                    return sizeInMB << 20;
+                }
+            } catch (NumberFormatException e) { // NOSONAR warning is logged below
+            }
+            LOGGER.warn("Invalid setting for off-heap table cache size: " + valOffHeap + ". Using default: "
+                + DEF_OFF_HEAP_CACHE_SIZE + ".");
+        }
+        return DEF_OFF_HEAP_CACHE_SIZE;
+    }
+
+    /**
+     * Initializes the byte budget for rows held in memory w.r.t. the defined properties.
+     *
+     * @return the byte budget
+     */
+    private static long initMaxBytesInMemory() {
+        final String valBytesInMem = System.getProperty(KNIMEConstants.PROPERTY_MB_IN_MEMORY);
+        if (valBytesInMem != null) {
+            try {
+                final long sizeInMB = Long.parseLong(valBytesInMem.trim());
+                if (sizeInMB >= 0) {
+                    return sizeInMB << 20;
+                }
+            } catch (NumberFormatException e) { // NOSONAR warning is logged below
+            }
+            LOGGER.warn("Invalid setting for in-memory table budget: " + valBytesInMem + ". Using default: "
+                + DEF_MAX_BYTES_IN_MEMORY + ".");
+        }
+        return DEF_MAX_BYTES_IN_MEMORY;
+    }
+
+    /**
+     * Initializes the read-ahead flag w.r.t. the defined properties.
+     *
+     * @return the read-ahead flag
+     */
+    private static boolean initReadAhead() {
+        final String valReadAhead = System.getProperty(KNIMEConstants.PROPERTY_TABLE_READ_AHEAD);
+        if (valReadAhead != null) {
+            switch (valReadAhead.trim().toLowerCase()) {
+                case "true":
+                    return true;
+                case "false":
+                    return false;
+                default:
+                    LOGGER.warn("Unknown setting for table read-ahead: " + valReadAhead + ". Using default: "
+                        + DEF_READ_AHEAD + ".");
+            }
+        }
+        return DEF_READ_AHEAD;
+    }
+
     /**
      * Returns whether to use LRU caching or not.
      *
@@ -148,6 +240,41 @@ int getLRUCacheSize() {
         return m_lruCacheSize;
     }
 
+    /**
+     * Returns the size of the off-heap cache, into which tables dropped from the LRU cache are demoted.
+     *
+     * @return the off-heap cache size in bytes, 0 if tables are not cached off-heap
+     */
+    long getOffHeapCacheSize() {
+        return m_offHeapCacheSize;
+    }
+
+    /**
+     * Returns the budget of (estimated) heap memory for rows held in memory, shared by all open buffers. If positive,
+     * buffers estimate the size of their rows (see {@link org.knime.core.data.DataCellSerializer#estimateRetainedSize})
+     * and go to disk once their rows do not fit into the budget anymore, instead of once they exceed a number of cells
+     * (see {@link DataContainerSettings#getMaxCellsInMemory()}). Buffers that are configured to not keep any rows in
+     * memory still go to disk immediately.
+     *
+     * @return the byte budget, 0 if the number of cells held in memory is limited instead
+     * @since 5.3
+     */
+    public long getMaxBytesInMemory() {
+        return m_maxBytesInMemory;
+    }
+
+    /**
+     * Returns whether tables that are read from disk (in full and in the default table format) decompress and
+     * deserialize their rows on a background thread, ahead of the rows being consumed. The background thread is
+     * stopped when the iterator is closed.
+     *
+     * @return flag indicating whether to read ahead or not
+     * @since 5.3
+     */
+    public boolean useReadAhead() {
+        return m_readAhead;
+    }
+
     /**
      * Returns the {@link TableStoreFormat} used to read and write the {@link Buffer Buffer's} content.
      *
@@ -183,7 +310,8 @@ public static BufferSettings getDefault() {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withLRU(final boolean enableLRU) {
-        return new BufferSettings(enableLRU, m_lruCacheSize, m_outputFormat);
+        return new BufferSettings(enableLRU, m_lruCacheSize, m_outputFormat, m_offHeapCacheSize, m_maxBytesInMemory,
+            m_readAhead);
     }
 
     /**
@@ -194,7 +322,8 @@ public BufferSettings withLRU(final boolean enableLRU) {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withLRUCacheSize(final int lruCacheSize) {
-        return new BufferSettings(m_enableLRU, lruCacheSize, m_outputFormat);
+        return new BufferSettings(m_enableLRU, lruCacheSize, m_outputFormat, m_offHeapCacheSize, m_maxBytesInMemory,
+            m_readAhead);
     }
 
     /**
@@ -205,7 +334,49 @@ public BufferSettings withLRUCacheSize(final int lruCacheSize) {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withOutputFormat(final TableStoreFormat outputFormat) {
-        return new BufferSettings(m_enableLRU, m_lruCacheSize, outputFormat);
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, outputFormat, m_offHeapCacheSize, m_maxBytesInMemory,
+            m_readAhead);
+    }
+
+    /**
+     * Creates a new <code>BufferSettings</code> object by replicating the current <code>BufferSettings</code> instance
+     * and solely changes the off-heap cache size.
+     *
+     * @param offHeapCacheSize the new off-heap cache size in bytes, 0 to disable the off-heap cache
+     * @return a new instance of {@code BufferSettings}
+     * @since 5.3
+     */
+    public BufferSettings withOffHeapCacheSize(final long offHeapCacheSize) {
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, m_outputFormat, offHeapCacheSize, m_maxBytesInMemory,
+            m_readAhead);
+    }
+
+    /**
+     * Creates a new <code>BufferSettings</code> object by replicating the current <code>BufferSettings</code> instance
+     * and solely changes the byte budget for rows held in memory.
+     *
+     * @param maxBytesInMemory the new byte budget, 0 to limit the number of cells held in memory instead
+     * @return a new instance of {@code BufferSettings}
+     * @see #getMaxBytesInMemory()
+     * @since 5.3
+     */
+    public BufferSettings withMaxBytesInMemory(final long maxBytesInMemory) {
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, m_outputFormat, m_offHeapCacheSize, maxBytesInMemory,
+            m_readAhead);
+    }
+
+    /**
+     * Creates a new <code>BufferSettings</code> object by replicating the current <code>BufferSettings</code> instance
+     * and solely changes the enable read-ahead flag.
+     *
+     * @param readAhead the new enable read-ahead flag
+     * @return a new instance of {@code BufferSettings}
+     * @see #useReadAhead()
+     * @since 5.3
+     */
+    public BufferSettings withReadAhead(final boolean readAhead) {
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, m_outputFormat, m_offHeapCacheSize, m_maxBytesInMemory,
+            readAhead);
     }
 
 }
@@ -0,0 +1,197 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.IDataRepository;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.TableStoreFormat;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * A column-chunked table store format for tables that only consist of primitive columns (int, long, double, boolean
+ * and string). Rows are collected into chunks of {@link #DEF_CHUNK_SIZE} rows; within a chunk each column is written
+ * as a contiguous block, strings are dictionary encoded if that pays off. A footer at the end of the file records the
+ * offset of each column block so that a reader can map only the blocks of the columns that are to be materialized
+ * (see {@link org.knime.core.data.container.filter.TableFilter#materializeCols(int...)}).
+ *
+ * <p>
+ * Tables with columns of other types are rejected via {@link #accepts(DataTableSpec)}, in which case the framework
+ * falls back to the {@link DefaultTableStoreFormat}.
+ *
+ * <p>
+ * Cells are stored by the value of their column's type. A column may also contain cells of a subtype, e.g. an
+ * {@link IntCell} in a {@link LongCell} column, which are read back as the cell class of the column type.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.3
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ColumnarTableStoreFormat implements TableStoreFormat {
+
+    /** The (internal) version of the file layout. */
+    static final String VERSION = "1";
+
+    /** Number of rows per chunk if not otherwise specified. */
+    static final int DEF_CHUNK_SIZE = 1 << 13;
+
+    private final int m_chunkSize;
+
+    /** Constructor using the default chunk size, used by the extension point. */
+    public ColumnarTableStoreFormat() {
+        this(DEF_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param chunkSize the number of rows written into a single chunk, &gt; 0
+     */
+    ColumnarTableStoreFormat(final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        m_chunkSize = chunkSize;
+    }
+
+    @Override
+    public String getName() {
+        return "Columnar (memory-mapped, primitive types only)";
+    }
+
+    @Override
+    public String getFilenameSuffix() {
+        return ".kcol";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean accepts(final DataTableSpec spec) {
+        return spec.stream().map(DataColumnSpec::getType).allMatch(t -> ColumnKind.of(t) != null);
+    }
+
+    /** {@inheritDoc} */
+    @SuppressWarnings("resource")
+    @Override
+    public AbstractTableStoreWriter createWriter(final File binFile, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return createWriter(new FileOutputStream(binFile), spec, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return new ColumnarTableStoreWriter(spec, output, writeRowKey, m_chunkSize);
+    }
+
+    @Override
+    public AbstractTableStoreReader createReader(final File binFile, final DataTableSpec spec,
+        final IDataRepository dataRepository, final NodeSettingsRO settings, final int version,
+        final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        return new ColumnarTableStoreReader(binFile, spec, settings, version, isReadRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateVersion(final String versionString) {
+        return VERSION.equals(versionString);
+    }
+
+    /** The physical representation of a column within a chunk. */
+    enum ColumnKind {
+
+            /** {@link IntCell} column, 4 bytes per row. */
+            INT(IntCell.TYPE),
+            /** {@link LongCell} column, 8 bytes per row. */
+            LONG(LongCell.TYPE),
+            /** {@link DoubleCell} column, 8 bytes per row. */
+            DOUBLE(DoubleCell.TYPE),
+            /** {@link BooleanCell} column, one bit per row. */
+            BOOLEAN(BooleanCell.TYPE),
+            /** {@link StringCell} column (and row keys), plain or dictionary encoded. */
+            STRING(StringCell.TYPE);
+
+        private final DataType m_type;
+
+        private ColumnKind(final DataType type) {
+            m_type = type;
+        }
+
+        /**
+         * @param type a column type
+         * @return the kind storing columns of exactly that type or <code>null</code> if the type is not supported
+         */
+        static ColumnKind of(final DataType type) {
+            return Stream.of(values()).filter(k -> k.m_type.equals(type)).findFirst().orElse(null);
+        }
+    }
+
+}
@@ -0,0 +1,560 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import static org.knime.core.data.container.ColumnarTableStoreWriter.FLAG_HAS_MISSING;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.FLAG_HAS_MISSING_ERRORS;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.STRING_DICTIONARY;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.eclipse.core.runtime.Platform;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnKind;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * Reader for the {@link ColumnarTableStoreFormat}. Column blocks are mapped via {@link FileChannel#map(MapMode, long,
+ * long)} (read into heap buffers on Windows, where mapped files can't be deleted until garbage collected) and values
+ * are decoded directly from the mapped region. Blocks of columns that are not part of
+ * {@link TableFilter#getMaterializeColumnIndices()} are never touched and chunks outside the filter's row range are
+ * skipped without any I/O.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreReader extends AbstractTableStoreReader {
+
+    private static final boolean USE_MEMORY_MAPPING = !Platform.OS_WIN32.equals(Platform.getOS());
+
+    private final File m_binFile;
+
+    private final boolean m_isReadRowKey;
+
+    /** Lazily read, the file is not modified once written. */
+    private Footer m_footer;
+
+    /**
+     * Constructs a reader.
+     *
+     * @param binFile the local file from which to read
+     * @param spec the specification of the data table
+     * @param settings The settings (written by
+     *            {@link AbstractTableStoreWriter#writeMetaInfoAfterWrite(org.knime.core.node.NodeSettingsWO)})
+     * @param version The version as defined in the {@link Buffer} class
+     * @param isReadRowKey whether or not row keys are to be read
+     * @throws IOException any type of I/O problem
+     * @throws InvalidSettingsException if the file was written with an unknown (newer) layout
+     */
+    ColumnarTableStoreReader(final File binFile, final DataTableSpec spec, final NodeSettingsRO settings,
+        final int version, final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        super(binFile, spec, settings, version);
+        final int layoutVersion = settings.getInt(ColumnarTableStoreWriter.CFG_LAYOUT_VERSION);
+        if (layoutVersion > ColumnarTableStoreWriter.LAYOUT_VERSION) {
+            throw new InvalidSettingsException("Unsupported columnar table layout version " + layoutVersion
+                + ", table was written with a newer version of KNIME");
+        }
+        m_binFile = binFile;
+        m_isReadRowKey = isReadRowKey;
+    }
+
+    @Override
+    public TableStoreCloseableRowIterator iterator() {
+        return iteratorWithFilter(null, null);
+    }
+
+    @Override
+    public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filter, final ExecutionMonitor exec) {
+        try {
+            return new ColumnarRowIterator(filter, exec);
+        } catch (IOException ioe) {
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException("Cannot read file \"" + m_binFile.getName() + "\"", ioe);
+        }
+    }
+
+    private synchronized Footer getFooter(final FileChannel channel) throws IOException {
+        if (m_footer == null) {
+            m_footer = Footer.read(channel, getSpec().getNumColumns());
+        }
+        return m_footer;
+    }
+
+    private static ByteBuffer readBlock(final FileChannel channel, final long offset, final int length)
+        throws IOException {
+        if (USE_MEMORY_MAPPING) {
+            return channel.map(MapMode.READ_ONLY, offset, length);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file at position " + (offset + buffer.position()));
+            }
+        }
+        return buffer.flip();
+    }
+
+    /** Chunk directory as written by {@link ColumnarTableStoreWriter}. */
+    private static final class Footer {
+
+        private final ColumnKind[] m_kinds;
+
+        private final boolean m_hasRowKey;
+
+        private final int[] m_rowCounts;
+
+        /** Global index of the first row in each chunk, plus total row count as last element. */
+        private final long[] m_chunkStarts;
+
+        private final long[][] m_offsets;
+
+        private final int[][] m_lengths;
+
+        private Footer(final ColumnKind[] kinds, final boolean hasRowKey, final int[] rowCounts,
+            final long[][] offsets, final int[][] lengths) {
+            m_kinds = kinds;
+            m_hasRowKey = hasRowKey;
+            m_rowCounts = rowCounts;
+            m_offsets = offsets;
+            m_lengths = lengths;
+            m_chunkStarts = new long[rowCounts.length + 1];
+            for (int i = 0; i < rowCounts.length; i++) {
+                m_chunkStarts[i + 1] = m_chunkStarts[i] + rowCounts[i];
+            }
+        }
+
+        int getNrChunks() {
+            return m_rowCounts.length;
+        }
+
+        long getNrRows() {
+            return m_chunkStarts[m_rowCounts.length];
+        }
+
+        /** @return the index of the chunk containing the argument row (or {@link #getNrChunks()} if past the end) */
+        int getChunkIndexOf(final long rowIndex) {
+            final int search = Arrays.binarySearch(m_chunkStarts, rowIndex);
+            return search >= 0 ? search : (-search - 2);
+        }
+
+        static Footer read(final FileChannel channel, final int nrSpecColumns) throws IOException {
+            final long size = channel.size();
+            final int trailerLength = Long.BYTES + Integer.BYTES;
+            if (size < 2 * Integer.BYTES + trailerLength) {
+                throw new IOException("File too short to be a columnar table (" + size + " bytes)");
+            }
+            final ByteBuffer trailer = readFully(channel, size - trailerLength, trailerLength);
+            final long footerOffset = trailer.getLong();
+            if (trailer.getInt() != ColumnarTableStoreWriter.MAGIC || footerOffset < 0
+                || footerOffset > size - trailerLength) {
+                throw new IOException("Invalid file trailer, file is not a columnar table or is truncated");
+            }
+            final ByteBuffer footer = readFully(channel, footerOffset, (int)(size - trailerLength - footerOffset));
+            final int nrStored = footer.getInt();
+            final ColumnKind[] kinds = new ColumnKind[nrStored];
+            for (int i = 0; i < nrStored; i++) {
+                kinds[i] = ColumnKind.values()[footer.get()];
+            }
+            final boolean hasRowKey = footer.get() != 0;
+            if (nrStored != nrSpecColumns + (hasRowKey ? 1 : 0)) {
+                throw new IOException(String.format("File contains %d columns, expected %d according to table spec",
+                    nrStored - (hasRowKey ? 1 : 0), nrSpecColumns));
+            }
+            footer.getInt(); // chunk size, informative
+            final int nrChunks = footer.getInt();
+            final int[] rowCounts = new int[nrChunks];
+            final long[][] offsets = new long[nrChunks][nrStored];
+            final int[][] lengths = new int[nrChunks][nrStored];
+            for (int c = 0; c < nrChunks; c++) {
+                rowCounts[c] = footer.getInt();
+                for (int i = 0; i < nrStored; i++) {
+                    offsets[c][i] = footer.getLong();
+                    lengths[c][i] = footer.getInt();
+                }
+            }
+            return new Footer(kinds, hasRowKey, rowCounts, offsets, lengths);
+        }
+
+        private static ByteBuffer readFully(final FileChannel channel, final long offset, final int length)
+            throws IOException {
+            final ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of file at position " + (offset + buffer.position()));
+                }
+            }
+            return buffer.flip();
+        }
+    }
+
+    /** Iterates the (filtered) rows chunk by chunk, only decoding the blocks of materialized columns. */
+    private final class ColumnarRowIterator extends TableStoreCloseableRowIterator {
+
+        private final Footer m_footerRef;
+
+        /** Index of stored column per spec column or -1 if the column is not materialized. */
+        private final int[] m_storedIndices;
+
+        private final boolean m_isPartlyMaterialized;
+
+        private final boolean m_readKey;
+
+        private final long m_toIndex;
+
+        private final Optional<ExecutionMonitor> m_exec;
+
+        private FileChannel m_channel;
+
+        private int m_chunkIndex;
+
+        private ColumnDecoder[] m_decoders;
+
+        private StringDecoder m_keyDecoder;
+
+        private int m_rowInChunk;
+
+        private long m_rowIndex;
+
+        ColumnarRowIterator(final TableFilter filter, final ExecutionMonitor exec) throws IOException {
+            if (m_binFile == null) {
+                throw new IOException("Unable to read table from file, table has been cleared.");
+            }
+            m_channel = FileChannel.open(m_binFile.toPath(), StandardOpenOption.READ);
+            try {
+                m_footerRef = getFooter(m_channel);
+            } catch (IOException ex) {
+                m_channel.close();
+                throw ex;
+            }
+            final int nrColumns = getSpec().getNumColumns();
+            final int storedOffset = m_footerRef.m_hasRowKey ? 1 : 0;
+            m_storedIndices = new int[nrColumns];
+            final Optional<TableFilter> optFilter = Optional.ofNullable(filter);
+            final boolean[] materialize = new boolean[nrColumns];
+            optFilter.flatMap(TableFilter::getMaterializeColumnIndices).ifPresentOrElse(
+                indices -> indices.forEach(i -> materialize[i] = true), () -> Arrays.fill(materialize, true));
+            boolean isPartlyMaterialized = false;
+            for (int i = 0; i < nrColumns; i++) {
+                m_storedIndices[i] = materialize[i] ? (i + storedOffset) : -1;
+                isPartlyMaterialized |= !materialize[i];
+            }
+            m_isPartlyMaterialized = isPartlyMaterialized;
+            m_readKey = m_isReadRowKey && m_footerRef.m_hasRowKey;
+            m_exec = Optional.ofNullable(exec);
+            final long nrRows = m_footerRef.getNrRows();
+            m_toIndex = Math.min(optFilter.flatMap(TableFilter::getToRowIndex).orElse(nrRows - 1), nrRows - 1);
+            m_rowIndex = optFilter.flatMap(TableFilter::getFromRowIndex).orElse(0L);
+            m_chunkIndex = -1;
+            if (m_rowIndex <= m_toIndex) {
+                try {
+                    loadChunk(m_footerRef.getChunkIndexOf(m_rowIndex));
+                } catch (IOException | RuntimeException ex) { // NOSONAR channel must not leak on any failure
+                    try {
+                        m_channel.close();
+                    } catch (IOException closeEx) {
+                        ex.addSuppressed(closeEx);
+                    }
+                    throw ex;
+                }
+                m_rowInChunk = (int)(m_rowIndex - m_footerRef.m_chunkStarts[m_chunkIndex]);
+            }
+        }
+
+        private void loadChunk(final int chunkIndex) throws IOException {
+            m_chunkIndex = chunkIndex;
+            m_rowInChunk = 0;
+            final int rowCount = m_footerRef.m_rowCounts[chunkIndex];
+            final long[] offsets = m_footerRef.m_offsets[chunkIndex];
+            final int[] lengths = m_footerRef.m_lengths[chunkIndex];
+            m_decoders = new ColumnDecoder[m_storedIndices.length];
+            for (int i = 0; i < m_storedIndices.length; i++) {
+                final int stored = m_storedIndices[i];
+                if (stored >= 0) {
+                    m_decoders[i] = ColumnDecoder.create(m_footerRef.m_kinds[stored],
+                        readBlock(m_channel, offsets[stored], lengths[stored]), rowCount);
+                }
+            }
+            m_keyDecoder = m_readKey
+                ? (StringDecoder)ColumnDecoder.create(ColumnKind.STRING, readBlock(m_channel, offsets[0], lengths[0]),
+                    rowCount)
+                : null;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            final boolean hasNext = m_rowIndex <= m_toIndex;
+            if (!hasNext && m_channel != null) {
+                close();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public synchronized BlobSupportDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            if (m_channel == null) {
+                throw new IllegalStateException("Invalid access on table, iterator has been closed");
+            }
+            try {
+                if (m_rowInChunk == m_footerRef.m_rowCounts[m_chunkIndex]) {
+                    loadChunk(m_chunkIndex + 1);
+                }
+            } catch (IOException ioe) {
+                throw new RuntimeException("Cannot read chunk " + (m_chunkIndex + 1) + " from file \""
+                    + m_binFile.getName() + "\": " + ioe.getMessage(), ioe);
+            }
+            final RowKey key = m_readKey ? new RowKey(m_keyDecoder.getString(m_rowInChunk)) : DUMMY_ROW_KEY;
+            final DataCell[] cells = new DataCell[m_decoders.length];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = m_decoders[i] == null ? UnmaterializedCell.getInstance()
+                    : m_decoders[i].getCell(m_rowInChunk);
+            }
+            m_rowInChunk++;
+            final long index = ++m_rowIndex;
+            m_exec.ifPresent(e -> e.setProgress(index / (double)(m_toIndex + 1),
+                () -> String.format("Row %,d/%,d (%s)", index, m_toIndex + 1, key)));
+            return m_isPartlyMaterialized ? new PartlyMaterializedBlobSupportRow(key, cells)
+                : new BlobSupportDataRow(key, cells);
+        }
+
+        @Override
+        public synchronized boolean performClose() throws IOException {
+            if (m_channel == null) {
+                return false;
+            }
+            final FileChannel channel = m_channel;
+            m_channel = null;
+            m_decoders = null;
+            m_keyDecoder = null;
+            m_rowIndex = m_toIndex + 1;
+            channel.close();
+            return true;
+        }
+    }
+
+    /** Decodes the cells of one column block. */
+    private abstract static class ColumnDecoder {
+
+        private final ByteBuffer m_block;
+
+        /** Position of the missing bitmap or -1 if there are no missing values. */
+        private final int m_missingPosition;
+
+        private final Map<Integer, String> m_missingErrors;
+
+        private final int m_valuesPosition;
+
+        ColumnDecoder(final ByteBuffer block, final int rowCount) {
+            m_block = block;
+            final byte flags = block.get(0);
+            int position = 1;
+            if ((flags & FLAG_HAS_MISSING) != 0) {
+                m_missingPosition = position;
+                position += ColumnarTableStoreWriter.bitmapLength(rowCount) * Long.BYTES;
+            } else {
+                m_missingPosition = -1;
+            }
+            if ((flags & FLAG_HAS_MISSING_ERRORS) != 0) {
+                final int nrErrors = block.getInt(position);
+                position += Integer.BYTES;
+                m_missingErrors = new HashMap<>();
+                for (int i = 0; i < nrErrors; i++) {
+                    final int row = block.getInt(position);
+                    final int length = block.getInt(position + Integer.BYTES);
+                    position += 2 * Integer.BYTES;
+                    m_missingErrors.put(row, decodeString(block, position, length));
+                    position += length;
+                }
+            } else {
+                m_missingErrors = null;
+            }
+            m_valuesPosition = position;
+        }
+
+        final DataCell getCell(final int row) {
+            if (m_missingPosition >= 0 && ColumnarTableStoreWriter.isBitSet(m_block, m_missingPosition, row)) {
+                final String error = m_missingErrors == null ? null : m_missingErrors.get(row);
+                return error == null ? DataType.getMissingCell() : new MissingCell(error);
+            }
+            return getValue(m_block, m_valuesPosition, row);
+        }
+
+        abstract DataCell getValue(ByteBuffer block, int valuesPosition, int row);
+
+        final ByteBuffer getBlock() {
+            return m_block;
+        }
+
+        final int getValuesPosition() {
+            return m_valuesPosition;
+        }
+
+        static String decodeString(final ByteBuffer block, final int position, final int length) {
+            final byte[] bytes = new byte[length];
+            block.get(position, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        static ColumnDecoder create(final ColumnKind kind, final ByteBuffer block, final int rowCount) {
+            switch (kind) {
+                case INT:
+                    return new ColumnDecoder(block, rowCount) {
+                        @Override
+                        DataCell getValue(final ByteBuffer b, final int valuesPosition, final int row) {
+                            return new IntCell(b.getInt(valuesPosition + row * Integer.BYTES));
+                        }
+                    };
+                case LONG:
+                    return new ColumnDecoder(block, rowCount) {
+                        @Override
+                        DataCell getValue(final ByteBuffer b, final int valuesPosition, final int row) {
+                            return new LongCell(b.getLong(valuesPosition + row * Long.BYTES));
+                        }
+                    };
+                case DOUBLE:
+                    return new ColumnDecoder(block, rowCount) {
+                        @Override
+                        DataCell getValue(final ByteBuffer b, final int valuesPosition, final int row) {
+                            return new DoubleCell(b.getDouble(valuesPosition + row * Double.BYTES));
+                        }
+                    };
+                case BOOLEAN:
+                    return new ColumnDecoder(block, rowCount) {
+                        @Override
+                        DataCell getValue(final ByteBuffer b, final int valuesPosition, final int row) {
+                            return BooleanCell.get(ColumnarTableStoreWriter.isBitSet(b, valuesPosition, row));
+                        }
+                    };
+                case STRING:
+                    return new StringDecoder(block, rowCount);
+                default:
+                    throw new IllegalStateException("Unsupported column kind: " + kind);
+            }
+        }
+    }
+
+    /** Decoder for plain and dictionary encoded string blocks; dictionary entries are decoded once per chunk. */
+    private static final class StringDecoder extends ColumnDecoder {
+
+        private final boolean m_isDictionary;
+
+        private final int m_nrEntries;
+
+        private final int m_offsetsPosition;
+
+        private final int m_bytesPosition;
+
+        private final int m_codesPosition;
+
+        private final StringCell[] m_dictionary;
+
+        StringDecoder(final ByteBuffer block, final int rowCount) {
+            super(block, rowCount);
+            final int position = getValuesPosition();
+            m_isDictionary = block.get(position) == STRING_DICTIONARY;
+            m_nrEntries = block.getInt(position + 1);
+            m_offsetsPosition = position + 1 + Integer.BYTES;
+            m_bytesPosition = m_offsetsPosition + (m_nrEntries + 1) * Integer.BYTES;
+            m_codesPosition = m_bytesPosition + block.getInt(m_offsetsPosition + m_nrEntries * Integer.BYTES);
+            if (m_isDictionary) {
+                m_dictionary = new StringCell[m_nrEntries];
+                for (int i = 0; i < m_nrEntries; i++) {
+                    m_dictionary[i] = new StringCell(getEntry(i));
+                }
+            } else {
+                m_dictionary = null;
+            }
+        }
+
+        private String getEntry(final int entry) {
+            final ByteBuffer block = getBlock();
+            final int start = block.getInt(m_offsetsPosition + entry * Integer.BYTES);
+            final int end = block.getInt(m_offsetsPosition + (entry + 1) * Integer.BYTES);
+            return decodeString(block, m_bytesPosition + start, end - start);
+        }
+
+        String getString(final int row) {
+            return m_isDictionary ? m_dictionary[getBlock().getInt(m_codesPosition + row * Integer.BYTES)]
+                .getStringValue() : getEntry(row);
+        }
+
+        @Override
+        DataCell getValue(final ByteBuffer block, final int valuesPosition, final int row) {
+            return m_isDictionary ? m_dictionary[block.getInt(m_codesPosition + row * Integer.BYTES)]
+                : new StringCell(getEntry(row));
+        }
+    }
+
+}
@@ -0,0 +1,658 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.MissingValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnKind;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Writer for the {@link ColumnarTableStoreFormat}. The file layout is
+ * <pre>
+ *   int MAGIC, int layout version
+ *   chunk 0: [row key block], column block 0, ..., column block n-1
+ *   ...
+ *   footer:  int #stored columns, byte kind per column, byte has-row-key, int chunk size, int #chunks,
+ *            per chunk: int row count, per stored column: long offset, int length
+ *   long footer offset, int MAGIC
+ * </pre>
+ * A column block consists of a flag byte ({@link #FLAG_HAS_MISSING}, {@link #FLAG_HAS_MISSING_ERRORS}), an optional
+ * missing bitmap, optional missing value error messages and the values (see {@link ColumnBuffer} subclasses).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreWriter extends AbstractTableStoreWriter {
+
+    /** 'KCOL', first and last int in the file. */
+    static final int MAGIC = 0x4B434F4C;
+
+    /** Version of the physical file layout. */
+    static final int LAYOUT_VERSION = 1;
+
+    /** Column block flag: block contains a bitmap of missing values. */
+    static final byte FLAG_HAS_MISSING = 1;
+
+    /** Column block flag: block contains error messages of missing values. */
+    static final byte FLAG_HAS_MISSING_ERRORS = 2;
+
+    /** String block mode: one entry per row. */
+    static final byte STRING_PLAIN = 0;
+
+    /** String block mode: distinct entries followed by one int code per row. */
+    static final byte STRING_DICTIONARY = 1;
+
+    /** Config key for the layout version, validated by the reader. */
+    static final String CFG_LAYOUT_VERSION = "columnar.layoutVersion";
+
+    /** Config key for the chunk size (informative only, the footer is authoritative). */
+    static final String CFG_CHUNK_SIZE = "columnar.chunkSize";
+
+    private final OutputStream m_outputStream;
+
+    private final WritableByteChannel m_channel;
+
+    private final int m_chunkSize;
+
+    /** Buffer for the row keys or null if keys are not written. */
+    private final ColumnBuffer m_rowKeyBuffer;
+
+    private final ColumnBuffer[] m_columnBuffers;
+
+    /** Per finished chunk: row count, followed by offset and length of each stored column. */
+    private final List<long[]> m_chunkDirectory = new ArrayList<>();
+
+    private int m_rowsInChunk;
+
+    private long m_position;
+
+    private boolean m_isClosed;
+
+    /**
+     * Constructs a writer.
+     *
+     * @param spec the spec of the table, all columns must be supported by {@link ColumnKind#of(org.knime.core.data.DataType)}
+     * @param outputStream the stream to write to, closed when this writer is closed
+     * @param writeRowKey whether to store row keys
+     * @param chunkSize number of rows per chunk
+     * @throws IOException if writing the header fails
+     */
+    ColumnarTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey,
+        final int chunkSize) throws IOException {
+        super(spec, writeRowKey);
+        m_outputStream = outputStream;
+        m_channel = outputStream instanceof FileOutputStream ? ((FileOutputStream)outputStream).getChannel()
+            : Channels.newChannel(outputStream);
+        m_chunkSize = chunkSize;
+        m_rowKeyBuffer = writeRowKey ? new StringColumnBuffer(chunkSize, false) : null;
+        m_columnBuffers = new ColumnBuffer[spec.getNumColumns()];
+        for (int i = 0; i < m_columnBuffers.length; i++) {
+            final ColumnKind kind = ColumnKind.of(spec.getColumnSpec(i).getType());
+            if (kind == null) {
+                throw new IOException(String.format("Column \"%s\" of type \"%s\" is not supported by the %s",
+                    spec.getColumnSpec(i).getName(), spec.getColumnSpec(i).getType(),
+                    ColumnarTableStoreFormat.class.getSimpleName()));
+            }
+            m_columnBuffers[i] = createColumnBuffer(kind, chunkSize);
+        }
+        final ByteBuffer header = ByteBuffer.allocate(2 * Integer.BYTES);
+        header.putInt(MAGIC).putInt(LAYOUT_VERSION);
+        write(header.flip());
+    }
+
+    private static ColumnBuffer createColumnBuffer(final ColumnKind kind, final int chunkSize) {
+        switch (kind) {
+            case INT:
+                return new IntColumnBuffer(chunkSize);
+            case LONG:
+                return new LongColumnBuffer(chunkSize);
+            case DOUBLE:
+                return new DoubleColumnBuffer(chunkSize);
+            case BOOLEAN:
+                return new BooleanColumnBuffer(chunkSize);
+            case STRING:
+                return new StringColumnBuffer(chunkSize, true);
+            default:
+                throw new IllegalStateException("Unsupported column kind: " + kind);
+        }
+    }
+
+    @Override
+    public void writeRow(final DataRow row) throws IOException {
+        if (m_rowKeyBuffer != null) {
+            m_rowKeyBuffer.add(new StringCell(row.getKey().getString()));
+        }
+        for (int i = 0; i < m_columnBuffers.length; i++) {
+            final DataCell cell =
+                row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
+            m_columnBuffers[i].add(cell);
+        }
+        m_rowsInChunk++;
+        if (m_rowsInChunk == m_chunkSize) {
+            flushChunk();
+        }
+    }
+
+    private void flushChunk() throws IOException {
+        final int nrStored = m_columnBuffers.length + (m_rowKeyBuffer != null ? 1 : 0);
+        final long[] directoryEntry = new long[1 + 2 * nrStored];
+        directoryEntry[0] = m_rowsInChunk;
+        int storedIndex = 0;
+        if (m_rowKeyBuffer != null) {
+            writeBlock(m_rowKeyBuffer, directoryEntry, storedIndex++);
+        }
+        for (ColumnBuffer columnBuffer : m_columnBuffers) {
+            writeBlock(columnBuffer, directoryEntry, storedIndex++);
+        }
+        m_chunkDirectory.add(directoryEntry);
+        m_rowsInChunk = 0;
+    }
+
+    private void writeBlock(final ColumnBuffer columnBuffer, final long[] directoryEntry, final int storedIndex)
+        throws IOException {
+        final ByteBuffer block = columnBuffer.encode();
+        directoryEntry[1 + 2 * storedIndex] = m_position;
+        directoryEntry[2 + 2 * storedIndex] = block.remaining();
+        write(block);
+        columnBuffer.reset();
+    }
+
+    /** Writes the remaining bytes of the argument (flipped) buffer. */
+    private void write(final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            m_position += m_channel.write(buffer);
+        }
+    }
+
+    private void writeFooter() throws IOException {
+        final int nrStored = m_columnBuffers.length + (m_rowKeyBuffer != null ? 1 : 0);
+        final int footerLength = Integer.BYTES + nrStored + 1 + 2 * Integer.BYTES
+            + m_chunkDirectory.size() * (Integer.BYTES + nrStored * (Long.BYTES + Integer.BYTES));
+        final ByteBuffer footer = ByteBuffer.allocate(footerLength + Long.BYTES + Integer.BYTES);
+        footer.putInt(nrStored);
+        if (m_rowKeyBuffer != null) {
+            footer.put((byte)ColumnKind.STRING.ordinal());
+        }
+        for (int i = 0; i < m_columnBuffers.length; i++) {
+            footer.put((byte)ColumnKind.of(getSpec().getColumnSpec(i).getType()).ordinal());
+        }
+        footer.put((byte)(m_rowKeyBuffer != null ? 1 : 0));
+        footer.putInt(m_chunkSize);
+        footer.putInt(m_chunkDirectory.size());
+        for (long[] entry : m_chunkDirectory) {
+            footer.putInt((int)entry[0]);
+            for (int i = 0; i < nrStored; i++) {
+                footer.putLong(entry[1 + 2 * i]);
+                footer.putInt((int)entry[2 + 2 * i]);
+            }
+        }
+        footer.putLong(m_position);
+        footer.putInt(MAGIC);
+        write(footer.flip());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
+        settings.addInt(CFG_LAYOUT_VERSION, LAYOUT_VERSION);
+        settings.addInt(CFG_CHUNK_SIZE, m_chunkSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        if (m_isClosed) {
+            return;
+        }
+        m_isClosed = true;
+        try {
+            if (m_rowsInChunk > 0) {
+                flushChunk();
+            }
+            writeFooter();
+        } finally {
+            m_channel.close();
+            m_outputStream.close();
+        }
+    }
+
+    /**
+     * @param nrBits number of bits
+     * @return the number of longs needed for a bitmap of the argument size
+     */
+    static int bitmapLength(final int nrBits) {
+        return (nrBits + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * @param block a column block
+     * @param position the position of the bitmap within the block
+     * @param index the bit index
+     * @return whether the bit is set
+     */
+    static boolean isBitSet(final ByteBuffer block, final int position, final int index) {
+        return (block.getLong(position + (index >>> 6) * Long.BYTES) & (1L << index)) != 0;
+    }
+
+    /**
+     * Collects the cells of one column for the current chunk and encodes them as a block. Missing values are kept in a
+     * bitmap, their (rare) error messages in a sparse list.
+     */
+    private abstract static class ColumnBuffer {
+
+        private final long[] m_missing;
+
+        private boolean m_hasMissing;
+
+        private final List<Integer> m_errorRows = new ArrayList<>();
+
+        private final List<byte[]> m_errorMessages = new ArrayList<>();
+
+        private int m_size;
+
+        ColumnBuffer(final int capacity) {
+            m_missing = new long[bitmapLength(capacity)];
+        }
+
+        final void add(final DataCell cell) throws IOException {
+            if (cell.isMissing()) {
+                m_missing[m_size >>> 6] |= 1L << m_size;
+                m_hasMissing = true;
+                final String error = ((MissingValue)cell).getError();
+                if (error != null) {
+                    m_errorRows.add(m_size);
+                    m_errorMessages.add(error.getBytes(StandardCharsets.UTF_8));
+                }
+                addMissingValue(m_size);
+            } else {
+                addValue(m_size, cell);
+            }
+            m_size++;
+        }
+
+        /** @return the number of cells added to the current chunk */
+        final int size() {
+            return m_size;
+        }
+
+        abstract void addValue(int index, DataCell cell) throws IOException;
+
+        /** Called for missing cells; primitive implementations leave the (zero) default in place. */
+        void addMissingValue(final int index) {
+        }
+
+        /** @return the number of bytes {@link #writeValues(ByteBuffer)} will write. */
+        abstract long valuesLength();
+
+        abstract void writeValues(ByteBuffer buffer);
+
+        abstract void resetValues();
+
+        final ByteBuffer encode() throws IOException {
+            long length = 1 + valuesLength();
+            if (m_hasMissing) {
+                length += (long)bitmapLength(m_size) * Long.BYTES;
+            }
+            if (!m_errorRows.isEmpty()) {
+                length += Integer.BYTES;
+                for (byte[] message : m_errorMessages) {
+                    length += 2 * Integer.BYTES + message.length;
+                }
+            }
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Column chunk exceeds 2GB, reduce the chunk size");
+            }
+            final ByteBuffer buffer = ByteBuffer.allocate((int)length);
+            buffer.put((byte)((m_hasMissing ? FLAG_HAS_MISSING : 0)
+                | (m_errorRows.isEmpty() ? 0 : FLAG_HAS_MISSING_ERRORS)));
+            if (m_hasMissing) {
+                for (int i = 0; i < bitmapLength(m_size); i++) {
+                    buffer.putLong(m_missing[i]);
+                }
+            }
+            if (!m_errorRows.isEmpty()) {
+                buffer.putInt(m_errorRows.size());
+                for (int i = 0; i < m_errorRows.size(); i++) {
+                    buffer.putInt(m_errorRows.get(i));
+                    buffer.putInt(m_errorMessages.get(i).length);
+                    buffer.put(m_errorMessages.get(i));
+                }
+            }
+            writeValues(buffer);
+            return buffer.flip();
+        }
+
+        final void reset() {
+            if (m_hasMissing) {
+                Arrays.fill(m_missing, 0L);
+                m_hasMissing = false;
+            }
+            m_errorRows.clear();
+            m_errorMessages.clear();
+            m_size = 0;
+            resetValues();
+        }
+
+        /**
+         * Checks that the cell provides the value stored for its column. Cells of a subtype of the column type, e.g.
+         * an {@link IntCell} in a {@link LongCell} column, are stored by that value and read as the column's cell
+         * class.
+         */
+        static void checkValue(final DataCell cell, final Class<? extends DataValue> expected) throws IOException {
+            if (!expected.isInstance(cell)) {
+                throw new IOException(String.format("Cell class \"%s\" can't be stored in a column of \"%s\"",
+                    cell.getClass().getName(), expected.getSimpleName()));
+            }
+        }
+    }
+
+    private static final class IntColumnBuffer extends ColumnBuffer {
+
+        private final int[] m_values;
+
+        IntColumnBuffer(final int capacity) {
+            super(capacity);
+            m_values = new int[capacity];
+        }
+
+        @Override
+        void addValue(final int index, final DataCell cell) throws IOException {
+            checkValue(cell, IntValue.class);
+            m_values[index] = ((IntValue)cell).getIntValue();
+        }
+
+        @Override
+        long valuesLength() {
+            return (long)size() * Integer.BYTES;
+        }
+
+        @Override
+        void writeValues(final ByteBuffer buffer) {
+            buffer.asIntBuffer().put(m_values, 0, size());
+            buffer.position(buffer.position() + size() * Integer.BYTES);
+        }
+
+        @Override
+        void resetValues() {
+            Arrays.fill(m_values, 0);
+        }
+    }
+
+    private static final class LongColumnBuffer extends ColumnBuffer {
+
+        private final long[] m_values;
+
+        LongColumnBuffer(final int capacity) {
+            super(capacity);
+            m_values = new long[capacity];
+        }
+
+        @Override
+        void addValue(final int index, final DataCell cell) throws IOException {
+            checkValue(cell, LongValue.class);
+            m_values[index] = ((LongValue)cell).getLongValue();
+        }
+
+        @Override
+        long valuesLength() {
+            return (long)size() * Long.BYTES;
+        }
+
+        @Override
+        void writeValues(final ByteBuffer buffer) {
+            buffer.asLongBuffer().put(m_values, 0, size());
+            buffer.position(buffer.position() + size() * Long.BYTES);
+        }
+
+        @Override
+        void resetValues() {
+            Arrays.fill(m_values, 0L);
+        }
+    }
+
+    private static final class DoubleColumnBuffer extends ColumnBuffer {
+
+        private final double[] m_values;
+
+        DoubleColumnBuffer(final int capacity) {
+            super(capacity);
+            m_values = new double[capacity];
+        }
+
+        @Override
+        void addValue(final int index, final DataCell cell) throws IOException {
+            checkValue(cell, DoubleValue.class);
+            m_values[index] = ((DoubleValue)cell).getDoubleValue();
+        }
+
+        @Override
+        long valuesLength() {
+            return (long)size() * Double.BYTES;
+        }
+
+        @Override
+        void writeValues(final ByteBuffer buffer) {
+            buffer.asDoubleBuffer().put(m_values, 0, size());
+            buffer.position(buffer.position() + size() * Double.BYTES);
+        }
+
+        @Override
+        void resetValues() {
+            Arrays.fill(m_values, 0.0);
+        }
+    }
+
+    private static final class BooleanColumnBuffer extends ColumnBuffer {
+
+        private final long[] m_bits;
+
+        BooleanColumnBuffer(final int capacity) {
+            super(capacity);
+            m_bits = new long[bitmapLength(capacity)];
+        }
+
+        @Override
+        void addValue(final int index, final DataCell cell) throws IOException {
+            checkValue(cell, BooleanValue.class);
+            if (((BooleanValue)cell).getBooleanValue()) {
+                m_bits[index >>> 6] |= 1L << index;
+            }
+        }
+
+        @Override
+        long valuesLength() {
+            return (long)bitmapLength(size()) * Long.BYTES;
+        }
+
+        @Override
+        void writeValues(final ByteBuffer buffer) {
+            for (int i = 0; i < bitmapLength(size()); i++) {
+                buffer.putLong(m_bits[i]);
+            }
+        }
+
+        @Override
+        void resetValues() {
+            Arrays.fill(m_bits, 0L);
+        }
+    }
+
+    /**
+     * Strings are collected as UTF-8 bytes. If dictionary encoding is allowed and at most half of the values are
+     * distinct, the block holds the distinct values followed by an int code per row, otherwise one value per row.
+     * Entries are prefixed by an offset table (#entries + 1 ints) so that single values can be decoded directly.
+     */
+    private static final class StringColumnBuffer extends ColumnBuffer {
+
+        private final boolean m_allowDictionary;
+
+        private final byte[][] m_values;
+
+        private final int[] m_codes;
+
+        private final Map<String, Integer> m_dictionary = new HashMap<>();
+
+        private final List<byte[]> m_distinctValues = new ArrayList<>();
+
+        private long m_nrValueBytes;
+
+        private long m_nrDistinctValueBytes;
+
+        StringColumnBuffer(final int capacity, final boolean allowDictionary) {
+            super(capacity);
+            m_allowDictionary = allowDictionary;
+            m_values = new byte[capacity][];
+            m_codes = allowDictionary ? new int[capacity] : null;
+        }
+
+        @Override
+        void addValue(final int index, final DataCell cell) throws IOException {
+            checkValue(cell, StringValue.class);
+            final String value = ((StringValue)cell).getStringValue();
+            if (m_allowDictionary) {
+                Integer code = m_dictionary.get(value);
+                if (code == null) {
+                    code = m_distinctValues.size();
+                    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    m_dictionary.put(value, code);
+                    m_distinctValues.add(bytes);
+                    m_nrDistinctValueBytes += bytes.length;
+                }
+                m_codes[index] = code;
+                m_values[index] = m_distinctValues.get(code);
+            } else {
+                m_values[index] = value.getBytes(StandardCharsets.UTF_8);
+            }
+            m_nrValueBytes += m_values[index].length;
+        }
+
+        @Override
+        void addMissingValue(final int index) {
+            m_values[index] = null;
+            if (m_codes != null) {
+                m_codes[index] = 0;
+            }
+        }
+
+        private boolean useDictionary() {
+            return m_allowDictionary && m_distinctValues.size() <= size() / 2;
+        }
+
+        @Override
+        long valuesLength() {
+            if (useDictionary()) {
+                return 1 + (m_distinctValues.size() + 2L) * Integer.BYTES + m_nrDistinctValueBytes
+                    + (long)size() * Integer.BYTES;
+            }
+            return 1 + (size() + 2L) * Integer.BYTES + m_nrValueBytes;
+        }
+
+        @Override
+        void writeValues(final ByteBuffer buffer) {
+            if (useDictionary()) {
+                buffer.put(STRING_DICTIONARY);
+                writeEntries(buffer, m_distinctValues.toArray(new byte[0][]), m_distinctValues.size());
+                buffer.asIntBuffer().put(m_codes, 0, size());
+                buffer.position(buffer.position() + size() * Integer.BYTES);
+            } else {
+                buffer.put(STRING_PLAIN);
+                writeEntries(buffer, m_values, size());
+            }
+        }
+
+        private static void writeEntries(final ByteBuffer buffer, final byte[][] entries, final int nrEntries) {
+            buffer.putInt(nrEntries);
+            int offset = 0;
+            for (int i = 0; i < nrEntries; i++) {
+                buffer.putInt(offset);
+                offset += entries[i] == null ? 0 : entries[i].length;
+            }
+            buffer.putInt(offset);
+            for (int i = 0; i < nrEntries; i++) {
+                if (entries[i] != null) {
+                    buffer.put(entries[i]);
+                }
+            }
+        }
+
+        @Override
+        void resetValues() {
+            Arrays.fill(m_values, null);
+            m_dictionary.clear();
+            m_distinctValues.clear();
+            m_nrValueBytes = 0;
+            m_nrDistinctValueBytes = 0;
+        }
+    }
+
+}
@@ -60,6 +60,7 @@
 import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.util.DuplicateChecker;
+import org.knime.core.util.ShardedDuplicateChecker;
 
 /**
  * The data container settings. Solely used for benchmarking.
@@ -133,6 +134,8 @@ private static class Builder {
         /** The {@link BufferSettings}. */
         private BufferSettings m_bufferSettings;
 
+        /** The function creating new instances of {@link DuplicateChecker}. */
+        private Supplier<DuplicateChecker> m_duplicateCheckerCreator;
 
         /**
          * Constructor.
@@ -150,6 +153,7 @@ private static class Builder {
             m_bufferSettings = settings.m_bufferSettings;
             m_enableRowKeys = settings.m_enableRowKeys;
             m_forceCopyOfBlobs = settings.m_forceCopyOfBlobs;
+            m_duplicateCheckerCreator = settings.m_duplicateCheckerCreator;
         }
 
         Builder setMaxCellsInMemory(final int maxCellsInMemory) {
@@ -202,6 +206,11 @@ Builder setBufferSettings(final BufferSettings bufferSettings) {
             return this;
         }
 
+        Builder setDuplicateCheckerCreator(final Supplier<DuplicateChecker> duplicateCheckerCreator) {
+            m_duplicateCheckerCreator = duplicateCheckerCreator;
+            return this;
+        }
+
         /**
          * Creates the {@link DataContainerSettings}.
          *
@@ -253,7 +262,7 @@ DataContainerSettings build() {
      * Default constructor.
      */
     private DataContainerSettings() {
-        m_duplicateCheckerCreator = () -> new DuplicateChecker(Integer.MAX_VALUE);
+        m_duplicateCheckerCreator = initDuplicateCheckerCreator();
         m_tableDomainCreatorFunction = DataTableDomainCreator::new;
         m_maxCellsInMemory = initMaxCellsInMemory();
         m_sequentialIO = initSequentialIO();
@@ -281,7 +290,7 @@ private DataContainerSettings() {
      * @param builder the builder holding the settings
      */
     private DataContainerSettings(final Builder builder) {
-        m_duplicateCheckerCreator = () -> new DuplicateChecker(Integer.MAX_VALUE);
+        m_duplicateCheckerCreator = builder.m_duplicateCheckerCreator;
         m_tableDomainCreatorFunction = (spec, initDomain) -> new DataTableDomainCreator(spec, initDomain);
         m_maxCellsInMemory = builder.m_maxCellsInMemory;
         m_sequentialIO = builder.m_sequentialIO;
@@ -558,6 +567,46 @@ public DataContainerSettings withRowKeysEnabled(final boolean enableRowKeys) {
         return b.build();
     }
 
+    /**
+     * Sets the function creating the {@link DuplicateChecker} that ensures the uniqueness of the row keys, e.g.
+     * {@code () -> new ShardedDuplicateChecker(8)}.
+     *
+     * @param duplicateCheckerCreator the function creating new duplicate checkers
+     * @return a new instance of {@code DataContainerSettings}
+     * @since 5.3
+     */
+    public DataContainerSettings
+        withDuplicateCheckerCreator(final Supplier<DuplicateChecker> duplicateCheckerCreator) {
+        final Builder b = new Builder(this);
+        b.setDuplicateCheckerCreator(duplicateCheckerCreator);
+        return b.build();
+    }
+
+    /**
+     * Initializes the function creating {@link DuplicateChecker} instances w.r.t. the defined properties.
+     *
+     * @return the function creating the duplicate checkers
+     */
+    private static Supplier<DuplicateChecker> initDuplicateCheckerCreator() {
+        final String prop = KNIMEConstants.PROPERTY_DUPLICATE_CHECKER_SHARDS;
+        final String val = System.getProperty(prop);
+        if (val != null) {
+            try {
+                final int shards = Integer.parseInt(val.trim());
+                if (shards < 0) {
+                    throw new IllegalArgumentException("number of duplicate checker shards < 0: " + shards);
+                }
+                if (shards > 0) {
+                    LOGGER.debug("Checking row keys for duplicates using " + shards + " shard(s)");
+                    return () -> new ShardedDuplicateChecker(shards);
+                }
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Unable to parse property " + prop + ", using default duplicate checker", e);
+            }
+        }
+        return () -> new DuplicateChecker(Integer.MAX_VALUE);
+    }
+
     /**
      * @return default value for force copy of blobs
      */
@@ -204,11 +204,21 @@ OutputStream getOutputStream(final OutputStream out) throws IOException {
          */
         @SuppressWarnings("resource")
         InputStream getInputStream(final File file) throws IOException {
-            final FileInputStream fis = new FileInputStream(file);
+            return getInputStream(new FileInputStream(file));
+        }
+
+        /**
+         * Returns the uncompressed input stream.
+         *
+         * @param in the stream of compressed bytes, closed if creating the uncompressed stream fails
+         * @return the uncompressed input stream
+         * @throws IOException - If GZip compression fails
+         */
+        InputStream getInputStream(final InputStream in) throws IOException {
             try {
-                return m_inFunc.apply(fis);
+                return m_inFunc.apply(in);
             } catch (final IOException e) {
-                fis.close();
+                in.close();
                 throw e;
             }
         }
@@ -48,13 +48,17 @@
 package org.knime.core.data.container;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Optional;
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 
@@ -72,6 +76,9 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
 
     private final boolean m_isReadRowKey;
 
+    /** Index of row blocks in the file, null if the file was written without index. */
+    private final RowBlockIndex m_rowBlockIndex;
+
     /**
      * Constructs a reader for materializing serialized KNIME tables.
      *
@@ -108,6 +115,7 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
             cF = CompressionFormat.GZIP;
         }
         m_compressionFormat = cF;
+        m_rowBlockIndex = version >= 6 ? RowBlockIndex.load(settings).orElse(null) : null;
     }
 
     @Override
@@ -119,12 +127,48 @@ public TableStoreCloseableRowIterator iterator() {
                 return new BufferFromFileIteratorVersion20(this);
             }
         } catch (IOException ioe) {
-            StringBuilder b = new StringBuilder("Cannot read file \"");
-            b.append(m_binFile != null ? m_binFile.getName() : "<unknown>");
-            b.append("\"");
-            checkAndReportOpenFiles(ioe);
-            throw new RuntimeException(b.toString(), ioe);
+            throw createCannotReadException(ioe);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * If the filter starts at a row other than the first one, the iterator starts reading at the closest preceding
+     * block of rows in the file (see {@link RowBlockIndex}) and skips the remaining rows before the first row of the
+     * filter without deserializing their cells.
+     */
+    @SuppressWarnings("resource")
+    @Override
+    public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filter, final ExecutionMonitor exec) {
+        final long fromIndex = filter.getFromRowIndex().orElse(0L);
+        if (fromIndex <= 0 || getReadVersion() <= 5 || getBuffer() == null || fromIndex >= size()) {
+            return super.iteratorWithFilter(filter, exec);
+        }
+        final TableStoreCloseableRowIterator delegate;
+        try {
+            delegate = new BufferFromFileIteratorVersion20(this, fromIndex);
+        } catch (IOException ioe) {
+            throw createCannotReadException(ioe);
         }
+        // the iterator is positioned at the first row of the filter, hence shift the range accordingly
+        final TableFilter.Builder shiftedFilter = new TableFilter.Builder(filter).withFromRowIndex(0);
+        filter.getToRowIndex().ifPresent(toIndex -> shiftedFilter.withToRowIndex(toIndex - fromIndex));
+        return createFilterIterator(delegate, shiftedFilter.build(), size() - fromIndex, exec);
+    }
+
+    private RuntimeException createCannotReadException(final IOException ioe) {
+        StringBuilder b = new StringBuilder("Cannot read file \"");
+        b.append(m_binFile != null ? m_binFile.getName() : "<unknown>");
+        b.append("\"");
+        checkAndReportOpenFiles(ioe);
+        return new RuntimeException(b.toString(), ioe);
+    }
+
+    /** @return the index of row blocks in the file or null if the file was written without index */
+    RowBlockIndex getRowBlockIndex() {
+        return m_rowBlockIndex;
     }
 
     /** @return Whether stream is zipped. */
@@ -179,11 +223,51 @@ abstract static class FromFileIterator extends TableStoreCloseableRowIterator im
          *             stream
          */
         static final InputStream getInputStream(final DefaultTableStoreReader tableFormatReader)
+            throws IOException {
+            return getInputStream(tableFormatReader, 0L);
+        }
+
+        /**
+         * Opens the (decompressed) input stream starting at the given position in the file.
+         *
+         * @param tableFormatReader the table format reader
+         * @param offset the byte offset in the (compressed) file at which to start reading, either 0 or the offset of
+         *            a block of rows as per {@link RowBlockIndex}
+         * @return the (decompressed) input stream
+         * @throws IOException - If the file could not be opened or the an error occurred creating the (decompressed)
+         *             stream
+         */
+        @SuppressWarnings("resource")
+        static final InputStream getInputStream(final DefaultTableStoreReader tableFormatReader, final long offset)
             throws IOException {
             // get the decompression format
             final CompressionFormat cType = tableFormatReader.getBinFileCompressionFormat();
-            // return the (decompressed) stream
-            return cType.getInputStream(tableFormatReader.getBinFile());
+            // prefer the copy of the file held off-heap by the buffer cache, if any
+            final Buffer buffer = tableFormatReader.getBuffer();
+            final Optional<InputStream> offHeapCopy =
+                buffer == null ? Optional.empty() : buffer.openOffHeapCopy();
+            final InputStream in;
+            if (offHeapCopy.isPresent()) {
+                in = offHeapCopy.get();
+            } else if (offset == 0L) {
+                // return the (decompressed) stream
+                return cType.getInputStream(tableFormatReader.getBinFile());
+            } else {
+                in = new FileInputStream(tableFormatReader.getBinFile());
+            }
+            if (offset > 0L) {
+                try {
+                    if (in instanceof FileInputStream fileIn) {
+                        fileIn.getChannel().position(offset);
+                    } else {
+                        in.skipNBytes(offset);
+                    }
+                } catch (IOException e) {
+                    in.close();
+                    throw e;
+                }
+            }
+            return cType.getInputStream(in);
         }
 
     }
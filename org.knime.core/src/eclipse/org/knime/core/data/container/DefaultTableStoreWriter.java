@@ -48,6 +48,7 @@
 package org.knime.core.data.container;
 
 import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
@@ -70,11 +71,20 @@ final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements
      * the stream that writes to the file, it's a special object output stream, in which we can mark the end of an entry
      * (to figure out when a cell implementation reads too many or too few bytes).
      */
-    private final BlockableDCObjectOutputVersion2 m_outStream;
+    private BlockableDCObjectOutputVersion2 m_outStream;
 
     /** The compression format. */
     private final CompressionFormat m_compFormat;
 
+    /** The stream to the file, kept open when a new block of rows is started. */
+    private final BlockOutputStream m_fileOutStream;
+
+    /** The index of row blocks or null if no index is written (see {@link RowBlockIndex#getConfiguredInterval()}). */
+    private final RowBlockIndex m_rowBlockIndex;
+
+    /** Number of rows written so far. */
+    private long m_rowCount;
+
     /**
      * Constructs a writer for writing KNIME tables to disk using the given compression format.
      *
@@ -88,7 +98,10 @@ public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outp
         final CompressionFormat compFormat) throws IOException {
         super(spec, writeRowKey);
         m_compFormat = compFormat;
-        m_outStream = initOutFile(new BufferedOutputStream(outputStream));
+        m_fileOutStream = new BlockOutputStream(new BufferedOutputStream(outputStream));
+        final int rowIndexInterval = RowBlockIndex.getConfiguredInterval();
+        m_rowBlockIndex = rowIndexInterval > 0 ? new RowBlockIndex(rowIndexInterval) : null;
+        m_outStream = initOutFile(m_fileOutStream);
     }
 
     /**
@@ -98,6 +111,10 @@ public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outp
      */
     @Override
     public void writeRow(final DataRow row) throws IOException {
+        if (m_rowBlockIndex != null && m_rowCount > 0 && m_rowCount % m_rowBlockIndex.getInterval() == 0) {
+            startNewBlock();
+        }
+        m_rowCount++;
         RowKey id = row.getKey();
         writeRowKey(id, m_outStream);
         for (int i = 0; i < row.getNumCells(); i++) {
@@ -124,6 +141,16 @@ void writeRowKey(final RowKey key, final BlockableDCObjectOutputVersion2 outStre
         }
     }
 
+    /**
+     * Finishes the current (compressed) block of rows and starts a new one whose offset in the file is recorded in the
+     * row index. Readers can start reading at a block without decompressing the blocks before it.
+     */
+    private void startNewBlock() throws IOException {
+        m_outStream.close(); // only finishes the compressed stream, the file stream is kept open
+        m_rowBlockIndex.addBlock(m_fileOutStream.getCount());
+        m_outStream = initOutFile(m_fileOutStream);
+    }
+
     /**
      * Creates short cut array and wraps the argument stream in a {@link DCObjectOutputVersion2}.
      */
@@ -137,13 +164,60 @@ private BlockableDCObjectOutputVersion2 initOutFile(final OutputStream outStream
     @Override
     public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
         m_compFormat.saveSettings(settings);
+        if (m_rowBlockIndex != null) {
+            m_rowBlockIndex.save(settings);
+        }
         super.writeMetaInfoAfterWrite(settings);
     }
 
     /** {@inheritDoc} */
     @Override
     public void close() throws IOException {
-        m_outStream.close();
+        try {
+            m_outStream.close();
+        } finally {
+            m_fileOutStream.closeFile();
+        }
+    }
+
+    /**
+     * The stream to the file underlying the compressed streams of the individual row blocks. Counts the bytes written
+     * and ignores {@link #close()}, which is called whenever a block is finished.
+     */
+    private static final class BlockOutputStream extends FilterOutputStream {
+
+        private long m_count;
+
+        BlockOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            m_count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            m_count += len;
+        }
+
+        /** Only flushes, the file is closed in {@link #closeFile()}. */
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+        void closeFile() throws IOException {
+            out.close();
+        }
+
+        /** @return the number of bytes written to the file so far */
+        long getCount() {
+            return m_count;
+        }
     }
 
 }
@@ -0,0 +1,257 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * An off-heap tier of the {@link BufferCache}. It holds byte-exact copies of the files of tables that have been flushed
+ * to disk in direct {@link ByteBuffer ByteBuffers}, such that tables that had to be dropped from the heap can be read
+ * again without touching the temporary file. The copies do not count towards the Java heap and are therefore not
+ * subject to memory alerts. The tier is bounded by a budget in bytes and evicts the least recently used copies to
+ * make room for new ones. A budget of 0 disables the tier.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class OffHeapTableCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(OffHeapTableCache.class);
+
+    /** Copies of table files by unique buffer id, in access order. */
+    private final LinkedHashMap<Long, ByteBuffer> m_copies = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long m_budget;
+
+    private long m_usedBytes;
+
+    /** Some counters for instrumentation / statistics. */
+    private long m_nDemotions = 0;
+
+    private long m_nEvictions = 0;
+
+    private long m_nHits = 0;
+
+    /**
+     * @param budget the maximum number of bytes to hold off-heap
+     */
+    OffHeapTableCache(final long budget) {
+        m_budget = budget;
+    }
+
+    /**
+     * Copies the file of a flushed table into the off-heap tier, evicting least recently used copies if necessary.
+     * Tables that are larger than the budget (or 2GB) are not copied.
+     *
+     * @param uniqueId the unique id of the buffer the table belongs to
+     * @param file the file the table has been flushed to
+     * @return whether the table is held off-heap afterwards
+     */
+    boolean put(final long uniqueId, final File file) {
+        final long length = file.length();
+        synchronized (this) {
+            if (m_copies.containsKey(uniqueId)) {
+                return true;
+            }
+            if (length <= 0 || length > m_budget || length > Integer.MAX_VALUE) {
+                return false;
+            }
+        }
+
+        // copy outside of the lock, reading a large file can take a while
+        final ByteBuffer copy;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            copy = ByteBuffer.allocateDirect((int)length);
+            while (copy.hasRemaining() && channel.read(copy) >= 0) { // NOSONAR
+                // keep reading until the buffer is full
+            }
+        } catch (IOException | OutOfMemoryError e) { // NOSONAR direct memory exhaustion is not fatal here
+            LOGGER.debug("Could not copy table file \"" + file.getName() + "\" off-heap: " + e.getMessage(), e);
+            return false;
+        }
+        if (copy.hasRemaining()) {
+            // file was truncated or deleted concurrently
+            return false;
+        }
+        copy.flip();
+
+        synchronized (this) {
+            if (m_copies.containsKey(uniqueId) || length > m_budget) {
+                return m_copies.containsKey(uniqueId);
+            }
+            evict(m_budget - length);
+            m_copies.put(uniqueId, copy.asReadOnlyBuffer());
+            m_usedBytes += length;
+            m_nDemotions++;
+            return true;
+        }
+    }
+
+    /**
+     * Opens a stream over the off-heap copy of a table file, if there is one. The stream yields the same bytes as the
+     * file and remains valid even if the copy is evicted while the stream is read.
+     *
+     * @param uniqueId the unique id of the buffer the table belongs to
+     * @return a stream over the copy of the table file, if present
+     */
+    synchronized Optional<InputStream> open(final long uniqueId) {
+        final ByteBuffer copy = m_copies.get(uniqueId);
+        if (copy == null) {
+            return Optional.empty();
+        }
+        m_nHits++;
+        return Optional.of(new ByteBufferInputStream(copy.duplicate()));
+    }
+
+    /**
+     * @param uniqueId the unique id of a buffer
+     * @return whether the buffer's table is held off-heap
+     */
+    synchronized boolean contains(final long uniqueId) {
+        return m_copies.containsKey(uniqueId);
+    }
+
+    /**
+     * Drops the copy of a table, if present.
+     *
+     * @param uniqueId the unique id of the buffer the table belongs to
+     */
+    synchronized void remove(final long uniqueId) {
+        final ByteBuffer copy = m_copies.remove(uniqueId);
+        if (copy != null) {
+            m_usedBytes -= copy.capacity();
+        }
+    }
+
+    /**
+     * Changes the budget of this tier, evicting copies if it shrinks.
+     *
+     * @param budget the new maximum number of bytes to hold off-heap
+     */
+    synchronized void setBudget(final long budget) {
+        m_budget = budget;
+        evict(budget);
+    }
+
+    /** @return whether the budget of this tier is 0, i.e., no tables are held off-heap */
+    synchronized boolean isDisabled() {
+        return m_budget <= 0;
+    }
+
+    /** @return the number of bytes currently held off-heap */
+    synchronized long getUsedBytes() {
+        return m_usedBytes;
+    }
+
+    /** Evicts least recently used copies until at most the given number of bytes are held. */
+    private void evict(final long maxUsedBytes) {
+        final Iterator<Map.Entry<Long, ByteBuffer>> it = m_copies.entrySet().iterator();
+        while (m_usedBytes > maxUsedBytes && it.hasNext()) {
+            m_usedBytes -= it.next().getValue().capacity();
+            it.remove();
+            m_nEvictions++;
+        }
+    }
+
+    synchronized void logStatistics() {
+        LOGGER.debugWithFormat("\t%d tables held off-heap (%d of %d bytes)", m_copies.size(), m_usedBytes, m_budget);
+        LOGGER.debugWithFormat("\t%d tables demoted off-heap", m_nDemotions);
+        LOGGER.debugWithFormat("\t%d tables evicted from off-heap", m_nEvictions);
+        LOGGER.debugWithFormat("\t%d cache hits (off-heap)", m_nHits);
+    }
+
+    /** An input stream reading the remaining bytes of a (private) byte buffer. */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer m_buffer;
+
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            m_buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return m_buffer.hasRemaining() ? (m_buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!m_buffer.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, m_buffer.remaining());
+            m_buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) {
+            final int skipped = (int)Math.max(0, Math.min(n, m_buffer.remaining()));
+            m_buffer.position(m_buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return m_buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.storage.AbstractTableStoreReader.TableStoreCloseableRowIterator;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * An iterator that decompresses and deserializes the rows of a table file on a background thread, ahead of the rows
+ * being consumed. Rows are handed over in batches through a bounded queue, such that at most
+ * {@link #QUEUE_CAPACITY} batches of {@link #BATCH_SIZE} rows are held in memory in addition to the batch that is
+ * being consumed. The background thread is the only one accessing the wrapped iterator: it reads exactly as many rows
+ * as the table has (without asking the wrapped iterator whether it has more rows, which would close it and thereby
+ * access the buffer) and closes the wrapped iterator once done or once this iterator is {@link #close() closed}.
+ * Closing doesn't wait for the background thread, as it may happen while holding the lock of the buffer (e.g., when
+ * the buffer is cleared); the background thread stops after the row it is currently reading and then closes the
+ * wrapped iterator.
+ * <p>
+ * The number of background threads is bounded by the number of processors. If all of them are busy, the rows are
+ * read on the consuming thread instead, i.e., without reading ahead.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ReadAheadRowIterator extends TableStoreCloseableRowIterator {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ReadAheadRowIterator.class);
+
+    /** Number of rows handed over to the consuming thread at once. */
+    static final int BATCH_SIZE = 256;
+
+    /** Maximum number of decoded batches waiting to be consumed. */
+    static final int QUEUE_CAPACITY = 8;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * Executor for the background threads that read ahead, bounded by the number of processors. Idle threads are
+     * discarded after a minute. Tasks are rejected if all threads are busy.
+     */
+    private static final ThreadPoolExecutor READ_AHEAD_EXECUTOR =
+        new ThreadPoolExecutor(0, Runtime.getRuntime().availableProcessors(), 60, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), r -> {
+                final Thread thread = new Thread(r, "KNIME-TableReadAhead-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /** Marks the end of the table in the queue. */
+    private static final Batch END = new Batch(new DataRow[0], null);
+
+    private final TableStoreCloseableRowIterator m_delegate;
+
+    private final long m_size;
+
+    private final BlockingQueue<Batch> m_queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private final AtomicBoolean m_closed = new AtomicBoolean();
+
+    /** Whether rows are read on the consuming thread because no background thread was available. */
+    private final boolean m_synchronous;
+
+    private Batch m_current;
+
+    private int m_indexInCurrent;
+
+    private long m_returned;
+
+    /** Number of rows read from the wrapped iterator, only accessed by the thread reading them. */
+    private long m_read;
+
+    /**
+     * Starts reading ahead.
+     *
+     * @param delegate an unfiltered iterator over all rows of the table, only to be used by this iterator
+     * @param size the number of rows in the table
+     */
+    ReadAheadRowIterator(final TableStoreCloseableRowIterator delegate, final long size) {
+        m_delegate = delegate;
+        m_size = size;
+        boolean synchronous;
+        try {
+            READ_AHEAD_EXECUTOR.execute(ThreadUtils.runnableWithContext(this::readAhead, false));
+            synchronous = false;
+        } catch (RejectedExecutionException e) { // NOSONAR all background threads are busy
+            synchronous = true;
+        }
+        m_synchronous = synchronous;
+    }
+
+    /** @return whether the rows are decoded on a background thread */
+    boolean isReadingAhead() {
+        return !m_synchronous;
+    }
+
+    /**
+     * Runs on the background thread, reads all rows into batches and puts them into the queue. Once this iterator is
+     * closed, at most two more batches are put into the (then cleared) queue, so the thread never blocks for long.
+     */
+    private void readAhead() {
+        try {
+            Batch batch;
+            try {
+                while (m_read < m_size && !m_closed.get()) {
+                    m_queue.put(readBatch());
+                }
+                batch = END;
+            } catch (RuntimeException | Error e) { // NOSONAR rethrown on the consuming thread
+                batch = new Batch(null, e);
+            }
+            m_queue.put(batch);
+        } catch (InterruptedException e) { // NOSONAR executor is shut down, nobody is going to consume the rows
+            Thread.currentThread().interrupt();
+        } finally {
+            closeDelegate();
+        }
+    }
+
+    /** Reads the next batch of rows from the wrapped iterator, stops early if this iterator is closed. */
+    private Batch readBatch() {
+        final var rows = new DataRow[(int)Math.min(BATCH_SIZE, m_size - m_read)];
+        for (var i = 0; i < rows.length; i++) {
+            if (m_closed.get()) {
+                // nobody is going to consume the rows
+                break;
+            }
+            rows[i] = m_delegate.next();
+            m_read++;
+        }
+        return new Batch(rows, null);
+    }
+
+    private void closeDelegate() {
+        try {
+            m_delegate.performClose();
+        } catch (Exception e) { // NOSONAR
+            LOGGER.debug("Unable to close read-ahead stream: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        final boolean hasNext = !m_closed.get() && m_returned < m_size;
+        if (!hasNext && !m_closed.get()) {
+            close();
+        }
+        return hasNext;
+    }
+
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Iterator at end");
+        }
+        if (m_current == null || m_indexInCurrent == m_current.m_rows.length) {
+            m_current = m_synchronous ? readBatch() : takeBatch();
+            m_indexInCurrent = 0;
+        }
+        m_returned++;
+        return m_current.m_rows[m_indexInCurrent++];
+    }
+
+    /**
+     * Waits for the next batch. An interrupt doesn't stop the waiting, as the background thread delivers the batch
+     * shortly, but is restored once the batch has arrived.
+     */
+    private Batch takeBatch() {
+        Batch batch = null;
+        var interrupted = false;
+        while (batch == null) {
+            try {
+                batch = m_queue.take();
+            } catch (InterruptedException e) { // NOSONAR interrupt is restored below
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (batch.m_failure instanceof RuntimeException re) {
+            throw re;
+        } else if (batch.m_failure instanceof Error err) {
+            throw err;
+        } else if (batch == END) {
+            // cannot happen unless the table has fewer rows than it claims
+            throw new NoSuchElementException("Table ended after " + m_returned + " of " + m_size + " rows");
+        }
+        return batch;
+    }
+
+    /**
+     * Stops reading ahead without waiting for the background thread, which closes the wrapped iterator after the row it
+     * is currently reading.
+     */
+    @Override
+    public boolean performClose() {
+        if (m_closed.getAndSet(true)) {
+            return false;
+        }
+        m_current = null;
+        if (m_synchronous) {
+            closeDelegate();
+        } else {
+            // unblock the background thread in case it waits for space in the queue
+            m_queue.clear();
+        }
+        return true;
+    }
+
+    /** Rows decoded by the background thread or the failure that occurred while decoding them. */
+    private static final class Batch {
+
+        private final DataRow[] m_rows;
+
+        private final Throwable m_failure;
+
+        Batch(final DataRow[] rows, final Throwable failure) {
+            m_rows = rows;
+            m_failure = failure;
+        }
+    }
+}
@@ -52,15 +52,18 @@
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
@@ -83,6 +86,7 @@
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.ExtensionTable;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.Node;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
@@ -108,6 +112,18 @@ public final class RearrangeColumnsTable implements KnowsRowCountTable {
 
     private static final DataRow DUMMY_ROW = new DefaultRow(DUMMY_KEY, new DataCell[0]);
 
+    /** Default for {@link #MAX_BATCH_SIZE}. */
+    private static final int DEF_MAX_BATCH_SIZE = 1024;
+
+    /**
+     * Maximum number of rows handed to a worker at once when processing the input concurrently, see
+     * {@link KNIMEConstants#PROPERTY_CELL_FACTORY_MAX_BATCH_SIZE}.
+     */
+    private static final int MAX_BATCH_SIZE = initMaxBatchSize();
+
+    /** Upper bound for the number of rows held in the work queue, i.e., for queue size times batch size. */
+    private static final int MAX_ROWS_IN_QUEUE = 1 << 16;
+
     /**
      * If this table just filters columns from the reference table, we use this dummy iterator to provide empty appended
      * cells.
@@ -521,11 +537,16 @@ private static void calcNewColsASynchronously(final BufferedDataTable table, fin
         assert facForProgress != null;
         assert workers > 0 : "Nr workers <= 0: " + workers;
         assert queueSize > 0 : "queue size <= 0: " + queueSize;
-        ConcurrentNewColCalculator calculator =
-            new ConcurrentNewColCalculator(queueSize, workers, container, subProgress, finalRowCount,
-                newColsProducerMapping, facForProgress);
+        // bound the number of queued rows as a long queue of large batches could exhaust the memory
+        final int maxBatchSize = Math.min(MAX_BATCH_SIZE, Math.max(1, MAX_ROWS_IN_QUEUE / queueSize));
         try {
-            calculator.run(table);
+            if (maxBatchSize > 1) {
+                new BatchedNewColCalculator(queueSize, workers, maxBatchSize, container, subProgress, finalRowCount,
+                    newColsProducerMapping, facForProgress).calculate(table);
+            } else {
+                new ConcurrentNewColCalculator(queueSize, workers, container, subProgress, finalRowCount,
+                    newColsProducerMapping, facForProgress).run(table);
+            }
         } catch (InterruptedException e) {
             CanceledExecutionException cee = new CanceledExecutionException(e.getMessage());
             cee.initCause(e);
@@ -555,7 +576,21 @@ private static void calcNewColsASynchronously(final BufferedDataTable table, fin
     static DataRow calcNewCellsForRow(final DataRow unconvertedRow, final NewColumnsProducerMapping producerMap,
         final long rowIndex) {
         final int newColCount = producerMap.getAllNewColumnsList().size();
-        DataCell[] newCells = new DataCell[newColCount];
+        return calcNewCellsForRow(unconvertedRow, producerMap, rowIndex, new DataCell[newColCount]);
+    }
+
+    /**
+     * Calls for an input row the list of cell factories to produce the output row, using the given array for collecting
+     * the new cells. The array can be re-used for the next row as the output row holds a copy of it.
+     *
+     * @param unconvertedRow The input row to be processed
+     * @param producerMap For each new (or replaced) column the factory.
+     * @param rowIndex The index of the input row
+     * @param newCells An array of length &quot;number of new columns&quot; containing only <code>null</code>s.
+     * @return The output row.
+     */
+    private static DataRow calcNewCellsForRow(final DataRow unconvertedRow,
+        final NewColumnsProducerMapping producerMap, final long rowIndex, final DataCell[] newCells) {
         DataRow row = applyDataTypeConverters(unconvertedRow, producerMap, newCells);
         IdentityHashMap<CellFactory, List<Pair<Integer, Integer>>> uniqueCellFactoryMap =
             producerMap.getUniqueCellFactoryMap();
@@ -638,6 +673,29 @@ static Collection<CellFactory> getUniqueProducerFactories(final Collection<SpecA
         return counter.keySet();
     }
 
+    /**
+     * Initializes the maximum batch size w.r.t. the defined properties.
+     *
+     * @return the maximum number of rows handed to a worker at once
+     */
+    private static int initMaxBatchSize() {
+        final String prop = KNIMEConstants.PROPERTY_CELL_FACTORY_MAX_BATCH_SIZE;
+        final String val = System.getProperty(prop);
+        if (val != null) {
+            try {
+                final int size = Integer.parseInt(val.trim());
+                if (size < 1) {
+                    throw new IllegalArgumentException("max batch size < 1: " + size);
+                }
+                LOGGER.debug("Setting max batch size of concurrent cell factories to " + size);
+                return size;
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Unable to parse property " + prop + ", using default (" + DEF_MAX_BATCH_SIZE + ")", e);
+            }
+        }
+        return DEF_MAX_BATCH_SIZE;
+    }
+
     /**
      * The list of SpecAndFactoryObject that produce new columns.
      *
@@ -802,6 +860,144 @@ protected void processFinished(final ComputationTask task) throws ExecutionExcep
 
     }
 
+    /** A batch of contiguous input rows, processed by a {@link BatchedNewColCalculator}. */
+    private static final class RowBatch {
+
+        private final long m_firstRowIndex;
+
+        private final DataRow[] m_rows;
+
+        RowBatch(final long firstRowIndex, final DataRow[] rows) {
+            m_firstRowIndex = firstRowIndex;
+            m_rows = rows;
+        }
+    }
+
+    /**
+     * The MultiThreadWorker that processes the input rows concurrently in batches of contiguous rows, used instead of
+     * the {@link ConcurrentNewColCalculator} unless batching is disabled. Handing out rows one by one is expensive for
+     * cheap cell factories, as the bookkeeping per task easily exceeds the actual computation. The batch size is
+     * therefore chosen such that a batch takes about {@link #TARGET_BATCH_NANOS} to compute, based on the computation
+     * time per row measured so far (starting with single rows).
+     */
+    private static final class BatchedNewColCalculator extends MultiThreadWorker<RowBatch, DataRow[]> {
+
+        /**
+         * The targeted computation time of a batch: long enough to amortize the overhead per task and short enough to
+         * keep all workers busy and report progress regularly.
+         */
+        private static final long TARGET_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+        /** Weight of a new measurement in the moving average of the computation time per row. */
+        private static final double SMOOTHING = 0.2;
+
+        private final ExecutionMonitor m_subProgress;
+
+        private final NewColumnsProducerMapping m_reducedList;
+
+        private final DataContainer m_container;
+
+        private final long m_totalRowCount;
+
+        private final CellFactory m_facForProgress;
+
+        private final int m_maxBatchSize;
+
+        /** Moving average of the computation time per row in nanoseconds, NaN until the first batch is computed. */
+        private volatile double m_nanosPerRow = Double.NaN;
+
+        private BatchedNewColCalculator(final int maxQueueSize, final int maxActiveInstanceSize,
+            final int maxBatchSize, final DataContainer container, final ExecutionMonitor subProgress,
+            final long totalRowCount, final NewColumnsProducerMapping reducedList, final CellFactory facForProgress) {
+            super(maxQueueSize, maxActiveInstanceSize);
+            m_maxBatchSize = maxBatchSize;
+            m_container = container;
+            m_subProgress = subProgress;
+            m_totalRowCount = totalRowCount;
+            m_reducedList = reducedList;
+            m_facForProgress = facForProgress;
+        }
+
+        /**
+         * Processes all rows of the table.
+         *
+         * @param table the input table
+         * @throws InterruptedException see {@link #run(Iterable)}
+         * @throws ExecutionException see {@link #run(Iterable)}
+         */
+        void calculate(final BufferedDataTable table) throws InterruptedException, ExecutionException {
+            try (CloseableRowIterator it = table.iterator()) {
+                run(() -> new Iterator<RowBatch>() {
+                    private long m_nextRowIndex;
+
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public RowBatch next() {
+                        final DataRow[] rows = new DataRow[nextBatchSize()];
+                        int count = 0;
+                        while (count < rows.length && it.hasNext()) {
+                            rows[count++] = it.next();
+                        }
+                        final RowBatch batch = new RowBatch(m_nextRowIndex,
+                            count == rows.length ? rows : Arrays.copyOf(rows, count));
+                        m_nextRowIndex += count;
+                        return batch;
+                    }
+                });
+            }
+        }
+
+        private int nextBatchSize() {
+            final double nanosPerRow = m_nanosPerRow;
+            if (Double.isNaN(nanosPerRow)) {
+                return 1;
+            }
+            return (int)Math.max(1, Math.min(m_maxBatchSize, TARGET_BATCH_NANOS / Math.max(nanosPerRow, 1.0)));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected DataRow[] compute(final RowBatch in, final long index) throws Exception {
+            final DataRow[] rows = in.m_rows;
+            final DataRow[] result = new DataRow[rows.length];
+            // the output rows copy the cells, hence the array can be re-used for all rows of the batch
+            final DataCell[] newCells = new DataCell[m_reducedList.getAllNewColumnsList().size()];
+            final long start = System.nanoTime();
+            for (int i = 0; i < rows.length; i++) {
+                result[i] = calcNewCellsForRow(rows[i], m_reducedList, in.m_firstRowIndex + i, newCells);
+                Arrays.fill(newCells, null);
+            }
+            final double nanosPerRow = (System.nanoTime() - start) / (double)rows.length;
+            final double old = m_nanosPerRow;
+            // concurrent updates may get lost, which is fine for an estimate
+            m_nanosPerRow = Double.isNaN(old) ? nanosPerRow : (old + SMOOTHING * (nanosPerRow - old));
+            return result;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void processFinished(final ComputationTask task) throws ExecutionException, CancellationException,
+            InterruptedException {
+            final DataRow[] result = task.get(); // exception falls through
+            for (final DataRow append : result) {
+                m_container.addRowToTable(append);
+            }
+            final RowBatch batch = task.getInput();
+            final int last = batch.m_rows.length - 1;
+            m_facForProgress.setProgress(batch.m_firstRowIndex + last + 1, m_totalRowCount,
+                batch.m_rows[last].getKey(), m_subProgress);
+            try {
+                m_subProgress.checkCanceled();
+            } catch (CanceledExecutionException cee) {
+                throw new CancellationException();
+            }
+        }
+    }
+
     /**
      * A class that helps to distinguish SpecAndFactoryObjects. There are three kinds: representing input columns,
      * created with a cell factory, created with a converter (often molecular type adapter)
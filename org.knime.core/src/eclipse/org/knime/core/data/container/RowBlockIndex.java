@@ -0,0 +1,262 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Sparse index of the rows in a table file written by the {@link DefaultTableStoreWriter}. The rows of the file are
+ * split into blocks of {@link #getInterval()} rows, each of which is compressed separately (see
+ * {@link DefaultTableStoreFormat.CompressionFormat}), so that a reader can start reading at the first row of any block
+ * by opening a new decompressing stream at the block's byte offset in the file. The index is saved as part of the
+ * table's format settings (hence in the meta information of the table's zip file). Tables written without index are
+ * read as a single block.
+ * <p>
+ * The index is only written if enabled via {@link KNIMEConstants#PROPERTY_TABLE_ROW_INDEX_INTERVAL}. Note that this
+ * changes the layout of the table file: it then consists of several concatenated compressed streams (e.g. several
+ * GZIP members), which versions of KNIME that don't know about the index may not read correctly.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RowBlockIndex {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(RowBlockIndex.class);
+
+    /** Default number of rows per block, 0: tables are written without index unless configured otherwise. */
+    static final int DEF_INTERVAL = 0;
+
+    private static final String CFG_ROW_BLOCK_INDEX = "row_block_index";
+
+    private static final String CFG_INTERVAL = "interval";
+
+    private static final String CFG_OFFSETS = "offsets";
+
+    private final int m_interval;
+
+    /** Byte offsets of the blocks in the file, the first block always starts at offset 0. */
+    private long[] m_offsets;
+
+    private int m_nrBlocks;
+
+    /**
+     * Creates a new index containing the first block only.
+     *
+     * @param interval the number of rows per block, &gt; 0
+     */
+    RowBlockIndex(final int interval) {
+        this(interval, new long[]{0L});
+    }
+
+    private RowBlockIndex(final int interval, final long[] offsets) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Row index interval must be positive: " + interval);
+        }
+        m_interval = interval;
+        m_offsets = offsets;
+        m_nrBlocks = offsets.length;
+    }
+
+    /**
+     * @return the number of rows per block as per {@link KNIMEConstants#PROPERTY_TABLE_ROW_INDEX_INTERVAL}, 0 if no
+     *         index is to be written
+     */
+    static int getConfiguredInterval() {
+        final String value = System.getProperty(KNIMEConstants.PROPERTY_TABLE_ROW_INDEX_INTERVAL);
+        if (value == null) {
+            return DEF_INTERVAL;
+        }
+        try {
+            final int interval = Integer.parseInt(value.trim());
+            if (interval < 0) {
+                throw new NumberFormatException("negative value");
+            }
+            return interval;
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid value for property " + KNIMEConstants.PROPERTY_TABLE_ROW_INDEX_INTERVAL + " (\""
+                + value + "\"): " + e.getMessage() + "; using default " + DEF_INTERVAL);
+            return DEF_INTERVAL;
+        }
+    }
+
+    /** @return the number of rows per block */
+    int getInterval() {
+        return m_interval;
+    }
+
+    /** @return the number of blocks recorded so far, at least 1 */
+    int getNrBlocks() {
+        return m_nrBlocks;
+    }
+
+    /**
+     * Records the start of the next block.
+     *
+     * @param offset the byte offset of the block in the file
+     */
+    void addBlock(final long offset) {
+        if (offset < m_offsets[m_nrBlocks - 1]) {
+            throw new IllegalArgumentException(
+                "Block offset " + offset + " is smaller than previous offset " + m_offsets[m_nrBlocks - 1]);
+        }
+        if (m_nrBlocks == m_offsets.length) {
+            m_offsets = Arrays.copyOf(m_offsets, Math.max(16, 2 * m_nrBlocks));
+        }
+        m_offsets[m_nrBlocks++] = offset;
+    }
+
+    /**
+     * @param block the index of the block
+     * @return the byte offset of the block in the file
+     */
+    long getBlockOffset(final int block) {
+        if (block < 0 || block >= m_nrBlocks) {
+            throw new IndexOutOfBoundsException("Invalid block index " + block + ", number of blocks: " + m_nrBlocks);
+        }
+        return m_offsets[block];
+    }
+
+    /**
+     * @param row the index of a row in the table, &gt;= 0
+     * @return the index of the (last recorded) block containing the row
+     */
+    int getBlockForRow(final long row) {
+        return (int)Math.min(row / m_interval, m_nrBlocks - 1L);
+    }
+
+    /**
+     * @param block the index of the block
+     * @return the index of the first row in the block
+     */
+    long getFirstRowOfBlock(final int block) {
+        return (long)block * m_interval;
+    }
+
+    /**
+     * Saves the index into a child of the argument settings. The offsets are saved as a single string (base64 encoded
+     * variable-length deltas) as there may be many of them.
+     *
+     * @param settings to save to
+     */
+    void save(final NodeSettingsWO settings) {
+        final NodeSettingsWO sub = settings.addNodeSettings(CFG_ROW_BLOCK_INDEX);
+        sub.addInt(CFG_INTERVAL, m_interval);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(2 * m_nrBlocks + 8);
+        long previous = 0;
+        for (int i = 0; i < m_nrBlocks; i++) {
+            long delta = m_offsets[i] - previous;
+            previous = m_offsets[i];
+            while ((delta & ~0x7FL) != 0) {
+                bytes.write((int)((delta & 0x7F) | 0x80));
+                delta >>>= 7;
+            }
+            bytes.write((int)delta);
+        }
+        sub.addString(CFG_OFFSETS, Base64.getEncoder().encodeToString(bytes.toByteArray()));
+    }
+
+    /**
+     * Restores an index saved by {@link #save(NodeSettingsWO)}.
+     *
+     * @param settings to read from
+     * @return the index or an empty optional if the settings don't contain one (table written by a previous version
+     *         or without index)
+     * @throws InvalidSettingsException if the index is corrupt
+     */
+    static Optional<RowBlockIndex> load(final NodeSettingsRO settings) throws InvalidSettingsException {
+        if (!settings.containsKey(CFG_ROW_BLOCK_INDEX)) {
+            return Optional.empty();
+        }
+        final NodeSettingsRO sub = settings.getNodeSettings(CFG_ROW_BLOCK_INDEX);
+        final int interval = sub.getInt(CFG_INTERVAL);
+        if (interval <= 0) {
+            throw new InvalidSettingsException("Invalid row index interval: " + interval);
+        }
+        final byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(sub.getString(CFG_OFFSETS));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Invalid row index offsets: " + e.getMessage(), e);
+        }
+        long[] offsets = new long[Math.max(1, bytes.length / 2)];
+        int nrBlocks = 0;
+        long previous = 0;
+        int pos = 0;
+        while (pos < bytes.length) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (pos >= bytes.length || shift > 63) {
+                    throw new InvalidSettingsException("Invalid row index offsets: truncated value");
+                }
+                b = bytes[pos++];
+                delta |= (long)(b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            if (nrBlocks == offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * nrBlocks);
+            }
+            previous += delta;
+            offsets[nrBlocks++] = previous;
+        }
+        if (nrBlocks == 0 || offsets[0] != 0L) {
+            throw new InvalidSettingsException("Invalid row index, first block must start at offset 0");
+        }
+        return Optional.of(new RowBlockIndex(interval, Arrays.copyOf(offsets, nrBlocks)));
+    }
+
+}
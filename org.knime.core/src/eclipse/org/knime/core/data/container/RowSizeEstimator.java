@@ -0,0 +1,155 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellSerializer;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTypeRegistry;
+import org.knime.core.data.collection.BlobSupportDataCellIterator;
+import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.collection.SparseListDataValue;
+
+/**
+ * Estimates the heap memory retained by rows held in memory by a {@link Buffer}. Cells are estimated via
+ * {@link DataCellSerializer#estimateRetainedSize(DataCell)} of the serializer registered for their class.
+ * Collection cells are estimated as the sum of their elements. Other cells without a serializer or whose serializer
+ * does not provide an estimate are assumed to have a fixed size.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RowSizeEstimator {
+
+    /** Estimate for cells that neither the serializer nor this class knows the size of. */
+    static final long DEFAULT_CELL_SIZE = 64;
+
+    /** Estimate for the row object, its cell array (without cells) and its key. */
+    private static final long ROW_OVERHEAD = 24 + 16 + 16 + 56;
+
+    /** Estimate for a collection cell, its list or set and the array holding its elements (without elements). */
+    private static final long COLLECTION_OVERHEAD = 16 + 32 + 24 + 16;
+
+    /** Serializers by cell class, empty for cell classes without serializer. */
+    private static final Map<Class<? extends DataCell>, Optional<DataCellSerializer<DataCell>>> SERIALIZERS =
+        new ConcurrentHashMap<>();
+
+    private RowSizeEstimator() {
+    }
+
+    /**
+     * @param row a row about to be held in memory
+     * @return the estimated number of bytes retained by the row
+     */
+    static long estimate(final DataRow row) {
+        final int cellCount = row.getNumCells();
+        long size = ROW_OVERHEAD + 4L * cellCount + 2L * row.getKey().getString().length();
+        for (var i = 0; i < cellCount; i++) {
+            final DataCell cell =
+                row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
+            size += estimate(cell);
+        }
+        return size;
+    }
+
+    /**
+     * @param cell a cell
+     * @return the estimated number of bytes retained by the cell
+     */
+    static long estimate(final DataCell cell) {
+        if (cell.isMissing()) {
+            return 0; // missing cells are mostly shared instances
+        }
+        if (cell instanceof BlobWrapperDataCell) {
+            // a blob that is only softly referenced does not keep the garbage collector from reclaiming it
+            final BlobDataCell blob = ((BlobWrapperDataCell)cell).getHardReferencedCell();
+            return DEFAULT_CELL_SIZE + (blob == null ? 0 : estimate(blob));
+        }
+        if (cell instanceof SparseListDataValue) {
+            return estimateSparseList((SparseListDataValue)cell);
+        }
+        if (cell instanceof CollectionDataValue) {
+            return estimateCollection((CollectionDataValue)cell);
+        }
+        final long estimate = SERIALIZERS
+            .computeIfAbsent(cell.getClass(), c -> DataTypeRegistry.getInstance().getSerializer(c))
+            .map(serializer -> serializer.estimateRetainedSize(cell)).orElse(-1L);
+        return estimate < 0 ? DEFAULT_CELL_SIZE : estimate;
+    }
+
+    private static long estimateCollection(final CollectionDataValue collection) {
+        long size = COLLECTION_OVERHEAD + 4L * collection.size();
+        final Iterator<DataCell> it = collection.iterator();
+        if (it instanceof BlobSupportDataCellIterator) {
+            // don't load blobs that are not in memory
+            final BlobSupportDataCellIterator blobIt = (BlobSupportDataCellIterator)it;
+            while (blobIt.hasNext()) {
+                size += estimate(blobIt.nextWithBlobSupport());
+            }
+        } else {
+            while (it.hasNext()) {
+                size += estimate(it.next());
+            }
+        }
+        return size;
+    }
+
+    /** Sparse lists only hold the elements that differ from the default element, along with their indices. */
+    private static long estimateSparseList(final SparseListDataValue sparseList) {
+        final int[] indices = sparseList.getAllIndices();
+        long size = COLLECTION_OVERHEAD + 16 + 8L * indices.length + estimate(sparseList.getDefaultElement());
+        for (final int index : indices) {
+            size += estimate(sparseList.get(index));
+        }
+        return size;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container.filter;
+
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataTable;
+
+/**
+ * A {@link Spliterator} over a contiguous range of rows of a table that splits by halving its row range. Each part
+ * opens its own {@link CloseableRowIterator} restricted to its range (via a {@link TableFilter}) once traversal starts,
+ * hence tables that support seeking to a row index (such as tables stored on disk) only read the rows of the part.
+ * Column materialization indices of the base filter are retained by all parts.
+ *
+ * <p>
+ * Iterators are closed as soon as a part has been traversed; iterators of parts that were not fully traversed (for
+ * instance due to a short-circuiting stream operation) are closed by {@link #close()}, which closes all iterators
+ * opened by this spliterator and any of the parts split off it. Streams created from this spliterator should therefore
+ * register {@link #close()} as close handler and be used in a try-with-resources block.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @see BufferedDataTable#stream(TableFilter)
+ * @since 5.3
+ */
+public final class RowRangeSpliterator implements Spliterator<DataRow>, AutoCloseable {
+
+    /** Parts are not split further if they would contain fewer rows than this. */
+    static final long MIN_SPLIT_SIZE = 1024;
+
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+
+    private final Function<TableFilter, CloseableRowIterator> m_iteratorFactory;
+
+    private final TableFilter m_baseFilter;
+
+    private final Set<CloseableRowIterator> m_openIterators;
+
+    private final long m_minSplitSize;
+
+    private long m_fromIndex;
+
+    /** Inclusive upper bound, smaller than m_fromIndex if the range is empty. */
+    private final long m_toIndex;
+
+    private CloseableRowIterator m_iterator;
+
+    /**
+     * Creates a new spliterator over the rows selected by the given filter.
+     *
+     * @param iteratorFactory creates iterators over a table for a given filter, for instance
+     *            {@code f -> table.filter(f).iterator()}
+     * @param filter the base filter defining the row range (if any) and the columns to materialize
+     * @param size the number of rows of the table
+     */
+    public RowRangeSpliterator(final Function<TableFilter, CloseableRowIterator> iteratorFactory,
+        final TableFilter filter, final long size) {
+        this(iteratorFactory, filter, filter.getFromRowIndex().orElse(0L), filter.getToRowIndex().orElse(size - 1),
+            ConcurrentHashMap.newKeySet(), MIN_SPLIT_SIZE);
+    }
+
+    RowRangeSpliterator(final Function<TableFilter, CloseableRowIterator> iteratorFactory, final TableFilter filter,
+        final long fromIndex, final long toIndex, final Set<CloseableRowIterator> openIterators,
+        final long minSplitSize) {
+        m_iteratorFactory = iteratorFactory;
+        m_baseFilter = filter;
+        m_fromIndex = fromIndex;
+        m_toIndex = toIndex;
+        m_openIterators = openIterators;
+        m_minSplitSize = minSplitSize;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super DataRow> action) {
+        if (m_fromIndex > m_toIndex) {
+            return false;
+        }
+        if (m_iterator == null) {
+            m_iterator = m_iteratorFactory.apply(
+                new TableFilter.Builder(m_baseFilter).withFromRowIndex(m_fromIndex).withToRowIndex(m_toIndex).build());
+            m_openIterators.add(m_iterator);
+        }
+        if (!m_iterator.hasNext()) {
+            // table shorter than announced; treat as exhausted
+            m_fromIndex = m_toIndex + 1;
+            closeIterator();
+            return false;
+        }
+        final DataRow row = m_iterator.next();
+        m_fromIndex++;
+        if (m_fromIndex > m_toIndex) {
+            closeIterator();
+        }
+        action.accept(row);
+        return true;
+    }
+
+    private void closeIterator() {
+        if (m_iterator != null) {
+            m_iterator.close();
+            m_openIterators.remove(m_iterator);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Splitting is only possible before the traversal of this part has started.
+     */
+    @Override
+    public Spliterator<DataRow> trySplit() {
+        final long size = estimateSize();
+        if (m_iterator != null || size < 2 * m_minSplitSize) {
+            return null;
+        }
+        final long prefixEnd = m_fromIndex + size / 2 - 1;
+        final RowRangeSpliterator prefix = new RowRangeSpliterator(m_iteratorFactory, m_baseFilter, m_fromIndex,
+            prefixEnd, m_openIterators, m_minSplitSize);
+        m_fromIndex = prefixEnd + 1;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.max(0, m_toIndex - m_fromIndex + 1);
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Closes all iterators that were opened by this spliterator or any part split off it and that have not been closed
+     * yet.
+     */
+    @Override
+    public void close() {
+        for (final CloseableRowIterator it : m_openIterators) {
+            it.close();
+        }
+        m_openIterators.clear();
+    }
+
+}
@@ -208,10 +208,24 @@ public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filte
      * @return a filtered iterator
      * @since 4.0
      */
-    @SuppressWarnings("resource")
     public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filter, final ExecutionMonitor exec) {
-        final TableStoreCloseableRowIterator delegate = iterator();
         final long size = getBuffer() == null ? Long.MAX_VALUE : getBuffer().size();
+        return createFilterIterator(iterator(), filter, size, exec);
+    }
+
+    /**
+     * Wraps an iterator such that the returned rows are filtered according to a given {@link TableFilter}.
+     *
+     * @param delegate the iterator to filter, closed when the returned iterator is closed
+     * @param filter the filter to be applied, row indices are relative to the first row returned by the delegate
+     * @param size the number of rows the delegate returns at most
+     * @param exec the execution monitor that shall be updated with progress or null if no progress updates are desired
+     * @return a filtered iterator
+     * @since 5.3
+     */
+    @SuppressWarnings("resource")
+    protected static TableStoreCloseableRowIterator createFilterIterator(final TableStoreCloseableRowIterator delegate,
+        final TableFilter filter, final long size, final ExecutionMonitor exec) {
         final FilterDelegateRowIterator filterDelegate = new FilterDelegateRowIterator(delegate, filter, size, exec);
 
         return new TableStoreCloseableRowIterator() {
@@ -325,6 +325,11 @@ public void serialize(final BooleanCell cell,
             output.writeBoolean(cell.m_boolean);
         }
 
+        @Override
+        public long estimateRetainedSize(final BooleanCell cell) {
+            return 0; // cells are shared constants
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -228,6 +228,11 @@ public void serialize(
             out.writeDouble(cell.m_double);
         }
 
+        @Override
+        public long estimateRetainedSize(final DoubleCell cell) {
+            return 24; // object header and double, aligned
+        }
+
         /**
          * {@inheritDoc}
          */
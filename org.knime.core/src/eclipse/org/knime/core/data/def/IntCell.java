@@ -238,6 +238,11 @@ public void serialize(final IntCell cell,
             output.writeInt(cell.m_int);
         }
 
+        @Override
+        public long estimateRetainedSize(final IntCell cell) {
+            return 16; // object header and int
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -302,6 +302,11 @@ public void serialize(final LongCell cell,
             output.writeLong(cell.m_long);
         }
 
+        @Override
+        public long estimateRetainedSize(final LongCell cell) {
+            return 24; // object header and long, aligned
+        }
+
         /**
          * {@inheritDoc}
          */
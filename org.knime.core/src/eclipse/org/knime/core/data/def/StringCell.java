@@ -161,6 +161,12 @@ public void serialize(final StringCell cell,
             output.writeUTF(cell.getStringValue());
         }
 
+        @Override
+        public long estimateRetainedSize(final StringCell cell) {
+            // cell, string and array headers; assumes two bytes per char (no compact strings)
+            return 56 + 2L * cell.getStringValue().length();
+        }
+
         /**
          * {@inheritDoc}
          */
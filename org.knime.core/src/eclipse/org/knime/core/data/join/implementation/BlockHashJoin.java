@@ -51,7 +51,6 @@
 import java.util.Optional;
 import java.util.function.Supplier;
 
-import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.join.JoinSpecification;
@@ -159,8 +158,9 @@ public <T extends Output> JoinResult<T> join(final JoinResult<T> results)
         final RowHandlerCancelable unmatchedHashRows = results.unmatched(hashSide);
 
         // this is an incomplete index, as it represents only the hash rows indexed in one pass over the probe input
+        // numeric join columns are indexed as primitives, which allows to index many more rows per pass
         final Supplier<HashIndex> newHashIndex =
-            () -> new HashIndex(m_joinSpecification, results, hashSide, m_progress::isCanceled);
+            () -> HashIndex.create(m_joinSpecification, results, hashSide, m_progress::isCanceled);
 
         // this may be a partial index (if memory runs low) and thus may be replaced with an index covering the next
         // rows of the hash input
@@ -176,9 +176,7 @@ public <T extends Output> JoinResult<T> join(final JoinResult<T> results)
 
                 DataRow hashRow = hashRows.next();
 
-                DataCell[] joinAttributeValues = hashSettings.get(hashRow);
-
-                index.addHashRow(joinAttributeValues, hashRow, rowOffset);
+                index.addHashRow(hashRow, rowOffset);
 
                 // if memory is running low, do a pass over the probe input to be able to clear the hash index
                 boolean memoryLow = m_progress.isMemoryLow(100);
@@ -0,0 +1,266 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.join.implementation;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.join.JoinSpecification;
+import org.knime.core.data.join.JoinSpecification.DataCellComparisonMode;
+import org.knime.core.data.join.results.JoinResult;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.CanceledExecutionException.CancelChecker;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TCustomHashMap;
+import gnu.trove.strategy.HashingStrategy;
+
+/**
+ * General purpose {@link HashIndex} that keys rows by the {@link DataCell}s in their join columns. Supports all
+ * {@link JoinSpecification.DataCellComparisonMode}s and special join columns like the row key.
+ *
+ * @author Carl Witt, KNIME AG, Zurich, Switzerland
+ */
+class CellHashIndex extends HashIndex {
+
+    /**
+     * Creates a new list of rows in case there's none already associated to a certain combination of join column values
+     * in {@link #addHashRow(DataRow, long)}. Must produce a new instance of the type the {@link #m_index} map to (=hold
+     * as values).
+     */
+    private static final Function<DataCell[], TIntArrayList> newRowList = k -> new TIntArrayList(1);
+
+    /**
+     * Makes hash input rows accessible via join column value combinations. Maps to the internal offsets of the rows, in
+     * the order in which they were added.
+     */
+    private final TCustomHashMap<DataCell[], TIntArrayList> m_index;
+
+    /**
+     * @param joinSpecification see {@link HashIndex#HashIndex(JoinSpecification, JoinResult,
+     *            JoinSpecification.InputTable, CancelChecker)}
+     * @param joinContainer to receive matched and unmatched rows
+     * @param hashSide which side is being indexed
+     * @param checkCanceled to enable interrupting expensive operations
+     */
+    CellHashIndex(final JoinSpecification joinSpecification, final JoinResult<?> joinContainer,
+        final JoinSpecification.InputTable hashSide, final CancelChecker checkCanceled) {
+        super(joinSpecification, joinContainer, hashSide, checkCanceled);
+        m_index = new TCustomHashMap<>(hashingStrategy(joinSpecification.getDataCellComparisonMode()));
+    }
+
+    /**
+     * @param mode whether to compare data cells based on value and type, on their string representations, etc.
+     * @return the strategy to hash and compare the join column values of rows with
+     */
+    @SuppressWarnings("serial")
+    static HashingStrategy<DataCell[]> hashingStrategy(final DataCellComparisonMode mode) {
+        switch (mode) {
+            case STRICT:
+                return new HashStrict();
+            case AS_STRING:
+                return new HashAsString();
+            case NUMERIC_AS_LONG:
+                return new HashNumericAsLong();
+            default:
+                throw new IllegalStateException("No implementation for the data cell comparison mode " + mode);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The join tuple of the row is extracted using {@link org.knime.core.data.join.JoinTableSettings#get(DataRow)}. It
+     * is null if one of the join columns contains a missing value.
+     */
+    @Override
+    public void addHashRow(final DataRow row, final long offset) {
+
+        final DataCell[] joinTuple = m_hashSettings.get(row);
+        if (joinTuple == null) {
+            // do not add to index structure. can't be matched by anything
+            unmatchedHashRow(row, offset);
+        } else {
+            // add to index structure
+            m_index.computeIfAbsent(joinTuple, newRowList).add(addRow(row, offset));
+        }
+
+    }
+
+    @Override
+    public void joinSingleRow(final DataRow probeRow, final long probeRowOffset) throws CanceledExecutionException {
+
+        DataCell[] key = m_probeSettings.get(probeRow);
+
+        // null if no matches exist. Otherwise, the internal offsets of the matching rows in the order they were
+        // inserted using #addHashRow(DataRow, long)
+        TIntArrayList matching = key == null ? null : m_index.get(key);
+
+        // no indexed row has the same values in the join columns as the probe row
+        if (matching == null) {
+            unmatchedProbeRow(probeRow, probeRowOffset);
+        } else {
+            // these rows have the same values in the join columns as the probe row
+            for (var i = 0; i < matching.size(); i++) {
+                // could be quite a few rows that match
+                m_checkCanceled.checkCanceled();
+                processMatch(probeRow, probeRowOffset, matching.getQuick(i));
+            }
+        }
+    }
+
+    /**
+     * Hash strategy that tests whether two rows match by comparing the content AND data types of the values in the join
+     * columns, e.g., a value in an integer column will never match a value in a long column.
+     */
+    @SuppressWarnings("serial")
+    private static class HashStrict implements HashingStrategy<DataCell[]> {
+        @Override
+        public int computeHashCode(final DataCell[] joinClauseSides) {
+            return Arrays.hashCode(joinClauseSides);
+        }
+
+        @Override
+        public boolean equals(final DataCell[] o1, final DataCell[] o2) {
+            for (int i = 0; i < o1.length; i++) {
+                if (o1[i].isMissing() || o2[i].isMissing()) {
+                    return false;
+                }
+                // compare the data cells considering their value and type
+                if (!o1[i].equals(o2[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Hashing strategy that tests whether two rows match by comparing the string representations of the values in the
+     * join columns.
+     */
+    @SuppressWarnings("serial")
+    private static class HashAsString implements HashingStrategy<DataCell[]> {
+        @Override
+        public int computeHashCode(final DataCell[] joinClauseSides) {
+            if (joinClauseSides == null) {
+                return 0;
+            }
+
+            int result = 1;
+            for (Object element : joinClauseSides) {
+                result = 31 * result + (element == null ? 0 : element.toString().hashCode());
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(final DataCell[] o1, final DataCell[] o2) {
+            for (int i = 0; i < o1.length; i++) {
+                if (o1[i].isMissing() || o2[i].isMissing()) {
+                    return false;
+                }
+                // compare the data cells based on their string representations
+                if (!o1[i].toString().equals(o2[i].toString())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Hashing strategy that tests whether two rows match by treating values of integer join columns as long values.
+     * Without this special strategy, their hash codes will differ and thus not match.
+     */
+    @SuppressWarnings("serial")
+    private static class HashNumericAsLong implements HashingStrategy<DataCell[]> {
+
+        @Override
+        public int computeHashCode(final DataCell[] joinClauseSides) {
+            if (joinClauseSides == null) {
+                return 0;
+            }
+
+            int result = 1;
+            for (DataCell element : joinClauseSides) {
+                if (element instanceof LongValue) {
+                    long value = ((LongValue)element).getLongValue();
+                    result = 31 * result + (int)(value ^ (value >>> 32));
+                } else {
+                    result = 31 * result + (element == null ? 0 : element.hashCode());
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(final DataCell[] o1, final DataCell[] o2) {
+            for (int i = 0; i < o1.length; i++) {
+                if (o1[i].isMissing() || o2[i].isMissing()) {
+                    return false;
+                }
+                // compare the data cells using their long value if possible
+                if (o1[i] instanceof LongValue && o2[i] instanceof LongValue) {
+                    if (((LongValue)o1[i]).getLongValue() != ((LongValue)o2[i]).getLongValue()) {
+                        return false;
+                    }
+                } else {
+                    if (!o1[i].equals(o2[i])) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+}
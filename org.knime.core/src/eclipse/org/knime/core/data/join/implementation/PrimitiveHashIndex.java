@@ -0,0 +1,439 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.join.implementation;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.join.JoinSpecification;
+import org.knime.core.data.join.JoinSpecification.DataCellComparisonMode;
+import org.knime.core.data.join.JoinSpecification.InputTable;
+import org.knime.core.data.join.JoinTableSettings;
+import org.knime.core.data.join.results.JoinResult;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.CanceledExecutionException.CancelChecker;
+
+import gnu.trove.map.hash.TCustomHashMap;
+
+/**
+ * {@link HashIndex} for joins on one or two integer, long or double columns. Instead of a {@link DataCell}[] tuple and
+ * a list per distinct key (see {@link CellHashIndex}), the join column values are encoded as {@code long}s and stored
+ * in an open addressing hash table made of primitive arrays. Each slot holds the first and last internal offset of the
+ * rows with that key; the rows with equal keys are chained via an {@code int[]} holding the next internal offset. This
+ * needs a few dozen bytes per indexed row instead of a few hundred, so far more rows fit into one pass over the probe
+ * input.
+ *
+ * <p>
+ * The encoding preserves the semantics of the {@link DataCellComparisonMode}: in {@link DataCellComparisonMode#STRICT}
+ * mode both sides of a join clause must have the same cell type, in {@link DataCellComparisonMode#NUMERIC_AS_LONG}
+ * mode all {@link LongValue} columns are compared by their long value. Doubles are compared by their bit pattern, like
+ * {@link DoubleCell#equals(Object)} does. Whether a join can use this index is checked by
+ * {@link #supports(JoinSpecification, InputTable)}.
+ *
+ * <p>
+ * The column types only tell which cells a column may contain, e.g. a {@link LongCell} column can also contain
+ * {@link IntCell}s, which never equal a {@link LongCell} in {@link DataCellComparisonMode#STRICT} mode. The encoding
+ * is only valid for cells of the exact class of their column (see {@link KeyKind#fits(DataCell)}). Once a hash or
+ * probe row contains another cell, all indexed rows are moved to a map keyed by their join column cells, which are
+ * compared like in {@link CellHashIndex}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PrimitiveHashIndex extends HashIndex {
+
+    /** Marks an unused slot in {@link #m_heads} and the end of a chain in {@link #m_next}. */
+    private static final int EMPTY = -1;
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    /** Number of join columns this index supports at most. */
+    private static final int MAX_KEY_COLUMNS = 2;
+
+    /** How join column values of a certain type are encoded to longs. */
+    private enum KeyKind {
+            INT(IntCell.class, c -> ((IntValue)c).getIntValue()), //
+            LONG(LongCell.class, c -> ((LongValue)c).getLongValue()), //
+            /** Any {@link LongValue}, as compared in {@link DataCellComparisonMode#NUMERIC_AS_LONG} mode. */
+            LONG_VALUE(null, c -> ((LongValue)c).getLongValue()), //
+            DOUBLE(DoubleCell.class, c -> Double.doubleToLongBits(((DoubleValue)c).getDoubleValue()));
+
+        /** The class cells must have to be encoded, {@code null} for any {@link LongValue}. */
+        private final Class<? extends DataCell> m_cellClass;
+
+        private final ToLongFunction<DataCell> m_encoder;
+
+        KeyKind(final Class<? extends DataCell> cellClass, final ToLongFunction<DataCell> encoder) {
+            m_cellClass = cellClass;
+            m_encoder = encoder;
+        }
+
+        /**
+         * @param cell a non-missing cell of a join column of this kind
+         * @return whether two cells compare equal if and only if their encodings are equal
+         */
+        boolean fits(final DataCell cell) {
+            return m_cellClass == null ? (cell instanceof LongValue) : (cell.getClass() == m_cellClass);
+        }
+
+        /**
+         * @param type the type of a join column
+         * @param mode how cells are compared
+         * @return how values of the column are encoded, or {@code null} if the column can't be indexed as primitive
+         */
+        static KeyKind of(final DataType type, final DataCellComparisonMode mode) {
+            if (mode == DataCellComparisonMode.STRICT) {
+                if (type.equals(IntCell.TYPE)) {
+                    return INT;
+                } else if (type.equals(LongCell.TYPE)) {
+                    return LONG;
+                }
+            } else if (mode == DataCellComparisonMode.NUMERIC_AS_LONG && type.isCompatible(LongValue.class)) {
+                return LONG_VALUE;
+            }
+            return type.equals(DoubleCell.TYPE) ? DOUBLE : null;
+        }
+    }
+
+    /** Join column offsets in the hash rows, one per join clause. */
+    private final int[] m_hashColumns;
+
+    /** Join column offsets in the probe rows, one per join clause. */
+    private final int[] m_probeColumns;
+
+    /** How the join columns are encoded, the same for both sides. */
+    private final KeyKind[] m_kinds;
+
+    private final DataCellComparisonMode m_mode;
+
+    /**
+     * The rows keyed by their join column cells, {@code null} as long as all cells {@link KeyKind#fits(DataCell) fit}
+     * their encoding. Maps to the first and last internal offset of the rows with that key, chained via {@link #m_next}
+     * like the primitive keys.
+     */
+    private TCustomHashMap<DataCell[], int[]> m_cellIndex;
+
+    /** Encoded value of the first join column, per slot. */
+    private long[] m_keys1;
+
+    /** Encoded value of the second join column, per slot. {@code null} if there is only one join column. */
+    private long[] m_keys2;
+
+    /** Internal offset of the first row with the key in the slot, or {@link #EMPTY}. */
+    private int[] m_heads;
+
+    /** Internal offset of the last row with the key in the slot, where new rows are appended to the chain. */
+    private int[] m_tails;
+
+    /** The i-th entry is the internal offset of the next row with the same key as the i-th row, or {@link #EMPTY}. */
+    private int[] m_next = new int[INITIAL_CAPACITY];
+
+    private int m_numKeys;
+
+    /** Grow the slot arrays once {@link #m_numKeys} reaches this value, keeps the load factor at most one half. */
+    private int m_resizeThreshold;
+
+    /**
+     * @param joinSpecification the join, must be {@link #supports(JoinSpecification, InputTable) supported}
+     * @param joinContainer to receive matched and unmatched rows
+     * @param hashSide which side is being indexed
+     * @param checkCanceled to enable interrupting expensive operations
+     */
+    PrimitiveHashIndex(final JoinSpecification joinSpecification, final JoinResult<?> joinContainer,
+        final InputTable hashSide, final CancelChecker checkCanceled) {
+        super(joinSpecification, joinContainer, hashSide, checkCanceled);
+        m_hashColumns = m_hashSettings.getJoinClauseColumns();
+        m_probeColumns = m_probeSettings.getJoinClauseColumns();
+
+        final DataTableSpec hashSpec = spec(m_hashSettings).orElseThrow(IllegalStateException::new);
+        m_mode = joinSpecification.getDataCellComparisonMode();
+        m_kinds = new KeyKind[m_hashColumns.length];
+        for (var i = 0; i < m_kinds.length; i++) {
+            m_kinds[i] = KeyKind.of(hashSpec.getColumnSpec(m_hashColumns[i]).getType(), m_mode);
+        }
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Checks whether the join can be performed using a {@link PrimitiveHashIndex}: the tables must be present, the join
+     * must have one or two clauses that compare integer, long or double columns (no special join columns) and in each
+     * clause both columns must be encoded the same way. Cells are compared neither as strings nor across different
+     * encodings (which would never match anyway). Cells that don't have the exact class of their column are handled
+     * during the join.
+     *
+     * @param joinSpecification the join
+     * @param hashSide the side to index
+     * @return whether the join columns can be indexed as primitives
+     */
+    static boolean supports(final JoinSpecification joinSpecification, final InputTable hashSide) {
+        final var mode = joinSpecification.getDataCellComparisonMode();
+        if (mode != DataCellComparisonMode.STRICT && mode != DataCellComparisonMode.NUMERIC_AS_LONG) {
+            return false;
+        }
+        final var hashSettings = joinSpecification.getSettings(hashSide);
+        final var probeSettings = joinSpecification.getSettings(hashSide.other());
+        final Optional<DataTableSpec> hashSpec = spec(hashSettings);
+        final Optional<DataTableSpec> probeSpec = spec(probeSettings);
+        final int[] hashColumns = hashSettings.getJoinClauseColumns();
+        final int[] probeColumns = probeSettings.getJoinClauseColumns();
+        if (hashSpec.isEmpty() || probeSpec.isEmpty() || hashColumns.length == 0
+            || hashColumns.length > MAX_KEY_COLUMNS || hashColumns.length != probeColumns.length) {
+            return false;
+        }
+        for (var i = 0; i < hashColumns.length; i++) {
+            if (hashColumns[i] < 0 || probeColumns[i] < 0) {
+                // special join column, e.g., row key
+                return false;
+            }
+            final var hashKind = KeyKind.of(hashSpec.get().getColumnSpec(hashColumns[i]).getType(), mode);
+            final var probeKind = KeyKind.of(probeSpec.get().getColumnSpec(probeColumns[i]).getType(), mode);
+            if (hashKind == null || hashKind != probeKind) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Optional<DataTableSpec> spec(final JoinTableSettings settings) {
+        return settings.getTable().map(BufferedDataTable::getDataTableSpec);
+    }
+
+    @Override
+    public void addHashRow(final DataRow row, final long offset) {
+        if (m_cellIndex != null) {
+            addCellHashRow(row, offset);
+            return;
+        }
+        final DataCell cell1 = row.getCell(m_hashColumns[0]);
+        final DataCell cell2 = m_keys2 == null ? null : row.getCell(m_hashColumns[1]);
+        if (cell1.isMissing() || (cell2 != null && cell2.isMissing())) {
+            // do not add to index structure. can't be matched by anything
+            unmatchedHashRow(row, offset);
+            return;
+        }
+        if (!fits(cell1, cell2)) {
+            switchToCellIndex();
+            addCellHashRow(row, offset);
+            return;
+        }
+        final long key1 = m_kinds[0].m_encoder.applyAsLong(cell1);
+        final long key2 = cell2 == null ? 0L : m_kinds[1].m_encoder.applyAsLong(cell2);
+
+        final int internalOffset = addChainedRow(row, offset);
+        final int slot = findSlot(key1, key2);
+        if (m_heads[slot] == EMPTY) {
+            m_keys1[slot] = key1;
+            if (m_keys2 != null) {
+                m_keys2[slot] = key2;
+            }
+            m_heads[slot] = internalOffset;
+            m_tails[slot] = internalOffset;
+            m_numKeys++;
+            if (m_numKeys >= m_resizeThreshold) {
+                rehash();
+            }
+        } else {
+            // append to the chain to retain the insertion order of rows with equal keys
+            m_next[m_tails[slot]] = internalOffset;
+            m_tails[slot] = internalOffset;
+        }
+    }
+
+    private void addCellHashRow(final DataRow row, final long offset) {
+        final DataCell[] joinTuple = m_hashSettings.get(row);
+        if (joinTuple == null) {
+            // do not add to index structure. can't be matched by anything
+            unmatchedHashRow(row, offset);
+        } else {
+            appendToCellIndex(joinTuple, addChainedRow(row, offset));
+        }
+    }
+
+    /** Stores the row as the end of a new chain. */
+    private int addChainedRow(final DataRow row, final long offset) {
+        final int internalOffset = addRow(row, offset);
+        if (internalOffset == m_next.length) {
+            m_next = Arrays.copyOf(m_next, m_next.length * 2);
+        }
+        m_next[internalOffset] = EMPTY;
+        return internalOffset;
+    }
+
+    private void appendToCellIndex(final DataCell[] joinTuple, final int internalOffset) {
+        final int[] headAndTail = m_cellIndex.get(joinTuple);
+        if (headAndTail == null) {
+            m_cellIndex.put(joinTuple, new int[]{internalOffset, internalOffset});
+        } else {
+            m_next[headAndTail[1]] = internalOffset;
+            headAndTail[1] = internalOffset;
+        }
+    }
+
+    private boolean fits(final DataCell cell1, final DataCell cell2) {
+        return m_kinds[0].fits(cell1) && (cell2 == null || m_kinds[1].fits(cell2));
+    }
+
+    /**
+     * Moves all indexed rows from the primitive slots to {@link #m_cellIndex}, retaining their order. Called once a
+     * cell doesn't {@link KeyKind#fits(DataCell) fit} the encoding of its column.
+     */
+    private void switchToCellIndex() {
+        m_cellIndex = new TCustomHashMap<>(CellHashIndex.hashingStrategy(m_mode));
+        for (var i = 0; i < numAddedRows(); i++) {
+            m_next[i] = EMPTY;
+            appendToCellIndex(m_hashSettings.get(getRow(i)), i);
+        }
+        m_keys1 = null;
+        m_keys2 = null;
+        m_heads = null;
+        m_tails = null;
+    }
+
+    @Override
+    public void joinSingleRow(final DataRow probeRow, final long probeRowOffset) throws CanceledExecutionException {
+        final int head = m_cellIndex == null ? findPrimitiveMatches(probeRow) : findCellMatches(probeRow);
+
+        // no indexed row has the same values in the join columns as the probe row
+        if (head == EMPTY) {
+            unmatchedProbeRow(probeRow, probeRowOffset);
+        } else {
+            // these rows have the same values in the join columns as the probe row
+            for (int i = head; i != EMPTY; i = m_next[i]) {
+                // could be quite a few rows that match
+                m_checkCanceled.checkCanceled();
+                processMatch(probeRow, probeRowOffset, i);
+            }
+        }
+    }
+
+    /** @return the internal offset of the first matching hash row, or {@link #EMPTY} */
+    private int findPrimitiveMatches(final DataRow probeRow) {
+        final DataCell cell1 = probeRow.getCell(m_probeColumns[0]);
+        final DataCell cell2 = m_keys2 == null ? null : probeRow.getCell(m_probeColumns[1]);
+        if (cell1.isMissing() || (cell2 != null && cell2.isMissing())) {
+            return EMPTY;
+        }
+        if (!fits(cell1, cell2)) {
+            switchToCellIndex();
+            return findCellMatches(probeRow);
+        }
+        final long key1 = m_kinds[0].m_encoder.applyAsLong(cell1);
+        final long key2 = cell2 == null ? 0L : m_kinds[1].m_encoder.applyAsLong(cell2);
+        return m_heads[findSlot(key1, key2)];
+    }
+
+    /** @return the internal offset of the first matching hash row, or {@link #EMPTY} */
+    private int findCellMatches(final DataRow probeRow) {
+        final DataCell[] key = m_probeSettings.get(probeRow);
+        final int[] headAndTail = key == null ? null : m_cellIndex.get(key);
+        return headAndTail == null ? EMPTY : headAndTail[0];
+    }
+
+    /**
+     * Linear probing for the given key.
+     *
+     * @return the slot holding the key, or the empty slot where it would have to be inserted
+     */
+    private int findSlot(final long key1, final long key2) {
+        final int mask = m_heads.length - 1;
+        var slot = hash(key1, key2) & mask;
+        while (m_heads[slot] != EMPTY && (m_keys1[slot] != key1 || (m_keys2 != null && m_keys2[slot] != key2))) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /** Mixes both keys so that consecutive integers are spread over the whole table. */
+    private static int hash(final long key1, final long key2) {
+        long h = (key1 ^ (key2 * 0xC2B2AE3D27D4EB4FL)) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0x85EBCA6BL;
+        return (int)(h ^ (h >>> 29));
+    }
+
+    private void allocate(final int capacity) {
+        m_keys1 = new long[capacity];
+        m_keys2 = m_hashColumns.length > 1 ? new long[capacity] : null;
+        m_heads = new int[capacity];
+        Arrays.fill(m_heads, EMPTY);
+        m_tails = new int[capacity];
+        m_resizeThreshold = capacity / 2;
+    }
+
+    /** Doubles the number of slots, the chains are kept as they are. */
+    private void rehash() {
+        final long[] oldKeys1 = m_keys1;
+        final long[] oldKeys2 = m_keys2;
+        final int[] oldHeads = m_heads;
+        final int[] oldTails = m_tails;
+        allocate(oldHeads.length * 2);
+        for (var i = 0; i < oldHeads.length; i++) {
+            if (oldHeads[i] != EMPTY) {
+                final long key2 = oldKeys2 == null ? 0L : oldKeys2[i];
+                final int slot = findSlot(oldKeys1[i], key2);
+                m_keys1[slot] = oldKeys1[i];
+                if (m_keys2 != null) {
+                    m_keys2[slot] = key2;
+                }
+                m_heads[slot] = oldHeads[i];
+                m_tails[slot] = oldTails[i];
+            }
+        }
+    }
+}
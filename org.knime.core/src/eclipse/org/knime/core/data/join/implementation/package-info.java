@@ -7,7 +7,9 @@
  * loop join that falls back to multiple passes over the larger table if heap space does not suffice to completely index
  * the smaller table.</li>
  * <li>{@link org.knime.core.data.join.implementation.HashIndex} is a utility class to index a table for fast lookup of
- * rows according to the values in their join columns.</li>
+ * rows according to the values in their join columns. {@link org.knime.core.data.join.implementation.CellHashIndex}
+ * handles arbitrary join columns, {@link org.knime.core.data.join.implementation.PrimitiveHashIndex} is a compact
+ * variant for joins on one or two integer, long or double columns.</li>
  * <li>{@link org.knime.core.data.join.implementation.OrderedRow} is a utility class for relating rows to ordering
  * information, usually their offset in the table they came from.</li>
  * <li>{@link org.knime.core.data.join.implementation.JoinerFactory} a functional interface that defines the constructor
@@ -17,8 +19,9 @@
  * <h2>Join example</h2>
  *
  * To give an idea how the code works together, a small example is given. The values of the join columns of a row are
- * extracted using {@link JoinTableSettings#getJoinTuple(DataRow)}. Pass the join tuple and the row to
- * {@link HashIndex#addHashRow(DataCell[], DataRow, long)} to index that row. Index one input table of the join this
+ * extracted using {@link JoinTableSettings#get(DataRow)}. Create an index using
+ * {@link HashIndex#create(JoinSpecification, JoinResult, InputTable, CancelChecker)} and pass each row to
+ * {@link HashIndex#addHashRow(DataRow, long)} to index that row. Index one input table of the join this
  * way. Then iterate over the other input table, looking up join partners for each row using
  * {@link HashIndex#joinSingleRow(DataRow, long)}.
  *
@@ -105,6 +105,12 @@ abstract class AbstractTableSorter { // NOSONAR has to be abstract so the class
     @SuppressWarnings("javadoc")
     public static final int DEF_MAX_OPENCONTAINER = 40;
 
+    /**
+     * The default parallelism of the on-disk sort. See {@link #setParallelism(int)} for details.
+     */
+    @SuppressWarnings("javadoc")
+    public static final int DEF_PARALLELISM = 1;
+
     /** Pattern matching a single numeric digit. */
     private static final Pattern ANY_DIGIT = Pattern.compile("\\d");
 
@@ -131,6 +137,9 @@ abstract class AbstractTableSorter { // NOSONAR has to be abstract so the class
 
     private boolean m_sortInMemory = false;
 
+    /** Number of chunks sorted or merged concurrently, see {@link #setParallelism(int)}. */
+    private int m_parallelism = DEF_PARALLELISM;
+
     /** The RowComparator to compare two DataRows (inner class). */
     private Comparator<DataRow> m_rowComparator;
 
@@ -221,7 +230,13 @@ protected AbstractTableSorter(final DataTable inputTable, final long rowsCount,
         setSortColumns(inclList, sortAscending, sortMissingsToEnd);
     }
 
-    /** @param rowComparator the rowComparator to set */
+    /**
+     * Sets the comparator that defines the order of the rows. If the {@linkplain #setParallelism(int) parallelism} is
+     * larger than one, the comparator is called concurrently by several threads and must therefore be thread-safe, e.g.
+     * stateless (as the comparators created by {@link #setSortColumns(Collection, boolean[], boolean)} are).
+     *
+     * @param rowComparator the rowComparator to set
+     */
     public final void setRowComparator(final Comparator<DataRow> rowComparator) {
         if (rowComparator == null) {
             throw new NullPointerException("Argument must not be null."); // NOSONAR
@@ -320,6 +335,43 @@ public void setMaxOpenContainers(final int value) {
         m_maxOpenContainers = value;
     }
 
+    /**
+     * Get the number of chunks that are sorted or merged concurrently. See {@link #setParallelism(int)} for details.
+     *
+     * @return the parallelism
+     * @since 5.3
+     */
+    @SuppressWarnings("javadoc")
+    public int getParallelism() {
+        return m_parallelism;
+    }
+
+    /**
+     * Changes the number of chunks that are processed concurrently during an on-disk sort. With a value larger than
+     * one the in-memory buffers are sorted and written to temporary tables by a sub pool of the global thread pool while
+     * the input is still being read, and each merge round merges that many independent groups of chunks at the same
+     * time. The result is identical to the one of the sequential sort.
+     *
+     * <p>
+     * Note that each concurrent merge keeps up to {@link #getMaxOpenContainers()} temporary tables open and that up to
+     * that many full in-memory buffers are held while waiting to be written. Also, the
+     * {@linkplain #setRowComparator(Comparator) row comparator} is then called concurrently and must be thread-safe.
+     *
+     * <p>
+     * The default is {@value #DEF_PARALLELISM}, i.e. sequential processing.
+     *
+     * @param parallelism the number of concurrently processed chunks
+     * @throws IllegalArgumentException If argument is smaller than 1.
+     * @since 5.3
+     */
+    @SuppressWarnings("javadoc")
+    public void setParallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
+        m_parallelism = parallelism;
+    }
+
     /**
      * Set the maximum number of rows per chunk, defaults to {@link Integer#MAX_VALUE}. This field is modified from the
      * testing framework.
@@ -563,7 +615,7 @@ CloseableRowIterator sortedIteratorInternal(final ExecutionContext exec, final T
     private MergePhase createInitialChunks(final ExecutionMonitor initialPhaseExec, final TableIOHandler tableIOHandler,
             final DataTable dataTable, final AtomicLong rowsRead, final NumberFormatter numFormat)
             throws CanceledExecutionException {
-        final var buffer = new ArrayList<DataRow>();
+        var buffer = new ArrayList<DataRow>();
         long chunkStartRow = 0;
         var rowsInCurrentChunk = 0;
 
@@ -571,7 +623,8 @@ private MergePhase createInitialChunks(final ExecutionMonitor initialPhaseExec,
 
         final Deque<Iterable<DataRow>> chunksContainer;
         try (final var chunksWriter = newChunksWriter(tableIOHandler);
-                final var inputIter = CloseableRowIterator.from(dataTable.iterator())) {
+                final var inputIter = CloseableRowIterator.from(dataTable.iterator());
+                final var chunkTasks = new ChunkTaskQueue(m_parallelism)) {
             while (inputIter.hasNext()) {
                 final var rowNo = rowsRead.incrementAndGet();
                 rowsInCurrentChunk++;
@@ -587,15 +640,21 @@ private MergePhase createInitialChunks(final ExecutionMonitor initialPhaseExec,
                         || (rowNo % m_maxRowsPerChunk == 0)) {
                     LOGGER.debug("Writing chunk [" + chunkStartRow + ":" + rowNo + "] - mem usage: " + getMemUsage());
                     initialPhaseExec.setMessage("Sorting in-memory buffer");
-                    // sort buffer
-                    Collections.sort(buffer, m_rowComparator);
-                    // write buffer to disk
-                    writeChunk(initialPhaseExec, chunksWriter, buffer, numFormat);
-                    LOGGER.debug("Wrote chunk [" + chunkStartRow + ":" + rowNo + "] - mem usage: " + getMemUsage());
+                    // sort buffer and write it to disk, possibly in another thread while reading continues
+                    final var run = buffer;
+                    final var runStartRow = chunkStartRow;
+                    final var chunk = chunksWriter.openChunk(true);
+                    chunkTasks.submit(() -> {
+                        Collections.sort(run, m_rowComparator);
+                        writeChunk(initialPhaseExec, chunk, run, numFormat);
+                        LOGGER.debug("Wrote chunk [" + runStartRow + ":" + rowNo + "] - mem usage: " + getMemUsage());
+                    }, chunk::close);
+                    buffer = new ArrayList<>();
                     chunkStartRow = rowNo + 1;
                     rowsInCurrentChunk = 0;
                 }
             }
+            chunkTasks.awaitAll();
 
             chunksContainer = new ArrayDeque<>();
             chunksWriter.finish(chunksContainer::addAll);
@@ -613,28 +672,26 @@ private MergePhase createInitialChunks(final ExecutionMonitor initialPhaseExec,
         return createMergePhase(tableIOHandler, chunksContainer, rowsRead.get());
     }
 
-    private static void writeChunk(final ExecutionMonitor exec, final ChunksWriter chunksWriter,
+    private static void writeChunk(final ExecutionMonitor exec, final ChunksWriter.ChunkHandle chunk,
             final ArrayList<DataRow> buffer, final NumberFormatter numFormat) throws CanceledExecutionException {
-        try (final var chunk = chunksWriter.openChunk(true)) {
-            final int totalBufferSize = buffer.size();
-            // current row number is padded to the length of the total number of rows to minimize jumping
-            final var ticker = new AtomicInteger();
-            // instantiate the supplier only once
-            final var fraction = progressFractionBuilder(numFormat, ticker::longValue, totalBufferSize);
-            Supplier<String> messageSupplier =
-                    () -> fraction.apply(new StringBuilder("Writing temporary table (row ")).append(")").toString();
-            for (var i = 0; i < totalBufferSize; i++) {
-                // notify the progress monitor that something has changed
-                exec.setMessage(messageSupplier);
-
-                // must not use Iterator#remove as it causes array copies
-                final var next = buffer.set(i, null);
-                chunk.addRow(next);
-                exec.checkCanceled();
-                ticker.incrementAndGet();
-            }
-            buffer.clear();
+        final int totalBufferSize = buffer.size();
+        // current row number is padded to the length of the total number of rows to minimize jumping
+        final var ticker = new AtomicInteger();
+        // instantiate the supplier only once
+        final var fraction = progressFractionBuilder(numFormat, ticker::longValue, totalBufferSize);
+        Supplier<String> messageSupplier =
+                () -> fraction.apply(new StringBuilder("Writing temporary table (row ")).append(")").toString();
+        for (var i = 0; i < totalBufferSize; i++) {
+            // notify the progress monitor that something has changed
+            exec.setMessage(messageSupplier);
+
+            // must not use Iterator#remove as it causes array copies
+            final var next = buffer.set(i, null);
+            chunk.addRow(next);
+            exec.checkCanceled();
+            ticker.incrementAndGet();
         }
+        buffer.clear();
     }
 
     /**
@@ -671,7 +728,8 @@ private static UnaryOperator<StringBuilder> progressFractionBuilder(final Number
      */
     MergePhase createMergePhase(final TableIOHandler tableIOHandler, final Deque<Iterable<DataRow>> chunks,
             final long numRows) {
-        return new MergePhase(m_dataTableSpec, tableIOHandler, m_rowComparator, m_maxOpenContainers, chunks, numRows);
+        return new MergePhase(m_dataTableSpec, tableIOHandler, m_rowComparator, m_maxOpenContainers, m_parallelism,
+            chunks, numRows);
     }
 
     /**
@@ -686,17 +744,19 @@ static final class MergePhase implements AutoCloseable {
         private final TableIOHandler m_dataHandler;
         private final Comparator<DataRow> m_rowComparator;
         private final int m_maxOpenContainers;
+        private final int m_parallelism;
         private final Deque<Iterable<DataRow>> m_chunks;
         private final long m_numRows;
 
         MergePhase(final DataTableSpec tableSpec, final TableIOHandler dataHandler,
-                final Comparator<DataRow> rowComparator, final int maxOpenContainers,
+                final Comparator<DataRow> rowComparator, final int maxOpenContainers, final int parallelism,
                 final Deque<Iterable<DataRow>> chunks, final long numRows) {
             m_numberFormat = newProgressNumberFormat();
             m_tableSpec = tableSpec;
             m_dataHandler = dataHandler;
             m_rowComparator = rowComparator;
             m_maxOpenContainers = maxOpenContainers;
+            m_parallelism = parallelism;
             m_chunks = chunks;
             m_numRows = numRows;
         }
@@ -762,7 +822,8 @@ private CloseableRowIterator mergeChunks(final ExecutionMonitor mergePhaseExec,
         }
 
         /**
-         * Performs a single scan over all data, merging groups of {@link #m_maxOpenContainers} chunks.
+         * Performs a single scan over all data, merging groups of {@link #m_maxOpenContainers} chunks. Up to
+         * {@link #m_parallelism} groups are merged concurrently, the merged chunks keep the order of their groups.
          *
          * @param exec execution monitor
          * @param round number of the current merge round
@@ -780,31 +841,39 @@ private void performMergeRound(final ExecutionMonitor exec, final Supplier<Strin
                     .append(")").append(additionalInfo.get()).toString();
             exec.setMessage(messageSupplier);
 
-            try (final var chunksWriter = new ChunksWriter(m_tableSpec, m_dataHandler)) {
-                final var chunksToMerge = new ArrayList<Iterable<DataRow>>(m_maxOpenContainers);
+            try (final var chunksWriter = new ChunksWriter(m_tableSpec, m_dataHandler);
+                    final var chunkTasks = new ChunkTaskQueue(m_parallelism)) {
                 while (m_chunks.size() > 1) {
                     // remove the next `k` chunks from the last round
                     final var k = Math.min(m_maxOpenContainers, m_chunks.size());
+                    final var chunksToMerge = new ArrayList<Iterable<DataRow>>(k);
                     for (var i = 0; i < k; i++) {
                         chunksToMerge.add(m_chunks.poll());
                     }
 
                     // merge the `k` chunks together and add the combined chunk to the chunks writer
-                    try (final var mergeIterator = createMergeIterator(chunksToMerge);
-                            final var chunk = chunksWriter.openChunk(true)) {
+                    final var mergeIterator = createMergeIterator(chunksToMerge);
+                    final var chunk = chunksWriter.openChunk(true);
+                    chunkTasks.submit(() -> {
                         while (mergeIterator.hasNext()) { // NOSONAR
                             exec.checkCanceled();
                             chunk.addRow(mergeIterator.next());
                             final var numRowsProcessed = rowsTicker.incrementAndGet();
                             exec.setProgress(1.0 * numRowsProcessed / m_numRows);
                         }
+                    }, () -> {
                         additionalInfo.set("; Closing temporary table...");
                         // notify the progress monitor that the message has changed
                         exec.setMessage(messageSupplier);
-                    }
-                    additionalInfo.set("");
-                    chunksToMerge.clear();
+                        try {
+                            chunk.close();
+                        } finally {
+                            mergeIterator.close();
+                            additionalInfo.set("");
+                        }
+                    });
                 }
+                chunkTasks.awaitAll();
 
                 // it makes no sense to merge a single final chunk, just copy it over into the next round
                 final var last = m_chunks.poll();
@@ -0,0 +1,206 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Runs the CPU-bound part of producing temporary chunks (sorting a run, merging a group of chunks) on a sub pool of the
+ * {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool} while the calling thread keeps preparing work.
+ *
+ * <p>
+ * At most {@code parallelism} tasks are in flight, the calling thread blocks on the oldest one before it submits more.
+ * This bounds the memory held by pending in-memory runs. Tasks are completed strictly in submission order and their
+ * finishers (closing chunk containers, clearing consumed temporary tables) are always run by the calling thread, as
+ * the table repositories of the node are not thread-safe. Chunks are therefore handed to the {@link ChunksWriter} in
+ * the same order as in the sequential case, which keeps the merge stable and the output identical.
+ *
+ * <p>
+ * With a parallelism of {@code 1} no threads are used at all, tasks and finishers are run directly in
+ * {@link #submit(ChunkTask, Runnable)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ChunkTaskQueue implements AutoCloseable {
+
+    /** Work item producing one chunk. */
+    @FunctionalInterface
+    interface ChunkTask {
+        /**
+         * Computes the chunk.
+         *
+         * @throws CanceledExecutionException if the computation was canceled
+         */
+        void run() throws CanceledExecutionException;
+    }
+
+    private record PendingTask(Future<?> future, Runnable finisher) {
+    }
+
+    private final int m_parallelism;
+
+    private final ThreadPool m_pool;
+
+    private final Deque<PendingTask> m_pending = new ArrayDeque<>();
+
+    private final AtomicBoolean m_aborted = new AtomicBoolean();
+
+    /**
+     * @param parallelism maximum number of concurrently running tasks, must be at least 1
+     */
+    ChunkTaskQueue(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        m_parallelism = parallelism;
+        m_pool = parallelism > 1 ? KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(parallelism) : null;
+    }
+
+    /**
+     * Submits a task. If the maximum number of tasks is already in flight this method first waits for the oldest one
+     * to finish (and runs its finisher).
+     *
+     * @param task the task, possibly executed in a different thread
+     * @param finisher run in the calling thread once the task is done, also if it failed or was never started
+     * @throws CanceledExecutionException if this or an earlier task was canceled
+     */
+    void submit(final ChunkTask task, final Runnable finisher) throws CanceledExecutionException {
+        if (m_pool == null) {
+            try {
+                task.run();
+            } finally {
+                finisher.run();
+            }
+            return;
+        }
+        while (m_pending.size() >= m_parallelism) {
+            completeOldest();
+        }
+        final Callable<Void> callable = () -> {
+            if (!m_aborted.get()) {
+                task.run();
+            }
+            return null;
+        };
+        m_pending.add(new PendingTask(m_pool.enqueue(callable), finisher));
+    }
+
+    /**
+     * Waits for all submitted tasks to finish and runs their finishers in submission order.
+     *
+     * @throws CanceledExecutionException if one of the tasks was canceled
+     */
+    void awaitAll() throws CanceledExecutionException {
+        while (!m_pending.isEmpty()) {
+            completeOldest();
+        }
+    }
+
+    private void completeOldest() throws CanceledExecutionException {
+        final var pending = m_pending.poll();
+        try {
+            pending.future().get();
+        } catch (ExecutionException e) { // NOSONAR the cause is rethrown
+            final var cause = e.getCause();
+            if (cause instanceof CanceledExecutionException cee) {
+                throw cee;
+            } else if (cause instanceof RuntimeException re) {
+                throw re;
+            } else if (cause instanceof Error err) {
+                throw err;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) { // NOSONAR interrupt flag is restored
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while waiting for temporary table");
+        } finally {
+            pending.finisher().run();
+        }
+    }
+
+    /**
+     * Makes all tasks which have not yet started no-ops, waits for the running ones to finish and runs all outstanding
+     * finishers. Exceptions of the tasks are ignored as this is only reached if the sort is aborted anyway.
+     */
+    @Override
+    public void close() {
+        m_aborted.set(true);
+        var interrupted = false;
+        while (!m_pending.isEmpty()) {
+            final var pending = m_pending.poll();
+            try {
+                // the finisher must not run while the task still writes into its chunk, so keep waiting
+                var done = false;
+                while (!done) {
+                    try {
+                        pending.future().get();
+                        done = true;
+                    } catch (ExecutionException e) { // NOSONAR the caller propagates the original exception
+                        done = true;
+                    } catch (InterruptedException e) { // NOSONAR interrupt flag is restored below
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                pending.finisher().run();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,619 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.statistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.util.Pair;
+
+/**
+ * This class serves as a collection of mergeable sketches which approximate statistics of a column in a single pass
+ * over the data using bounded memory. All sketches can be updated independently (e.g. by different threads on
+ * disjoint parts of a table) and merged afterwards. They are not thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.3
+ * @noextend Not public API, for internal use only.
+ * @noreference Not public API, for internal use only.
+ */
+public final class StatisticsSketches {
+
+    private StatisticsSketches() {
+
+    }
+
+    /**
+     * Computes a 64-bit hash of a (non-missing) cell which, other than {@link DataCell#hashCode()}, is suitable for
+     * counting distinct values among billions of values.
+     *
+     * @param cell a non-missing cell
+     * @return its hash
+     */
+    static long hash64(final DataCell cell) {
+        long h;
+        if (cell instanceof DoubleValue dv && !(cell instanceof StringValue)) {
+            // + 0.0 to unify 0.0 and -0.0
+            h = Double.doubleToLongBits(dv.getDoubleValue() + 0.0);
+        } else if (cell instanceof StringValue sv) {
+            final String s = sv.getStringValue();
+            h = 0xcbf29ce484222325L ^ s.length();
+            for (int i = 0; i < s.length(); i++) {
+                h ^= s.charAt(i);
+                h *= 0x100000001b3L;
+            }
+        } else {
+            h = cell.hashCode();
+        }
+        // MurmurHash3 finalizer
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Exact count, sum, minimum, maximum, and the central moments up to order four of a numeric column, computed
+     * with the numerically stable update and merge formulas of Pébay (2008).
+     *
+     * @author KNIME AG, Zurich, Switzerland
+     */
+    public static final class MomentsSketch {
+
+        private long m_n;
+
+        private double m_sum;
+
+        private double m_min = Double.POSITIVE_INFINITY;
+
+        private double m_max = Double.NEGATIVE_INFINITY;
+
+        private double m_mean;
+
+        private double m_m2;
+
+        private double m_m3;
+
+        private double m_m4;
+
+        /**
+         * @param x the value to add, must not be NaN
+         */
+        public void update(final double x) {
+            final long n1 = m_n;
+            m_n++;
+            final double n = m_n;
+            final double delta = x - m_mean;
+            final double deltaN = delta / n;
+            final double deltaN2 = deltaN * deltaN;
+            final double term1 = delta * deltaN * n1;
+            m_mean += deltaN;
+            m_m4 += term1 * deltaN2 * (n * n - 3 * n + 3) + 6 * deltaN2 * m_m2 - 4 * deltaN * m_m3;
+            m_m3 += term1 * deltaN * (n - 2) - 3 * deltaN * m_m2;
+            m_m2 += term1;
+            m_sum += x;
+            m_min = Math.min(m_min, x);
+            m_max = Math.max(m_max, x);
+        }
+
+        /**
+         * @param other the sketch to merge into this one
+         */
+        public void merge(final MomentsSketch other) {
+            if (other.m_n == 0) {
+                return;
+            }
+            if (m_n == 0) {
+                m_n = other.m_n;
+                m_sum = other.m_sum;
+                m_min = other.m_min;
+                m_max = other.m_max;
+                m_mean = other.m_mean;
+                m_m2 = other.m_m2;
+                m_m3 = other.m_m3;
+                m_m4 = other.m_m4;
+                return;
+            }
+            final double na = m_n;
+            final double nb = other.m_n;
+            final double n = na + nb;
+            final double delta = other.m_mean - m_mean;
+            final double delta2 = delta * delta;
+            final double delta3 = delta2 * delta;
+            final double delta4 = delta2 * delta2;
+            final double m4 = m_m4 + other.m_m4 + delta4 * na * nb * (na * na - na * nb + nb * nb) / (n * n * n)
+                + 6 * delta2 * (na * na * other.m_m2 + nb * nb * m_m2) / (n * n)
+                + 4 * delta * (na * other.m_m3 - nb * m_m3) / n;
+            final double m3 = m_m3 + other.m_m3 + delta3 * na * nb * (na - nb) / (n * n)
+                + 3 * delta * (na * other.m_m2 - nb * m_m2) / n;
+            m_m2 += other.m_m2 + delta2 * na * nb / n;
+            m_m3 = m3;
+            m_m4 = m4;
+            m_mean += delta * nb / n;
+            m_n += other.m_n;
+            m_sum += other.m_sum;
+            m_min = Math.min(m_min, other.m_min);
+            m_max = Math.max(m_max, other.m_max);
+        }
+
+        /** @return the number of values */
+        public long getCount() {
+            return m_n;
+        }
+
+        /** @return the sum of the values */
+        public double getSum() {
+            return m_sum;
+        }
+
+        /** @return the smallest value or NaN if there are none */
+        public double getMin() {
+            return m_n == 0 ? Double.NaN : m_min;
+        }
+
+        /** @return the largest value or NaN if there are none */
+        public double getMax() {
+            return m_n == 0 ? Double.NaN : m_max;
+        }
+
+        /** @return the mean or NaN if there are no values */
+        public double getMean() {
+            return m_n == 0 ? Double.NaN : m_mean;
+        }
+
+        /** @return the sample variance (delta degrees of freedom 1) or NaN if there are less than two values */
+        public double getVariance() {
+            return m_n <= 1 ? Double.NaN : (m_m2 / (m_n - 1));
+        }
+
+        /**
+         * @return the third central moment divided by the cubed sample standard deviation, consistent with
+         *         {@link StatisticsExtractors.SkewnessExtractor}
+         */
+        public double getSkewness() {
+            return (m_m3 / m_n) / Math.pow(Math.sqrt(getVariance()), 3);
+        }
+
+        /**
+         * @return the unbiased kurtosis, consistent with {@link StatisticsExtractors.KurtosisExtractor}
+         */
+        public double getKurtosis() {
+            final double n = m_n;
+            final double biasedVariance = m_m2 / n;
+            final double g2 = (m_m4 / n) / (biasedVariance * biasedVariance) - 3;
+            return ((n + 1) * g2 + 6) * (n - 1) / ((n - 2) * (n - 3));
+        }
+    }
+
+    /**
+     * A KLL quantile sketch (Karnin, Lang, Liberty 2016) of a numeric column. The sketch keeps compactors of
+     * geometrically decreasing capacity; each compaction sorts a level and promotes every other value (with doubled
+     * weight) to the next level. The normalized rank error of a quantile is about {@code 2.4 / k^0.94}.
+     *
+     * @author KNIME AG, Zurich, Switzerland
+     */
+    public static final class QuantileSketch {
+
+        private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+        private final int m_k;
+
+        private final SplittableRandom m_random;
+
+        private final List<double[]> m_levels = new ArrayList<>();
+
+        private int[] m_sizes = new int[0];
+
+        private long m_n;
+
+        private int m_retained;
+
+        /**
+         * @param maxRankError the normalized rank error to aim for, e.g. 0.01, must be in (0, 1)
+         */
+        public QuantileSketch(final double maxRankError) {
+            this(kFromRankError(maxRankError), 0L);
+        }
+
+        private QuantileSketch(final int k, final long seed) {
+            m_k = k;
+            m_random = new SplittableRandom(seed);
+            addLevel();
+        }
+
+        private static int kFromRankError(final double maxRankError) {
+            if (!(maxRankError > 0 && maxRankError < 1)) {
+                throw new IllegalArgumentException("The rank error must be in (0, 1): " + maxRankError);
+            }
+            return Math.max(8, (int)Math.ceil(Math.pow(2.446 / maxRankError, 1 / 0.9433)));
+        }
+
+        private void addLevel() {
+            m_levels.add(new double[8]);
+            m_sizes = Arrays.copyOf(m_sizes, m_sizes.length + 1);
+        }
+
+        private int capacity(final int level) {
+            final int depth = m_levels.size() - 1 - level;
+            return Math.max(2, (int)Math.ceil(m_k * Math.pow(CAPACITY_DECAY, depth)));
+        }
+
+        private int totalCapacity() {
+            int total = 0;
+            for (int l = 0; l < m_levels.size(); l++) {
+                total += capacity(l);
+            }
+            return total;
+        }
+
+        private void append(final int level, final double x) {
+            double[] values = m_levels.get(level);
+            if (m_sizes[level] == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+                m_levels.set(level, values);
+            }
+            values[m_sizes[level]++] = x;
+            m_retained++;
+        }
+
+        /**
+         * @param x the value to add, must not be NaN
+         */
+        public void update(final double x) {
+            append(0, x);
+            m_n++;
+            compress();
+        }
+
+        /**
+         * @param other the sketch to merge into this one
+         */
+        public void merge(final QuantileSketch other) {
+            while (m_levels.size() < other.m_levels.size()) {
+                addLevel();
+            }
+            for (int l = 0; l < other.m_levels.size(); l++) {
+                final double[] values = other.m_levels.get(l);
+                for (int i = 0; i < other.m_sizes[l]; i++) {
+                    append(l, values[i]);
+                }
+            }
+            m_n += other.m_n;
+            compress();
+        }
+
+        private void compress() {
+            while (m_retained > totalCapacity()) {
+                for (int l = 0; l < m_levels.size(); l++) {
+                    if (m_sizes[l] >= capacity(l)) {
+                        compact(l);
+                        break;
+                    }
+                }
+            }
+        }
+
+        /** Sorts the level and promotes every other value to the next level, keeping one value if the size is odd. */
+        private void compact(final int level) {
+            if (level + 1 == m_levels.size()) {
+                addLevel();
+            }
+            final double[] values = m_levels.get(level);
+            int size = m_sizes[level];
+            Arrays.sort(values, 0, size);
+            m_retained -= size;
+            m_sizes[level] = 0;
+            final boolean isOdd = (size & 1) == 1;
+            if (isOdd) {
+                // the largest value stays on this level
+                size--;
+            }
+            final int offset = m_random.nextBoolean() ? 1 : 0;
+            for (int i = offset; i < size; i += 2) {
+                append(level + 1, values[i]);
+            }
+            if (isOdd) {
+                append(level, values[size]);
+            }
+        }
+
+        /** @return the number of values added */
+        public long getCount() {
+            return m_n;
+        }
+
+        /** @return the retained values and their weights, sorted by value */
+        private Pair<double[], long[]> getSortedView() {
+            final Integer[] order = new Integer[m_retained];
+            final double[] values = new double[m_retained];
+            final long[] weights = new long[m_retained];
+            int i = 0;
+            for (int l = 0; l < m_levels.size(); l++) {
+                final double[] levelValues = m_levels.get(l);
+                for (int j = 0; j < m_sizes[l]; j++) {
+                    values[i] = levelValues[j];
+                    weights[i] = 1L << l;
+                    order[i] = i;
+                    i++;
+                }
+            }
+            Arrays.sort(order, Comparator.comparingDouble(o -> values[o]));
+            final double[] sortedValues = new double[m_retained];
+            final long[] sortedWeights = new long[m_retained];
+            for (int j = 0; j < m_retained; j++) {
+                sortedValues[j] = values[order[j]];
+                sortedWeights[j] = weights[order[j]];
+            }
+            return new Pair<>(sortedValues, sortedWeights);
+        }
+
+        /**
+         * @param fractions the quantiles to estimate, each in [0, 1]
+         * @return the estimated quantiles (null if the sketch is empty)
+         */
+        public Double[] getQuantiles(final double... fractions) {
+            final Double[] result = new Double[fractions.length];
+            if (m_n == 0) {
+                return result;
+            }
+            final Pair<double[], long[]> view = getSortedView();
+            final double[] values = view.getFirst();
+            final long[] weights = view.getSecond();
+            for (int f = 0; f < fractions.length; f++) {
+                final double rank = Math.max(1, Math.ceil(fractions[f] * m_n));
+                long cumulative = 0;
+                int i = 0;
+                while (i < values.length - 1 && cumulative + weights[i] < rank) {
+                    cumulative += weights[i];
+                    i++;
+                }
+                result[f] = values[i];
+            }
+            return result;
+        }
+
+        /**
+         * Estimates the mean absolute deviation around the given center from the retained values and their weights.
+         *
+         * @param center e.g. the mean of the values
+         * @return the estimated mean absolute deviation or NaN if the sketch is empty
+         */
+        public double getMeanAbsoluteDeviation(final double center) {
+            if (m_n == 0) {
+                return Double.NaN;
+            }
+            double sum = 0;
+            for (int l = 0; l < m_levels.size(); l++) {
+                final double[] levelValues = m_levels.get(l);
+                for (int j = 0; j < m_sizes[l]; j++) {
+                    sum += Math.abs(levelValues[j] - center) * (1L << l);
+                }
+            }
+            return sum / m_n;
+        }
+    }
+
+    /**
+     * A HyperLogLog sketch (Flajolet et al. 2007) counting the distinct values of a column. Up to a few thousand
+     * distinct values, their 64-bit hashes are kept explicitly, which makes the count exact in practice; beyond, the
+     * relative standard error is {@code 1.04 / sqrt(2^precision)}.
+     *
+     * @author KNIME AG, Zurich, Switzerland
+     */
+    public static final class DistinctCountSketch {
+
+        private static final int MAX_EXPLICIT_HASHES = 4096;
+
+        private final int m_precision;
+
+        private Set<Long> m_hashes = new HashSet<>();
+
+        private byte[] m_registers;
+
+        /**
+         * @param maxRelativeError the relative standard error to aim for, e.g. 0.01, must be in (0, 1)
+         */
+        public DistinctCountSketch(final double maxRelativeError) {
+            if (!(maxRelativeError > 0 && maxRelativeError < 1)) {
+                throw new IllegalArgumentException("The relative error must be in (0, 1): " + maxRelativeError);
+            }
+            final double m = Math.pow(1.04 / maxRelativeError, 2);
+            m_precision = Math.max(4, Math.min(18, (int)Math.ceil(Math.log(m) / Math.log(2))));
+        }
+
+        /**
+         * @param cell a non-missing cell
+         */
+        public void update(final DataCell cell) {
+            updateHash(hash64(cell));
+        }
+
+        private void updateHash(final long hash) {
+            if (m_hashes != null) {
+                m_hashes.add(hash);
+                if (m_hashes.size() > MAX_EXPLICIT_HASHES) {
+                    toRegisters();
+                }
+                return;
+            }
+            final int index = (int)(hash >>> (64 - m_precision));
+            final int rank = Long.numberOfLeadingZeros((hash << m_precision) | (1L << (m_precision - 1))) + 1;
+            if (rank > m_registers[index]) {
+                m_registers[index] = (byte)rank;
+            }
+        }
+
+        private void toRegisters() {
+            final Set<Long> hashes = m_hashes;
+            m_hashes = null;
+            m_registers = new byte[1 << m_precision];
+            hashes.forEach(this::updateHash);
+        }
+
+        /**
+         * @param other the sketch to merge into this one, must have been created with the same error
+         */
+        public void merge(final DistinctCountSketch other) {
+            if (other.m_precision != m_precision) {
+                throw new IllegalArgumentException("Sketches of different precision cannot be merged");
+            }
+            if (other.m_hashes != null) {
+                other.m_hashes.forEach(this::updateHash);
+                return;
+            }
+            if (m_hashes != null) {
+                toRegisters();
+            }
+            for (int i = 0; i < m_registers.length; i++) {
+                m_registers[i] = (byte)Math.max(m_registers[i], other.m_registers[i]);
+            }
+        }
+
+        /** @return the estimated number of distinct values */
+        public long getEstimate() {
+            if (m_hashes != null) {
+                return m_hashes.size();
+            }
+            final int m = m_registers.length;
+            double sum = 0;
+            int zeros = 0;
+            for (byte register : m_registers) {
+                sum += 1.0 / (1L << register);
+                if (register == 0) {
+                    zeros++;
+                }
+            }
+            final double alpha = 0.7213 / (1 + 1.079 / m);
+            final double estimate = alpha * m * m / sum;
+            if (estimate <= 2.5 * m && zeros > 0) {
+                // linear counting for small cardinalities
+                return Math.round(m * Math.log((double)m / zeros));
+            }
+            return Math.round(estimate);
+        }
+    }
+
+    /**
+     * A Misra-Gries heavy hitters sketch tracking at most {@code capacity} values of a column. Counts are exact if the
+     * column has no more than {@code capacity} distinct values, otherwise they are underestimated by at most
+     * {@code n / (capacity + 1)}.
+     *
+     * @author KNIME AG, Zurich, Switzerland
+     */
+    public static final class HeavyHittersSketch {
+
+        private final int m_capacity;
+
+        private final Map<DataCell, Long> m_counters = new HashMap<>();
+
+        /**
+         * @param capacity the maximum number of tracked values, must be positive
+         */
+        public HeavyHittersSketch(final int capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+            }
+            m_capacity = capacity;
+        }
+
+        /**
+         * @param cell a non-missing cell
+         */
+        public void update(final DataCell cell) {
+            final Long count = m_counters.get(cell);
+            if (count != null) {
+                m_counters.put(cell, count + 1);
+            } else if (m_counters.size() < m_capacity) {
+                m_counters.put(cell, 1L);
+            } else {
+                decrementAll(1);
+            }
+        }
+
+        private void decrementAll(final long amount) {
+            m_counters.replaceAll((cell, count) -> count - amount);
+            m_counters.values().removeIf(count -> count <= 0);
+        }
+
+        /**
+         * @param other the sketch to merge into this one
+         */
+        public void merge(final HeavyHittersSketch other) {
+            other.m_counters.forEach((cell, count) -> m_counters.merge(cell, count, Long::sum));
+            if (m_counters.size() > m_capacity) {
+                final long[] counts = m_counters.values().stream().mapToLong(Long::longValue).sorted().toArray();
+                // the (capacity + 1)-th largest count
+                decrementAll(counts[counts.length - 1 - m_capacity]);
+            }
+        }
+
+        /**
+         * @param numValues the maximum number of values to return
+         * @return the most frequent values and their (estimated) counts, in descending order of the counts
+         */
+        public List<Pair<DataCell, Long>> getMostFrequentValues(final int numValues) {
+            return m_counters.entrySet().stream() //
+                .sorted(Map.Entry.<DataCell, Long> comparingByValue().reversed()) //
+                .limit(numValues) //
+                .map(e -> new Pair<>(e.getKey(), e.getValue())) //
+                .toList();
+        }
+    }
+}
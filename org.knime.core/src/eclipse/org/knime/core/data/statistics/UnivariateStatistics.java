@@ -51,11 +51,19 @@
 import static org.knime.core.data.v2.RowReadUtil.readStringValue;
 import static org.knime.core.data.v2.TableExtractorUtil.extractData;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -63,12 +71,14 @@
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValue;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.StringValue;
 import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
@@ -91,11 +101,17 @@
 import org.knime.core.data.statistics.StatisticsExtractors.StandardDeviationExtractor;
 import org.knime.core.data.statistics.StatisticsExtractors.ThirdQuartileExtractor;
 import org.knime.core.data.statistics.StatisticsExtractors.VarianceExtractor;
+import org.knime.core.data.statistics.StatisticsSketches.DistinctCountSketch;
+import org.knime.core.data.statistics.StatisticsSketches.HeavyHittersSketch;
+import org.knime.core.data.statistics.StatisticsSketches.MomentsSketch;
+import org.knime.core.data.statistics.StatisticsSketches.QuantileSketch;
 import org.knime.core.data.v2.RowRead;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.util.Pair;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Compute univariate statistics for a given double or string column.
@@ -114,6 +130,12 @@ public final class UnivariateStatistics {
         EnumSet.of(Statistic.QUANTILE_1, Statistic.QUANTILE_5, Statistic.QUANTILE_10, Statistic.QUANTILE_90,
             Statistic.QUANTILE_95, Statistic.QUANTILE_99, Statistic.VARIANCE, Statistic.SKEWNESS, Statistic.KURTOSIS);
 
+    /** The number of rows handed to a thread at once when computing approximate statistics. */
+    private static final int SKETCH_BATCH_SIZE = 1 << 10;
+
+    /** The quantiles reported as {@link Statistic#QUANTILE_1} to {@link Statistic#QUANTILE_99}. */
+    private static final double[] QUANTILES = {0.01, 0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99};
+
     private String m_name;
 
     private String m_type;
@@ -356,6 +378,255 @@ public static BufferedDataTable computeStatisticsTable(final BufferedDataTable i
         return statisticsTable.getTable();
     }
 
+    /**
+     * The accuracy of the sketches used by
+     * {@link UnivariateStatistics#computeApproximateStatisticsTable(BufferedDataTable, String[], ExecutionContext, Collection, Approximation)}.
+     *
+     * @param quantileRankError the normalized rank error of the quantiles, e.g. 0.01 for quantiles whose rank is off by
+     *            about 1% of the number of values; must be in (0, 1)
+     * @param uniqueValuesError the relative standard error of the number of unique values; must be in (0, 1)
+     * @param mostCommonValuesCapacity the number of values tracked to determine the most common values; their counts
+     *            are exact if a column has at most this many unique values and are otherwise underestimated by at most
+     *            the number of values divided by the capacity
+     * @since 5.3
+     */
+    public record Approximation(double quantileRankError, double uniqueValuesError, int mostCommonValuesCapacity) {
+
+        /** 1% quantile rank error, 1% unique values error, and 1000 values tracked for the most common values. */
+        public static final Approximation DEFAULT = new Approximation(0.01, 0.01, 1000);
+
+        /**
+         * @param quantileRankError see {@link Approximation}
+         * @param uniqueValuesError see {@link Approximation}
+         * @param mostCommonValuesCapacity see {@link Approximation}
+         */
+        public Approximation {
+            if (!(quantileRankError > 0 && quantileRankError < 1)) {
+                throw new IllegalArgumentException("The quantile rank error must be in (0, 1): " + quantileRankError);
+            }
+            if (!(uniqueValuesError > 0 && uniqueValuesError < 1)) {
+                throw new IllegalArgumentException("The unique values error must be in (0, 1): " + uniqueValuesError);
+            }
+            if (mostCommonValuesCapacity < 10) {
+                throw new IllegalArgumentException(
+                    "At least 10 values must be tracked for the most common values: " + mostCommonValuesCapacity);
+            }
+        }
+    }
+
+    /**
+     * Approximates statistics for selected columns in the input table. Other than
+     * {@link #computeStatisticsTable(BufferedDataTable, String[], ExecutionContext, Collection)}, neither sorts nor
+     * splits the table but reads it once, with several threads updating mergeable sketches of all columns: quantiles
+     * and the mean absolute deviation are estimated with KLL sketches, the number of unique values with HyperLogLog,
+     * and the most common values with a Misra-Gries sketch. The number of missing values, minimum, maximum, mean, sum,
+     * standard deviation, variance, skewness, and kurtosis are exact (up to rounding).
+     *
+     * @param inputTable The table for whose columns to compute statistics
+     * @param selectedColumns The column names of the input table for which to compute statistics
+     * @param executionContext Execution context
+     * @param selectedStatistics The statistics to include
+     * @param approximation The accuracy of the sketches
+     * @return A table in which each row corresponds to statistics about a selected column in the input table
+     * @throws CanceledExecutionException If cancelled
+     * @since 5.3
+     */
+    public static BufferedDataTable computeApproximateStatisticsTable(final BufferedDataTable inputTable,
+        final String[] selectedColumns, final ExecutionContext executionContext,
+        final Collection<Statistic> selectedStatistics, final Approximation approximation)
+        throws CanceledExecutionException {
+        final var spec = inputTable.getDataTableSpec();
+        final var eligibleCols = Arrays.stream(selectedColumns)//
+            .filter(name -> {
+                var type = spec.getColumnSpec(name).getType();
+                return type.isCompatible(DoubleValue.class) || type.isCompatible(StringValue.class);
+            })//
+            .toArray(String[]::new);
+
+        final var statisticsTable = executionContext.createDataContainer(getStatisticsTableSpec(selectedStatistics));
+        if (eligibleCols.length > 0) {
+            final var colIndices = spec.columnsToIndices(eligibleCols);
+            final var sketches = computeSketches(inputTable, colIndices, approximation, executionContext);
+            for (int i = 0; i < eligibleCols.length; i++) {
+                final var statistics = fromSketches(spec.getColumnSpec(colIndices[i]), sketches[i]);
+                statisticsTable.addRowToTable(StatisticsTableUtil.createTableRow(statistics, selectedStatistics));
+            }
+        }
+        statisticsTable.close();
+        return statisticsTable.getTable();
+    }
+
+    /**
+     * Reads the table once, handing batches of rows to threads of the global thread pool. Each thread updates its own
+     * sketches, which are merged in the end.
+     */
+    private static ColumnSketches[] computeSketches(final BufferedDataTable table, final int[] colIndices,
+        final Approximation approximation, final ExecutionContext exec) throws CanceledExecutionException {
+        final var spec = table.getDataTableSpec();
+        final var nrThreads = Math.max(1, Math.min(KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads(),
+            Runtime.getRuntime().availableProcessors()));
+        final var pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(nrThreads);
+        final Queue<ColumnSketches[]> idleSketches = new ConcurrentLinkedQueue<>();
+        final List<ColumnSketches[]> allSketches = Collections.synchronizedList(new ArrayList<>());
+        final Deque<Future<Void>> pending = new ArrayDeque<>();
+        final var size = Math.max(1, table.size());
+        long rowCount = 0;
+        try (var iterator = table.filter(TableFilter.materializeCols(colIndices)).iterator()) {
+            List<DataRow> batch = new ArrayList<>(SKETCH_BATCH_SIZE);
+            while (iterator.hasNext()) {
+                exec.checkCanceled();
+                batch.add(iterator.next());
+                rowCount++;
+                if (batch.size() == SKETCH_BATCH_SIZE || !iterator.hasNext()) {
+                    final var rows = batch;
+                    pending.add(pool.enqueue(() -> {
+                        var sketches = idleSketches.poll();
+                        if (sketches == null) {
+                            sketches = new ColumnSketches[colIndices.length];
+                            for (int i = 0; i < colIndices.length; i++) {
+                                sketches[i] = new ColumnSketches(spec.getColumnSpec(colIndices[i]), approximation);
+                            }
+                            allSketches.add(sketches);
+                        }
+                        try {
+                            for (DataRow row : rows) {
+                                for (int i = 0; i < colIndices.length; i++) {
+                                    sketches[i].update(row.getCell(colIndices[i]));
+                                }
+                            }
+                        } finally {
+                            idleSketches.add(sketches);
+                        }
+                        return null;
+                    }));
+                    batch = new ArrayList<>(SKETCH_BATCH_SIZE);
+                    while (pending.size() > 2 * nrThreads) {
+                        waitFor(pending.poll());
+                    }
+                    exec.setProgress(rowCount / (double)size);
+                }
+            }
+            while (!pending.isEmpty()) {
+                waitFor(pending.poll());
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+
+        final var result = new ColumnSketches[colIndices.length];
+        for (int i = 0; i < colIndices.length; i++) {
+            result[i] = new ColumnSketches(spec.getColumnSpec(colIndices[i]), approximation);
+            for (ColumnSketches[] sketches : allSketches) {
+                result[i].merge(sketches[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Waits for the future. The futures of a {@link ThreadPool} don't occupy a slot of the calling thread's pool (if
+     * any) while waiting.
+     */
+    private static void waitFor(final Future<Void> future) throws CanceledExecutionException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while computing statistics");
+        } catch (ExecutionException e) {
+            final var cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Failed to compute statistics: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static UnivariateStatistics fromSketches(final DataColumnSpec colSpec, final ColumnSketches sketches) {
+        final var statistics = new UnivariateStatistics();
+        statistics.setName(colSpec.getName());
+        statistics.setType(colSpec.getType());
+        statistics.setNumberMissingValues(sketches.m_numberMissingValues);
+        statistics.setNumberUniqueValues(sketches.m_uniqueValues.getEstimate());
+        statistics.setCommonValues(formatMostFrequentValues(sketches.m_commonValues.getMostFrequentValues(10).stream()
+            .map(p -> new Pair<DataValue, Long>(p.getFirst(), p.getSecond())).toList(), colSpec.getType(),
+            sketches.m_numberValues));
+        final var moments = sketches.m_moments;
+        if (moments != null && moments.getCount() > 0) {
+            final var mean = moments.getMean();
+            final var variance = moments.getVariance();
+            statistics.setMin(moments.getMin());
+            statistics.setMax(moments.getMax());
+            statistics.setMean(mean);
+            statistics.setSum(moments.getSum());
+            statistics.setQuantiles(sketches.m_quantiles.getQuantiles(QUANTILES));
+            statistics.setMeanAbsoluteDeviation(sketches.m_quantiles.getMeanAbsoluteDeviation(mean));
+            statistics.setStandardDeviation(Math.sqrt(variance));
+            statistics.setVariance(variance);
+            statistics.setSkewness(moments.getSkewness());
+            statistics.setKurtosis(moments.getKurtosis());
+        }
+        return statistics;
+    }
+
+    /**
+     * Sketches of a single column. Like the exact computation, ignores missing values (other than counting them) and
+     * NaN.
+     */
+    private static final class ColumnSketches {
+
+        private final MomentsSketch m_moments;
+
+        private final QuantileSketch m_quantiles;
+
+        private final DistinctCountSketch m_uniqueValues;
+
+        private final HeavyHittersSketch m_commonValues;
+
+        private long m_numberMissingValues;
+
+        private long m_numberValues;
+
+        ColumnSketches(final DataColumnSpec colSpec, final Approximation approximation) {
+            final var isNumeric = !colSpec.getType().isCompatible(StringValue.class);
+            m_moments = isNumeric ? new MomentsSketch() : null;
+            m_quantiles = isNumeric ? new QuantileSketch(approximation.quantileRankError()) : null;
+            m_uniqueValues = new DistinctCountSketch(approximation.uniqueValuesError());
+            m_commonValues = new HeavyHittersSketch(approximation.mostCommonValuesCapacity());
+        }
+
+        void update(final DataCell cell) {
+            if (cell.isMissing()) {
+                m_numberMissingValues++;
+                return;
+            }
+            if (cell instanceof DoubleValue dv) {
+                final var value = dv.getDoubleValue();
+                if (Double.isNaN(value)) {
+                    return;
+                }
+                if (m_moments != null) {
+                    m_moments.update(value);
+                    m_quantiles.update(value);
+                }
+            }
+            m_numberValues++;
+            m_uniqueValues.update(cell);
+            m_commonValues.update(cell);
+        }
+
+        void merge(final ColumnSketches other) {
+            if (m_moments != null) {
+                m_moments.merge(other.m_moments);
+                m_quantiles.merge(other.m_quantiles);
+            }
+            m_uniqueValues.merge(other.m_uniqueValues);
+            m_commonValues.merge(other.m_commonValues);
+            m_numberMissingValues += other.m_numberMissingValues;
+            m_numberValues += other.m_numberValues;
+        }
+    }
+
     /**
      * Given some selected statistics, it returns the table specification of the resulting statistics table.
      *
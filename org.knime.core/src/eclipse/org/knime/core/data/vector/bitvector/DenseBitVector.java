@@ -1251,14 +1251,208 @@ public String dumpBits() {
         return result.toString();
     }
 
+    /**
+     * Sets the bits of this vector to the result of the AND operation with the argument vector, without creating a
+     * new instance. Bits beyond the length of the argument are cleared. The length of this vector doesn't change.
+     *
+     * @param bv the vector to AND this one with
+     * @see #and(DenseBitVector)
+     * @since 5.3
+     */
+    public void andInPlace(final DenseBitVector bv) {
+        assert (checkConsistency() == null);
+        if (isEmpty()) {
+            return;
+        }
+        int startAddr = bv.isEmpty() ? m_lastAddr + 1 : Math.max(m_firstAddr, bv.m_firstAddr);
+        int endAddr = bv.isEmpty() ? m_lastAddr : Math.min(m_lastAddr, bv.m_lastAddr);
+        if (startAddr > endAddr) {
+            Arrays.fill(m_storage, m_firstAddr, m_lastAddr + 1, 0L);
+            m_firstAddr = -1;
+            m_lastAddr = Integer.MAX_VALUE;
+            assert (checkConsistency() == null);
+            return;
+        }
+        // outside the used address range of the argument the result is zero
+        Arrays.fill(m_storage, m_firstAddr, startAddr, 0L);
+        Arrays.fill(m_storage, endAddr + 1, m_lastAddr + 1, 0L);
+        long[] otherStorage = bv.m_storage;
+        for (int i = startAddr; i <= endAddr; i++) {
+            m_storage[i] &= otherStorage[i];
+        }
+        updateBitAddresses(startAddr, endAddr);
+        assert (checkConsistency() == null);
+    }
+
+    /**
+     * Sets the bits of this vector to the result of the OR operation with the argument vector, without creating a
+     * new instance. The argument must not be longer than this vector.
+     *
+     * @param bv the vector to OR this one with
+     * @throws IllegalArgumentException if the argument is longer than this vector
+     * @see #or(DenseBitVector)
+     * @since 5.3
+     */
+    public void orInPlace(final DenseBitVector bv) {
+        assert (checkConsistency() == null);
+        checkInPlaceOperandLength(bv);
+        if (bv.isEmpty()) {
+            return;
+        }
+        long[] otherStorage = bv.m_storage;
+        for (int i = bv.m_firstAddr; i <= bv.m_lastAddr; i++) {
+            m_storage[i] |= otherStorage[i];
+        }
+        if (isEmpty()) {
+            m_firstAddr = bv.m_firstAddr;
+            m_lastAddr = bv.m_lastAddr;
+        } else {
+            m_firstAddr = Math.min(m_firstAddr, bv.m_firstAddr);
+            m_lastAddr = Math.max(m_lastAddr, bv.m_lastAddr);
+        }
+        assert (checkConsistency() == null);
+    }
+
+    /**
+     * Sets the bits of this vector to the result of the XOR operation with the argument vector, without creating a
+     * new instance. The argument must not be longer than this vector.
+     *
+     * @param bv the vector to XOR this one with
+     * @throws IllegalArgumentException if the argument is longer than this vector
+     * @see #xor(DenseBitVector)
+     * @since 5.3
+     */
+    public void xorInPlace(final DenseBitVector bv) {
+        assert (checkConsistency() == null);
+        checkInPlaceOperandLength(bv);
+        if (bv.isEmpty()) {
+            return;
+        }
+        long[] otherStorage = bv.m_storage;
+        for (int i = bv.m_firstAddr; i <= bv.m_lastAddr; i++) {
+            m_storage[i] ^= otherStorage[i];
+        }
+        if (isEmpty()) {
+            updateBitAddresses(bv.m_firstAddr, bv.m_lastAddr);
+        } else {
+            updateBitAddresses(Math.min(m_firstAddr, bv.m_firstAddr), Math.max(m_lastAddr, bv.m_lastAddr));
+        }
+        assert (checkConsistency() == null);
+    }
+
+    private void checkInPlaceOperandLength(final DenseBitVector bv) {
+        if (bv.m_length > m_length) {
+            throw new IllegalArgumentException("Operand of length " + bv.m_length
+                + " doesn't fit into vector of length " + m_length);
+        }
+    }
+
+    /**
+     * Sets m_firstAddr and m_lastAddr to the first and last storage location within the given (inclusive) range
+     * that contains a one. All storage locations outside the range must be zero.
+     */
+    private void updateBitAddresses(final int startAddr, final int endAddr) {
+        int first = startAddr;
+        while (first <= endAddr && m_storage[first] == 0) {
+            first++;
+        }
+        if (first > endAddr) {
+            m_firstAddr = -1;
+            m_lastAddr = Integer.MAX_VALUE;
+            return;
+        }
+        int last = endAddr;
+        while (m_storage[last] == 0) {
+            last--;
+        }
+        m_firstAddr = first;
+        m_lastAddr = last;
+    }
+
+    /**
+     * Computes the cardinality of the union with the given vector, i.e. the number of bits set in this or in the
+     * argument vector. Same as <code>or(bv).cardinality()</code> but without creating the intermediate vector.
+     *
+     * @param bv the other operand
+     * @return the cardinality of the union
+     * @since 5.3
+     */
+    public long cardinalityOfUnion(final DenseBitVector bv) {
+        return cardinality() + bv.cardinality() - cardinalityOfIntersection(bv);
+    }
+
+    /**
+     * Computes the Hamming distance to the given vector, i.e. the number of positions at which exactly one of the
+     * vectors has a bit set. Same as <code>xor(bv).cardinality()</code> but without creating the intermediate
+     * vector.
+     *
+     * @param bv the other operand
+     * @return the Hamming distance
+     * @since 5.3
+     */
+    public long hammingDistance(final DenseBitVector bv) {
+        return cardinality() + bv.cardinality() - 2 * cardinalityOfIntersection(bv);
+    }
+
+    /**
+     * Computes the Tanimoto (or Jaccard) similarity with the given vector, which is the cardinality of the
+     * intersection divided by the cardinality of the union. Two empty vectors have a similarity of 1.
+     *
+     * @param bv the vector to compare with
+     * @return the Tanimoto similarity, a value between 0 and 1
+     * @see DenseBitVectorSimilarity
+     * @since 5.3
+     */
+    public double tanimotoSimilarity(final DenseBitVector bv) {
+        return tanimotoSimilarity(bv, cardinality());
+    }
+
+    /**
+     * Computes the Tanimoto similarity with the given vector, where the cardinality of this vector is already known.
+     * The cardinality of the argument and the cardinality of the intersection are counted in a single pass over the
+     * used address range of the argument.
+     *
+     * @param bv the vector to compare with
+     * @param cardinality the cardinality of this vector
+     * @return the Tanimoto similarity
+     */
+    double tanimotoSimilarity(final DenseBitVector bv, final long cardinality) {
+        long otherCardinality = 0;
+        long intersection = 0;
+        if (!bv.isEmpty()) {
+            long[] otherStorage = bv.m_storage;
+            int startAddr = bv.m_firstAddr;
+            int endAddr = startAddr - 1;
+            if (!isEmpty()) {
+                startAddr = Math.max(m_firstAddr, bv.m_firstAddr);
+                endAddr = Math.min(m_lastAddr, bv.m_lastAddr);
+            }
+            int i = bv.m_firstAddr;
+            for (int end = Math.min(startAddr, bv.m_lastAddr + 1); i < end; i++) {
+                otherCardinality += Long.bitCount(otherStorage[i]);
+            }
+            for (; i <= endAddr; i++) {
+                long word = otherStorage[i];
+                otherCardinality += Long.bitCount(word);
+                intersection += Long.bitCount(word & m_storage[i]);
+            }
+            for (; i <= bv.m_lastAddr; i++) {
+                otherCardinality += Long.bitCount(otherStorage[i]);
+            }
+        }
+        long union = cardinality + otherCardinality - intersection;
+        return union == 0 ? 1.0 : intersection / (double)union;
+    }
+
     /**
      * Computes the cardinality of the intersection with the given bitVector.
      *
      * @see BitVectorUtil#cardinalityOfIntersection(BitVectorValue, BitVectorValue)
      * @param bitVector the other operand for the AND operator
      * @return the cardinality of the intersection
+     * @since 5.3
      */
-    long cardinalityOfIntersection(final DenseBitVector bitVector) {
+    public long cardinalityOfIntersection(final DenseBitVector bitVector) {
         if (isEmpty() || bitVector.isEmpty()) {
             return 0;
         }
@@ -157,6 +157,13 @@ public DenseBitVector getBitVectorCopy() {
         return new DenseBitVector(m_bitVector);
     }
 
+    /**
+     * @return the internal dense bit vector, must not be modified
+     */
+    DenseBitVector getBitVector() {
+        return m_bitVector;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -273,6 +280,12 @@ public void serialize(final DenseBitVectorCell cell, final DataCellDataOutput ou
             }
         }
 
+        @Override
+        public long estimateRetainedSize(final DenseBitVectorCell cell) {
+            // cell, vector and array headers plus one long per 64 bits
+            return 72 + 8 * ((cell.length() + 63) / 64);
+        }
+
         /**
          * {@inheritDoc}
          */
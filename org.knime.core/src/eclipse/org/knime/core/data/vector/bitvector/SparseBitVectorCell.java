@@ -282,6 +282,12 @@ public void serialize(final SparseBitVectorCell cell,
             }
         }
 
+        @Override
+        public long estimateRetainedSize(final SparseBitVectorCell cell) {
+            // cell, vector and array headers plus one long per set bit
+            return 72 + 8 * cell.cardinality();
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -494,6 +494,149 @@ public int[] getAllCounts() {
         return result;
     }
 
+    /**
+     * Adds the counts of the argument vector to the counts of this vector, without creating a new instance. The
+     * argument must not be longer than this vector.
+     *
+     * @param bv the vector to add to this one
+     * @param remainder if true and the sum at a position is larger than 255, the count is set to the remainder when
+     *            divided by 256 - if false, the count is set to 255 if the sum is larger than 255.
+     * @throws IllegalArgumentException if the argument is longer than this vector
+     * @see #add(DenseByteVector, boolean)
+     * @since 5.3
+     */
+    public void addInPlace(final DenseByteVector bv, final boolean remainder) {
+        checkInPlaceOperandLength(bv);
+        byte[] other = bv.m_storage;
+        if (remainder) {
+            for (int i = 0; i < other.length; i++) {
+                m_storage[i] += other[i];
+            }
+        } else {
+            for (int i = 0; i < other.length; i++) {
+                m_storage[i] = (byte)Math.min(MAX_COUNT, (m_storage[i] & 0x0FF) + (other[i] & 0x0FF));
+            }
+        }
+    }
+
+    /**
+     * Sets each count of this vector to the maximum of its count and the count of the argument vector at the same
+     * position, without creating a new instance. The argument must not be longer than this vector.
+     *
+     * @param bv the vector to compute the maximum with (position-wise)
+     * @throws IllegalArgumentException if the argument is longer than this vector
+     * @see #max(DenseByteVector)
+     * @since 5.3
+     */
+    public void maxInPlace(final DenseByteVector bv) {
+        checkInPlaceOperandLength(bv);
+        byte[] other = bv.m_storage;
+        for (int i = 0; i < other.length; i++) {
+            if ((other[i] & 0x0FF) > (m_storage[i] & 0x0FF)) {
+                m_storage[i] = other[i];
+            }
+        }
+    }
+
+    /**
+     * Sets each count of this vector to the minimum of its count and the count of the argument vector at the same
+     * position, without creating a new instance. Counts at positions beyond the length of the argument are set to
+     * zero.
+     *
+     * @param bv the vector to compute the minimum with (position-wise)
+     * @see #min(DenseByteVector)
+     * @since 5.3
+     */
+    public void minInPlace(final DenseByteVector bv) {
+        byte[] other = bv.m_storage;
+        int length = Math.min(m_storage.length, other.length);
+        for (int i = 0; i < length; i++) {
+            if ((other[i] & 0x0FF) < (m_storage[i] & 0x0FF)) {
+                m_storage[i] = other[i];
+            }
+        }
+        Arrays.fill(m_storage, length, m_storage.length, (byte)0);
+    }
+
+    private void checkInPlaceOperandLength(final DenseByteVector bv) {
+        if (bv.m_storage.length > m_storage.length) {
+            throw new IllegalArgumentException("Operand of length " + bv.m_storage.length
+                + " doesn't fit into vector of length " + m_storage.length);
+        }
+    }
+
+    /**
+     * Computes the sum of the position-wise minimum of the counts of this and the argument vector. Same as
+     * <code>min(bv).sumOfAllCounts()</code> but without creating the intermediate vector.
+     *
+     * @param bv the other operand
+     * @return the sum of the minimum counts
+     * @since 5.3
+     */
+    public long sumOfMin(final DenseByteVector bv) {
+        byte[] other = bv.m_storage;
+        int length = Math.min(m_storage.length, other.length);
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            result += Math.min(m_storage[i] & 0x0FF, other[i] & 0x0FF);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the sum of the position-wise maximum of the counts of this and the argument vector. Same as
+     * <code>max(bv).sumOfAllCounts()</code> but without creating the intermediate vector.
+     *
+     * @param bv the other operand
+     * @return the sum of the maximum counts
+     * @since 5.3
+     */
+    public long sumOfMax(final DenseByteVector bv) {
+        // max(a, b) = a + b - min(a, b)
+        return sumOfAllCounts() + bv.sumOfAllCounts() - sumOfMin(bv);
+    }
+
+    /**
+     * Computes the (weighted) Tanimoto similarity with the given vector, which is the sum of the position-wise
+     * minimum of the counts divided by the sum of the position-wise maximum. For vectors containing only zeros and
+     * ones this is the same as the Tanimoto similarity of bit vectors. Two vectors containing only zeros have a
+     * similarity of 1.
+     *
+     * @param bv the vector to compare with
+     * @return the Tanimoto similarity, a value between 0 and 1
+     * @see DenseByteVectorSimilarity
+     * @since 5.3
+     */
+    public double tanimotoSimilarity(final DenseByteVector bv) {
+        return tanimotoSimilarity(bv, sumOfAllCounts());
+    }
+
+    /**
+     * Computes the Tanimoto similarity with the given vector, where the sum of the counts of this vector is already
+     * known. The sum of the counts of the argument and the sum of the minimum counts are computed in a single pass.
+     *
+     * @param bv the vector to compare with
+     * @param sumOfCounts the sum of all counts of this vector
+     * @return the Tanimoto similarity
+     */
+    double tanimotoSimilarity(final DenseByteVector bv, final long sumOfCounts) {
+        byte[] other = bv.m_storage;
+        int length = Math.min(m_storage.length, other.length);
+        long otherSum = 0;
+        long sumOfMin = 0;
+        int i = 0;
+        for (; i < length; i++) {
+            int count = other[i] & 0x0FF;
+            otherSum += count;
+            sumOfMin += Math.min(m_storage[i] & 0x0FF, count);
+        }
+        for (; i < other.length; i++) {
+            otherSum += other[i] & 0x0FF;
+        }
+        long sumOfMax = sumOfCounts + otherSum - sumOfMin;
+        return sumOfMax == 0 ? 1.0 : sumOfMin / (double)sumOfMax;
+    }
+
     /**
      * Calculates the checksum, the sum of all counts stored.
      *
@@ -204,6 +204,13 @@ public DenseByteVector getByteVectorCopy() {
         return new DenseByteVector(m_byteVector);
     }
 
+    /**
+     * @return the internal dense byte vector, must not be modified
+     */
+    DenseByteVector getByteVector() {
+        return m_byteVector;
+    }
+
     /**
      * Factory for {@link DenseByteVectorCell}s.
      *
@@ -281,6 +288,12 @@ public void serialize(final DenseByteVectorCell cell,
             }
         }
 
+        @Override
+        public long estimateRetainedSize(final DenseByteVectorCell cell) {
+            // cell, vector and array headers plus one byte per count
+            return 56 + cell.length();
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.vector.bytevector;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Compares one query byte vector with many other byte vectors, e.g. the cells of a count fingerprint column in a
+ * similarity search. The sum of the counts of the query is computed only once, and for each
+ * {@link DenseByteVectorCell} the sum of its counts and the sum of the position-wise minimum counts are computed in
+ * a single pass, without creating intermediate vectors. Other {@link ByteVectorValue} implementations are compared
+ * position by position, which is considerably slower.
+ *
+ * <p>
+ * Instances are immutable and can be used concurrently by multiple threads.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.3
+ */
+public final class DenseByteVectorSimilarity {
+
+    private final DenseByteVector m_query;
+
+    private final long m_querySumOfCounts;
+
+    /**
+     * Creates a new instance for the given query vector.
+     *
+     * @param query the vector to compare others with, will be copied
+     */
+    public DenseByteVectorSimilarity(final DenseByteVector query) {
+        m_query = new DenseByteVector(CheckUtils.checkArgumentNotNull(query, "Query must not be null"));
+        m_querySumOfCounts = m_query.sumOfAllCounts();
+    }
+
+    /**
+     * Creates a new instance for the byte vector of the given query cell.
+     *
+     * @param query the cell containing the vector to compare others with
+     */
+    public DenseByteVectorSimilarity(final DenseByteVectorCell query) {
+        this(CheckUtils.checkArgumentNotNull(query, "Query must not be null").getByteVector());
+    }
+
+    /**
+     * Computes the (weighted) Tanimoto similarity of the query and the argument vector.
+     *
+     * @param candidate the vector to compare with the query
+     * @return the Tanimoto similarity, a value between 0 and 1
+     * @see DenseByteVector#tanimotoSimilarity(DenseByteVector)
+     */
+    public double tanimoto(final DenseByteVector candidate) {
+        return m_query.tanimotoSimilarity(candidate, m_querySumOfCounts);
+    }
+
+    /**
+     * Computes the (weighted) Tanimoto similarity of the query and the argument byte vector value.
+     *
+     * @param candidate the value to compare with the query
+     * @return the Tanimoto similarity, a value between 0 and 1
+     */
+    public double tanimoto(final ByteVectorValue candidate) {
+        if (candidate instanceof DenseByteVectorCell denseCell) {
+            return tanimoto(denseCell.getByteVector());
+        }
+        long length = Math.min(m_query.length(), candidate.length());
+        long sumOfMin = 0;
+        for (long i = candidate.nextCountIndex(0); i >= 0 && i < length; i = candidate.nextCountIndex(i + 1)) {
+            sumOfMin += Math.min(m_query.get((int)i), candidate.get(i));
+        }
+        long sumOfMax = m_querySumOfCounts + candidate.sumOfAllCounts() - sumOfMin;
+        return sumOfMax == 0 ? 1.0 : sumOfMin / (double)sumOfMax;
+    }
+
+    /**
+     * Computes the (weighted) Tanimoto similarity of the query and each of the given cells, e.g. a chunk of a count
+     * fingerprint column. Missing cells have a similarity of {@link Double#NaN}.
+     *
+     * @param candidates the cells to compare with the query, each either missing or a {@link ByteVectorValue}
+     * @param result the array to write the similarities to, at least as long as the candidates array
+     * @throws ClassCastException if a non-missing cell isn't a {@link ByteVectorValue}
+     */
+    public void tanimoto(final DataCell[] candidates, final double[] result) {
+        CheckUtils.checkArgument(result.length >= candidates.length,
+            "Result array too short (%d) for %d candidates", result.length, candidates.length);
+        for (int i = 0; i < candidates.length; i++) {
+            DataCell cell = candidates[i];
+            if (cell instanceof DenseByteVectorCell denseCell) {
+                result[i] = tanimoto(denseCell.getByteVector());
+            } else if (cell.isMissing()) {
+                result[i] = Double.NaN;
+            } else {
+                result[i] = tanimoto((ByteVectorValue)cell);
+            }
+        }
+    }
+
+    /**
+     * @return the sum of all counts of the query vector
+     */
+    public long getQuerySumOfCounts() {
+        return m_querySumOfCounts;
+    }
+}
@@ -219,6 +219,12 @@ public void serialize(final SparseByteVectorCell cell,
             }
         }
 
+        @Override
+        public long estimateRetainedSize(final SparseByteVectorCell cell) {
+            // cell, vector and two array headers plus an index (long) and a count (byte) per non-zero entry
+            return 88 + 9L * cell.cardinality();
+        }
+
         /**
          * {@inheritDoc}
          */
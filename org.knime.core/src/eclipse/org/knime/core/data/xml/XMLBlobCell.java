@@ -92,6 +92,11 @@ public void serialize(final XMLBlobCell cell,
             }
         }
 
+        @Override
+        public long estimateRetainedSize(final XMLBlobCell cell) {
+            return cell.m_content.estimateRetainedSize();
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -97,6 +97,11 @@ public void serialize(final XMLCell cell,
             }
         }
 
+        @Override
+        public long estimateRetainedSize(final XMLCell cell) {
+            return cell.m_content.estimateRetainedSize();
+        }
+
         /**
          * {@inheritDoc}
          */
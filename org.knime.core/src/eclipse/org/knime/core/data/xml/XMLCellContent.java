@@ -241,6 +241,18 @@ String getStringValue() {
         return m_xmlString;
     }
 
+    /**
+     * Estimates the heap memory retained by this content, see
+     * {@link org.knime.core.data.DataCellSerializer#estimateRetainedSize(org.knime.core.data.DataCell)}. The parsed
+     * document is only softly referenced and therefore not taken into account.
+     *
+     * @return the estimated size in bytes, including the cell holding this content
+     */
+    long estimateRetainedSize() {
+        // cell, content, lock and string headers; assumes two bytes per char (no compact strings)
+        return 160 + 2L * m_xmlString.length();
+    }
+
     private static String serialize(final Document doc) throws IOException {
         ByteArrayOutputStream os = new ByteArrayOutputStream();
 
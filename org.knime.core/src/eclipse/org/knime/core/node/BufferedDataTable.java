@@ -61,8 +61,11 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.swing.JComponent;
 import javax.swing.SwingUtilities;
@@ -89,6 +92,7 @@
 import org.knime.core.data.container.VoidTable;
 import org.knime.core.data.container.WrappedTable;
 import org.knime.core.data.container.filter.CloseableDataRowIterable;
+import org.knime.core.data.container.filter.RowRangeSpliterator;
 import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.container.storage.TableStoreFormat;
 import org.knime.core.data.container.storage.TableStoreFormatRegistry;
@@ -432,6 +436,77 @@ public CloseableRowIterator iterator() {
         };
     }
 
+    /**
+     * Splits the rows of this table into (at most) the given number of disjoint, consecutive row ranges of (almost)
+     * equal size, each of which can be iterated independently and concurrently. Fewer splits are returned if the
+     * table has fewer rows than requested splits; an empty table yields an empty list. Tables that support seeking to
+     * a row index (such as tables stored on disk) only read the rows of the respective range.
+     *
+     * @param nrSplits the desired number of splits, must be positive
+     * @return the splits in row order
+     * @since 5.3
+     */
+    public List<CloseableDataRowIterable> split(final int nrSplits) {
+        return split(nrSplits, new TableFilter.Builder().build());
+    }
+
+    /**
+     * Splits the rows selected by the given filter into (at most) the given number of disjoint, consecutive row
+     * ranges of (almost) equal size, each of which can be iterated independently and concurrently. Column
+     * materialization indices of the filter are retained by all splits.
+     *
+     * @param nrSplits the desired number of splits, must be positive
+     * @param filter the filter defining the row range (if any) and the columns to materialize
+     * @return the splits in row order
+     * @see #split(int)
+     * @since 5.3
+     */
+    public List<CloseableDataRowIterable> split(final int nrSplits, final TableFilter filter) {
+        CheckUtils.checkArgument(nrSplits > 0, "Number of splits must be positive: %d", nrSplits);
+        CheckUtils.checkArgumentNotNull(filter);
+        filter.validate(getSpec(), m_delegate.size());
+        final long from = filter.getFromRowIndex().orElse(0L);
+        final long nrRows = filter.getToRowIndex().orElse(m_delegate.size() - 1) - from + 1;
+        final int k = (int)Math.min(nrSplits, Math.max(0, nrRows));
+        final List<CloseableDataRowIterable> splits = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            final long start = from + (nrRows / k) * i + Math.min(i, nrRows % k);
+            final long end = from + (nrRows / k) * (i + 1) + Math.min(i + 1, nrRows % k) - 1;
+            splits.add(filter(new TableFilter.Builder(filter).withFromRowIndex(start).withToRowIndex(end).build()));
+        }
+        return splits;
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the rows of this table that can be turned into a parallel stream
+     * via {@link Stream#parallel()}. Parallel streams partition the table by row ranges (see
+     * {@link RowRangeSpliterator}), each of which is read by its own iterator. The stream must be closed after use
+     * (preferably in a try-with-resources block) in order to release iterators of partitions that were not read to the
+     * end.
+     *
+     * @return a stream over the rows of this table
+     * @since 5.3
+     */
+    public Stream<DataRow> stream() {
+        return stream(new TableFilter.Builder().build());
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the rows selected by the given filter.
+     *
+     * @param filter the filter defining the row range (if any) and the columns to materialize
+     * @return a stream over the filtered rows of this table
+     * @see #stream()
+     * @since 5.3
+     */
+    public Stream<DataRow> stream(final TableFilter filter) {
+        CheckUtils.checkArgumentNotNull(filter);
+        filter.validate(getSpec(), m_delegate.size());
+        final RowRangeSpliterator spliterator =
+            new RowRangeSpliterator(f -> m_delegate.iteratorWithFilter(f, null), filter, m_delegate.size());
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
     /**
      * Get an iterator instance that will return missing values when the table
      * is cleared as part of a node reset.
@@ -94,6 +94,8 @@
 import org.knime.core.node.workflow.NativeNodeContainer;
 import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.node.workflow.WorkflowDataRepository;
+import org.knime.core.node.workflow.WorkflowIOExecutor;
+import org.knime.core.node.workflow.WorkflowIOExecutor.IOTask;
 import org.knime.core.node.workflow.WorkflowLoadHelper;
 import org.knime.core.node.workflow.WorkflowPersistor;
 import org.knime.core.node.workflow.WorkflowPersistor.LoadResult;
@@ -1198,23 +1200,51 @@ public static void save(final NativeNodeContainer nnc, final NodeSettingsWO sett
          * table is returned in multiple outputs or if an output table is used
          * as "internal" held table. See bug 2117. */
         final Set<Integer> savedTableIDs = new HashSet<Integer>();
+        /* If the data of nodes is written concurrently, the settings are still written here (in order to produce
+         * the same file content) but the writes of tables and port objects are collected and handed to the
+         * WorkflowIOExecutor. They run in the given order, hence savedTableIDs is filled in the same order. */
+        final List<IOTask> deferredWrites = WorkflowIOExecutor.isDeferringWrites() ? new ArrayList<>() : null;
         execMon.setMessage("Ports");
-        savePorts(node, nodeDirRef, settings, savedTableIDs, portMon, isSaveData);
+        savePorts(node, nodeDirRef, settings, savedTableIDs, portMon, isSaveData, deferredWrites);
         portMon.setProgress(1.0);
         execMon.setMessage("Internal Tables");
-        saveInternalHeldTables(node, nodeDirRef, settings, savedTableIDs, internalMon, isSaveData);
+        saveInternalHeldTables(node, nodeDirRef, settings, savedTableIDs, internalMon, isSaveData, deferredWrites);
         intTblsMon.setProgress(1.0);
         // save them last as now all tables have been saved (all cells ran through persistor) and all
         // FileStore#getFile() have been called and saved
         execMon.setMessage("File Store Objects");
-        saveFileStoreObjects(node, nodeDirRef, settings, fileStoreMon, isSaveData);
+        final IOTask fileStoreWrite = saveFileStoreObjects(node, nodeDirRef, settings, isSaveData);
+        if (deferredWrites == null) {
+            if (fileStoreWrite != null) {
+                fileStoreWrite.run(fileStoreMon);
+            }
+        } else {
+            WorkflowIOExecutor.deferWrite(nnc, nodeDirRef, exec -> {
+                for (final IOTask write : deferredWrites) {
+                    write.run(exec);
+                }
+            }, fileStoreWrite);
+        }
         fileStoreMon.setProgress(1.0);
         execMon.setProgress(1.0);
     }
 
+    /**
+     * Runs a write of node data right away or, if the data of nodes is written concurrently, adds it to the list of
+     * deferred writes.
+     */
+    private static void write(final IOTask write, final ExecutionMonitor exec, final List<IOTask> deferredWrites)
+        throws IOException, CanceledExecutionException {
+        if (deferredWrites == null) {
+            write.run(exec);
+        } else {
+            deferredWrites.add(write);
+        }
+    }
+
     private static void savePorts(final Node node, final ReferencedFile nodeDirRef, final NodeSettingsWO settings,
-        final Set<Integer> savedTableIDs, final ExecutionMonitor exec, final boolean saveData) throws IOException,
-        CanceledExecutionException {
+        final Set<Integer> savedTableIDs, final ExecutionMonitor exec, final boolean saveData,
+        final List<IOTask> deferredWrites) throws IOException, CanceledExecutionException {
         if (node.getNrOutPorts() == 0) {
             return;
         }
@@ -1245,7 +1275,7 @@ private static void savePorts(final Node node, final ReferencedFile nodeDirRef,
                 if (!portDir.canWrite()) {
                     throw new IOException("Cannot write to port directory " + portDir.getAbsolutePath());
                 }
-                savePort(node, portDir, singlePortSetting, savedTableIDs, subProgress, i, saveData);
+                savePort(node, portDir, singlePortSetting, savedTableIDs, subProgress, i, saveData, deferredWrites);
             } else {
                 portDirName = null;
             }
@@ -1256,7 +1286,7 @@ private static void savePorts(final Node node, final ReferencedFile nodeDirRef,
 
     private static void saveInternalHeldTables(final Node node, final ReferencedFile nodeDirRef,
         final NodeSettingsWO settings, final Set<Integer> savedTableIDs, final ExecutionMonitor exec,
-        final boolean saveData) throws IOException, CanceledExecutionException {
+        final boolean saveData, final List<IOTask> deferredWrites) throws IOException, CanceledExecutionException {
         PortObject[] internalObjects = node.getInternalHeldPortObjects();
         if (internalObjects == null || !saveData) {
             return;
@@ -1283,7 +1313,8 @@ private static void saveInternalHeldTables(final Node node, final ReferencedFile
                 singlePortSetting.addString("type", "null");
             } else if (t instanceof BufferedDataTable) {
                 BufferedDataTable table = (BufferedDataTable)t;
-                saveBufferedDataTable(table, savedTableIDs, createDirectory(portDir), exec);
+                final File tableDir = createDirectory(portDir);
+                write(e -> saveBufferedDataTable(table, savedTableIDs, tableDir, e), exec, deferredWrites);
                 singlePortSetting.addString("type", "table");
                 singlePortSetting.addString("table_dir_location", objName);
             } else {
@@ -1296,7 +1327,8 @@ private static void saveInternalHeldTables(final Node node, final ReferencedFile
                 } else {
                     singlePortSetting.addString("type", "non-table");
                     singlePortSetting.addString("port_dir_location", objName);
-                    savePortObject(t.getSpec(), t, createDirectory(portDir), singlePortSetting, exec);
+                    savePortObject(t.getSpec(), t, createDirectory(portDir), singlePortSetting, exec,
+                        deferredWrites);
                 }
             }
             subProgress.setProgress(1.0);
@@ -1321,8 +1353,8 @@ private static File createDirectory(final File portDir) throws IOException {
     }
 
     private static void savePort(final Node node, final File portDir, final NodeSettingsWO settings,
-        final Set<Integer> savedTableIDs, final ExecutionMonitor exec, final int portIdx, final boolean saveData)
-        throws IOException, CanceledExecutionException {
+        final Set<Integer> savedTableIDs, final ExecutionMonitor exec, final int portIdx, final boolean saveData,
+        final List<IOTask> deferredWrites) throws IOException, CanceledExecutionException {
         PortObjectSpec spec = node.getOutputSpec(portIdx);
         PortObject object = node.getOutputObject(portIdx);
         String summary = node.getOutputObjectSummary(portIdx);
@@ -1341,21 +1373,22 @@ private static void savePort(final Node node, final File portDir, final NodeSett
                 + object.getClass().getSimpleName();
             // executed and instructed to save data
             if (saveData && object != null) {
-                saveBufferedDataTable((BufferedDataTable)object, savedTableIDs, portDir, exec);
+                final BufferedDataTable table = (BufferedDataTable)object;
+                write(e -> saveBufferedDataTable(table, savedTableIDs, portDir, e), exec, deferredWrites);
             }
         } else {
             if (isSaveObject) {
                 exec.setMessage("Saving object");
                 assert spec != null : "Spec is null but port object is non-null (port " + portIdx + " of node "
                         + node.getName() + ")";
-                savePortObject(spec, object, portDir, settings, exec);
+                savePortObject(spec, object, portDir, settings, exec, deferredWrites);
             }
         }
     }
 
     private static void savePortObject(final PortObjectSpec spec, final PortObject object,
-        final File portDir, final NodeSettingsWO settings, final ExecutionMonitor exec)
-                throws IOException, FileNotFoundException, CanceledExecutionException {
+        final File portDir, final NodeSettingsWO settings, final ExecutionMonitor exec,
+        final List<IOTask> deferredWrites) throws IOException, FileNotFoundException, CanceledExecutionException {
         settings.addString("port_spec_class", spec.getClass().getName());
         settings.addString("port_object_class", object.getClass().getName());
         String specDirName = "spec";
@@ -1365,12 +1398,6 @@ private static void savePortObject(final PortObjectSpec spec, final PortObject o
 
         File specFile = new File(specDir, specFileName);
         settings.addString("port_spec_location", specPath);
-        try (PortObjectSpecZipOutputStream out = PortUtil.getPortObjectSpecZipOutputStream(
-            new BufferedOutputStream(new FileOutputStream(specFile)))) {
-            PortObjectSpecSerializer serializer =
-                    PortTypeRegistry.getInstance().getSpecSerializer(spec.getClass()).get();
-            serializer.savePortObjectSpec(spec, out);
-        }
 
         String objectDirName = null;
         objectDirName = "object";
@@ -1381,6 +1408,18 @@ private static void savePortObject(final PortObjectSpec spec, final PortObject o
         objectPath = objectDirName + "/" + objectFileName;
         settings.addString("port_object_location", objectPath);
         File file = new File(objectDir, objectFileName);
+        write(e -> savePortObjectFiles(spec, object, specFile, objectDir, file, e), exec, deferredWrites);
+    }
+
+    private static void savePortObjectFiles(final PortObjectSpec spec, final PortObject object, final File specFile,
+        final File objectDir, final File file, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        try (PortObjectSpecZipOutputStream out = PortUtil.getPortObjectSpecZipOutputStream(
+            new BufferedOutputStream(new FileOutputStream(specFile)))) {
+            PortObjectSpecSerializer serializer =
+                    PortTypeRegistry.getInstance().getSpecSerializer(spec.getClass()).get();
+            serializer.savePortObjectSpec(spec, out);
+        }
         try (PortObjectZipOutputStream out =
             PortUtil.getPortObjectZipOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
             PortObjectSerializer serializer =
@@ -1403,19 +1442,22 @@ private static void savePortObject(final PortObjectSpec spec, final PortObject o
     }
 
     /**
+     * Saves the file store settings of the node.
+     *
      * @param node
      * @param nodeDirRef
      * @param settings
-     * @param fileStoreMon
      * @param isSaveData
-     * @throws IOException
+     * @return the write copying the file stores into the node directory, to be run after all tables have been saved,
+     *         or null if there is nothing to copy
      */
-    private static void saveFileStoreObjects(final Node node, final ReferencedFile nodeDirRef,
-        final NodeSettingsWO settings, final ExecutionMonitor fileStoreMon, final boolean isSaveData) throws IOException {
+    private static IOTask saveFileStoreObjects(final Node node, final ReferencedFile nodeDirRef,
+        final NodeSettingsWO settings, final boolean isSaveData) {
         NodeSettingsWO fsSettings = settings.addNodeSettings("filestores");
         IFileStoreHandler fileStoreHandler = node.getFileStoreHandler();
         String uuidS;
         String dirNameInFlow;
+        IOTask copyFileStores = null;
         if (isSaveData && fileStoreHandler instanceof IWriteFileStoreHandler
             && !((IWriteFileStoreHandler)fileStoreHandler).isReference()) {
             final IWriteFileStoreHandler defFileStoreHandler = (IWriteFileStoreHandler)fileStoreHandler;
@@ -1423,7 +1465,7 @@ private static void saveFileStoreObjects(final Node node, final ReferencedFile n
             dirNameInFlow = baseDir == null ? null : FILESTORE_FOLDER_PREFIX;
             if (dirNameInFlow != null) {
                 File saveLocation = new File(nodeDirRef.getFile(), dirNameInFlow);
-                FileUtil.copyDir(baseDir, saveLocation);
+                copyFileStores = exec -> FileUtil.copyDir(baseDir, saveLocation);
             }
             uuidS = defFileStoreHandler.getStoreUUID().toString();
         } else {
@@ -1432,6 +1474,7 @@ private static void saveFileStoreObjects(final Node node, final ReferencedFile n
         }
         fsSettings.addString("file_store_location", dirNameInFlow);
         fsSettings.addString("file_store_id", uuidS);
+        return copyFileStores;
     }
 
     private static void saveBufferedDataTable(final BufferedDataTable table, final Set<Integer> savedTableIDs,
@@ -127,6 +127,15 @@ public final class KNIMEConstants {
      */
     public static final String ENV_MAX_THREAD_COUNT = "KNIME_CORE_MAX_THREADS";
 
+    /**
+     * Java property name to specify the backend that provides the threads of the {@link #GLOBAL_THREAD_POOL}, one of
+     * the {@link org.knime.core.util.ThreadPool.Backend} names (case-insensitive), e.g. <code>fork_join</code>. The
+     * default is <code>worker_threads</code>.
+     *
+     * @since 5.3
+     */
+    public static final String PROPERTY_THREAD_POOL_BACKEND = "knime.threadpool.backend";
+
     /**
      * Java property name to specify the default temp directory for KNIME temp files (such as data files). This can be
      * changed in the preference pages and is by default the same as the java.io.tmpdir
@@ -170,6 +179,15 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_CELLS_IN_MEMORY = "org.knime.container.cellsinmemory";
 
+    /**
+     * Java property name to limit the rows held in main memory by tables by their estimated size (in MB) rather than
+     * by their number of cells ({@link #PROPERTY_CELLS_IN_MEMORY}). The budget is shared by all tables that are being
+     * written. If not specified (or 0), the number of cells is limited.
+     *
+     * @since 5.3
+     */
+    public static final String PROPERTY_MB_IN_MEMORY = "org.knime.container.mbinmemory";
+
 
     /**
      * Defines the maximum number of threads that are shared between instances of {@link DataContainer DataContainers}.
@@ -213,6 +231,24 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_TABLE_CACHE = "knime.table.cache";
 
+    /**
+     * Java property name to specify the size (in MB) of the off-heap table cache. Tables that have been written to disk
+     * and are dropped from the in-memory {@link #PROPERTY_TABLE_CACHE LRU cache} are kept off-heap within this
+     * budget, so that they can be read again without accessing the disk. The default is 0, i.e., no off-heap cache.
+     *
+     * @since 5.3
+     */
+    public static final String PROPERTY_TABLE_CACHE_OFF_HEAP_MB = "knime.table.cache.offheap.mb";
+
+    /**
+     * Java property to enable reading tables from disk with read-ahead, i.e., decompressing and deserializing rows on a
+     * background thread while the rows read before are being processed. Values must be either "true" or "false", the
+     * default is "false".
+     *
+     * @since 5.3
+     */
+    public static final String PROPERTY_TABLE_READ_AHEAD = "knime.table.readahead";
+
     /**
      * Java property to discourage KNIME from triggering a full stop-the-world garbage collection. Note that (a)
      * individual nodes are allowed to disregard this setting and (b) the garbage collector may independently decide
@@ -248,6 +284,47 @@ public final class KNIMEConstants {
     public static final String PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK =
         "knime.disable.rowid.duplicatecheck";
 
+    /**
+     * Java property to check the uniqueness of row IDs of tables with a {@link org.knime.core.util.ShardedDuplicateChecker}
+     * using the given number of shards rather than with the default {@link org.knime.core.util.DuplicateChecker}. The
+     * default is 0, i.e., the default duplicate checker is used.
+     *
+     * @since 5.3
+     */
+    public static final String PROPERTY_DUPLICATE_CHECKER_SHARDS = "knime.container.duplicatechecker.shards";
+
+    /**
+     * Java property to set the maximum number of rows that are handed to a worker thread at once when a cell factory
+     * processes its input concurrently (see
+     * {@link org.knime.core.data.container.AbstractCellFactory#setParallelProcessing(boolean)}). The actual number is
+     * chosen adaptively based on the measured computation time per row. A value of 1 hands each row to a worker
+     * individually. The default is 1024.
+     *
+     * @since 5.3
+     */
+    public static final String PROPERTY_CELL_FACTORY_MAX_BATCH_SIZE = "knime.cellfactory.maxbatchsize";
+
+    /**
+     * Java property to set the number of rows between two entries of the row index written alongside tables stored
+     * on disc. The index allows readers to start reading at an arbitrary row without reading all rows before it; each
+     * indexed block of rows is compressed separately, hence the table file consists of several concatenated compressed
+     * streams, which older versions may not be able to read. A value of 0 (the default) disables the index; 8192 is a
+     * reasonable value to enable it.
+     *
+     * @since 5.3
+     */
+    public static final String PROPERTY_TABLE_ROW_INDEX_INTERVAL = "knime.table.rowindex.interval";
+
+    /**
+     * Java property to set the number of threads used to read and write the data of independent nodes concurrently
+     * when a workflow is loaded or saved. The structure of the workflow is still processed sequentially, hence the
+     * files written are the same as with sequential saving. A value of 1 disables concurrent reading and writing. The
+     * default is the number of available processors, at most 4.
+     *
+     * @since 5.3
+     */
+    public static final String PROPERTY_WORKFLOW_IO_THREADS = "knime.workflow.io.threads";
+
     /** Java property to enable/disable workflow locks. As of KNIME v2.4
      * workflows will be locked when opened; this property will disable the
      * locking (allowing multiple instances to have the same workflow open).
@@ -567,7 +644,18 @@ public static Optional<ImageIcon> getKNIMEIcon16X16() {
                 useEnv ? ENV_MAX_THREAD_COUNT : PROPERTY_MAX_THREAD_COUNT, maxThreadsString, nfe.getMessage()));
         }
         DEF_MAX_THREAD_COUNT = maxThreads;
-        GLOBAL_THREAD_POOL = new ThreadPool(maxThreads);
+        ThreadPool.Backend backend = ThreadPool.Backend.WORKER_THREADS;
+        String backendString = System.getProperty(PROPERTY_THREAD_POOL_BACKEND);
+        if (!StringUtils.isBlank(backendString)) {
+            try {
+                backend = ThreadPool.Backend.fromName(backendString);
+            } catch (IllegalArgumentException iae) {
+                // no NodeLogger available yet!
+                System.err.println(String.format("Unable to parse system property \"%s\" (\"%s\"), using default (%s)",
+                    PROPERTY_THREAD_POOL_BACKEND, backendString, backend));
+            }
+        }
+        GLOBAL_THREAD_POOL = new ThreadPool(maxThreads, backend);
         boolean flag;
         try {
             assert false;
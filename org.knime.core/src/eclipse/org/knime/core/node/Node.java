@@ -265,6 +265,10 @@ static class Input {
     // cases then
     private final Object m_configureLock = new Object();
 
+    /** Output specs of the last configure call, re-used in the fast iteration mode of a loop when inputs and settings
+     * are unchanged. Only accessed while holding {@link #m_configureLock}. */
+    private ConfigureCacheEntry m_configureCache;
+
     private final ModifiableNodeCreationConfiguration m_creationConfig;
 
     private final NodeDescription m_adaptedNodeDescription;
@@ -1853,6 +1857,9 @@ public void cleanup() {
         }
         // all callers
         cleanOutPorts(false, null);
+        synchronized (m_configureLock) {
+            m_configureCache = null;
+        }
     }
 
     /**
@@ -1923,7 +1930,24 @@ public boolean configure(final PortObjectSpec[] rawInSpecs, final NodeConfigureH
 
                 // call configure model to create output table specs
                 // guaranteed to return non-null, correct-length array
-                newOutSpec = invokeNodeModelConfigure(inSpecs);
+                // (in a fast iteration loop body the result of the previous iteration may be re-used)
+                final FlowLoopContext fastIterationContext = getFastIterationLoopContext();
+                final NodeSettings modelSettings = fastIterationContext != null ? snapshotModelSettings() : null;
+                if (modelSettings != null && m_configureCache != null
+                    && m_configureCache.matches(fastIterationContext, inSpecs, modelSettings)) {
+                    newOutSpec = m_configureCache.outSpecs().clone();
+                    fastIterationContext.incrementConfigureCacheHits();
+                } else {
+                    m_configureCache = null;
+                    final long flowVariableAccesses = m_model.getFlowVariableAccessCount();
+                    newOutSpec = invokeNodeModelConfigure(inSpecs);
+                    // only cache if the result depends on nothing but the input specs and the settings
+                    if (modelSettings != null && flowVariableAccesses == m_model.getFlowVariableAccessCount()
+                        && m_model.getWarningMessage() == null) {
+                        m_configureCache = new ConfigureCacheEntry(fastIterationContext, inSpecs.clone(),
+                            modelSettings, newOutSpec.clone());
+                    }
+                }
                 if (configureHelper != null) {
                     newOutSpec = configureHelper.postConfigure(inSpecs, newOutSpec);
                 }
@@ -1977,6 +2001,48 @@ public boolean configure(final PortObjectSpec[] rawInSpecs, final NodeConfigureH
         return success;
     }
 
+    /**
+     * @return the context of the loop this node is part of if that loop runs in the fast iteration mode, this node
+     *         is neither its start nor its end and its model declares configure as side effect free, otherwise null
+     */
+    private FlowLoopContext getFastIterationLoopContext() {
+        if (isModelCompatibleTo(LoopStartNode.class) || isModelCompatibleTo(LoopEndNode.class)
+            || !m_model.isConfigureSideEffectFree()) {
+            return null;
+        }
+        final FlowObjectStack stack = getFlowObjectStack();
+        final FlowLoopContext flc = stack != null ? stack.peek(FlowLoopContext.class) : null;
+        return flc != null && flc.isFastIteration() ? flc : null;
+    }
+
+    /** @return a copy of the current model settings or null if they can't be saved */
+    private NodeSettings snapshotModelSettings() {
+        final NodeSettings settings = new NodeSettings("model");
+        try {
+            m_model.saveSettingsTo(settings);
+        } catch (Exception e) { // NOSONAR a failing model simply isn't cached
+            LOGGER.debug("Could not save model settings, not caching configure result: " + e.getMessage(), e);
+            return null;
+        }
+        return settings;
+    }
+
+    /**
+     * Result of a configure call along with what it was computed from.
+     *
+     * @param loopContext the loop (iteration sequence) in which the specs were computed
+     * @param inSpecs the input specs (excluding flow variable port)
+     * @param modelSettings the model settings at the time of the call
+     * @param outSpecs the output specs as returned by the node model
+     */
+    private record ConfigureCacheEntry(FlowLoopContext loopContext, PortObjectSpec[] inSpecs,
+        NodeSettings modelSettings, PortObjectSpec[] outSpecs) {
+
+        boolean matches(final FlowLoopContext flc, final PortObjectSpec[] specs, final NodeSettings settings) {
+            return loopContext == flc && Arrays.equals(inSpecs, specs) && modelSettings.equals(settings);
+        }
+    }
+
     /** Invokes protected method NodeModel#configureModel. Isolated in a
      * separate method call as it may be (ab)used by other executors.
      * @param inSpecs The input data to the node (excluding flow var port)
@@ -1220,6 +1220,25 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
         throw new InvalidSettingsException("NodeModel.configure()" + " implementation missing!");
     }
 
+    /**
+     * Whether the configure method of this model is free of side effects, i.e. its output specs are derived solely
+     * from the input specs and the settings, and it does not build any internal state that is needed later on (for
+     * instance column indices or a column rearranger used in execute). If so, the framework may skip calls to
+     * configure if neither the input specs nor the settings have changed since the previous call, which is done for
+     * nodes in the body of a loop that runs in the fast iteration mode (see
+     * {@link org.knime.core.node.workflow.LoopStartNode#isFastIterationEnabled()}).
+     *
+     * <p>
+     * The default is <code>false</code>, i.e. configure is always called. Subclasses can override this method if
+     * they meet the above contract.
+     *
+     * @return <code>true</code> if calls to configure with unchanged input specs and settings can be skipped
+     * @since 5.3
+     */
+    protected boolean isConfigureSideEffectFree() {
+        return false;
+    }
+
     /////////////////////////
     // Warning handling
     /////////////////////////
@@ -1368,6 +1387,10 @@ protected final CredentialsProvider getCredentialsProvider() {
      * pushed on the real node stack after execute. */
     private FlowObjectStack m_outgoingFlowObjectStack;
 
+    /** Number of reads and writes of flow variables done by the client. Used to decide whether the result of a
+     * configure call depends solely on the input specs and settings (see Node#configure). */
+    private long m_flowVariableAccesses;
+
     /** Get the value of the String variable with the given name leaving the
      * flow variable stack unmodified.
      * @param name Name of the variable
@@ -1378,6 +1401,7 @@ protected final CredentialsProvider getCredentialsProvider() {
      * @since 2.8
      */
     public final String peekFlowVariableString(final String name) {
+        m_flowVariableAccesses++;
         try {
             return m_outgoingFlowObjectStack.peekFlowVariable(
                     name, FlowVariable.Type.STRING).getStringValue();
@@ -1426,6 +1450,7 @@ protected final <T> void pushFlowVariable(final String name, final VariableType<
      * @since 2.8
      */
     public final double peekFlowVariableDouble(final String name) {
+        m_flowVariableAccesses++;
         try {
             return m_outgoingFlowObjectStack.peekFlowVariable(
                     name, FlowVariable.Type.DOUBLE).getDoubleValue();
@@ -1449,6 +1474,7 @@ public final double peekFlowVariableDouble(final String name) {
      * @see FlowObjectStack#peekFlowVariable(String, VariableType)
      */
     public final <T> T peekFlowVariable(final String name, final VariableType<T> type) {
+        m_flowVariableAccesses++;
         CheckUtils.checkArgumentNotNull(name, "Variable name must not be null.");
         CheckUtils.checkArgumentNotNull(type, "Variable type must not be null.");
         CheckUtils.checkArgumentNotNull(m_outgoingFlowObjectStack, "Outgoing flow object stack must not be null.");
@@ -1494,6 +1520,7 @@ protected final void pushFlowVariableInt(final String name, final int value) {
     }
 
     final void pushFlowVariable(final FlowVariable variable) {
+        m_flowVariableAccesses++;
         m_outgoingFlowObjectStack.push(variable);
     }
 
@@ -1507,6 +1534,7 @@ final void pushFlowVariable(final FlowVariable variable) {
      * @since 2.8
      */
     public final int peekFlowVariableInt(final String name) {
+        m_flowVariableAccesses++;
         try {
             return m_outgoingFlowObjectStack.peekFlowVariable(
                     name, FlowVariable.Type.INTEGER).getIntValue();
@@ -1531,6 +1559,12 @@ FlowObjectStack getFlowObjectStack() {
         return m_flowObjectStack;
     }
 
+    /** @return number of times the client read or pushed flow variables so far (only the difference between two calls
+     *          is meaningful) */
+    long getFlowVariableAccessCount() {
+        return m_flowVariableAccesses;
+    }
+
     void setFlowObjectStack(final FlowObjectStack scsc,
             final FlowObjectStack outgoingFlowObjectStack) {
         m_flowObjectStack = scsc;
@@ -1560,6 +1594,7 @@ FlowObjectStack getOutgoingFlowObjectStack() {
      */
     @Deprecated
     public final Map<String, FlowVariable> getAvailableFlowVariables() {
+        m_flowVariableAccesses++;
         Map<String, FlowVariable> result = new LinkedHashMap<String, FlowVariable>();
         if (m_flowObjectStack != null) {
             result.putAll(m_flowObjectStack.getAvailableFlowVariables());
@@ -1585,6 +1620,7 @@ public final Map<String, FlowVariable> getAvailableFlowVariables() {
      */
     @Deprecated
     final Map<String, FlowVariable> getAvailableFlowVariables(final FlowVariable.Type... types) {
+        m_flowVariableAccesses++;
         Map<String, FlowVariable> result = new LinkedHashMap<String, FlowVariable>();
         if (m_flowObjectStack != null) {
             result.putAll(m_flowObjectStack.getAvailableFlowVariables(types));
@@ -1604,6 +1640,7 @@ final Map<String, FlowVariable> getAvailableFlowVariables(final FlowVariable.Typ
      * @since 4.1
      */
     public final Map<String, FlowVariable> getAvailableFlowVariables(final VariableType<?>[] types) {
+        m_flowVariableAccesses++;
         return Collections.unmodifiableMap(Stream.concat(//
             Optional.ofNullable(m_flowObjectStack)//
             .map(s -> s.getAvailableFlowVariables(types).entrySet().stream()).orElseGet(Stream::empty),
@@ -1642,6 +1679,7 @@ public Map<String, FlowVariable> getAvailableFlowVariables(final VariableType<?>
      */
     @Deprecated
     public final Map<String, FlowVariable> getAvailableInputFlowVariables() {
+        m_flowVariableAccesses++;
         Map<String, FlowVariable> result =
             new LinkedHashMap<String, FlowVariable>();
         if (m_flowObjectStack != null) {
@@ -1661,6 +1699,7 @@ public final Map<String, FlowVariable> getAvailableInputFlowVariables() {
      * @since 4.1
      */
     public final Map<String, FlowVariable> getAvailableInputFlowVariables(final VariableType<?>[] types) {
+        m_flowVariableAccesses++;
         return m_flowObjectStack != null ? m_flowObjectStack.getAvailableFlowVariables(types) : Collections.emptyMap();
     }
 
@@ -48,9 +48,12 @@
  */
 package org.knime.core.node.extension;
 
+import java.util.Collection;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.Predicate;
@@ -65,7 +68,8 @@
  * Extracts node information (name, vendor information, port types, etc.) from node factories. This requires node
  * instantiation and can be expensive for a large set of nodes.
  * <p>
- * Stores the information on disk in the bundle data directories, see {@link NodeSpecCachePersistor}.
+ * Stores the information on disk in the bundle data directories, see {@link NodeSpecCachePersistor}. As long as the
+ * set of installed extensions does not change, the views are served from that file without instantiating any node.
  * </p>
  *
  * @author Carl Witt, KNIME AG, Zurich, Switzerland
@@ -128,47 +132,43 @@ private final class Initializer implements Runnable {
         /** To compute metadata from */
         private final Map<Bundle, Set<INodeFactoryExtension>> m_extensions;
 
+        /** Number of nodes to compute specs for, used for progress reporting. */
+        private final long m_numNodes;
+
+        /** Whether computing the specs of an extension failed, only accessed by the initializer thread. */
+        private boolean m_computationFailed;
+
         private Initializer(final Map<Bundle, Set<INodeFactoryExtension>> allExtensions,
             final Map<String, CategoryExtension> catExts) {
             m_extensions = allExtensions;
             m_categoryExtensions = catExts;
-            var numNodes = m_extensions.values().stream() //
+            m_numNodes = m_extensions.values().stream() //
                 .flatMap(Set::stream)//
                 .filter(Predicate.not(INodeFactoryExtension::isInternal)) //
                 .mapToLong(INodeFactoryExtension::getNumberOfNodes)//
                 .sum();
-            NodeSpecCollectionProvider.Progress.setWork(Stage.NODE_METADATA, numNodes);
+            NodeSpecCollectionProvider.Progress.setWork(Stage.NODE_METADATA, m_numNodes);
         }
 
         @Override
         public void run() {
+            Optional<NodeSpecCachePersistor> persistor = Optional.empty();
+            Collection<NodeSpec> allNodes = List.of();
+            var persist = false;
             try {
-                // cannot load in parallel because creation of executable extensions seems to be able to
-                // deadlock on org.eclipse.osgi.internal.serviceregistry.ServiceRegistry (at least in SDK)
-                // however, it might be possible to process nodes in parallel to node sets
-
-                // group by feature name for better progress reporting
-                final var exts = m_extensions.values().stream()//
-                    .flatMap(Set::stream) //
-                    .filter(Predicate.not(INodeFactoryExtension::isInternal)) //
-                    .collect(Collectors.groupingBy(ext -> ext.getInstallableUnitName().orElse("KNIME Nodes")));
-
-                final var allNodes = new HashMap<String, NodeSpec>();
-
-                // for each installable unit
-                for (var nameAndExts : exts.entrySet()) {
-                    var featureName = nameAndExts.getKey();
-                    var extensions = nameAndExts.getValue();
-                    NodeSpecCollectionProvider.Progress.setLoadingFeature(featureName);
-                    LOGGER.debug("Computing node specifications for " + featureName);
-
-                    extensions.stream() //
-                        .flatMap(this::computeNodeSpecIgnoringErrors) //
-                        .forEach(nodeSpec -> allNodes.put(nodeSpec.factory().id(), nodeSpec));
+                persistor = NodeSpecCachePersistor.create(m_extensions, m_categoryExtensions);
+                final var cachedNodes = persistor.flatMap(NodeSpecCachePersistor::load);
+                if (cachedNodes.isPresent()) {
+                    allNodes = cachedNodes.get();
+                    LOGGER.debug("Read " + allNodes.size() + " node specifications from cache");
+                    NodeSpecCollectionProvider.Progress.incrementDone(Stage.NODE_METADATA, m_numNodes);
+                } else {
+                    allNodes = computeNodeSpecs();
+                    persist = !m_computationFailed;
                 }
 
                 for (var view : View.values()) {
-                    m_views.put(view, allNodes.values().stream().filter(view.m_predicate)
+                    m_views.put(view, allNodes.stream().filter(view.m_predicate)
                         .collect(Collectors.toUnmodifiableMap(ns -> ns.factory().id(), nm -> nm)));
                 }
             } finally {
@@ -176,6 +176,38 @@ public void run() {
                 m_initialized.countDown();
                 NodeSpecCollectionProvider.Progress.setDone();
             }
+            // outside the critical path, readers are not blocked anymore
+            if (persist) {
+                final var nodes = allNodes;
+                persistor.ifPresent(p -> p.save(nodes));
+            }
+        }
+
+        private Collection<NodeSpec> computeNodeSpecs() {
+            // cannot load in parallel because creation of executable extensions seems to be able to
+            // deadlock on org.eclipse.osgi.internal.serviceregistry.ServiceRegistry (at least in SDK)
+            // however, it might be possible to process nodes in parallel to node sets
+
+            // group by feature name for better progress reporting
+            final var exts = m_extensions.values().stream()//
+                .flatMap(Set::stream) //
+                .filter(Predicate.not(INodeFactoryExtension::isInternal)) //
+                .collect(Collectors.groupingBy(ext -> ext.getInstallableUnitName().orElse("KNIME Nodes")));
+
+            final var allNodes = new HashMap<String, NodeSpec>();
+
+            // for each installable unit
+            for (var nameAndExts : exts.entrySet()) {
+                var featureName = nameAndExts.getKey();
+                var extensions = nameAndExts.getValue();
+                NodeSpecCollectionProvider.Progress.setLoadingFeature(featureName);
+                LOGGER.debug("Computing node specifications for " + featureName);
+
+                extensions.stream() //
+                    .flatMap(this::computeNodeSpecIgnoringErrors) //
+                    .forEach(nodeSpec -> allNodes.put(nodeSpec.factory().id(), nodeSpec));
+            }
+            return allNodes.values();
         }
 
         /**
@@ -190,6 +222,8 @@ private Stream<NodeSpec> computeNodeSpecIgnoringErrors(final INodeFactoryExtensi
                 NodeSpecCollectionProvider.Progress.incrementDone(Stage.NODE_METADATA, nodeSpecs.size());
                 return nodeSpecs.stream();
             } catch (Throwable throwable) { // NOSONAR: extension point code cannot be trusted
+                // don't persist an incomplete result, the problem might be transient
+                m_computationFailed = true;
                 NodeFactoryProvider.logExtensionProblem(ext, throwable);
                 return Stream.empty();
             }
@@ -0,0 +1,553 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.extension;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.Platform;
+import org.knime.core.node.NodeFactory.NodeType;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.extension.NodeSpec.Factory;
+import org.knime.core.node.extension.NodeSpec.Metadata;
+import org.knime.core.node.extension.NodeSpec.Metadata.Vendor;
+import org.knime.core.node.extension.NodeSpec.Ports;
+import org.knime.core.node.extension.NodeSpec.Ports.Port;
+import org.knime.shared.workflow.def.PortTypeDef;
+import org.knime.shared.workflow.def.VendorDef;
+import org.knime.shared.workflow.def.impl.PortTypeDefBuilder;
+import org.knime.shared.workflow.def.impl.VendorDefBuilder;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Reads and writes the {@link NodeSpec node specifications} computed by the {@link NodeSpecCache} from and to a file in
+ * the data directory of this bundle. Computing the specifications requires instantiating every node, which takes a
+ * couple of seconds on a typical installation, whereas reading them from the file takes a few milliseconds.
+ * <p>
+ * The file starts with a key that is derived from the installed extensions, i.e., the symbolic names and versions of
+ * the bundles contributing nodes, the node factory ids of each extension and the node repository categories. The file
+ * is only used if its key matches the key of the current installation, which means that installing, updating or
+ * removing an extension invalidates it. Bundles with an unexpanded <code>qualifier</code> (as in an SDK launch) cannot
+ * be told apart by their version, hence no file is used in that case.
+ * </p>
+ * <p>
+ * Icons are usually resources of the contributing bundle whose URLs contain the bundle id and framework instance. They
+ * are hence stored relative to the bundle and resolved again when reading the file.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodeSpecCachePersistor {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(NodeSpecCachePersistor.class);
+
+    /** System property that disables reading and writing the node spec cache file if set to <code>true</code>. */
+    static final String PROPERTY_DISABLE_CACHE = "knime.nodespec.cache.disabled";
+
+    /** Name of the file in the bundle data directory. */
+    static final String FILE_NAME = "nodespecs.bin";
+
+    /** Identifies the file format, see {@link #FORMAT_VERSION}. */
+    private static final int MAGIC_NUMBER = 0x4B4E5343;
+
+    /** Incremented whenever the file format or the way node specs are derived from the extensions changes. */
+    static final int FORMAT_VERSION = 1;
+
+    private static final String BUNDLE_ENTRY_PROTOCOL = "bundleentry";
+
+    private static final String BUNDLE_RESOURCE_PROTOCOL = "bundleresource";
+
+    /** Tags the way an icon URL is stored. */
+    private static final byte ICON_NONE = 0;
+
+    private static final byte ICON_URL = 1;
+
+    private static final byte ICON_BUNDLE_ENTRY = 2;
+
+    private static final byte ICON_BUNDLE_RESOURCE = 3;
+
+    private final Path m_file;
+
+    private final String m_key;
+
+    /**
+     * @param file the file to read from and write to
+     * @param key identifies the set of extensions the node specs are computed from
+     */
+    NodeSpecCachePersistor(final Path file, final String key) {
+        m_file = file;
+        m_key = key;
+    }
+
+    /**
+     * @param allExtensions extension point implementations that contribute nodes or node sets
+     * @param catExts node repository category extension point implementations
+     * @return a persistor for the cache file in the data directory of this bundle or empty if the cache is disabled,
+     *         cannot be stored in this environment or the installed extensions cannot be identified reliably
+     */
+    static Optional<NodeSpecCachePersistor> create(final Map<Bundle, Set<INodeFactoryExtension>> allExtensions,
+        final Map<String, CategoryExtension> catExts) {
+        if (Boolean.getBoolean(PROPERTY_DISABLE_CACHE)) {
+            return Optional.empty();
+        }
+        final var coreBundle = FrameworkUtil.getBundle(NodeSpecCachePersistor.class);
+        final var file = coreBundle == null ? null : coreBundle.getDataFile(FILE_NAME);
+        if (file == null) {
+            return Optional.empty();
+        }
+        try {
+            return createKey(coreBundle, allExtensions, catExts)
+                .map(key -> new NodeSpecCachePersistor(file.toPath(), key));
+        } catch (Exception ex) { // NOSONAR extension point code cannot be trusted
+            LOGGER.debug("Cannot identify installed node extensions, not using node spec cache file", ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Computes a digest over everything the node specs are derived from.
+     *
+     * @return the key or empty if one of the bundles carries an unexpanded qualifier
+     */
+    private static Optional<String> createKey(final Bundle coreBundle,
+        final Map<Bundle, Set<INodeFactoryExtension>> allExtensions, final Map<String, CategoryExtension> catExts)
+        throws NoSuchAlgorithmException {
+        // sorted, as neither the map of extensions nor the sets are ordered
+        final var lines = new TreeSet<String>();
+        for (var bundleAndExts : allExtensions.entrySet()) {
+            final var bundle = bundleAndExts.getKey();
+            if ("qualifier".equals(bundle.getVersion().getQualifier())) {
+                return Optional.empty();
+            }
+            final var bundleId = bundle.getSymbolicName() + "_" + bundle.getVersion();
+            for (var ext : bundleAndExts.getValue()) {
+                final var ids = new ArrayList<>(ext.getNodeFactoryIds());
+                ids.sort(null);
+                final var line = String.join(";", bundleId, ext.getClass().getName(), Boolean.toString(ext.isHidden()),
+                    Boolean.toString(ext.isInternal()), String.join(",", ids));
+                lines.add(line);
+            }
+        }
+        for (var catExt : catExts.values()) {
+            final var line = "category;" + catExt.getCompletePath() + ";" + catExt.getName();
+            lines.add(line);
+        }
+
+        final var digest = MessageDigest.getInstance("SHA-256");
+        digest.update(("format;" + FORMAT_VERSION + ";" + coreBundle.getVersion() + "\n")
+            .getBytes(StandardCharsets.UTF_8));
+        for (var line : lines) {
+            digest.update((line + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return Optional.of(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * Reads the node specs from the file. A file that cannot be read is deleted.
+     *
+     * @return the node specs or empty if there is no file, the file was written for a different set of extensions or
+     *         cannot be read
+     */
+    Optional<List<NodeSpec>> load() {
+        if (!Files.isRegularFile(m_file)) {
+            return Optional.empty();
+        }
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(m_file)))) {
+            if (in.readInt() != MAGIC_NUMBER || in.readInt() != FORMAT_VERSION || !m_key.equals(in.readUTF())) {
+                LOGGER.debug("Installed node extensions have changed, discarding node spec cache file " + m_file);
+                return Optional.empty();
+            }
+            final var size = in.readInt();
+            final var nodeSpecs = new ArrayList<NodeSpec>(size);
+            for (var i = 0; i < size; i++) {
+                nodeSpecs.add(readNodeSpec(in));
+            }
+            return Optional.of(nodeSpecs);
+        } catch (IOException | RuntimeException ex) { // NOSONAR a broken cache is never fatal
+            LOGGER.debug("Cannot read node spec cache file " + m_file + ", deleting it", ex);
+            delete();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the node specs to the file, replacing the previous file atomically. Failures are logged only.
+     *
+     * @param nodeSpecs to write
+     */
+    void save(final Collection<NodeSpec> nodeSpecs) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(m_file.getParent());
+            tempFile = Files.createTempFile(m_file.getParent(), FILE_NAME, ".tmp");
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC_NUMBER);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(m_key);
+                out.writeInt(nodeSpecs.size());
+                for (var nodeSpec : nodeSpecs) {
+                    writeNodeSpec(out, nodeSpec);
+                }
+            }
+            Files.move(tempFile, m_file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug("Wrote " + nodeSpecs.size() + " node specifications to " + m_file);
+        } catch (IOException | RuntimeException ex) { // NOSONAR a missing cache is never fatal
+            LOGGER.debug("Cannot write node spec cache file " + m_file, ex);
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ioe) {
+                    LOGGER.debug("Cannot delete temporary file " + tempFile, ioe);
+                }
+            }
+        }
+    }
+
+    private void delete() {
+        try {
+            Files.deleteIfExists(m_file);
+        } catch (IOException ex) {
+            LOGGER.debug("Cannot delete node spec cache file " + m_file, ex);
+        }
+    }
+
+    // -- node spec --
+
+    private static void writeNodeSpec(final DataOutputStream out, final NodeSpec nodeSpec) throws IOException {
+        writeFactory(out, nodeSpec.factory());
+        writeString(out, nodeSpec.type() == null ? null : nodeSpec.type().name());
+        writePorts(out, nodeSpec.ports());
+        writeMetadata(out, nodeSpec.metadata());
+        writeIcon(out, nodeSpec.icon());
+        out.writeBoolean(nodeSpec.deprecated());
+        out.writeBoolean(nodeSpec.hidden());
+    }
+
+    private static NodeSpec readNodeSpec(final DataInputStream in) throws IOException {
+        final var factory = readFactory(in);
+        final var type = readNodeType(in);
+        final var ports = readPorts(in);
+        final var metadata = readMetadata(in);
+        final var icon = readIcon(in);
+        final var deprecated = in.readBoolean();
+        final var hidden = in.readBoolean();
+        return new NodeSpec(factory, type, ports, metadata, icon, deprecated, hidden);
+    }
+
+    private static void writeFactory(final DataOutputStream out, final Factory factory) throws IOException {
+        writeString(out, factory.id());
+        writeString(out, factory.className());
+        final var settings = factory.factorySettings();
+        out.writeBoolean(settings != null);
+        if (settings != null) {
+            final var bytes = new ByteArrayOutputStream();
+            settings.saveToXML(bytes);
+            out.writeInt(bytes.size());
+            bytes.writeTo(out);
+        }
+    }
+
+    private static Factory readFactory(final DataInputStream in) throws IOException {
+        final var id = readString(in);
+        final var className = readString(in);
+        NodeSettings settings = null;
+        if (in.readBoolean()) {
+            final var bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            settings = (NodeSettings)NodeSettings.loadFromXML(new ByteArrayInputStream(bytes));
+        }
+        return new Factory(id, className, settings);
+    }
+
+    private static NodeType readNodeType(final DataInputStream in) throws IOException {
+        final var name = readString(in);
+        return name == null ? null : NodeType.valueOf(name);
+    }
+
+    // -- ports --
+
+    private static void writePorts(final DataOutputStream out, final Ports ports) throws IOException {
+        writePortList(out, ports.inputPorts());
+        out.writeInt(ports.supportedInputPortTypes().size());
+        for (var type : ports.supportedInputPortTypes()) {
+            writePortType(out, type);
+        }
+        writePortList(out, ports.outputPorts());
+    }
+
+    private static Ports readPorts(final DataInputStream in) throws IOException {
+        final var inputPorts = readPortList(in);
+        final var size = in.readInt();
+        final var supportedInputPortTypes = new ArrayList<PortTypeDef>(size);
+        for (var i = 0; i < size; i++) {
+            supportedInputPortTypes.add(readPortType(in));
+        }
+        final var outputPorts = readPortList(in);
+        return new Ports(inputPorts, List.copyOf(supportedInputPortTypes), outputPorts);
+    }
+
+    private static void writePortList(final DataOutputStream out, final List<Port> ports) throws IOException {
+        out.writeInt(ports.size());
+        for (var port : ports) {
+            out.writeInt(port.index());
+            writePortType(out, port.type());
+            writeString(out, port.name());
+            writeString(out, port.description());
+        }
+    }
+
+    private static List<Port> readPortList(final DataInputStream in) throws IOException {
+        final var size = in.readInt();
+        final var ports = new ArrayList<Port>(size);
+        for (var i = 0; i < size; i++) {
+            final var index = in.readInt();
+            final var type = readPortType(in);
+            final var name = readString(in);
+            final var description = readString(in);
+            ports.add(new Port(index, type, name, description));
+        }
+        return List.copyOf(ports);
+    }
+
+    private static void writePortType(final DataOutputStream out, final PortTypeDef type) throws IOException {
+        writeString(out, type.getName());
+        writeInteger(out, type.getColor());
+        writeBoolean(out, type.isHidden());
+        writeBoolean(out, type.isOptional());
+        writeString(out, type.getPortObjectClass());
+        writeString(out, type.getPortObjectSpecClass());
+    }
+
+    private static PortTypeDef readPortType(final DataInputStream in) throws IOException {
+        return new PortTypeDefBuilder() //
+            .setName(readString(in)) //
+            .setColor(readInteger(in)) //
+            .setHidden(readBoolean(in)) //
+            .setOptional(readBoolean(in)) //
+            .setPortObjectClass(readString(in)) //
+            .setPortObjectSpecClass(readString(in)) //
+            .build();
+    }
+
+    // -- metadata --
+
+    private static void writeMetadata(final DataOutputStream out, final Metadata metadata) throws IOException {
+        writeVendorDef(out, metadata.vendor().feature());
+        writeVendorDef(out, metadata.vendor().bundle());
+        writeString(out, metadata.nodeName());
+        writeString(out, metadata.nodeType() == null ? null : metadata.nodeType().name());
+        writeString(out, metadata.categoryPath());
+        writeString(out, metadata.afterID());
+        writeStringList(out, metadata.keywords());
+        writeStringList(out, metadata.tags());
+    }
+
+    private static Metadata readMetadata(final DataInputStream in) throws IOException {
+        final var vendor = new Vendor(readVendorDef(in), readVendorDef(in));
+        final var nodeName = readString(in);
+        final var nodeType = readNodeType(in);
+        final var categoryPath = readString(in);
+        final var afterID = readString(in);
+        final var keywords = readStringList(in);
+        final var tags = readStringList(in);
+        return new Metadata(vendor, nodeName, nodeType, categoryPath, afterID, keywords, tags);
+    }
+
+    private static void writeVendorDef(final DataOutputStream out, final VendorDef vendorDef) throws IOException {
+        writeString(out, vendorDef.getName());
+        writeString(out, vendorDef.getSymbolicName());
+        writeString(out, vendorDef.getVendor());
+        writeString(out, vendorDef.getVersion());
+    }
+
+    private static VendorDef readVendorDef(final DataInputStream in) throws IOException {
+        return new VendorDefBuilder() //
+            .setName(readString(in)) //
+            .setSymbolicName(readString(in)) //
+            .setVendor(readString(in)) //
+            .setVersion(readString(in)) //
+            .build();
+    }
+
+    // -- icon --
+
+    private static void writeIcon(final DataOutputStream out, final URL icon) throws IOException {
+        if (icon == null) {
+            out.writeByte(ICON_NONE);
+            return;
+        }
+        final var protocol = icon.getProtocol();
+        if (BUNDLE_ENTRY_PROTOCOL.equals(protocol) || BUNDLE_RESOURCE_PROTOCOL.equals(protocol)) {
+            // host is "<bundle id>.fwk<framework hash>", both differ between runs
+            final var host = icon.getHost();
+            final var dot = host.indexOf('.');
+            final var coreBundle = FrameworkUtil.getBundle(NodeSpecCachePersistor.class);
+            final var bundle = dot < 0 || coreBundle == null ? null
+                : coreBundle.getBundleContext().getBundle(Long.parseLong(host.substring(0, dot)));
+            if (bundle == null) {
+                throw new IOException("Cannot determine bundle of node icon " + icon);
+            }
+            out.writeByte(BUNDLE_ENTRY_PROTOCOL.equals(protocol) ? ICON_BUNDLE_ENTRY : ICON_BUNDLE_RESOURCE);
+            writeString(out, bundle.getSymbolicName());
+            writeString(out, icon.getPath());
+        } else {
+            out.writeByte(ICON_URL);
+            writeString(out, icon.toExternalForm());
+        }
+    }
+
+    @SuppressWarnings("deprecation") // URL(String) is the inverse of URL#toExternalForm
+    private static URL readIcon(final DataInputStream in) throws IOException {
+        final var kind = in.readByte();
+        switch (kind) {
+            case ICON_NONE:
+                return null;
+            case ICON_URL:
+                try {
+                    return new URL(readString(in));
+                } catch (MalformedURLException ex) {
+                    throw new IOException("Invalid node icon URL", ex);
+                }
+            case ICON_BUNDLE_ENTRY:
+            case ICON_BUNDLE_RESOURCE:
+                final var symbolicName = readString(in);
+                final var path = readString(in);
+                final var bundle = Platform.getBundle(symbolicName);
+                final var icon = bundle == null ? null
+                    : (kind == ICON_BUNDLE_ENTRY ? bundle.getEntry(path) : bundle.getResource(path));
+                if (icon == null) {
+                    throw new IOException("Cannot resolve node icon " + path + " in bundle " + symbolicName);
+                }
+                return icon;
+            default:
+                throw new IOException("Unknown node icon kind " + kind);
+        }
+    }
+
+    // -- primitives --
+
+    private static void writeString(final DataOutputStream out, final String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+        } else {
+            // not DataOutput#writeUTF, which is limited to 64KB (port descriptions may be longer)
+            final var bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final var length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStringList(final DataOutputStream out, final List<String> list) throws IOException {
+        out.writeInt(list.size());
+        for (var s : list) {
+            writeString(out, s);
+        }
+    }
+
+    private static List<String> readStringList(final DataInputStream in) throws IOException {
+        final var size = in.readInt();
+        final var list = new ArrayList<String>(size);
+        for (var i = 0; i < size; i++) {
+            list.add(readString(in));
+        }
+        return List.copyOf(list);
+    }
+
+    private static void writeInteger(final DataOutputStream out, final Integer i) throws IOException {
+        out.writeBoolean(i != null);
+        if (i != null) {
+            out.writeInt(i);
+        }
+    }
+
+    private static Integer readInteger(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeBoolean(final DataOutputStream out, final Boolean b) throws IOException {
+        out.writeByte(b == null ? -1 : (b ? 1 : 0));
+    }
+
+    private static Boolean readBoolean(final DataInputStream in) throws IOException {
+        final var b = in.readByte();
+        return b < 0 ? null : b == 1;
+    }
+}
@@ -0,0 +1,507 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.property.hilite;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.knime.core.data.RowKey;
+
+/**
+ * The hilite state of a {@link HiLiteHandler}. Row keys are mapped to dense indices (in the order they are first
+ * hilit), and the set of hilit keys is stored as a compressed bitmap over these indices. The bitmap is organized like a roaring bitmap: the index space is split
+ * into chunks of 2<sup>16</sup> indices, each of which is stored either as sorted array (sparse chunks) or as plain
+ * bitmap (dense chunks).
+ *
+ * <p>
+ * The bitmap may be read concurrently without locking, but must only be modified by one thread at a time (the
+ * handler's methods are synchronized). Published chunks are never modified; an update copies only the chunks it
+ * touches and then publishes a new snapshot. Hence the cost of an update is proportional to the number of changed keys
+ * (and the chunks they fall into) rather than to the number of hilit keys.
+ *
+ * <p>
+ * Unhiliting a key keeps its index so that hiliting it again is cheap. Once the unhilit keys with an index outnumber
+ * the hilit ones (by a factor of {@value #COMPACTION_FACTOR}), the indices are compacted, i.e., reassigned to the
+ * hilit keys only. Hence the memory for the indices is bounded by the number of hilit keys and the cost of the
+ * compaction is amortized over the unhilited keys.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class HiLiteBitmap {
+
+    /** Number of bits to shift an index to get its chunk. */
+    private static final int CHUNK_BITS = 16;
+
+    /** Number of long words in a bitmap chunk. */
+    private static final int CHUNK_WORDS = (1 << CHUNK_BITS) / Long.SIZE;
+
+    /** Maximum cardinality of chunks stored as sorted array (in which they are smaller than a bitmap chunk). */
+    private static final int MAX_ARRAY_CHUNK_SIZE = 4096;
+
+    /** Initial capacity of the index-to-key array. */
+    private static final int INITIAL_KEY_CAPACITY = 64;
+
+    /** Indices are compacted if there are more than this many times as many indexed keys as hilit keys. */
+    private static final int COMPACTION_FACTOR = 2;
+
+    /**
+     * The immutable published state. A new snapshot is created for each update; the key dictionary is shared between
+     * snapshots as it is append-only (and replaced by a new one when compacted).
+     */
+    private static final class Snapshot {
+
+        private final Map<RowKey, Integer> m_indices;
+
+        private final RowKey[] m_keys;
+
+        private final Chunk[] m_chunks;
+
+        private final int m_cardinality;
+
+        Snapshot(final Map<RowKey, Integer> indices, final RowKey[] keys, final Chunk[] chunks,
+            final int cardinality) {
+            m_indices = indices;
+            m_keys = keys;
+            m_chunks = chunks;
+            m_cardinality = cardinality;
+        }
+
+        boolean contains(final RowKey key) {
+            final Integer index = m_indices.get(key);
+            if (index == null) {
+                return false;
+            }
+            final int chunk = index >>> CHUNK_BITS;
+            return chunk < m_chunks.length && m_chunks[chunk] != null && m_chunks[chunk].contains((char)index.intValue());
+        }
+    }
+
+    /** An immutable chunk of 2<sup>16</sup> indices. */
+    private abstract static class Chunk {
+
+        abstract boolean contains(char low);
+
+        abstract int cardinality();
+
+        /** Sets the bits of this chunk in the given bitmap words. */
+        abstract void copyTo(long[] words);
+
+        /** Calls the consumer for all set indices, with the chunk's offset added. */
+        abstract void forEach(int offset, IndexConsumer consumer);
+
+        /** Creates the smaller of both representations of the bits in the given words. */
+        static Chunk of(final long[] words, final int cardinality) {
+            if (cardinality == 0) {
+                return null;
+            }
+            if (cardinality > MAX_ARRAY_CHUNK_SIZE) {
+                return new BitmapChunk(words, cardinality);
+            }
+            final char[] values = new char[cardinality];
+            int i = 0;
+            for (int w = 0; w < words.length; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    values[i++] = (char)((w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayChunk(values);
+        }
+    }
+
+    /** Sparse chunk, stored as sorted array of the lower 16 bits of the set indices. */
+    private static final class ArrayChunk extends Chunk {
+
+        private final char[] m_values;
+
+        ArrayChunk(final char[] values) {
+            m_values = values;
+        }
+
+        @Override
+        boolean contains(final char low) {
+            return Arrays.binarySearch(m_values, low) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return m_values.length;
+        }
+
+        @Override
+        void copyTo(final long[] words) {
+            for (final char value : m_values) {
+                words[value >>> 6] |= 1L << value;
+            }
+        }
+
+        @Override
+        void forEach(final int offset, final IndexConsumer consumer) {
+            for (final char value : m_values) {
+                consumer.accept(offset + value);
+            }
+        }
+    }
+
+    /** Dense chunk, stored as plain bitmap. */
+    private static final class BitmapChunk extends Chunk {
+
+        private final long[] m_words;
+
+        private final int m_cardinality;
+
+        BitmapChunk(final long[] words, final int cardinality) {
+            m_words = words;
+            m_cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(final char low) {
+            return (m_words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return m_cardinality;
+        }
+
+        @Override
+        void copyTo(final long[] words) {
+            System.arraycopy(m_words, 0, words, 0, CHUNK_WORDS);
+        }
+
+        @Override
+        void forEach(final int offset, final IndexConsumer consumer) {
+            for (int w = 0; w < m_words.length; w++) {
+                long word = m_words[w];
+                while (word != 0) {
+                    consumer.accept(offset + (w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexConsumer {
+        void accept(int index);
+    }
+
+    /**
+     * A pending modification of the bitmap. Touched chunks are copied into mutable bitmaps on first access; committing
+     * compresses them again and publishes a new snapshot.
+     */
+    private final class Update {
+
+        private final Snapshot m_base;
+
+        private final boolean m_fromEmpty;
+
+        private final Map<Integer, long[]> m_touched = new HashMap<>();
+
+        private int m_cardinality;
+
+        Update(final Snapshot base, final boolean fromEmpty) {
+            m_base = base;
+            m_fromEmpty = fromEmpty;
+            m_cardinality = fromEmpty ? 0 : base.m_cardinality;
+        }
+
+        private long[] words(final int chunk) {
+            return m_touched.computeIfAbsent(chunk, c -> {
+                final long[] words = new long[CHUNK_WORDS];
+                if (!m_fromEmpty && c < m_base.m_chunks.length && m_base.m_chunks[c] != null) {
+                    m_base.m_chunks[c].copyTo(words);
+                }
+                return words;
+            });
+        }
+
+        boolean set(final int index) {
+            final long[] words = words(index >>> CHUNK_BITS);
+            final int w = (index >>> 6) & (CHUNK_WORDS - 1);
+            final long mask = 1L << index;
+            if ((words[w] & mask) != 0) {
+                return false;
+            }
+            words[w] |= mask;
+            m_cardinality++;
+            return true;
+        }
+
+        boolean clear(final int index) {
+            final int chunk = index >>> CHUNK_BITS;
+            if (!m_touched.containsKey(chunk) && (m_fromEmpty || chunk >= m_base.m_chunks.length
+                || m_base.m_chunks[chunk] == null || !m_base.m_chunks[chunk].contains((char)index))) {
+                // avoid copying chunks for keys that are not hilit
+                return false;
+            }
+            final long[] words = words(chunk);
+            final int w = (index >>> 6) & (CHUNK_WORDS - 1);
+            final long mask = 1L << index;
+            if ((words[w] & mask) == 0) {
+                return false;
+            }
+            words[w] &= ~mask;
+            m_cardinality--;
+            return true;
+        }
+
+        void commit() {
+            int length = m_fromEmpty ? 0 : m_base.m_chunks.length;
+            for (final Integer chunk : m_touched.keySet()) {
+                length = Math.max(length, chunk + 1);
+            }
+            final Chunk[] chunks =
+                m_fromEmpty ? new Chunk[length] : Arrays.copyOf(m_base.m_chunks, length);
+            for (final Map.Entry<Integer, long[]> e : m_touched.entrySet()) {
+                final long[] words = e.getValue();
+                int cardinality = 0;
+                for (final long word : words) {
+                    cardinality += Long.bitCount(word);
+                }
+                chunks[e.getKey()] = Chunk.of(words, cardinality);
+            }
+            m_snapshot = new Snapshot(m_indices, m_keys, chunks, m_cardinality);
+        }
+    }
+
+    /** The published state, read without locking. */
+    private volatile Snapshot m_snapshot;
+
+    /** Maps row keys to their dense indices (writer side, shared with the snapshots). */
+    private Map<RowKey, Integer> m_indices;
+
+    /** Maps dense indices to row keys (writer side, shared with the snapshots until it needs to grow). */
+    private RowKey[] m_keys;
+
+    /** The number of row keys with an assigned index. */
+    private int m_nrKeys;
+
+    /** Creates an empty bitmap. */
+    HiLiteBitmap() {
+        resetIndices();
+        m_snapshot = new Snapshot(m_indices, m_keys, new Chunk[0], 0);
+    }
+
+    private void resetIndices() {
+        m_indices = new ConcurrentHashMap<>();
+        m_keys = new RowKey[INITIAL_KEY_CAPACITY];
+        m_nrKeys = 0;
+    }
+
+    /**
+     * @param key a non-<code>null</code> row key
+     * @return whether the key is contained; doesn't require synchronization
+     */
+    boolean contains(final RowKey key) {
+        return m_snapshot.contains(key);
+    }
+
+    /**
+     * @return the number of contained keys; doesn't require synchronization
+     */
+    int size() {
+        return m_snapshot.m_cardinality;
+    }
+
+    /**
+     * @return whether no keys are contained; doesn't require synchronization
+     */
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return a new set containing all contained keys, in the order of their indices; doesn't require synchronization
+     */
+    Set<RowKey> toSet() {
+        final Snapshot snapshot = m_snapshot;
+        final Set<RowKey> keys = new LinkedHashSet<>();
+        for (int c = 0; c < snapshot.m_chunks.length; c++) {
+            if (snapshot.m_chunks[c] != null) {
+                snapshot.m_chunks[c].forEach(c << CHUNK_BITS, i -> keys.add(snapshot.m_keys[i]));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * @return the number of row keys with an assigned index, i.e., the hilit keys and the unhilit keys that have not
+     *         been compacted away yet
+     */
+    int getNrIndices() {
+        return m_nrKeys;
+    }
+
+    private int indexOf(final RowKey key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key array must not contains null elements.");
+        }
+        final Integer index = m_indices.get(key);
+        if (index != null) {
+            return index;
+        }
+        if (m_nrKeys == m_keys.length) {
+            if (m_nrKeys == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Too many row keys to hilite");
+            }
+            // the old array stays valid for the published snapshots
+            m_keys = Arrays.copyOf(m_keys, (int)Math.min(Integer.MAX_VALUE, 2L * m_keys.length));
+        }
+        final int newIndex = m_nrKeys++;
+        m_keys[newIndex] = key;
+        m_indices.put(key, newIndex);
+        return newIndex;
+    }
+
+    /**
+     * Adds the given keys.
+     *
+     * @param keys the keys to add
+     * @return the keys that have not been contained before, in iteration order
+     * @throws IllegalArgumentException if the collection contains <code>null</code> (nothing is added then)
+     */
+    Set<RowKey> addAll(final Collection<RowKey> keys) {
+        final Update update = new Update(m_snapshot, false);
+        final Set<RowKey> added = new LinkedHashSet<>();
+        for (final RowKey key : keys) {
+            if (update.set(indexOf(key))) {
+                added.add(key);
+            }
+        }
+        if (!added.isEmpty()) {
+            update.commit();
+        }
+        return added;
+    }
+
+    /**
+     * Removes the given keys.
+     *
+     * @param keys the keys to remove
+     * @return the keys that have been contained before, in iteration order
+     * @throws IllegalArgumentException if the collection contains <code>null</code> (nothing is removed then)
+     */
+    Set<RowKey> removeAll(final Collection<RowKey> keys) {
+        final Snapshot snapshot = m_snapshot;
+        final Update update = new Update(snapshot, false);
+        final Set<RowKey> removed = new LinkedHashSet<>();
+        for (final RowKey key : keys) {
+            if (key == null) {
+                throw new IllegalArgumentException("Key array must not contains null elements.");
+            }
+            final Integer index = snapshot.m_indices.get(key);
+            if (index != null && update.clear(index)) {
+                removed.add(key);
+            }
+        }
+        if (!removed.isEmpty()) {
+            update.commit();
+            if (m_nrKeys > COMPACTION_FACTOR * m_snapshot.m_cardinality + INITIAL_KEY_CAPACITY) {
+                compact();
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * @param keys a set of non-<code>null</code> keys
+     * @return whether exactly the given keys are contained
+     */
+    boolean containsExactly(final Set<RowKey> keys) {
+        final Snapshot snapshot = m_snapshot;
+        if (snapshot.m_cardinality != keys.size()) {
+            return false;
+        }
+        for (final RowKey key : keys) {
+            if (!snapshot.contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the contained keys with the given ones in a single step, i.e., concurrent readers either see the old or
+     * the new keys.
+     *
+     * @param keys the new keys
+     * @throws IllegalArgumentException if the collection contains <code>null</code>
+     */
+    void replace(final Collection<RowKey> keys) {
+        if (keys.isEmpty()) {
+            clear();
+            return;
+        }
+        // the old indices stay valid for the published snapshot
+        resetIndices();
+        final Update update = new Update(m_snapshot, true);
+        for (final RowKey key : keys) {
+            update.set(indexOf(key));
+        }
+        update.commit();
+    }
+
+    /** Reassigns the indices to the hilit keys only, keeping their order. */
+    private void compact() {
+        replace(toSet());
+    }
+
+    /** Removes all keys and drops their indices. */
+    void clear() {
+        resetIndices();
+        m_snapshot = new Snapshot(m_indices, m_keys, new Chunk[0], 0);
+    }
+}
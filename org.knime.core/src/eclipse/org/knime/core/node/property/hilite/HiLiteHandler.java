@@ -59,10 +59,11 @@
  * <code>HiLiteHandler</code> implementation which receives hilite change
  * requests, answers, queries, and notifies registered listeners.
  * <p>
- * This implementation keeps a list of row keys only for the hilit items.
- * Furthermore, an event is only sent for items whose status actually changed.
- * The list of hilite keys is modified (delete or add keys) before the actual
- * event is send.
+ * This implementation keeps the hilite status of the row keys in a compressed
+ * bitmap over dense row key indices, which is updated incrementally and can be
+ * queried without locking. Furthermore, an event is only sent for items whose
+ * status actually changed. The hilite status is modified (delete or add keys)
+ * before the actual event is send.
  * <p>
  * Do NOT derive this class which intended to be final but can't due to the
  * historical <code>DefaultHiLiteHandler</code> class.
@@ -102,8 +103,8 @@ public class HiLiteHandler {
     /** List of registered <code>HiLiteListener</code>s to fire event to. */
     private final CopyOnWriteArrayList<HiLiteListener> m_listenerList;
 
-    /** Set of non-<code>null</code> hilit items. */
-    private Set<RowKey> m_hiLitKeys;
+    /** Hilite status of the non-<code>null</code> items. */
+    private final HiLiteBitmap m_hiLitKeys;
 
     /** Not-null if this {@link HiLiteHandler} is associated with one or more {@link HiLiteTranslator}s */
     private Set<HiLiteTranslator> m_hiliteTranslators;
@@ -119,7 +120,7 @@ public HiLiteHandler() {
         m_hiliteHandlerID = UUID.randomUUID();
         m_listenerList = new CopyOnWriteArrayList<>();
         // initialize item list
-        m_hiLitKeys = new LinkedHashSet<>();
+        m_hiLitKeys = new HiLiteBitmap();
         m_hiliteTranslators = new LinkedHashSet<>();
         m_hiliteManagers = new LinkedHashSet<>();
     }
@@ -369,8 +370,6 @@ public synchronized void fireHiLiteEvent(final KeyEvent event, final boolean asy
             throw new NullPointerException("KeyEvent must not be null");
         }
 
-        Set<RowKey> newHilitKeys = new LinkedHashSet<RowKey>(m_hiLitKeys);
-
         /*
          * Do not change this implementation, unless you are aware of the
          * following problem:
@@ -388,23 +387,11 @@ public synchronized void fireHiLiteEvent(final KeyEvent event, final boolean asy
         if (ids.isEmpty()) {
             return;
         }
-        // create list of row keys from input key array
-        final Set<RowKey> changedIDs = new LinkedHashSet<RowKey>();
-        // iterates over all keys and adds them to the changed set
-        for (final RowKey id : ids) {
-            if (id == null) {
-                throw new IllegalArgumentException(
-                        "Key array must not contains null elements.");
-            }
-            // if the key is already hilit, do not add it
-            if (newHilitKeys.add(id)) {
-                changedIDs.add(id);
-            }
-        }
+        // hilites the keys, the ones already hilit are not part of the changed set
+        final Set<RowKey> changedIDs = m_hiLitKeys.addAll(ids);
 
         // if at least on key changed
         if (!changedIDs.isEmpty()) {
-            m_hiLitKeys = newHilitKeys;
             final KeyEvent fireEvent =
                 new KeyEvent(event.getSource(), changedIDs);
             final Runnable r = new Runnable() {
@@ -473,23 +460,10 @@ public synchronized void fireUnHiLiteEvent(final KeyEvent event, final boolean a
             return;
         }
 
-        Set<RowKey> newHilitKeys = new LinkedHashSet<RowKey>(m_hiLitKeys);
-
-        // create list of row keys from input key array
-        final Set<RowKey> changedIDs = new LinkedHashSet<RowKey>();
-        // iterate over all keys and removes all not hilit ones
-        for (final RowKey id : ids) {
-            if (id == null) {
-                throw new IllegalArgumentException(
-                        "Key array must not contains null elements.");
-            }
-            if (newHilitKeys.remove(id)) {
-                changedIDs.add(id);
-            }
-        }
+        // unhilites the keys, the ones not hilit are not part of the changed set
+        final Set<RowKey> changedIDs = m_hiLitKeys.removeAll(ids);
         // if at least on key changed
         if (!changedIDs.isEmpty()) {
-            m_hiLitKeys = newHilitKeys;
             // throw unhilite event
             final KeyEvent fireEvent = new KeyEvent(
                     event.getSource(), changedIDs);
@@ -538,7 +512,7 @@ public synchronized void fireClearHiLiteEvent(final KeyEvent event) {
          * more details.
          */
         if (!m_hiLitKeys.isEmpty()) {
-            m_hiLitKeys = new LinkedHashSet<RowKey>();
+            m_hiLitKeys.clear();
             final Runnable r = new Runnable() {
                 @Override
                 public void run() {
@@ -607,8 +581,8 @@ public synchronized void fireReplaceHiLiteEvent(final KeyEvent event, final bool
         Objects.requireNonNull(event, "KeyEvent must not be null");
 
         final var keys = event.keys();
-        if (!m_hiLitKeys.equals(keys)) {
-            m_hiLitKeys = new LinkedHashSet<>(keys);
+        if (!m_hiLitKeys.containsExactly(keys)) {
+            m_hiLitKeys.replace(keys);
             Runnable r = () -> {
                 for (final HiLiteListener l : m_listenerList) {
                     try {
@@ -627,11 +601,11 @@ public synchronized void fireReplaceHiLiteEvent(final KeyEvent event, final bool
     }
 
     /**
-     * Returns a copy of all hilit keys.
+     * Returns a copy of all hilit keys, in the order in which they have first been hilit.
      * @return a set of hilit row keys
      * @see HiLiteHandler#getHiLitKeys()
      */
     public Set<RowKey> getHiLitKeys() {
-        return new LinkedHashSet<RowKey>(m_hiLitKeys);
+        return m_hiLitKeys.toSet();
     }
 }
@@ -2044,20 +2044,29 @@ private static void saveContent(final WorkflowManager wm, final NodeSettings pre
 
             NodeSettingsWO nodesSettings = saveSettingsForNodes(preFilledSettings);
             Collection<NodeContainer> nodes = wm.getNodeContainers();
-            double progRatio = 1.0 / (nodes.size() + 1);
-
-            for (NodeContainer nextNode : nodes) {
-                int id = nextNode.getID().getIndex();
-                ExecutionMonitor subExec = execMon.createSubProgress(progRatio);
-                execMon.setMessage(nextNode.getNameWithID());
-                NodeSettingsWO sub = nodesSettings.addNodeSettings("node_" + id);
-                NodeContext.pushContext(nextNode);
-                try {
-                    saveNodeContainer(sub, workflowDirRef, nextNode, subExec, saveHelper);
-                } finally {
-                    NodeContext.removeLastContext();
+            // the outermost save writes the data of the nodes (in this workflow and all metanodes and components
+            // contained in it) concurrently and waits for it before the workflow file is written
+            try (WorkflowIOExecutor.SaveScope ioScope = WorkflowIOExecutor.openSaveScope(execMon)) {
+                double dataRatio = ioScope.isDeferring() ? 0.5 : 0.0;
+                double progRatio = (1.0 - dataRatio) / (nodes.size() + 1);
+
+                for (NodeContainer nextNode : nodes) {
+                    int id = nextNode.getID().getIndex();
+                    ExecutionMonitor subExec = execMon.createSubProgress(progRatio);
+                    execMon.setMessage(nextNode.getNameWithID());
+                    NodeSettingsWO sub = nodesSettings.addNodeSettings("node_" + id);
+                    NodeContext.pushContext(nextNode);
+                    try {
+                        saveNodeContainer(sub, workflowDirRef, nextNode, subExec, saveHelper);
+                    } finally {
+                        NodeContext.removeLastContext();
+                    }
+                    subExec.setProgress(1.0);
+                }
+                if (ioScope.isDeferring()) {
+                    execMon.setMessage("node data");
+                    ioScope.awaitWrites(execMon.createSubProgress(dataRatio));
                 }
-                subExec.setProgress(1.0);
             }
 
             execMon.setMessage("connection information");
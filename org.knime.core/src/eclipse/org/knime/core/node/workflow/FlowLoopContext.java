@@ -47,6 +47,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.knime.core.data.filestore.internal.ILoopStartWriteFileStoreHandler;
 import org.knime.core.node.util.ConvenienceMethods;
@@ -64,6 +65,15 @@ public class FlowLoopContext extends FlowScopeContext {
     private ILoopStartWriteFileStoreHandler m_fileStoreHandler;
     private NodeID m_tailNode;
 
+    /** See {@link LoopStartNode#isFastIterationEnabled()}, set when the loop is restarted. */
+    private volatile boolean m_fastIteration;
+
+    /** Time spent by the framework restarting the loop, summed over all iterations. */
+    private AtomicLong m_restartOverheadNanos = new AtomicLong();
+
+    /** Number of times the configuration of a loop body node was skipped in the fast iteration mode. */
+    private AtomicLong m_configureCacheHits = new AtomicLong();
+
     /**
      * This field is "transient" and doesn't need to be saved as part of the workflow. Details see
      * {@link #getPropagatedVarsNames()} and serialization in
@@ -121,6 +131,55 @@ public final int incrementIterationIndex() {
         return ++m_iterationIndex;
     }
 
+    /**
+     * @return whether the loop runs in the fast iteration mode, see {@link LoopStartNode#isFastIterationEnabled()}
+     * @since 5.3
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public boolean isFastIteration() {
+        return m_fastIteration;
+    }
+
+    void setFastIteration(final boolean fastIteration) {
+        m_fastIteration = fastIteration;
+    }
+
+    /**
+     * Per-loop overhead counter: the time the framework spent between the end of an iteration and the start of the
+     * next one (resetting, configuring and re-queuing the loop body), summed over all iterations so far.
+     *
+     * @return the overhead in nanoseconds
+     * @since 5.3
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public long getRestartOverheadNanos() {
+        return m_restartOverheadNanos.get();
+    }
+
+    void addRestartOverheadNanos(final long nanos) {
+        m_restartOverheadNanos.addAndGet(nanos);
+    }
+
+    /**
+     * @return number of times the configuration of a loop body node was skipped since its input specs and settings
+     *         were unchanged, only in the fast iteration mode
+     * @since 5.3
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public long getConfigureCacheHits() {
+        return m_configureCacheHits.get();
+    }
+
+    /**
+     * Counts a skipped configuration of a loop body node.
+     *
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 5.3
+     */
+    public void incrementConfigureCacheHits() {
+        m_configureCacheHits.incrementAndGet();
+    }
+
     /** Whether the entire loop needs to be reset when changes to the body are made.
      * True if at least one iteration has been run (that is, the tail node is assigned)
      * or the loop is restored from disk (overwritten in {@link RestoredFlowLoopContext}).
@@ -137,6 +196,9 @@ protected FlowObject cloneAndUnsetOwner() {
         clone.m_tailNode = null;
         clone.m_iterationIndex = 0;
         clone.m_fileStoreHandler = null;
+        clone.m_fastIteration = false;
+        clone.m_restartOverheadNanos = new AtomicLong();
+        clone.m_configureCacheHits = new AtomicLong();
         return clone;
     }
 
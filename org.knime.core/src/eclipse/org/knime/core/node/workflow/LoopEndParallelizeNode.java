@@ -47,6 +47,7 @@
  */
 package org.knime.core.node.workflow;
 
+import org.knime.core.node.port.PortObject;
 import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
 
 /**
@@ -66,4 +67,35 @@ public interface LoopEndParallelizeNode extends LoopEndNode {
      */
     public void updateStatus();
 
+    /**
+     * Whether this node can collect results task by task, see {@link LoopStartParallelizeNode#getNrRemoteTasks()}. If
+     * so, the results are passed to {@link #taskFinished(int, PortObject[])} and the copies of the loop body (see
+     * {@link ParallelizedChunkContentMaster#getChunk(int)}) only hold the result of the last task they processed.
+     * Completion is then tracked by {@link ParallelizedChunkContentMaster#nrFinishedTasks()} and
+     * {@link ParallelizedChunkContentMaster#nrFailedTasks()}.
+     *
+     * @return <code>true</code> if dynamic scheduling is supported, <code>false</code> by default
+     * @since 5.3
+     */
+    default boolean supportsDynamicScheduling() {
+        return false;
+    }
+
+    /**
+     * Called by the framework if dynamic scheduling is used once a task has been processed, before the copy of the
+     * loop body that processed it is reset to process the next task. The given port objects are discarded afterwards,
+     * so implementations need to copy what they need. Tasks finish in any order; implementations are responsible to
+     * assemble the results in the order of the task indices. Calls are never concurrent. Needs to be implemented if
+     * {@link #supportsDynamicScheduling()} returns <code>true</code>, which is validated before the loop body is
+     * copied (see {@link ParallelizedChunkContentMaster#checkDynamicSchedulingSupport(LoopEndParallelizeNode)}).
+     *
+     * @param taskIndex index of the task, see {@link LoopStartParallelizeNode#getVirtualNodeInput(int)}
+     * @param results the port objects at the end of the loop body
+     * @throws Exception if the results cannot be collected, which fails the task
+     * @since 5.3
+     */
+    default void taskFinished(final int taskIndex, final PortObject[] results) throws Exception { // NOSONAR
+        throw new UnsupportedOperationException("Dynamic scheduling not supported by " + getClass().getName());
+    }
+
 }
@@ -68,5 +68,25 @@
  * @author M. Berthold, University of Konstanz &amp; Bernd Wiswedel, KNIME.com
  */
 public interface LoopStartNode extends ScopeStartNode<FlowLoopContext> {
-    // marker interface only
+
+    /**
+     * Whether the loop is run in the fast iteration mode, which reduces the framework overhead of each iteration:
+     * <ul>
+     * <li>nodes in the loop body that declare their configure method as free of side effects (see
+     * {@link org.knime.core.node.NodeModel#isConfigureSideEffectFree()}) are not re-configured if their input specs
+     * and settings are the same as in the previous iteration (in which configure did neither access flow variables
+     * nor issue a warning); their previous output specs are re-used instead,</li>
+     * <li>the node state events of the loop body are coalesced into one event per node when the loop is restarted,
+     * and</li>
+     * <li>tables created in the loop body are kept in memory.</li>
+     * </ul>
+     * Loop start nodes have to opt in explicitly by overriding this method, the default is <code>false</code>.
+     *
+     * @return <code>true</code> if the loop is to be run in the fast iteration mode
+     * @see FlowLoopContext#getRestartOverheadNanos()
+     * @since 5.3
+     */
+    default boolean isFastIterationEnabled() {
+        return false;
+    }
 }
@@ -79,6 +79,23 @@ public interface LoopStartParallelizeNode extends LoopStartNode {
 	 */
     int getNrRemoteChunks();
 
+    /**
+     * Number of tasks (row ranges) to be processed remotely. By default this equals {@link #getNrRemoteChunks()}, i.e.
+     * each copy of the loop body processes exactly one chunk. Implementations may return a larger number to split
+     * their input into many small tasks. If the matching end node {@link LoopEndParallelizeNode#supportsDynamicScheduling()
+     * supports it}, the framework then creates only {@link #getNrRemoteChunks()} copies of the loop body, each of which
+     * pulls the next unprocessed task once it is done with its current one. This balances the load if the processing
+     * time varies between parts of the input. Otherwise one copy is created per task.
+     * {@link #getVirtualNodeInput(int)} is called with task indices in the range <code>[0, getNrRemoteTasks())</code>.
+     *
+     * @return overall number of remote tasks (excluding the one that is processed by the node itself), at least
+     *         {@link #getNrRemoteChunks()}
+     * @since 5.3
+     */
+    default int getNrRemoteTasks() {
+        return getNrRemoteChunks();
+    }
+
     /** Set parallel chunk master so the start node has access to clean up
      * when reset.
      *
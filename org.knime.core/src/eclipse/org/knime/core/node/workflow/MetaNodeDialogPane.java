@@ -68,6 +68,8 @@
 
 import org.knime.core.data.TableBackend;
 import org.knime.core.data.TableBackendRegistry;
+import org.knime.core.data.container.storage.TableStoreFormat;
+import org.knime.core.data.container.storage.TableStoreFormatRegistry;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeDialogPane;
 import org.knime.core.node.NodeLogger;
@@ -335,7 +337,10 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
     @SuppressWarnings("serial")
     private static final class TableBackendSelectorPanel extends JPanel {
 
+        private static final String PREFERENCE_FORMAT_ITEM = "<as per preferences>";
+
         private final JComboBox<TableBackend> m_tableBackendCombo;
+        private final JComboBox<Object> m_tableStoreFormatCombo;
         private final JPanel m_descriptionPanel;
 
         /**
@@ -360,8 +365,26 @@ public Component getListCellRendererComponent(final JList<?> list, final Object
                 }
             });
             onNewBackendSelected();
-            JPanel northPanel = ViewUtils.getInFlowLayout(FlowLayout.CENTER, m_tableBackendCombo);
-            northPanel.setBorder(BorderFactory.createTitledBorder(" Selected Table Backend "));
+            List<Object> formatItems = new ArrayList<>();
+            formatItems.add(PREFERENCE_FORMAT_ITEM);
+            formatItems.addAll(TableStoreFormatRegistry.getInstance().getTableStoreFormats());
+            m_tableStoreFormatCombo = new JComboBox<>(formatItems.toArray());
+            m_tableStoreFormatCombo.setRenderer(new DefaultListCellRenderer() { // NOSONAR
+                @Override
+                public Component getListCellRendererComponent(final JList<?> list, final Object value, final int index,
+                    final boolean isSelected, final boolean cellHasFocus) {
+                    Object newValue = value instanceof TableStoreFormat ? ((TableStoreFormat)value).getName() : value;
+                    return super.getListCellRendererComponent(list, newValue, index, isSelected, cellHasFocus);
+                }
+            });
+            JPanel backendPanel = ViewUtils.getInFlowLayout(FlowLayout.CENTER, m_tableBackendCombo);
+            backendPanel.setBorder(BorderFactory.createTitledBorder(" Selected Table Backend "));
+            JPanel formatPanel = ViewUtils.getInFlowLayout(FlowLayout.CENTER, m_tableStoreFormatCombo);
+            formatPanel.setBorder(BorderFactory.createTitledBorder(" Table Store Format (KNIME Default Backend) "));
+            JPanel northPanel = new JPanel();
+            northPanel.setLayout(new BoxLayout(northPanel, BoxLayout.Y_AXIS));
+            northPanel.add(backendPanel);
+            northPanel.add(formatPanel);
             add(northPanel, BorderLayout.NORTH);
             m_descriptionPanel.setBorder(BorderFactory.createMatteBorder(1, 0, 0, 0, Color.BLACK));
             add(m_descriptionPanel, BorderLayout.CENTER);
@@ -383,10 +406,14 @@ private void onNewBackendSelected() {
 
         void load(final WorkflowTableBackendSettings settings) {
             m_tableBackendCombo.setSelectedItem(settings.getTableBackend());
+            m_tableStoreFormatCombo.setSelectedItem(settings.getTableStoreFormat().map(Object.class::cast)
+                .orElse(PREFERENCE_FORMAT_ITEM));
         }
 
         WorkflowTableBackendSettings toBackendSettings() {
-            return new WorkflowTableBackendSettings((TableBackend)m_tableBackendCombo.getSelectedItem());
+            Object format = m_tableStoreFormatCombo.getSelectedItem();
+            return new WorkflowTableBackendSettings((TableBackend)m_tableBackendCombo.getSelectedItem(),
+                format instanceof TableStoreFormat ? (TableStoreFormat)format : null);
         }
     }
 
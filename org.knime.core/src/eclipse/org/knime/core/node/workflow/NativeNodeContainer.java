@@ -411,10 +411,26 @@ void setJobManager(final NodeExecutionJobManager je) {
     @Override
     public ExecutionContext createExecutionContext() {
         NodeProgressMonitor progressMonitor = getProgressMonitor();
-        return new ExecutionContext(progressMonitor, getNode(), getOutDataMemoryPolicy(),
+        return new ExecutionContext(progressMonitor, getNode(), getEffectiveOutDataMemoryPolicy(),
             getParent().getWorkflowDataRepository());
     }
 
+    /**
+     * The memory policy as configured by the user unless this node is part of the body of a loop running in the fast
+     * iteration mode, in which case the (usually small) intermediate tables are kept in memory if the user didn't
+     * explicitly ask for the tables to be written to disc.
+     */
+    private MemoryPolicy getEffectiveOutDataMemoryPolicy() {
+        final MemoryPolicy policy = getOutDataMemoryPolicy();
+        if (policy != MemoryPolicy.CacheSmallInMemory || isModelCompatibleTo(LoopStartNode.class)
+            || isModelCompatibleTo(LoopEndNode.class)) {
+            return policy;
+        }
+        final FlowObjectStack stack = getFlowObjectStack();
+        final FlowLoopContext flc = stack != null ? stack.peek(FlowLoopContext.class) : null;
+        return flc != null && flc.isFastIteration() ? MemoryPolicy.CacheInMemory : policy;
+    }
+
     /* ---------------- Configuration/Execution ----------------- */
 
     /** {@inheritDoc} */
@@ -47,9 +47,11 @@
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.knime.core.internal.ReferencedFile;
@@ -947,6 +949,42 @@ public void setUIInformation(final NodeUIInformation uiInformation) {
 
     /* ------------------ state ---------------*/
 
+    /**
+     * Nodes whose state change notification is deferred by the current thread, <code>null</code> if notifications are
+     * not coalesced. See {@link #beginCoalescingStateChangeNotifications()}.
+     */
+    private static final ThreadLocal<Set<NodeContainer>> COALESCED_STATE_CHANGES = new ThreadLocal<>();
+
+    /**
+     * Defers the state change notifications of all nodes whose state is changed by the current thread until
+     * {@link #endCoalescingStateChangeNotifications()}, which notifies the listeners of each of these nodes once about
+     * its final state. Used to avoid event storms when a loop body is restarted in the fast iteration mode.
+     *
+     * @return <code>true</code> if coalescing was started, <code>false</code> if notifications are already coalesced
+     *         by the current thread (in which case {@link #endCoalescingStateChangeNotifications()} must not be called)
+     */
+    static boolean beginCoalescingStateChangeNotifications() {
+        if (COALESCED_STATE_CHANGES.get() != null) {
+            return false;
+        }
+        COALESCED_STATE_CHANGES.set(new LinkedHashSet<>());
+        return true;
+    }
+
+    /**
+     * Stops coalescing and notifies the listeners of all nodes whose state changed in the meantime, see
+     * {@link #beginCoalescingStateChangeNotifications()}.
+     */
+    static void endCoalescingStateChangeNotifications() {
+        final Set<NodeContainer> changedNodes = COALESCED_STATE_CHANGES.get();
+        COALESCED_STATE_CHANGES.remove();
+        if (changedNodes != null) {
+            for (NodeContainer nc : changedNodes) {
+                nc.notifyStateChangeListeners(new NodeStateEvent(nc.getID(), nc.getInternalState()));
+            }
+        }
+    }
+
     /**
      * Notifies all registered {@link NodeStateChangeListener}s about the new
      * state.
@@ -1027,7 +1065,12 @@ boolean setInternalState(final InternalNodeContainerState state, final boolean s
             if (setDirty) {
                 setDirty();
             }
-            notifyStateChangeListeners(new NodeStateEvent(getID(), m_state));
+            final Set<NodeContainer> coalescedStateChanges = COALESCED_STATE_CHANGES.get();
+            if (coalescedStateChanges != null) {
+                coalescedStateChanges.add(this);
+            } else {
+                notifyStateChangeListeners(new NodeStateEvent(getID(), m_state));
+            }
             LOGGER.debug(() -> String.format("%s has new state: %s", this.getNameWithID(), m_state));
         }
         return changesMade;
@@ -0,0 +1,473 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.internal.ReferencedFile;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Reads and writes the data of independent nodes concurrently on a bounded thread pool while a workflow is loaded or
+ * saved (see {@link KNIMEConstants#PROPERTY_WORKFLOW_IO_THREADS}).
+ *
+ * <p>
+ * <b>Saving:</b> The structure of a workflow (settings files, node directories, dirty flags) is still saved
+ * sequentially by the thread holding the workflow lock, so the files written do not depend on the number of threads.
+ * Only writing the data of a node (its port objects, tables and file stores) is handed to this class via
+ * {@link #deferWrite(NodeContainer, ReferencedFile, IOTask, IOTask)} while a save operation is in progress on the
+ * calling thread (see {@link #openSaveScope(ExecutionMonitor)}). The outermost save operation waits for all writes
+ * before it writes the workflow file and releases the lock.
+ *
+ * <p>
+ * <b>Loading:</b> The node containers of a workflow read their data concurrently, each one after its predecessors
+ * (whose tables it may reference), see {@link NodeLoads}. Their content is still set sequentially in topological order
+ * by the thread holding the workflow lock.
+ *
+ * @noreference This class is not intended to be referenced by clients.
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.3
+ */
+public final class WorkflowIOExecutor {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowIOExecutor.class);
+
+    /** The default number of threads, see {@link KNIMEConstants#PROPERTY_WORKFLOW_IO_THREADS}. */
+    static final int DEF_NR_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    private static final int NR_THREADS = getConfiguredNrThreads();
+
+    /** The save operation in progress on the current thread, null if none or if data is written sequentially. */
+    private static final ThreadLocal<SaveScope> SAVE_SCOPE = new ThreadLocal<>();
+
+    /** Lazily created fixed size pool whose threads time out when idle. */
+    private static final class ExecutorHolder {
+        private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(NR_THREADS, NR_THREADS, 10L,
+            TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                private final AtomicLong m_threadCount = new AtomicLong();
+
+                @Override
+                public Thread newThread(final Runnable r) {
+                    final Thread t = new Thread(r, "KNIME-Workflow-IO-" + m_threadCount.getAndIncrement());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+        static {
+            EXECUTOR.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    private WorkflowIOExecutor() {
+    }
+
+    private static int getConfiguredNrThreads() {
+        final String value = System.getProperty(KNIMEConstants.PROPERTY_WORKFLOW_IO_THREADS);
+        if (value == null) {
+            return DEF_NR_THREADS;
+        }
+        try {
+            final int nrThreads = Integer.parseInt(value.trim());
+            if (nrThreads < 1) {
+                throw new NumberFormatException("value must be positive");
+            }
+            return nrThreads;
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid value for property " + KNIMEConstants.PROPERTY_WORKFLOW_IO_THREADS + " (\"" + value
+                + "\"): " + e.getMessage() + "; using default " + DEF_NR_THREADS);
+            return DEF_NR_THREADS;
+        }
+    }
+
+    /** @return whether node data is read and written concurrently, i.e. more than one thread is configured */
+    static boolean isParallel() {
+        return NR_THREADS > 1;
+    }
+
+    /**
+     * A write operation on the data of a node.
+     *
+     * @noreference This interface is not intended to be referenced by clients.
+     */
+    @FunctionalInterface
+    public interface IOTask {
+
+        /**
+         * Runs the write operation.
+         *
+         * @param exec for cancellation checks
+         * @throws IOException if writing fails
+         * @throws CanceledExecutionException if canceled
+         */
+        void run(ExecutionMonitor exec) throws IOException, CanceledExecutionException;
+    }
+
+    /**
+     * @return whether a save operation that writes the data of nodes concurrently is in progress on the calling
+     *         thread, i.e. whether data writes are to be passed to
+     *         {@link #deferWrite(NodeContainer, ReferencedFile, IOTask, IOTask)} rather than run right away
+     */
+    public static boolean isDeferringWrites() {
+        return SAVE_SCOPE.get() != null;
+    }
+
+    /**
+     * Hands the data writes of a node to the save operation in progress on the calling thread. The writes of
+     * different nodes run concurrently; the final writes (e.g. copying file stores, which must happen after all tables
+     * have been written) run once all other writes of the save operation have completed. If any write fails, the
+     * directory of the node (and the directories of its parents) are marked dirty so that they are written again by
+     * the next save.
+     *
+     * @param nc the node whose data is written
+     * @param nodeDirRef the directory of the node
+     * @param write the write operation
+     * @param finalWrite an optional write operation to run after all writes of the save operation, may be null
+     * @throws IllegalStateException if there is no such save operation in progress, see {@link #isDeferringWrites()}
+     */
+    public static void deferWrite(final NodeContainer nc, final ReferencedFile nodeDirRef, final IOTask write,
+        final IOTask finalWrite) {
+        final SaveScope scope = SAVE_SCOPE.get();
+        if (scope == null) {
+            throw new IllegalStateException("No concurrent save operation in progress");
+        }
+        scope.submit(nc, nodeDirRef, write, finalWrite);
+    }
+
+    /**
+     * Opens a save operation on the calling thread. The outermost call returns a scope that collects the writes
+     * deferred via {@link #deferWrite(NodeContainer, ReferencedFile, IOTask, IOTask)}, nested calls (metanodes,
+     * components) return a scope that does nothing.
+     *
+     * @param exec the monitor of the save operation, used for cancellation checks of the writes
+     * @return the scope, to be closed in a try-with-resources block
+     */
+    static SaveScope openSaveScope(final ExecutionMonitor exec) {
+        if (!isParallel() || SAVE_SCOPE.get() != null) {
+            return SaveScope.NESTED;
+        }
+        final SaveScope scope = new SaveScope(exec.createSilentSubProgress(0.0));
+        SAVE_SCOPE.set(scope);
+        return scope;
+    }
+
+    private static void markDirty(final ReferencedFile nodeDirRef) {
+        for (ReferencedFile ref = nodeDirRef; ref != null; ref = ref.getParent()) {
+            ref.setDirty(true);
+        }
+    }
+
+    /** The data writes of a save operation, see {@link WorkflowIOExecutor#openSaveScope(ExecutionMonitor)}. */
+    static final class SaveScope implements AutoCloseable {
+
+        private static final SaveScope NESTED = new SaveScope(null);
+
+        private final ExecutionMonitor m_taskMonitor;
+
+        private final List<Future<Void>> m_writes = new ArrayList<>();
+
+        private final List<Callable<Void>> m_finalWrites = new ArrayList<>();
+
+        private volatile boolean m_isAborted;
+
+        private SaveScope(final ExecutionMonitor taskMonitor) {
+            m_taskMonitor = taskMonitor;
+        }
+
+        /** @return whether this is the outermost scope that defers writes and needs to wait for them */
+        boolean isDeferring() {
+            return this != NESTED;
+        }
+
+        private void submit(final NodeContainer nc, final ReferencedFile nodeDirRef, final IOTask write,
+            final IOTask finalWrite) {
+            m_writes.add(ExecutorHolder.EXECUTOR.submit(toCallable(nc, nodeDirRef, write)));
+            if (finalWrite != null) {
+                m_finalWrites.add(toCallable(nc, nodeDirRef, finalWrite));
+            }
+        }
+
+        private Callable<Void> toCallable(final NodeContainer nc, final ReferencedFile nodeDirRef,
+            final IOTask task) {
+            return () -> {
+                if (m_isAborted) {
+                    return null;
+                }
+                NodeContext.pushContext(nc);
+                try {
+                    task.run(m_taskMonitor);
+                } catch (Throwable t) { // NOSONAR rethrown
+                    markDirty(nodeDirRef);
+                    throw t;
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+                return null;
+            };
+        }
+
+        /**
+         * Waits for all deferred writes, then runs and waits for the final writes. If a write fails, the remaining
+         * ones are skipped.
+         *
+         * @param exec reports the fraction of completed writes
+         * @throws IOException if a write failed
+         * @throws CanceledExecutionException if canceled
+         */
+        void awaitWrites(final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+            if (!isDeferring()) {
+                return;
+            }
+            final double total = m_writes.size() + m_finalWrites.size();
+            int done = 0;
+            try {
+                for (int i = 0; i < m_writes.size(); i++) {
+                    await(m_writes.get(i));
+                    exec.setProgress(++done / total);
+                }
+                m_writes.clear();
+                for (final Callable<Void> finalWrite : m_finalWrites) {
+                    m_writes.add(ExecutorHolder.EXECUTOR.submit(finalWrite));
+                }
+                m_finalWrites.clear();
+                for (int i = 0; i < m_writes.size(); i++) {
+                    await(m_writes.get(i));
+                    exec.setProgress(++done / total);
+                }
+                m_writes.clear();
+            } finally {
+                abort();
+            }
+            exec.setProgress(1.0);
+        }
+
+        private static void await(final Future<Void> write) throws IOException, CanceledExecutionException {
+            try {
+                write.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Interrupted while waiting for node data to be written");
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof IOException ioe) {
+                    throw ioe;
+                } else if (cause instanceof CanceledExecutionException cee) {
+                    throw cee;
+                } else if (cause instanceof RuntimeException re) {
+                    throw re;
+                } else if (cause instanceof Error err) {
+                    throw err;
+                }
+                throw new IOException(cause.getMessage(), cause);
+            }
+        }
+
+        /** Skips all writes that haven't started yet and waits for the running ones. */
+        private void abort() {
+            m_isAborted = true;
+            m_finalWrites.clear();
+            boolean isInterrupted = false;
+            for (final Future<Void> write : m_writes) {
+                while (true) {
+                    try {
+                        write.get();
+                        break;
+                    } catch (InterruptedException e) { // NOSONAR interrupt flag restored after all writes have stopped
+                        isInterrupted = true;
+                    } catch (ExecutionException e) {
+                        LOGGER.debug("Writing node data failed after save has been aborted: "
+                            + e.getCause().getMessage(), e.getCause());
+                        break;
+                    }
+                }
+            }
+            m_writes.clear();
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (isDeferring()) {
+                SAVE_SCOPE.remove();
+                abort();
+            }
+        }
+    }
+
+    /**
+     * Loads a node container, e.g. its settings, tables and port objects.
+     */
+    @FunctionalInterface
+    interface LoadTask {
+
+        /**
+         * @return whether the node needs to be reset because of load errors
+         * @throws CanceledExecutionException if canceled
+         */
+        boolean load() throws CanceledExecutionException;
+    }
+
+    /**
+     * Loads the node containers of a workflow concurrently, each one after its predecessors have been loaded. Node
+     * containers that are loaded by the calling thread (metanodes and components, which load their content
+     * recursively) are registered via {@link #addLoadedByCaller(NodeID)} and marked via {@link #setLoaded(NodeID)}.
+     * As long as the calling thread awaits and loads the node containers in topological order it never waits for a
+     * node that depends on a node it has not loaded yet.
+     */
+    static final class NodeLoads implements AutoCloseable {
+
+        private final Map<NodeID, CompletableFuture<Boolean>> m_loads = new HashMap<>();
+
+        private final List<NodeID> m_loadedByCaller = new ArrayList<>();
+
+        private volatile boolean m_isAborted;
+
+        /**
+         * Schedules the load of a node container.
+         *
+         * @param id the node
+         * @param predecessors the predecessors of the node, nodes that have not been added are ignored
+         * @param task loads the node
+         */
+        void submit(final NodeID id, final Collection<NodeID> predecessors, final LoadTask task) {
+            final CompletableFuture<?>[] predecessorLoads = predecessors.stream().map(m_loads::get)
+                .filter(Objects::nonNull).toArray(CompletableFuture[]::new);
+            m_loads.put(id, CompletableFuture.allOf(predecessorLoads)
+                .thenApplyAsync(v -> runTask(task), ExecutorHolder.EXECUTOR));
+        }
+
+        private Boolean runTask(final LoadTask task) {
+            if (m_isAborted) {
+                return Boolean.FALSE;
+            }
+            try {
+                return task.load();
+            } catch (CanceledExecutionException e) {
+                throw new CompletionException(e);
+            }
+        }
+
+        /**
+         * Adds a node container loaded by the calling thread.
+         *
+         * @param id the node
+         */
+        void addLoadedByCaller(final NodeID id) {
+            m_loads.put(id, new CompletableFuture<>());
+            m_loadedByCaller.add(id);
+        }
+
+        /**
+         * Marks a node container added via {@link #addLoadedByCaller(NodeID)} as loaded.
+         *
+         * @param id the node
+         */
+        void setLoaded(final NodeID id) {
+            m_loads.get(id).complete(Boolean.FALSE);
+        }
+
+        /**
+         * Waits until a node container submitted via {@link #submit(NodeID, Collection, LoadTask)} has been loaded.
+         *
+         * @param id the node
+         * @return the result of its {@link LoadTask}
+         * @throws CanceledExecutionException if the load of the node or of one of its predecessors was canceled
+         */
+        boolean await(final NodeID id) throws CanceledExecutionException {
+            try {
+                return m_loads.get(id).join();
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof CanceledExecutionException cee) {
+                    throw cee;
+                } else if (cause instanceof RuntimeException re) {
+                    throw re;
+                } else if (cause instanceof Error err) {
+                    throw err;
+                }
+                throw e;
+            }
+        }
+
+        /** Skips all loads that haven't started yet and waits for the running ones. */
+        @Override
+        public void close() {
+            m_isAborted = true;
+            for (final NodeID id : m_loadedByCaller) {
+                setLoaded(id); // no-op if already loaded
+            }
+            for (final CompletableFuture<Boolean> load : m_loads.values()) {
+                try {
+                    load.join();
+                } catch (CompletionException e) { // NOSONAR already reported by await
+                }
+            }
+        }
+    }
+}
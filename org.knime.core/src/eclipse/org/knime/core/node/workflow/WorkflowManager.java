@@ -93,6 +93,8 @@
 import java.util.UUID;
 import java.util.Vector;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
@@ -3604,6 +3606,8 @@ void doAfterExecution(final NodeContainer nc, final NodeContainerExecutionStatus
                         // if this was BEGIN, it's not anymore (until we do not restart it explicitly!)
                         node.setLoopEndNode(null);
                     }
+                    // the loop body as determined below, handed to restartLoop so it's not traversed twice
+                    ArrayList<NodeAndInports> knownLoopBodyNodes = null;
                     if (nnc.isModelCompatibleTo(LoopEndNode.class)) {
                         // make sure entire loop body is executed. Trigger execution of rest if not.
                         // (note that we do not worry about waiting for executing dangling branches, for those
@@ -3613,6 +3617,7 @@ void doAfterExecution(final NodeContainer nc, final NodeContainerExecutionStatus
                             NodeID endID = nnc.getID();
                             NodeID startID = m_workflow.getMatchingLoopStart(endID);
                             loopBodyNodes = m_workflow.findAllNodesConnectedToLoopBody(startID, endID);
+                            knownLoopBodyNodes = loopBodyNodes;
                         } catch (IllegalLoopException ile) {
                             // loop is incorrectly wired. We cannot restart potentially dangling branches
                             latestNodeMessage = new NodeMessage(NodeMessage.Type.ERROR,
@@ -3660,7 +3665,7 @@ void doAfterExecution(final NodeContainer nc, final NodeContainerExecutionStatus
                             try {
                                 slc.setTailNode(nc.getID());
                                 if (!nnc.getNode().getPauseLoopExecution()) {
-                                    restartLoop(slc);
+                                    restartLoop(slc, knownLoopBodyNodes);
                                 } else {
                                     // do nothing - leave successors marked. Cancel execution to stop paused loop.
                                 }
@@ -3673,6 +3678,15 @@ void doAfterExecution(final NodeContainer nc, final NodeContainerExecutionStatus
                             // since we are not yet done with the loop
                             canConfigureSuccessors = false;
                         }
+                    } else if (success && nnc.isModelCompatibleTo(LoopEndNode.class)) {
+                        // loop is done
+                        final FlowLoopContext flc = nnc.getFlowObjectStack().peek(FlowLoopContext.class);
+                        if (flc != null && flc.isFastIteration()) {
+                            LOGGER.debugWithFormat("Loop ending in \"%s\" finished %d iterations in fast iteration "
+                                + "mode, restart overhead %d ms, %d configure calls skipped", nnc.getNameWithID(),
+                                flc.getIterationIndex() + 1, flc.getRestartOverheadNanos() / 1_000_000,
+                                flc.getConfigureCacheHits());
+                        }
                     }
                     if (!success) {
                         // make sure any marks are removed (only for loop ends!)
@@ -3728,7 +3742,20 @@ void doAfterExecution(final NodeContainer nc, final NodeContainerExecutionStatus
      * @param slc FlowLoopContext of the actual loop
      */
     private void restartLoop(final FlowLoopContext slc) throws IllegalLoopException {
+        restartLoop(slc, null);
+    }
+
+    /**
+     * Restart execution of a loop if possible, see {@link #restartLoop(FlowLoopContext)}.
+     *
+     * @param slc FlowLoopContext of the actual loop
+     * @param knownLoopBodyNodes the loop's body if already determined by the caller (saves traversing the workflow
+     *            once per iteration), or null
+     */
+    private void restartLoop(final FlowLoopContext slc, final ArrayList<NodeAndInports> knownLoopBodyNodes)
+        throws IllegalLoopException {
         assert m_workflowLock.isHeldByCurrentThread();
+        final long startNanos = System.nanoTime();
         NodeContainer tailNode = m_workflow.getNode(slc.getTailNode());
         NodeContainer headNode = m_workflow.getNode(slc.getOwner());
         if ((tailNode == null) || (headNode == null)) {
@@ -3738,8 +3765,8 @@ private void restartLoop(final FlowLoopContext slc) throws IllegalLoopException
             throw new IllegalLoopException("Loop Nodes must both be NativeNodeContainers!");
         }
         // (1) find all intermediate node, the loop's "body"
-        ArrayList<NodeAndInports> loopBodyNodes =
-            m_workflow.findAllNodesConnectedToLoopBody(headNode.getID(), tailNode.getID());
+        ArrayList<NodeAndInports> loopBodyNodes = knownLoopBodyNodes != null ? knownLoopBodyNodes
+            : m_workflow.findAllNodesConnectedToLoopBody(headNode.getID(), tailNode.getID());
         // (2) check if any of those nodes are currently executing (note that since 3.0 we are already
         //     marking/queuing those nodes already in doAfterExecute to fix bug 2292!)
         for (NodeAndInports nai : loopBodyNodes) {
@@ -3768,6 +3795,32 @@ private void restartLoop(final FlowLoopContext slc) throws IllegalLoopException
         assert !flc.isInactiveScope();
         flc.incrementIterationIndex();
         // (4-7) reset/configure loop body - or not...
+        // in the fast iteration mode, the body's state changes are notified once the body is ready again
+        final boolean fastIteration =
+            headNNC.getNodeModel() instanceof LoopStartNode lsn && lsn.isFastIterationEnabled();
+        flc.setFastIteration(fastIteration);
+        final boolean coalescing = fastIteration && NodeContainer.beginCoalescingStateChangeNotifications();
+        try {
+            resetConfigureAndMarkLoopBody(headNNC, tailNode, loopBodyNodes);
+        } finally {
+            if (coalescing) {
+                NodeContainer.endCoalescingStateChangeNotifications();
+            }
+            flc.addRestartOverheadNanos(System.nanoTime() - startNanos);
+        }
+        // (8) allow access to tail node
+        ((NativeNodeContainer)headNode).getNode().setLoopEndNode(((NativeNodeContainer)tailNode).getNode());
+        // (9) and finally try to queue the head of this loop!
+        assert headNode.getInternalState().equals(EXECUTED_MARKEDFOREXEC);
+        queueIfQueuable(headNode);
+    }
+
+    /**
+     * Steps (4-7) of {@link #restartLoop(FlowLoopContext, ArrayList)}: resets and configures the loop body (unless the
+     * start node says otherwise) and marks it for execution.
+     */
+    private void resetConfigureAndMarkLoopBody(final NativeNodeContainer headNNC, final NodeContainer tailNode,
+        final ArrayList<NodeAndInports> loopBodyNodes) throws IllegalLoopException {
         if (headNNC.resetAndConfigureLoopBody()) {
             // (4a) reset the nodes in the body (only those -
             //     make sure end of loop is NOT reset). Make sure reset()
@@ -3799,7 +3852,7 @@ private void restartLoop(final FlowLoopContext slc) throws IllegalLoopException
             //     do NOT configure start of loop because otherwise
             //     we will re-create the FlowObjectStack and
             //     remove the loop-object as well!
-            configureNodeAndPortSuccessors(headNode.getID(), null, false, true, false);
+            configureNodeAndPortSuccessors(headNNC.getID(), null, false, true, false);
             // the tail node may have thrown an exception inside
             // configure, so we have to check here if the node
             // is really configured before. (Failing configures in
@@ -3871,11 +3924,6 @@ private void restartLoop(final FlowLoopContext slc) throws IllegalLoopException
             // see above - state is ok
             assert tailNode.getInternalState().equals(CONFIGURED_MARKEDFOREXEC);
         }
-        // (8) allow access to tail node
-        ((NativeNodeContainer)headNode).getNode().setLoopEndNode(((NativeNodeContainer)tailNode).getNode());
-        // (9) and finally try to queue the head of this loop!
-        assert headNode.getInternalState().equals(EXECUTED_MARKEDFOREXEC);
-        queueIfQueuable(headNode);
     }
 
     /* Parallelize this "loop": create appropriate number of parallel
@@ -3915,8 +3963,20 @@ private void parallelizeLoop(final NodeID startID) throws IllegalLoopException {
                 extInConnections.put(npi, index);
                 index++;
             }
+            // with dynamic scheduling, a bounded number of copies of the loop body process one task after another
+            final int nrTasks = startNode.getNrRemoteTasks();
+            final boolean dynamicScheduling = nrTasks > startNode.getNrRemoteChunks()
+                && startNode.getNrRemoteChunks() > 0 && endNode.supportsDynamicScheduling();
+            if (dynamicScheduling) {
+                try {
+                    ParallelizedChunkContentMaster.checkDynamicSchedulingSupport(endNode);
+                } catch (IllegalArgumentException iae) {
+                    throw new IllegalLoopException(iae.getMessage(), iae);
+                }
+            }
+            final int nrChunks = dynamicScheduling ? startNode.getNrRemoteChunks() : nrTasks;
             WorkflowManager subwfm = null;
-            if (startNode.getNrRemoteChunks() > 0) {
+            if (nrChunks > 0) {
                 subwfm = createAndAddSubWorkflow(exposedInportTypes, new PortType[0], "Parallel Chunks");
                 NodeUIInformation startUIPlain = getNodeContainer(startID).getUIInformation();
                 if (startUIPlain != null) {
@@ -3936,8 +3996,9 @@ private void parallelizeLoop(final NodeID startID) throws IllegalLoopException {
                     }
                 }
             }
-            ParallelizedChunkContentMaster pccm =
-                new ParallelizedChunkContentMaster(subwfm, endNode, startNode.getNrRemoteChunks());
+            ParallelizedChunkContentMaster pccm = dynamicScheduling
+                ? new ParallelizedChunkContentMaster(subwfm, endNode, nrChunks, startNode, nrTasks)
+                : new ParallelizedChunkContentMaster(subwfm, endNode, nrChunks);
             final NativeNodeContainer startNC;
             if (subwfm != null && startNode instanceof AbstractPortObjectRepositoryNodeModel) {
                 startNC = (NativeNodeContainer)getNodeContainer(startID);
@@ -3946,7 +4007,7 @@ private void parallelizeLoop(final NodeID startID) throws IllegalLoopException {
             }
 
             ExecutionContext exec = startNC != null ? startNC.createExecutionContext() : null;
-            for (int i = 0; i < startNode.getNrRemoteChunks(); i++) {
+            for (int i = 0; i < nrChunks; i++) {
                 ParallelizedChunkContent copiedNodes =
                     duplicateLoopBodyInSubWFMandAttach(subwfm, extInConnections, startID, endID, loopNodes, i);
                 if (startNC != null) {
@@ -8791,7 +8852,8 @@ public void load(final TemplateNodeContainerPersistor persistor, final MetaNodeL
         LOGGER.debug(() -> String.format("Loading workflow from \"%s\" (version \"%s\" with loader class \"%s\")",
             refDirectory, version, persistor.getClass().getSimpleName()));
         // data files are loaded using a repository of reference tables;
-        Map<Integer, BufferedDataTable> tblRep = new HashMap<Integer, BufferedDataTable>();
+        // (thread-safe as node data is loaded concurrently, see WorkflowIOExecutor)
+        Map<Integer, BufferedDataTable> tblRep = new ConcurrentHashMap<Integer, BufferedDataTable>();
         persistor.preLoadNodeContainer(null, null, result);
         NodeContainerTemplate loadedInstance = null;
         boolean isIsolatedProject = persistor.isProject();
@@ -8978,6 +9040,25 @@ private void postLoad(final Map<NodeID, NodeContainerPersistor> persistorMap,
         final Map<Integer, BufferedDataTable> tblRep, final boolean mustWarnOnDataLoadError,
         final ExecutionMonitor exec, final LoadResult loadResult, final boolean keepNodeMessage)
         throws CanceledExecutionException {
+        // node data can only be loaded concurrently if the table repository is thread-safe (see #load)
+        if (!(tblRep instanceof ConcurrentMap) || !WorkflowIOExecutor.isParallel() || persistorMap.size() < 2) {
+            postLoad(persistorMap, tblRep, mustWarnOnDataLoadError, exec, loadResult, keepNodeMessage, null);
+            return;
+        }
+        try (WorkflowIOExecutor.NodeLoads nodeLoads = new WorkflowIOExecutor.NodeLoads()) {
+            postLoad(persistorMap, tblRep, mustWarnOnDataLoadError, exec, loadResult, keepNodeMessage, nodeLoads);
+        }
+    }
+
+    /**
+     * @param nodeLoads if not null, the node containers of native nodes are loaded concurrently, each after its
+     *            predecessors; metanodes and components as well as the content of all nodes are still loaded by the
+     *            calling thread in topological order
+     */
+    private void postLoad(final Map<NodeID, NodeContainerPersistor> persistorMap,
+        final Map<Integer, BufferedDataTable> tblRep, final boolean mustWarnOnDataLoadError,
+        final ExecutionMonitor exec, final LoadResult loadResult, final boolean keepNodeMessage,
+        final WorkflowIOExecutor.NodeLoads nodeLoads) throws CanceledExecutionException {
         // linked set because we need reverse order later on
         Collection<NodeID> failedNodes = new LinkedHashSet<NodeID>();
         boolean isStateChangePredictable = false;
@@ -8985,14 +9066,19 @@ private void postLoad(final Map<NodeID, NodeContainerPersistor> persistorMap,
         // had NPE below - adding this line to get better debug information
         CheckUtils.checkArgumentNotNull(nodeIDsInPersistorSet,
             "NodeID list from persistor must not be null for workflow %s", getNameWithID());
-        for (NodeID bfsID : m_workflow.createBreadthFirstSortedList(nodeIDsInPersistorSet, true).keySet()) {
+        final Set<NodeID> bfsIDs = m_workflow.createBreadthFirstSortedList(nodeIDsInPersistorSet, true).keySet();
+        final Map<NodeID, LoadResult> concurrentLoadResults = nodeLoads == null ? Collections.emptyMap()
+            : submitNodeContainerLoads(bfsIDs, persistorMap, tblRep, exec, nodeLoads);
+        for (NodeID bfsID : bfsIDs) {
             NodeContainer cont = getNodeContainer(bfsID);
             // initialize node container with CredentialsStore
             if (cont instanceof SingleNodeContainer) {
                 SingleNodeContainer snc = (SingleNodeContainer)cont;
                 snc.setCredentialsStore(m_credentialsStore);
             }
-            LoadResult subResult = new LoadResult(cont.getNameWithID());
+            final boolean isLoadedConcurrently = concurrentLoadResults.containsKey(bfsID);
+            LoadResult subResult =
+                isLoadedConcurrently ? concurrentLoadResults.get(bfsID) : new LoadResult(cont.getNameWithID());
             InternalNodeContainerState contStateBeforeLoadContent = cont.getInternalState();
             NodeOutPort[] predPorts = assemblePredecessorOutPorts(bfsID);
             final int predCount = predPorts.length;
@@ -9029,29 +9115,22 @@ private void postLoad(final Map<NodeID, NodeContainerPersistor> persistorMap,
             exec.setMessage(cont.getNameWithID());
             exec.checkCanceled();
             // two steps below: loadNodeContainer and loadContent
-            ExecutionMonitor sub1 = exec.createSubProgress(1.0 / (2 * m_workflow.getNrNodes()));
-            ExecutionMonitor sub2 = exec.createSubProgress(1.0 / (2 * m_workflow.getNrNodes()));
-            NodeContext.pushContext(cont);
-            try {
-                persistor.loadNodeContainer(tblRep, sub1, subResult);
-            } catch (CanceledExecutionException e) {
-                throw e;
-            } catch (Exception e) {
-                if (!(e instanceof InvalidSettingsException) && !(e instanceof IOException)) {
-                    LOGGER.error("Caught unexpected \"" + e.getClass().getSimpleName() + "\" during node loading", e);
-                }
-                subResult.addError("Errors loading, skipping it: " + e.getMessage());
-                needsReset = true;
-            } finally {
-                NodeContext.removeLastContext();
+            if (isLoadedConcurrently) {
+                needsReset |= nodeLoads.await(bfsID);
+            } else {
+                ExecutionMonitor sub1 = exec.createSubProgress(1.0 / (2 * m_workflow.getNrNodes()));
+                needsReset |= loadNodeContainer(cont, persistor, tblRep, sub1, subResult);
             }
-            sub1.setProgress(1.0);
+            ExecutionMonitor sub2 = exec.createSubProgress(1.0 / (2 * m_workflow.getNrNodes()));
             // if cont == isolated metanodes, then we need to block that metanode as well
             // (that is being asserted in methods which get called indirectly)
             try (WorkflowLock lock = cont instanceof WorkflowManager ? ((WorkflowManager)cont).lock() : lock()) {
                 cont.loadContent(persistor, tblRep, inStack, sub2, subResult, keepNodeMessage);
             }
             sub2.setProgress(1.0);
+            if (nodeLoads != null && !isLoadedConcurrently) {
+                nodeLoads.setLoaded(bfsID);
+            }
             if (persistor.isDirtyAfterLoad()) {
                 cont.setDirty();
             }
@@ -9187,6 +9266,63 @@ private void postLoad(final Map<NodeID, NodeContainerPersistor> persistorMap,
         }
     }
 
+    /**
+     * Submits the loads of the node containers of all native nodes to the given {@link WorkflowIOExecutor.NodeLoads},
+     * each to run after the loads of its predecessors (whose tables it may reference). All other node containers are
+     * registered as loaded by the calling thread.
+     *
+     * @return the load results of the submitted nodes, to be used for the remaining steps of loading those nodes
+     */
+    private Map<NodeID, LoadResult> submitNodeContainerLoads(final Set<NodeID> bfsIDs,
+        final Map<NodeID, NodeContainerPersistor> persistorMap, final Map<Integer, BufferedDataTable> tblRep,
+        final ExecutionMonitor exec, final WorkflowIOExecutor.NodeLoads nodeLoads) {
+        final Map<NodeID, LoadResult> loadResults = new HashMap<>();
+        for (NodeID id : bfsIDs) {
+            final NodeContainer cont = getNodeContainer(id);
+            if (!(cont instanceof NativeNodeContainer)) {
+                nodeLoads.addLoadedByCaller(id);
+                continue;
+            }
+            final NativeNodeContainer nnc = (NativeNodeContainer)cont;
+            nnc.setCredentialsStore(m_credentialsStore);
+            final LoadResult subResult = new LoadResult(cont.getNameWithID());
+            loadResults.put(id, subResult);
+            final NodeContainerPersistor persistor = persistorMap.get(id);
+            final ExecutionMonitor sub1 = exec.createSubProgress(1.0 / (2 * m_workflow.getNrNodes()));
+            final List<NodeID> predecessors = m_workflow.getConnectionsByDest(id).stream()
+                .map(ConnectionContainer::getSource).filter(s -> !s.equals(getID())).collect(Collectors.toList());
+            nodeLoads.submit(id, predecessors, () -> loadNodeContainer(cont, persistor, tblRep, sub1, subResult));
+        }
+        return loadResults;
+    }
+
+    /**
+     * Loads the node container (settings and data) via its persistor.
+     *
+     * @return whether the node needs to be reset because of load errors, which are added to the load result
+     */
+    private static boolean loadNodeContainer(final NodeContainer cont, final NodeContainerPersistor persistor,
+        final Map<Integer, BufferedDataTable> tblRep, final ExecutionMonitor exec, final LoadResult subResult)
+        throws CanceledExecutionException {
+        boolean needsReset = false;
+        NodeContext.pushContext(cont);
+        try {
+            persistor.loadNodeContainer(tblRep, exec, subResult);
+        } catch (CanceledExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            if (!(e instanceof InvalidSettingsException) && !(e instanceof IOException)) {
+                LOGGER.error("Caught unexpected \"" + e.getClass().getSimpleName() + "\" during node loading", e);
+            }
+            subResult.addError("Errors loading, skipping it: " + e.getMessage());
+            needsReset = true;
+        } finally {
+            NodeContext.removeLastContext();
+        }
+        exec.setProgress(1.0);
+        return needsReset;
+    }
+
     private Map<Integer, NodeID> loadNodesAndConnections(final Map<Integer, ? extends NodeContainerPersistor> loaderMap,
         final Set<ConnectionContainerTemplate> connections, final LoadResult loadResult) {
         // id suffix are made unique by using the entries in this map
@@ -53,9 +53,13 @@
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.knime.core.data.TableBackend;
 import org.knime.core.data.TableBackendRegistry;
+import org.knime.core.data.container.storage.TableStoreFormat;
 import org.knime.core.data.container.storage.TableStoreFormatInformation;
+import org.knime.core.data.container.storage.TableStoreFormatRegistry;
+import org.knime.core.data.container.storage.TableStoreFormatUnknownException;
 import org.knime.core.eclipseUtil.OSGIHelper;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.util.CheckUtils;
@@ -63,26 +67,38 @@
 
 /**
  * Represents the configuration as to which {@link TableBackend} is used in a workflow project
- * (workflow level configuration).
+ * (workflow level configuration). Optionally also pins the {@link TableStoreFormat} that is used by the
+ * buffered table backend, overriding the format selected in the preferences.
  * @noreference This class is not intended to be referenced by clients.
  * @author Bernd Wiswedel, KNIME GmbH, Konstanz, Germany
  */
 public final class WorkflowTableBackendSettings {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowTableBackendSettings.class);
+
     private static final String CFG_TABLE_BACKEND = "tableBackend";
     private static final String CFG_TABLE_BACKEND_CLASS = "class";
     private static final String CFG_TABLE_BACKEND_BUNDLE = "bundle";
     private static final String CFG_TABLE_BACKEND_FEATURE = "feature";
     private static final String CFG_TABLE_BACKEND_SHORTNAME = "shortname";
+    private static final String CFG_TABLE_STORE_FORMAT = "tableStoreFormat";
 
     private final TableBackend m_tableBackend;
 
+    /** The format used by the buffered table backend or null if the format from the preferences is used. */
+    private final TableStoreFormat m_tableStoreFormat;
+
     WorkflowTableBackendSettings() {
         this(TableBackendRegistry.getInstance().getDefaultBackendForNewWorkflows());
     }
 
     WorkflowTableBackendSettings(final TableBackend tableBackend) {
+        this(tableBackend, null);
+    }
+
+    WorkflowTableBackendSettings(final TableBackend tableBackend, final TableStoreFormat tableStoreFormat) {
         m_tableBackend = CheckUtils.checkArgumentNotNull(tableBackend);
+        m_tableStoreFormat = tableStoreFormat;
     }
 
     /**
@@ -92,6 +108,13 @@ TableBackend getTableBackend() {
         return m_tableBackend;
     }
 
+    /**
+     * @return the table store format pinned for this workflow, empty if the format from the preferences is used
+     */
+    Optional<TableStoreFormat> getTableStoreFormat() {
+        return Optional.ofNullable(m_tableStoreFormat);
+    }
+
     static WorkflowTableBackendSettings loadSettingsInModel(final NodeSettingsRO settings)
         throws InvalidSettingsException {
         TableBackend tableBackend;
@@ -114,7 +137,22 @@ static WorkflowTableBackendSettings loadSettingsInModel(final NodeSettingsRO set
         } else {
             tableBackend = registry.getPre43TableBackend();
         }
-        return new WorkflowTableBackendSettings(tableBackend);
+        return new WorkflowTableBackendSettings(tableBackend, loadTableStoreFormat(settings));
+    }
+
+    /** Reads the optional table store format (added in 5.3), falls back to the preference if it's not installed. */
+    private static TableStoreFormat loadTableStoreFormat(final NodeSettingsRO settings) {
+        String formatClassName = settings.getString(CFG_TABLE_STORE_FORMAT, null);
+        if (formatClassName == null) {
+            return null;
+        }
+        try {
+            return TableStoreFormatRegistry.getInstance().getTableStoreFormat(formatClassName);
+        } catch (TableStoreFormatUnknownException ex) { // NOSONAR
+            LOGGER.warnWithFormat("Table store format '%s' is not installed -- using format from preferences instead",
+                formatClassName);
+            return null;
+        }
     }
 
     static WorkflowTableBackendSettings loadSettingsInDialog(final NodeSettingsRO settings) {
@@ -135,6 +173,9 @@ void saveSettingsTo(final NodeSettingsWO settings) {
             tableBackendSettings.addString(CFG_TABLE_BACKEND_FEATURE, feature.map(IInstallableUnit::getId).orElse(null));
             tableBackendSettings.addString(CFG_TABLE_BACKEND_SHORTNAME, m_tableBackend.getShortName());
         }
+        if (m_tableStoreFormat != null) {
+            settings.addString(CFG_TABLE_STORE_FORMAT, m_tableStoreFormat.getClass().getName());
+        }
     }
 
     /** Get table backend selected for the current thread / executing workflow. Method resolved corresponding workflow
@@ -153,9 +194,24 @@ public static TableBackend getTableBackendForCurrentContext() {
         return TableBackendRegistry.getInstance().getDefaultBackendForNewWorkflows();
     }
 
+    /** Get the table store format to be used by the buffered table backend for the current thread / executing
+     * workflow. That is the format pinned in the workflow's settings or, if not set or no workflow is detected via
+     * {@link NodeContext}, the format selected in the preferences.
+     * @return The table store format, not null.
+     * @since 5.3
+     */
+    public static TableStoreFormat getTableStoreFormatForCurrentContext() {
+        return Optional.ofNullable(NodeContext.getContext()) //
+            .map(NodeContext::getWorkflowManager) //
+            .flatMap(WorkflowManager::getTableBackendSettings) //
+            .flatMap(WorkflowTableBackendSettings::getTableStoreFormat) //
+            .orElseGet(() -> TableStoreFormatRegistry.getInstance().getInstanceTableStoreFormat());
+    }
+
     @Override
     public String toString() {
-        return String.format("backend: %s", m_tableBackend.getClass().getSimpleName());
+        return String.format("backend: %s, table store format: %s", m_tableBackend.getClass().getSimpleName(),
+            m_tableStoreFormat == null ? "<preferences>" : m_tableStoreFormat.getClass().getSimpleName());
     }
 
     @SuppressWarnings("serial")
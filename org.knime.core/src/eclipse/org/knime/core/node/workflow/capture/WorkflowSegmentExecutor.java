@@ -105,6 +105,10 @@ public final class WorkflowSegmentExecutor {
 
     private final NativeNodeContainer m_hostNode;
 
+    private final String m_workflowName;
+
+    private final boolean m_debug;
+
     private FlowVirtualScopeContext m_flowVirtualScopeContext;
 
     private NodeID m_virtualStartID;
@@ -125,29 +129,66 @@ public final class WorkflowSegmentExecutor {
     public WorkflowSegmentExecutor(final WorkflowSegment ws, final String workflowName, final NodeContainer hostNode,
         final boolean debug, final Consumer<String> warningConsumer) throws KNIMEException {
         m_hostNode = (NativeNodeContainer)hostNode;
-        m_wfm = hostNode.getParent().createAndAddSubWorkflow(new PortType[0], new PortType[0],
-            (debug ? "Debug: " : "") + workflowName);
-        m_flowVirtualScopeContext = new FlowVirtualScopeContext(hostNode.getID());
-        m_wfm.setInitialScopeContext(m_flowVirtualScopeContext);
-        if (!debug) {
-            m_wfm.hideInUI();
+        m_workflowName = workflowName;
+        m_debug = debug;
+        m_wfm = createMetanode();
+
+        // copy workflow segment into metanode
+        WorkflowManager segmentWorkflow = BuildWorkflowsUtil.loadWorkflow(ws, warningConsumer);
+        copyNodesFrom(segmentWorkflow);
+        ws.disposeWorkflow();
+
+        addVirtualIONodes(ws);
+    }
+
+    /**
+     * Creates a new executor by copying the metanode of the given one, including the virtual input and output nodes.
+     * This avoids loading the workflow segment again.
+     */
+    private WorkflowSegmentExecutor(final WorkflowSegmentExecutor template) {
+        m_hostNode = template.m_hostNode;
+        m_workflowName = template.m_workflowName;
+        m_debug = template.m_debug;
+        m_wfm = createMetanode();
+
+        // node id suffixes are retained when pasting into an empty metanode
+        copyNodesFrom(template.m_wfm);
+        m_virtualStartID = m_wfm.getID().createChild(template.m_virtualStartID.getIndex());
+        m_virtualEndID = m_wfm.getID().createChild(template.m_virtualEndID.getIndex());
+    }
+
+    /**
+     * Creates another executor of the same workflow segment and for the same host node. The copy is independent of
+     * this executor, i.e. both can be executed concurrently.
+     *
+     * @return a new executor
+     */
+    WorkflowSegmentExecutor copy() {
+        return new WorkflowSegmentExecutor(this);
+    }
+
+    private WorkflowManager createMetanode() {
+        final WorkflowManager wfm = m_hostNode.getParent().createAndAddSubWorkflow(new PortType[0], new PortType[0],
+            (m_debug ? "Debug: " : "") + m_workflowName);
+        m_flowVirtualScopeContext = new FlowVirtualScopeContext(m_hostNode.getID());
+        wfm.setInitialScopeContext(m_flowVirtualScopeContext);
+        if (!m_debug) {
+            wfm.hideInUI();
         }
 
         // position
-        NodeUIInformation startUIPlain = hostNode.getUIInformation();
+        NodeUIInformation startUIPlain = m_hostNode.getUIInformation();
         if (startUIPlain != null) {
             NodeUIInformation startUI =
                 NodeUIInformation.builder(startUIPlain).translate(new int[]{60, -60, 0, 0}).build();
-            m_wfm.setUIInformation(startUI);
+            wfm.setUIInformation(startUI);
         }
+        return wfm;
+    }
 
-        // copy workflow segment into metanode
-        WorkflowManager segmentWorkflow = BuildWorkflowsUtil.loadWorkflow(ws, warningConsumer);
-        NodeID[] ids = segmentWorkflow.getNodeContainers().stream().map(NodeContainer::getID).toArray(NodeID[]::new);
-        m_wfm.copyFromAndPasteHere(segmentWorkflow, WorkflowCopyContent.builder().setNodeIDs(ids).build());
-        ws.disposeWorkflow();
-
-        addVirtualIONodes(ws);
+    private void copyNodesFrom(final WorkflowManager source) {
+        NodeID[] ids = source.getNodeContainers().stream().map(NodeContainer::getID).toArray(NodeID[]::new);
+        m_wfm.copyFromAndPasteHere(source, WorkflowCopyContent.builder().setNodeIDs(ids).build());
     }
 
     private void addVirtualIONodes(final WorkflowSegment wf) {
@@ -266,6 +307,24 @@ private static void waitWhileInExecution(final WorkflowManager wfm, final Execut
         }
     }
 
+    /**
+     * Resets the nodes executed for the previous input, i.e. the virtual input node and all its successors, such that
+     * the workflow segment can be executed again with new input data. Nodes that don't depend on the input (e.g.
+     * sources of static data) remain executed and are not executed again.
+     */
+    public void reset() {
+        if (m_wfm.canResetNode(m_virtualStartID)) {
+            m_wfm.resetAndConfigureNode(m_virtualStartID);
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the workflow segment is currently being executed
+     */
+    boolean isExecutionInProgress() {
+        return m_wfm.getNodeContainerState().isExecutionInProgress();
+    }
+
     /**
      * Cancels the execution if it is running and removes the virtual node containing the workflow segment from the
      * hosting workflow.
@@ -0,0 +1,321 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow.capture;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.util.Pair;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * A pool of {@link WorkflowSegmentExecutor}s of the same workflow segment, for callers that execute a segment very
+ * often with small inputs. Creating an executor (loading the segment, copying it into a metanode, configuring it) and
+ * disposing it again is then much more expensive than the execution itself.
+ *
+ * <p>
+ * The pool keeps up to a fixed number of executors alive. An executor is taken from the pool for each call to
+ * {@link #executeWorkflow(PortObject[], ExecutionContext)} and returned after it has been reset, which only resets the
+ * nodes depending on the input (see {@link WorkflowSegmentExecutor#reset()}). Different executors run concurrently,
+ * callers block if all executors are in use. Executors are created lazily by copying a template executor that is
+ * never executed itself, or upfront via {@link #prewarm()}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.3
+ * @noreference This class is not intended to be referenced by clients.
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ */
+public final class WorkflowSegmentExecutorPool {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowSegmentExecutorPool.class);
+
+    private final int m_maxSize;
+
+    /** Executors that are ready for the next call, the most recently used one first. */
+    private final BlockingDeque<WorkflowSegmentExecutor> m_idle = new LinkedBlockingDeque<>();
+
+    /** All executors of the pool, idle or in use. */
+    private final Set<WorkflowSegmentExecutor> m_executors = ConcurrentHashMap.newKeySet();
+
+    /** The executor all others are copied from, not part of the pool. */
+    private final WorkflowSegmentExecutor m_template;
+
+    private int m_size;
+
+    private boolean m_isDisposed;
+
+    private final AtomicLong m_calls = new AtomicLong();
+
+    private final AtomicLong m_poolHits = new AtomicLong();
+
+    private final AtomicLong m_poolWaits = new AtomicLong();
+
+    private final AtomicLong m_totalCallNanos = new AtomicLong();
+
+    private final AtomicLong m_maxCallNanos = new AtomicLong();
+
+    /**
+     * Creates a new pool, which loads the workflow segment once into a template executor. For the arguments except for the pool size see
+     * {@link WorkflowSegmentExecutor#WorkflowSegmentExecutor(WorkflowSegment, String, NodeContainer, boolean, Consumer)}.
+     *
+     * @param ws the workflow segment to execute
+     * @param workflowName the name of the metanodes to be created
+     * @param hostNode the node which is responsible for the execution of the workflow segment
+     * @param debug if <code>true</code> the metanodes the workflow segment is executed in will be visible
+     * @param warningConsumer callback for warnings while loading the workflow from the workflow segment
+     * @param maxSize the maximum number of executors, i.e. the maximum number of concurrent executions
+     * @throws KNIMEException If the workflow can't be instantiated from the segment.
+     */
+    public WorkflowSegmentExecutorPool(final WorkflowSegment ws, final String workflowName,
+        final NodeContainer hostNode, final boolean debug, final Consumer<String> warningConsumer, final int maxSize)
+        throws KNIMEException {
+        CheckUtils.checkArgument(maxSize >= 1, "Pool size must be >= 1 but is %d", maxSize);
+        m_maxSize = maxSize;
+        m_template = new WorkflowSegmentExecutor(ws, workflowName, hostNode, debug, warningConsumer);
+    }
+
+    /**
+     * Creates all executors of the pool upfront, such that no call to
+     * {@link #executeWorkflow(PortObject[], ExecutionContext)} has to pay for it.
+     */
+    public void prewarm() {
+        while (reserve()) {
+            m_idle.offerLast(createExecutor());
+        }
+    }
+
+    /**
+     * Executes the workflow segment with one of the executors of the pool, see
+     * {@link WorkflowSegmentExecutor#executeWorkflow(PortObject[], ExecutionContext)}. May be called concurrently.
+     *
+     * @param inputData the input data to be used for execution
+     * @param exec for cancellation
+     * @return the resulting port objects and flow variables
+     * @throws Exception if workflow execution fails
+     */
+    public Pair<PortObject[], List<FlowVariable>> executeWorkflow(final PortObject[] inputData,
+        final ExecutionContext exec) throws Exception { // NOSONAR
+        final long start = System.nanoTime();
+        final WorkflowSegmentExecutor executor = acquire(exec);
+        try {
+            return executor.executeWorkflow(inputData, exec);
+        } finally {
+            release(executor);
+            final long duration = System.nanoTime() - start;
+            m_calls.incrementAndGet();
+            m_totalCallNanos.addAndGet(duration);
+            m_maxCallNanos.accumulateAndGet(duration, Math::max);
+        }
+    }
+
+    private WorkflowSegmentExecutor acquire(final ExecutionContext exec) throws CanceledExecutionException {
+        WorkflowSegmentExecutor executor = m_idle.pollFirst();
+        if (executor != null) {
+            m_poolHits.incrementAndGet();
+            return executor;
+        }
+        if (reserve()) {
+            return createExecutor();
+        }
+        m_poolWaits.incrementAndGet();
+        do {
+            executor = pollIdle();
+            exec.checkCanceled();
+            checkNotDisposed();
+        } while (executor == null);
+        return executor;
+    }
+
+    private WorkflowSegmentExecutor createExecutor() {
+        final WorkflowSegmentExecutor executor;
+        try {
+            executor = m_template.copy();
+        } catch (RuntimeException e) { // NOSONAR
+            synchronized (this) {
+                m_size--;
+            }
+            throw e;
+        }
+        m_executors.add(executor);
+        return executor;
+    }
+
+    /**
+     * Waits up to one second for an idle executor. If the current thread is a worker of a thread pool it is made
+     * invisible while waiting, so that the executing workflow segments can use its slot.
+     */
+    private WorkflowSegmentExecutor pollIdle() throws CanceledExecutionException {
+        try {
+            final var currentPool = ThreadPool.currentPool();
+            if (currentPool == null) {
+                return m_idle.pollFirst(1, TimeUnit.SECONDS);
+            }
+            return currentPool.runInvisible(() -> m_idle.pollFirst(1, TimeUnit.SECONDS));
+        } catch (ExecutionException e) {
+            // `runInvisible` wraps the exceptions thrown by the callable, which can only be an interrupt
+            throw interrupted();
+        } catch (InterruptedException e) { // NOSONAR interrupt flag is restored
+            throw interrupted();
+        }
+    }
+
+    private static CanceledExecutionException interrupted() {
+        Thread.currentThread().interrupt();
+        return new CanceledExecutionException("Interrupted while waiting for an idle workflow segment executor");
+    }
+
+    private void release(final WorkflowSegmentExecutor executor) {
+        try {
+            executor.reset();
+        } catch (RuntimeException e) { // NOSONAR
+            LOGGER.debug("Could not reset workflow segment executor, discarding it", e);
+            discard(executor);
+            return;
+        }
+        if (executor.isExecutionInProgress()) {
+            // e.g. canceled but not yet terminated
+            discard(executor);
+            return;
+        }
+        synchronized (this) {
+            if (!m_isDisposed) {
+                m_idle.offerFirst(executor);
+                return;
+            }
+        }
+        m_executors.remove(executor);
+        executor.dispose();
+    }
+
+    private void discard(final WorkflowSegmentExecutor executor) {
+        m_executors.remove(executor);
+        executor.dispose();
+        synchronized (this) {
+            m_size--;
+        }
+    }
+
+    private synchronized boolean reserve() {
+        checkNotDisposed();
+        if (m_size < m_maxSize) {
+            m_size++;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void checkNotDisposed() {
+        CheckUtils.checkState(!m_isDisposed, "Workflow segment executor pool has been disposed");
+    }
+
+    /**
+     * Cancels all running executions.
+     */
+    public void cancel() {
+        m_executors.forEach(WorkflowSegmentExecutor::cancel);
+    }
+
+    /**
+     * Disposes all idle executors and the ones in use once they are returned. The pool must not be used afterwards.
+     */
+    public void dispose() {
+        synchronized (this) {
+            m_isDisposed = true;
+        }
+        WorkflowSegmentExecutor executor;
+        while ((executor = m_idle.pollFirst()) != null) {
+            m_executors.remove(executor);
+            executor.dispose();
+        }
+        m_template.dispose();
+    }
+
+    /**
+     * @return the current statistics of the pool
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(m_calls.get(), m_poolHits.get(), m_poolWaits.get(), m_size, m_totalCallNanos.get(),
+            m_maxCallNanos.get());
+    }
+
+    /**
+     * Statistics of a {@link WorkflowSegmentExecutorPool}.
+     *
+     * @param calls the number of completed calls
+     * @param poolHits the number of calls that found an idle executor right away
+     * @param poolWaits the number of calls that had to wait for an executor in use by another call
+     * @param size the number of executors
+     * @param totalCallNanos the sum of the durations of all calls, including waiting for an executor
+     * @param maxCallNanos the longest duration of a call
+     */
+    public record Statistics(long calls, long poolHits, long poolWaits, int size, long totalCallNanos,
+        long maxCallNanos) {
+
+        /**
+         * @return the average duration of a call in nanoseconds, 0 if there was none
+         */
+        public long averageCallNanos() {
+            return calls == 0 ? 0 : (totalCallNanos / calls);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME. The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow.virtual.parchunk;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.LoopEndParallelizeNode;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
+import org.knime.core.node.workflow.virtual.VirtualNodeInput;
+
+/**
+ * Hands the tasks of a parallel chunk loop with dynamic scheduling to the copies of the loop body (see
+ * {@link ParallelizedChunkContentMaster}). Once a chunk is executed, its result is passed to
+ * {@link LoopEndParallelizeNode#taskFinished(int, PortObject[])} and the chunk is re-executed with the input of the
+ * next unprocessed task until all tasks are taken. The first failure stops handing out new tasks.
+ * <p>
+ * Each dispatcher has its own thread (started on demand and terminated when idle), so the handling of one chunk never
+ * runs concurrently to the handling of another chunk of the same loop, and a loop whose workflow is locked doesn't
+ * stall the dispatching of other loops.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ChunkTaskDispatcher {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ChunkTaskDispatcher.class);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /** A copy of the loop body as seen by the dispatcher, implemented by {@link ParallelizedChunkContent}. */
+    interface Chunk {
+
+        /** @return whether the chunk is executed, see {@link ParallelizedChunkContent#isExecuted()} */
+        boolean isExecuted();
+
+        /** @return whether the chunk is executing, see {@link ParallelizedChunkContent#executionInProgress()} */
+        boolean executionInProgress();
+
+        /** @return the results of the chunk, see {@link ParallelizedChunkContent#getOutportContent()} */
+        PortObject[] getOutportContent();
+
+        /**
+         * Resets the chunk and executes it with the given input, see
+         * {@link ParallelizedChunkContent#executeTask(VirtualNodeInput)}.
+         *
+         * @param input the input of the next task
+         */
+        void executeTask(VirtualNodeInput input);
+    }
+
+    private final LoopStartParallelizeNode m_startNode;
+
+    private final LoopEndParallelizeNode m_endNode;
+
+    private final Chunk[] m_chunks;
+
+    private final int m_nrTasks;
+
+    /** index of the next task to hand out. */
+    private final AtomicInteger m_nextTask;
+
+    private final AtomicInteger m_nrFinishedTasks = new AtomicInteger();
+
+    private final AtomicInteger m_nrFailedTasks = new AtomicInteger();
+
+    /** task currently processed by each chunk, only accessed by the dispatcher thread (after being set up). */
+    private final int[] m_currentTask;
+
+    /** whether the result of the current task of each chunk has been handled, only accessed by the dispatcher thread. */
+    private final boolean[] m_taskHandled;
+
+    /** set once no more tasks are to be handed out (canceled, failed or cleaned up). */
+    private volatile boolean m_stopDispatching;
+
+    /** at most one thread that is started on demand, tasks are processed in submission order. */
+    private final ThreadPoolExecutor m_executor;
+
+    /**
+     * @param startNode the start node providing the task inputs
+     * @param endNode the end node collecting the task results
+     * @param nrChunks the number of copies of the loop body, chunk <code>i</code> processes task <code>i</code> first
+     * @param nrTasks the number of tasks
+     */
+    ChunkTaskDispatcher(final LoopStartParallelizeNode startNode, final LoopEndParallelizeNode endNode,
+        final int nrChunks, final int nrTasks) {
+        m_startNode = startNode;
+        m_endNode = endNode;
+        m_chunks = new Chunk[nrChunks];
+        m_nrTasks = nrTasks;
+        m_nextTask = new AtomicInteger(nrChunks);
+        m_currentTask = new int[nrChunks];
+        m_taskHandled = new boolean[nrChunks];
+        m_executor = new ThreadPoolExecutor(0, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            final Thread t = new Thread(r, "KNIME-Parallel-Chunk-Dispatcher-" + THREAD_COUNTER.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Registers the chunk that processes the task with the same index first. Its state is checked right away as the
+     * chunk may have finished before its state change listener was registered.
+     *
+     * @param index index of the chunk
+     * @param chunk the chunk
+     */
+    void addChunk(final int index, final Chunk chunk) {
+        m_executor.execute(() -> {
+            m_chunks[index] = chunk;
+            m_currentTask[index] = index;
+            handleChunk(index);
+        });
+    }
+
+    /**
+     * Checks the state of the given chunk asynchronously, see {@link #handleChunk(int)}.
+     *
+     * @param index index of the chunk
+     */
+    void chunkChanged(final int index) {
+        try {
+            m_executor.execute(() -> handleChunk(index));
+        } catch (RejectedExecutionException e) { // NOSONAR
+            // disposed, events of chunks that are being removed are of no interest
+        }
+    }
+
+    /** Stops handing out new tasks. Tasks that are currently processed still have their results passed on. */
+    void stop() {
+        m_stopDispatching = true;
+    }
+
+    /** Stops handing out new tasks and terminates the dispatcher thread, pending state changes are discarded. */
+    void dispose() {
+        m_stopDispatching = true;
+        m_executor.shutdownNow();
+    }
+
+    /** @return number of tasks whose results have been passed to the end node */
+    int nrFinishedTasks() {
+        return m_nrFinishedTasks.get();
+    }
+
+    /** @return number of tasks that failed */
+    int nrFailedTasks() {
+        return m_nrFailedTasks.get();
+    }
+
+    /**
+     * Hands the result of the chunk's current task to the end node and dispatches the next task to the chunk if it is
+     * executed, counts the task as failed if it is neither executed nor executing. Only called by the dispatcher
+     * thread, may be called repeatedly for the same state of the chunk.
+     */
+    private void handleChunk(final int index) {
+        final Chunk chunk = m_chunks[index];
+        if (chunk == null || m_taskHandled[index]) {
+            return;
+        }
+        try {
+            if (chunk.isExecuted()) {
+                m_taskHandled[index] = true;
+                m_endNode.taskFinished(m_currentTask[index], chunk.getOutportContent());
+                m_nrFinishedTasks.incrementAndGet();
+                final int nextTask = m_stopDispatching ? m_nrTasks : m_nextTask.getAndIncrement();
+                if (nextTask < m_nrTasks) {
+                    m_currentTask[index] = nextTask;
+                    m_taskHandled[index] = false;
+                    chunk.executeTask(m_startNode.getVirtualNodeInput(nextTask));
+                }
+            } else if (!chunk.executionInProgress()) {
+                m_taskHandled[index] = true;
+                m_nrFailedTasks.incrementAndGet();
+                m_stopDispatching = true;
+            }
+        } catch (Exception e) { // NOSONAR end node and workflow changes may fail in any way
+            m_taskHandled[index] = true;
+            if (!m_stopDispatching) {
+                LOGGER.error("Processing task " + m_currentTask[index] + " of parallel chunk loop failed: "
+                    + e.getMessage(), e);
+            }
+            m_nrFailedTasks.incrementAndGet();
+            m_stopDispatching = true;
+        }
+        m_endNode.updateStatus();
+    }
+
+}
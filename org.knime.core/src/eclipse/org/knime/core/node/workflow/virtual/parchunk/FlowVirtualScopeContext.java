@@ -133,6 +133,16 @@ public void registerHostNodeForPortObjectPersistence(final NativeNodeContainer h
         m_exec = exec;
     }
 
+    /**
+     * Registers the same host node as the given context, used when a copy of a loop body is reset and re-executed.
+     *
+     * @param other the context to take the host node from
+     */
+    void copyHostNodeFrom(final FlowVirtualScopeContext other) {
+        m_nc = other.m_nc;
+        m_exec = other.m_exec;
+    }
+
     /**
      * Adds a port object to the {@link PortObjectRepository} (to be available to downstream nodes) and the host node
      * (whose node model is of type {@link AbstractPortObjectRepositoryNodeModel}) for persistence.
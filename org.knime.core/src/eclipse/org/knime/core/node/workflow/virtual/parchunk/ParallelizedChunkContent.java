@@ -49,15 +49,18 @@
 package org.knime.core.node.workflow.virtual.parchunk;
 
 import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.NativeNodeContainer;
 import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowLock;
 import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.virtual.VirtualNodeInput;
 
 /**
  * An object representing the copied content of a chunk that is executed in
  * parallel.
  * @author wiswedel, University of Konstanz
  */
-public final class ParallelizedChunkContent {
+public final class ParallelizedChunkContent implements ChunkTaskDispatcher.Chunk {
 
 	private final WorkflowManager m_manager;
 	private final NodeID m_virtualInputID;
@@ -95,6 +98,33 @@ public void executeChunk() {
 	    }
 	}
 
+    /**
+     * Resets this chunk, sets the input of the next task and triggers its execution. Used for dynamic scheduling, see
+     * {@link org.knime.core.node.workflow.LoopStartParallelizeNode#getNrRemoteTasks()}.
+     *
+     * @param input the input of the next task
+     * @since 5.3
+     */
+    @Override
+    public void executeTask(final VirtualNodeInput input) {
+        try (WorkflowLock lock = m_manager.lock()) {
+            final NativeNodeContainer virtualIn =
+                m_manager.getNodeContainer(m_virtualInputID, NativeNodeContainer.class, true);
+            final FlowVirtualScopeContext previousContext =
+                virtualIn.getOutgoingFlowObjectStack().peek(FlowVirtualScopeContext.class);
+            m_manager.resetAndConfigureNode(m_virtualInputID);
+            // the scope context may have been re-created, keep the host node for port object persistence
+            final FlowVirtualScopeContext context =
+                virtualIn.getOutgoingFlowObjectStack().peek(FlowVirtualScopeContext.class);
+            if (previousContext != null && context != null && context != previousContext) {
+                context.copyHostNodeFrom(previousContext);
+            }
+            m_manager.castNodeModel(m_virtualInputID, VirtualParallelizedChunkPortObjectInNodeModel.class)
+                .setVirtualNodeInput(input);
+            m_manager.executeUpToHere(m_virtualOutputID);
+        }
+    }
+
     /**
 	 * @return the virtualOutputID
 	 */
@@ -150,6 +180,7 @@ public void removeAllNodesFromWorkflow() {
     /**
      * @return true if chunk is completely executed.
      */
+    @Override
     public boolean isExecuted() {
         return m_manager.getNodeContainer(m_virtualOutputID).getNodeContainerState().isExecuted();
     }
@@ -157,6 +188,7 @@ public boolean isExecuted() {
     /**
      * @return true if chunk is still being executed (or waiting to be...)
      */
+    @Override
     public boolean executionInProgress() {
         return m_manager.getNodeContainer(m_virtualOutputID).getNodeContainerState().isExecutionInProgress();
     }
@@ -176,6 +208,7 @@ public void cancelExecution() {
     /**
      * @return array with PortObjects at the end node of this chunk.
      */
+    @Override
     public PortObject[] getOutportContent() {
         VirtualParallelizedChunkPortObjectOutNodeModel vpoonm = m_manager.castNodeModel(
                 m_virtualOutputID, VirtualParallelizedChunkPortObjectOutNodeModel.class);
@@ -48,14 +48,24 @@
  */
 package org.knime.core.node.workflow.virtual.parchunk;
 
+import org.knime.core.node.port.PortObject;
 import org.knime.core.node.workflow.LoopEndParallelizeNode;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
 import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeID;
 import org.knime.core.node.workflow.NodeStateChangeListener;
 import org.knime.core.node.workflow.NodeStateEvent;
 import org.knime.core.node.workflow.WorkflowManager;
 
 /**
  * Represents all parallel chunks ({@link ParallelizedChunkContent}) together and also encapsulating metanode.
+ * <p>
+ * With dynamic scheduling (see {@link LoopStartParallelizeNode#getNrRemoteTasks()}) the chunks are replicas of the
+ * loop body that process one task after another: once a chunk is executed, its result is handed to
+ * {@link LoopEndParallelizeNode#taskFinished(int, PortObject[])} and the chunk is reset and re-executed with the
+ * input of the next unprocessed task until all tasks are taken. This is done by a dispatcher thread owned by this
+ * master, hence the handling of a chunk never runs concurrently to the handling of another chunk of the same loop.
+ * </p>
  *
  * @author M. Berthold, University of Konstanz
  */
@@ -70,6 +80,12 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
     /** end node waiting for chunks. */
     private LoopEndParallelizeNode m_endNode;
 
+    /** number of tasks, equals the number of chunks without dynamic scheduling. */
+    private final int m_nrTasks;
+
+    /** collects task results and re-dispatches chunks, only set with dynamic scheduling. */
+    private final ChunkTaskDispatcher m_dispatcher;
+
     /** Create new chunk object master - also knows Workflowmanager
      * the chunks are located in.
      *
@@ -79,12 +95,107 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
      */
     public ParallelizedChunkContentMaster(final WorkflowManager wfm,
             final LoopEndParallelizeNode endNode, final int chunkCount) {
+        this(wfm, endNode, chunkCount, null, chunkCount);
+    }
+
+    /**
+     * Create new chunk object master that uses dynamic scheduling if there are more tasks than chunks. The chunk with
+     * index <code>i</code> is expected to process task <code>i</code> first.
+     *
+     * @param wfm the workflowmanager holding the chunks - can be <code>null</code> if no 'remote' chunks are available
+     * @param endNode corresponding end node of the loop, needs to
+     *            {@link LoopEndParallelizeNode#supportsDynamicScheduling() support dynamic scheduling} if there are
+     *            more tasks than chunks (see {@link #checkDynamicSchedulingSupport(LoopEndParallelizeNode)})
+     * @param chunkCount the number of chunks, i.e., copies of the loop body.
+     * @param startNode corresponding start node of the loop providing the task inputs, can be <code>null</code> if
+     *            there are as many tasks as chunks
+     * @param taskCount the number of tasks, at least the number of chunks
+     * @throws IllegalArgumentException if there are fewer tasks than chunks, or more tasks than chunks but the start
+     *             node is missing or the end node doesn't support dynamic scheduling
+     * @since 5.3
+     */
+    public ParallelizedChunkContentMaster(final WorkflowManager wfm, final LoopEndParallelizeNode endNode,
+        final int chunkCount, final LoopStartParallelizeNode startNode, final int taskCount) {
+        if (taskCount < chunkCount) {
+            throw new IllegalArgumentException(
+                "Number of tasks (" + taskCount + ") less than number of chunks (" + chunkCount + ")");
+        }
+        if (taskCount > chunkCount) {
+            if (startNode == null) {
+                throw new IllegalArgumentException("Dynamic scheduling requires a start node providing the tasks");
+            }
+            checkDynamicSchedulingSupport(endNode);
+        }
         m_manager = wfm;
         m_endNode = endNode;
         m_chunks = new ParallelizedChunkContent[chunkCount];
+        m_nrTasks = taskCount;
+        m_dispatcher =
+            taskCount > chunkCount ? new ChunkTaskDispatcher(startNode, endNode, chunkCount, taskCount) : null;
         m_endNode.setParallelChunkMaster(this);
     }
 
+    /**
+     * Checks whether the given end node can be used with dynamic scheduling, i.e. it
+     * {@link LoopEndParallelizeNode#supportsDynamicScheduling() supports it} and implements
+     * {@link LoopEndParallelizeNode#taskFinished(int, PortObject[])}.
+     *
+     * @param endNode the end node of the loop
+     * @throws IllegalArgumentException if the end node doesn't support dynamic scheduling or claims to support it
+     *             without implementing {@link LoopEndParallelizeNode#taskFinished(int, PortObject[])}
+     * @since 5.3
+     */
+    public static void checkDynamicSchedulingSupport(final LoopEndParallelizeNode endNode) {
+        if (!endNode.supportsDynamicScheduling()) {
+            throw new IllegalArgumentException(
+                "End node " + endNode.getClass().getName() + " does not support dynamic scheduling");
+        }
+        final Class<?> declaringClass;
+        try {
+            declaringClass = endNode.getClass().getMethod("taskFinished", int.class, PortObject[].class)
+                .getDeclaringClass();
+        } catch (NoSuchMethodException e) { // NOSONAR can't happen, it's an interface method
+            throw new IllegalStateException(e);
+        }
+        if (declaringClass == LoopEndParallelizeNode.class) {
+            throw new IllegalArgumentException("End node " + endNode.getClass().getName()
+                + " claims to support dynamic scheduling but does not implement taskFinished");
+        }
+    }
+
+    /**
+     * @return whether the chunks process more than one task each, see class description
+     * @since 5.3
+     */
+    public boolean isDynamicScheduling() {
+        return m_dispatcher != null;
+    }
+
+    /**
+     * @return number of tasks, equals {@link #nrChunks()} without dynamic scheduling
+     * @since 5.3
+     */
+    public int nrTasks() {
+        return m_nrTasks;
+    }
+
+    /**
+     * @return number of tasks whose results have been passed to the end node, only tracked with dynamic scheduling
+     * @since 5.3
+     */
+    public int nrFinishedTasks() {
+        return m_dispatcher != null ? m_dispatcher.nrFinishedTasks() : 0;
+    }
+
+    /**
+     * @return number of tasks that failed, only tracked with dynamic scheduling. No further tasks are started once a
+     *         task failed.
+     * @since 5.3
+     */
+    public int nrFailedTasks() {
+        return m_dispatcher != null ? m_dispatcher.nrFailedTasks() : 0;
+    }
+
     /** Add a new chunk to the list.
      *
      * @param index of chunk
@@ -96,6 +207,9 @@ public void addParallelChunk(final int index, final ParallelizedChunkContent pcc
         }
         m_chunks[index] = pcc;
         pcc.registerLoopEndStateChangeListener(this);
+        if (m_dispatcher != null) {
+            m_dispatcher.addChunk(index, pcc);
+        }
     }
 
     /**
@@ -173,6 +287,9 @@ public int nrFailedChunks() {
      * Trigger cancelation of chunk execution
      */
     public void cancelChunkExecution() {
+        if (m_dispatcher != null) {
+            m_dispatcher.stop();
+        }
         synchronized (m_chunks) {
             for (int i = 0; i < m_chunks.length; i++) {
                 ParallelizedChunkContent pbc = m_chunks[i];
@@ -187,6 +304,9 @@ public void cancelChunkExecution() {
      * Clean up chunks (and containing WFM).
      */
     public void cleanupChunks() {
+        if (m_dispatcher != null) {
+            m_dispatcher.dispose();
+        }
         synchronized (m_chunks) {
             for (int i = 0; i < m_chunks.length; i++) {
                 ParallelizedChunkContent pbc = m_chunks[i];
@@ -214,6 +334,19 @@ public void cleanupChunks() {
      */
     @Override
     public void stateChanged(final NodeStateEvent state) {
+        if (m_dispatcher != null) {
+            final NodeID source = state.getSource();
+            for (int i = 0; i < m_chunks.length; i++) {
+                final ParallelizedChunkContent pcc;
+                synchronized (m_chunks) {
+                    pcc = m_chunks[i];
+                }
+                if (pcc != null && pcc.getVirtualOutputID().equals(source)) {
+                    m_dispatcher.chunkChanged(i);
+                    break;
+                }
+            }
+        }
         // notify end node about new status
         m_endNode.updateStatus();
     }
@@ -45,7 +45,6 @@
  */
 package org.knime.core.util;
 
-import java.util.HashMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
@@ -53,6 +52,7 @@
 import java.util.concurrent.Executor;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.knime.core.node.KNIMEConstants;
@@ -95,13 +95,17 @@
 
     /** Map of finished computations, maps input index (iterator index) to
      * computation. Used to ensure output ordering. */
-    private final HashMap<Long, ComputationTask> m_finishedTasks;
+    private final ConcurrentHashMap<Long, ComputationTask> m_finishedTasks;
+
+    /** Set by the thread that currently passes finished computations to
+     * {@link #processFinished(ComputationTask)}. */
+    private final AtomicBoolean m_isProcessing = new AtomicBoolean();
 
     /** Map of currently running tasks (used for cancelation). */
     private final ConcurrentHashMap<Long, ComputationTask> m_activeTasks;
 
     /** Next output index. */
-    private long m_nextFinishedIndex;
+    private volatile long m_nextFinishedIndex;
 
     /** Next input index. */
     private long m_nextSubmittedIndex;
@@ -146,7 +150,7 @@ public MultiThreadWorker(final int maxQueueSize,
         }
         m_maxQueueSemaphore = new Semaphore(maxQueueSize);
         m_maxActiveInstanceSemaphore = new Semaphore(maxActiveInstanceSize);
-        m_finishedTasks = new HashMap<Long, ComputationTask>(
+        m_finishedTasks = new ConcurrentHashMap<Long, ComputationTask>(
                 (int)(4 / 3.0 * maxQueueSize) + 1);
         m_activeTasks = new ConcurrentHashMap<Long, ComputationTask>(
                 (int)(4 / 3.0 * maxActiveInstanceSize) + 1);
@@ -300,61 +304,88 @@ private void callProcessFinished(final ComputationTask task) {
         assert active == task : "Task with index " + index
             + " not in active task map";
         try {
+            if (isAborted()) {
+                // don't processFinished if canceled
+                m_maxQueueSemaphore.release();
+                return;
+            }
+            ComputationTask nullPrevious = m_finishedTasks.put(index, task);
+            assert nullPrevious == null;
             // Attempt to flush output hash. The output is processed
-            // sequentially according to the input ordering.
-            synchronized (m_finishedTasks) {
-                if (m_exceptionReference.get() != null || m_isCanceled) {
-                    // don't processFinished if canceled
-                    m_maxQueueSemaphore.release();
+            // sequentially according to the input ordering by whichever
+            // thread owns the processing flag; the others just line-up.
+            do {
+                if (!m_isProcessing.compareAndSet(false, true)) {
+                    // the owner re-checks the finished tasks after releasing the flag
                     return;
                 }
-                // is task next-to-be-processed
-                if (index == m_nextFinishedIndex) {
-                    ComputationTask first = task;
-                    do {
-                        try {
-                            processFinished(first);
-                        } catch (Exception e) {
-                            if (e instanceof CancellationException
-                                    || e instanceof InterruptedException) {
-                                // ordinary cancel
-                                m_logger.debug("Cancelling \""
-                                        + getClass().getSimpleName()
-                                        + "\" due to "
-                                        + e.getClass().getSimpleName());
-                            } else {
-                                // abnormal termination
-                                m_exceptionReference.compareAndSet(null, e);
-                            }
-                            innerCancel(true);
-
-                            // we need to release all waiting tasks if an error has occurred, otherwise the "main"
-                            // thread will wait forever
-                            for (int i = 0; i < m_finishedTasks.size(); i++) {
-                                m_maxQueueSemaphore.release();
-                            }
-                            m_finishedTasks.clear();
-
-                            return;
-                        } finally {
-                            m_maxQueueSemaphore.release();
-                        }
-                        m_nextFinishedIndex += 1;
-                        first = m_finishedTasks.remove(m_nextFinishedIndex);
-                        // do while there are more that finished previously
-                    } while (first != null);
-                } else {
-                    // not next-to-be-processed, just line-up
-                    ComputationTask nullPrevious =
-                        m_finishedTasks.put(index, task);
-                    assert nullPrevious == null;
+                try {
+                    processFinishedInOrder();
+                } finally {
+                    m_isProcessing.set(false);
                 }
-            }
+            } while (m_finishedTasks.containsKey(m_nextFinishedIndex)
+                    || (isAborted() && !m_finishedTasks.isEmpty()));
         } finally {
             m_maxActiveInstanceSemaphore.release();
         }
     }
 
+    /** Processes all finished tasks that are next in the input ordering.
+     * Only called by the owner of {@link #m_isProcessing}. */
+    private void processFinishedInOrder() {
+        while (true) {
+            if (isAborted()) {
+                discardFinishedTasks();
+                return;
+            }
+            ComputationTask next = m_finishedTasks.remove(m_nextFinishedIndex);
+            if (next == null) {
+                return;
+            }
+            try {
+                processFinished(next);
+            } catch (Exception e) {
+                if (e instanceof CancellationException
+                        || e instanceof InterruptedException) {
+                    // ordinary cancel
+                    m_logger.debug("Cancelling \""
+                            + getClass().getSimpleName()
+                            + "\" due to "
+                            + e.getClass().getSimpleName());
+                } else {
+                    // abnormal termination
+                    m_exceptionReference.compareAndSet(null, e);
+                }
+                innerCancel(true);
+
+                // we need to release all waiting tasks if an error has occurred, otherwise the "main"
+                // thread will wait forever
+                discardFinishedTasks();
+                return;
+            } finally {
+                m_maxQueueSemaphore.release();
+            }
+            m_nextFinishedIndex += 1;
+        }
+    }
+
+    /** Removes all finished tasks without processing them and releases their
+     * queue permits. */
+    private void discardFinishedTasks() {
+        for (Long index : m_finishedTasks.keySet()) {
+            if (m_finishedTasks.remove(index) != null) {
+                m_maxQueueSemaphore.release();
+            }
+        }
+    }
+
+    /** @return whether an exception has occurred or the execution has been
+     * canceled. */
+    private boolean isAborted() {
+        return m_exceptionReference.get() != null || m_isCanceled;
+    }
+
     /** Cancels an ongoing execution.
      * @param mayInterruptIfRunning If working (and the main thread executing
      * the {@link #run(Iterable) run method}) may be interrupted.
@@ -0,0 +1,603 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A {@link DuplicateChecker} that partitions the keys by their hash into a number of independent shards. Instead of
+ * the keys themselves, each shard keeps 64-bit fingerprints of its keys in memory and spills them as sorted runs of
+ * longs to disk once it holds too many of them. The keys are only appended to a per-shard log (held in memory for
+ * small tables) which is scanned to verify whether two keys with the same fingerprint are really equal. Hence, the
+ * memory needed per key is constant and independent of the key length, keys can be added concurrently as long as they
+ * fall into different shards, and the final merge of the spilled runs in {@link #checkForDuplicates()} processes all
+ * shards in parallel.
+ *
+ * <p>
+ * As with the {@link DuplicateChecker}, duplicates of keys that are still held in memory are detected when the key is
+ * added, all others when {@link #checkForDuplicates()} is called.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.3
+ */
+public final class ShardedDuplicateChecker extends DuplicateChecker {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ShardedDuplicateChecker.class);
+
+    /** The default maximum number of fingerprints a single shard keeps in memory before spilling them to disk. */
+    public static final int DEFAULT_MAX_FINGERPRINTS_PER_SHARD = 1 << 20;
+
+    /** The number of bytes of the key log of a shard kept in memory before it is written to a file. */
+    private static final int KEY_LOG_MEMORY_LIMIT = 1 << 20;
+
+    private static final boolean DISABLE_DUPLICATE_CHECK =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK);
+
+    /** All temporary files that have not been deleted yet, see {@link DuplicateChecker} for why this is no hash set. */
+    private static final List<File> ALL_FILES = new ArrayList<>();
+
+    static {
+        ShutdownHelper.getInstance().appendShutdownHook(() -> {
+            synchronized (ALL_FILES) {
+                ALL_FILES.forEach(File::delete);
+                ALL_FILES.clear();
+            }
+        });
+    }
+
+    private final Shard[] m_shards;
+
+    private final int m_maxStreams;
+
+    /**
+     * Creates a new sharded duplicate checker with default parameters.
+     *
+     * @param nrShards the number of shards, which is also the maximum number of threads used to merge the spilled
+     *            fingerprints; must be at least 1
+     */
+    public ShardedDuplicateChecker(final int nrShards) {
+        this(nrShards, DEFAULT_MAX_FINGERPRINTS_PER_SHARD, MAX_STREAMS);
+    }
+
+    /**
+     * Creates a new sharded duplicate checker.
+     *
+     * @param nrShards the number of shards, which is also the maximum number of threads used to merge the spilled
+     *            fingerprints; must be at least 1
+     * @param maxFingerprintsPerShard the maximum number of fingerprints kept in memory by each shard; must be at least
+     *            1
+     * @param maxStreams the maximum number of streams per shard that are kept open during the merge process, must be
+     *            at least 2
+     */
+    public ShardedDuplicateChecker(final int nrShards, final int maxFingerprintsPerShard, final int maxStreams) {
+        super(maxFingerprintsPerShard, maxStreams);
+        if (nrShards < 1) {
+            throw new IllegalArgumentException("The number of shards must be at least 1: " + nrShards);
+        }
+        if (maxFingerprintsPerShard < 1) {
+            throw new IllegalArgumentException(
+                "The number of fingerprints per shard must be at least 1: " + maxFingerprintsPerShard);
+        }
+        m_maxStreams = maxStreams;
+        m_shards = new Shard[nrShards];
+        for (int i = 0; i < nrShards; i++) {
+            m_shards[i] = new Shard(maxFingerprintsPerShard);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This method may be called concurrently.
+     */
+    @Override
+    public void addKey(final String s) throws DuplicateKeyException, IOException {
+        if (DISABLE_DUPLICATE_CHECK) {
+            return;
+        }
+        final long fingerprint = fingerprint(s);
+        m_shards[shardIndex(fingerprint, m_shards.length)].add(fingerprint, s);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The shards that have spilled fingerprints to disk are merged in parallel.
+     */
+    @Override
+    public void checkForDuplicates() throws DuplicateKeyException, IOException {
+        final List<Shard> spilled = new ArrayList<>();
+        for (Shard shard : m_shards) {
+            if (shard.hasSpilled()) {
+                spilled.add(shard);
+            }
+        }
+        if (spilled.isEmpty()) {
+            // all duplicates have already been detected in addKey
+            return;
+        }
+        if (spilled.size() == 1) {
+            spilled.get(0).checkForDuplicates(m_maxStreams);
+            return;
+        }
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(spilled.size());
+        final List<Future<Void>> futures = new ArrayList<>(spilled.size());
+        for (Shard shard : spilled) {
+            futures.add(pool.enqueue(() -> {
+                shard.checkForDuplicates(m_maxStreams);
+                return null;
+            }));
+        }
+        try {
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while checking for duplicates", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof DuplicateKeyException dke) {
+                throw dke;
+            } else if (cause instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException("Failed to check for duplicates: " + cause.getMessage(), cause);
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+        }
+    }
+
+    /**
+     * Writes the fingerprints of all shards holding at least their share of {@value #MAX_CHUNK_SIZE} fingerprints to
+     * disk.
+     *
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    @Override
+    public void flushIfNecessary() throws IOException {
+        final int threshold = Math.max(1, MAX_CHUNK_SIZE / m_shards.length);
+        for (Shard shard : m_shards) {
+            shard.spillIfLargerThan(threshold);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Shard shard : m_shards) {
+            shard.clear();
+        }
+    }
+
+    /**
+     * Computes a 64-bit fingerprint of the key (FNV-1a over the characters followed by the MurmurHash3 finalizer).
+     *
+     * @param key the key
+     * @return its fingerprint
+     */
+    static long fingerprint(final String key) {
+        long h = 0xcbf29ce484222325L ^ key.length();
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /** Uses the upper bits of the fingerprint; the lower bits address the shard's hash table. */
+    private static int shardIndex(final long fingerprint, final int nrShards) {
+        return (int)(((fingerprint >>> 32) * nrShards) >>> 32);
+    }
+
+    private static File createTempFile(final String suffix) throws IOException {
+        final File file = FileUtil.createTempFile("KNIME_ShardedDuplicateChecker", suffix, false);
+        synchronized (ALL_FILES) {
+            ALL_FILES.add(file);
+        }
+        return file;
+    }
+
+    private static void deleteTempFile(final File file) {
+        if (!file.delete() && file.exists()) {
+            LOGGER.debug("Unable to delete temporary file " + file.getAbsolutePath());
+        }
+        synchronized (ALL_FILES) {
+            ALL_FILES.remove(file);
+        }
+    }
+
+    /**
+     * A partition of the keys. Keeps the fingerprints of the most recently added keys in an open-addressing hash set
+     * and the fingerprints of all others in sorted runs on disk.
+     */
+    private static final class Shard {
+
+        private final int m_maxFingerprints;
+
+        private final List<File> m_runs = new ArrayList<>();
+
+        private final KeyLog m_keyLog = new KeyLog();
+
+        /** Hash set of fingerprints, 0 marks an empty slot (the fingerprint 0 is tracked by a flag). */
+        private long[] m_table = new long[16];
+
+        private boolean m_containsZero;
+
+        private int m_size;
+
+        Shard(final int maxFingerprints) {
+            m_maxFingerprints = maxFingerprints;
+        }
+
+        synchronized void add(final long fingerprint, final String key) throws IOException {
+            if (!insert(fingerprint) && m_keyLog.contains(key)) {
+                // otherwise two different keys share the fingerprint, which is verified again by the merge
+                throw new DuplicateKeyException(key);
+            }
+            m_keyLog.append(key);
+            if (m_size >= m_maxFingerprints) {
+                spill();
+            }
+        }
+
+        synchronized boolean hasSpilled() {
+            return !m_runs.isEmpty();
+        }
+
+        synchronized void spillIfLargerThan(final int threshold) throws IOException {
+            if (m_size >= threshold) {
+                spill();
+            }
+        }
+
+        /** @return true if the fingerprint has not been contained in the in-memory set */
+        private boolean insert(final long fingerprint) {
+            if (fingerprint == 0) {
+                if (m_containsZero) {
+                    return false;
+                }
+                m_containsZero = true;
+                m_size++;
+                return true;
+            }
+            final int mask = m_table.length - 1;
+            int slot = (int)fingerprint & mask;
+            while (m_table[slot] != 0) {
+                if (m_table[slot] == fingerprint) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            m_table[slot] = fingerprint;
+            m_size++;
+            if (2 * m_size > m_table.length) {
+                rehash();
+            }
+            return true;
+        }
+
+        private void rehash() {
+            final long[] old = m_table;
+            m_table = new long[old.length << 1];
+            final int mask = m_table.length - 1;
+            for (long fingerprint : old) {
+                if (fingerprint != 0) {
+                    int slot = (int)fingerprint & mask;
+                    while (m_table[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    m_table[slot] = fingerprint;
+                }
+            }
+        }
+
+        /** Writes the in-memory fingerprints as sorted run to disk and clears the in-memory set. */
+        private void spill() throws IOException {
+            if (m_size == 0) {
+                return;
+            }
+            final long[] sorted = new long[m_size];
+            int i = 0;
+            if (m_containsZero) {
+                sorted[i++] = 0;
+            }
+            for (long fingerprint : m_table) {
+                if (fingerprint != 0) {
+                    sorted[i++] = fingerprint;
+                }
+            }
+            Arrays.sort(sorted);
+            final File run = createTempFile(".run");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run)))) {
+                for (long fingerprint : sorted) {
+                    out.writeLong(fingerprint);
+                }
+            }
+            m_runs.add(run);
+            m_table = new long[16];
+            m_containsZero = false;
+            m_size = 0;
+        }
+
+        /**
+         * Merges all runs (including the fingerprints still held in memory), collecting fingerprints that occur more
+         * than once, and verifies these against the key log.
+         */
+        synchronized void checkForDuplicates(final int maxStreams) throws IOException {
+            spill();
+            final Set<Long> candidates = new HashSet<>();
+            List<File> runs = new ArrayList<>(m_runs);
+            m_runs.clear();
+            try {
+                while (runs.size() > maxStreams) {
+                    final List<File> merged = new ArrayList<>();
+                    for (int i = 0; i < runs.size(); i += maxStreams) {
+                        final List<File> group = runs.subList(i, Math.min(i + maxStreams, runs.size()));
+                        if (group.size() == 1) {
+                            merged.add(group.get(0));
+                        } else {
+                            merged.add(merge(group, candidates, true));
+                            group.forEach(ShardedDuplicateChecker::deleteTempFile);
+                        }
+                    }
+                    runs = merged;
+                }
+                if (runs.size() > 1) {
+                    // last pass, only the duplicates are of interest
+                    merge(runs, candidates, false);
+                }
+            } finally {
+                runs.forEach(ShardedDuplicateChecker::deleteTempFile);
+            }
+            if (!candidates.isEmpty()) {
+                m_keyLog.verify(candidates);
+            }
+        }
+
+        /**
+         * Merges the given sorted runs. Fingerprints contained in more than one run are added to the candidates.
+         *
+         * @return the merged run (containing each fingerprint once) or null if no output is to be written
+         */
+        private static File merge(final List<File> runs, final Set<Long> candidates, final boolean writeOutput)
+            throws IOException {
+            final List<RunReader> readers = new ArrayList<>(runs.size());
+            final PriorityQueue<RunReader> heap = new PriorityQueue<>(runs.size());
+            final File output = writeOutput ? createTempFile(".run") : null;
+            try (DataOutputStream out = writeOutput
+                ? new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output))) : null) {
+                for (File run : runs) {
+                    final RunReader reader = new RunReader(run);
+                    readers.add(reader);
+                    if (reader.advance()) {
+                        heap.add(reader);
+                    }
+                }
+                boolean isFirst = true;
+                long last = 0;
+                while (!heap.isEmpty()) {
+                    final RunReader top = heap.poll();
+                    final long fingerprint = top.m_current;
+                    if (!isFirst && fingerprint == last) {
+                        candidates.add(fingerprint);
+                    } else if (out != null) {
+                        out.writeLong(fingerprint);
+                    }
+                    isFirst = false;
+                    last = fingerprint;
+                    if (top.advance()) {
+                        heap.add(top);
+                    }
+                }
+            } finally {
+                for (RunReader reader : readers) {
+                    reader.close();
+                }
+            }
+            return output;
+        }
+
+        synchronized void clear() {
+            m_runs.forEach(ShardedDuplicateChecker::deleteTempFile);
+            m_runs.clear();
+            m_keyLog.clear();
+            m_table = new long[16];
+            m_containsZero = false;
+            m_size = 0;
+        }
+    }
+
+    /** Sequential reader of a sorted run of fingerprints. */
+    private static final class RunReader implements Comparable<RunReader> {
+
+        private final DataInputStream m_in;
+
+        private long m_current;
+
+        RunReader(final File run) throws IOException {
+            m_in = new DataInputStream(new BufferedInputStream(new FileInputStream(run)));
+        }
+
+        boolean advance() throws IOException {
+            try {
+                m_current = m_in.readLong();
+                return true;
+            } catch (EOFException e) { // NOSONAR end of run
+                return false;
+            }
+        }
+
+        void close() throws IOException {
+            m_in.close();
+        }
+
+        @Override
+        public int compareTo(final RunReader o) {
+            return Long.compare(m_current, o.m_current);
+        }
+    }
+
+    /**
+     * Append-only log of the keys of a shard, used for the exact comparison of keys with equal fingerprints. Held in
+     * memory until it exceeds {@link ShardedDuplicateChecker#KEY_LOG_MEMORY_LIMIT} bytes.
+     */
+    private static final class KeyLog {
+
+        private ByteArrayOutputStream m_memory = new ByteArrayOutputStream();
+
+        private File m_file;
+
+        private DataOutputStream m_out = new DataOutputStream(m_memory);
+
+        void append(final String key) throws IOException {
+            // not writeUTF, which is limited to 64kB
+            m_out.writeInt(key.length());
+            m_out.writeChars(key);
+            if (m_memory != null && m_memory.size() > KEY_LOG_MEMORY_LIMIT) {
+                m_file = createTempFile(".keys");
+                m_out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(m_file)));
+                m_memory.writeTo(m_out);
+                m_memory = null;
+            }
+        }
+
+        /** Scans the log for the given key. */
+        boolean contains(final String key) throws IOException {
+            try (DataInputStream in = openInput()) {
+                String logged;
+                while ((logged = next(in)) != null) {
+                    if (logged.equals(key)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Checks whether any two logged keys whose fingerprint is among the given ones are equal.
+         *
+         * @throws DuplicateKeyException if so
+         */
+        void verify(final Set<Long> fingerprints) throws IOException {
+            final Set<String> keys = new HashSet<>();
+            try (DataInputStream in = openInput()) {
+                String logged;
+                while ((logged = next(in)) != null) {
+                    if (fingerprints.contains(fingerprint(logged)) && !keys.add(logged)) {
+                        throw new DuplicateKeyException(logged);
+                    }
+                }
+            }
+        }
+
+        private DataInputStream openInput() throws IOException {
+            m_out.flush();
+            final InputStream in = m_memory != null ? new ByteArrayInputStream(m_memory.toByteArray())
+                : new BufferedInputStream(new FileInputStream(m_file));
+            return new DataInputStream(in);
+        }
+
+        private static String next(final DataInputStream in) throws IOException {
+            final int length;
+            try {
+                length = in.readInt();
+            } catch (EOFException e) { // NOSONAR end of log
+                return null;
+            }
+            final char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = in.readChar();
+            }
+            return new String(chars);
+        }
+
+        void clear() {
+            try {
+                m_out.close();
+            } catch (IOException e) {
+                LOGGER.debug("Unable to close key log: " + e.getMessage(), e);
+            }
+            if (m_file != null) {
+                deleteTempFile(m_file);
+                m_file = null;
+            }
+            m_memory = new ByteArrayOutputStream();
+            m_out = new DataOutputStream(m_memory);
+        }
+    }
+}
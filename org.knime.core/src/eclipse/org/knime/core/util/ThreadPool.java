@@ -48,20 +48,27 @@
  */
 package org.knime.core.util;
 
-import java.util.HashSet;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.Locale;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.knime.core.node.CanceledExecutionException;
@@ -70,10 +77,57 @@
 /**
  * Implements a sophisticated thread pool.
  *
+ * <p>
+ * A pool limits the number of concurrently running tasks; sub pools (see {@link #createSubPool(int)}) share the
+ * threads of their parent but have their own, possibly lower, limit. The bookkeeping of running, invisible and queued
+ * tasks is lock-free, the threads that eventually run the tasks are provided by a {@link Backend}.
+ *
  * @author Thorsten Meinl, University of Konstanz
  */
 public class ThreadPool {
 
+    /**
+     * The mechanism that provides the threads on which the tasks of a pool (and all its sub pools) are run. The limits
+     * of the pools are independent of the backend, i.e. the backend never runs more tasks than the pools allow.
+     *
+     * @since 5.3
+     */
+    public enum Backend {
+        /**
+         * Dedicated worker threads, which are re-used for subsequent tasks and terminate after some idle time. This is
+         * the default.
+         */
+        WORKER_THREADS,
+
+        /**
+         * A work-stealing {@link ForkJoinPool}. Threads that wait for other tasks of the pool, either through
+         * {@link Future#get()}, {@link ThreadPool#runInvisible(Callable)} or
+         * {@link ThreadPool#waitForTermination()}, are compensated for by the fork/join pool. Tasks that block in
+         * other ways for a long time should do so in {@link ThreadPool#runInvisible(Callable)}.
+         */
+        FORK_JOIN,
+
+        /**
+         * One virtual thread per task, suitable for tasks that mostly block on I/O. Virtual threads require Java 21;
+         * on older runtimes {@link #FORK_JOIN} is used instead.
+         */
+        VIRTUAL_THREADS;
+
+        /**
+         * Returns the backend with the given name, ignoring case.
+         *
+         * @param name the name of a backend, e.g. <tt>fork_join</tt>
+         * @return the backend
+         * @throws IllegalArgumentException if there is no backend with the given name
+         */
+        public static Backend fromName(final String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /** The task that the current thread is running, if it has been taken out of a pool. */
+    private static final ThreadLocal<ScheduledTask> CURRENT_TASK = new ThreadLocal<>();
+
     private class MyFuture<T> extends FutureTask<T> {
         private final CountDownLatch m_startWaiter = new CountDownLatch(1);
         private final ClassLoader m_contextClassloader = Thread.currentThread().getContextClassLoader();
@@ -146,7 +200,18 @@ public boolean cancel(final boolean mayInterruptIfRunning) {
          *             while waiting
          */
         public void waitUntilStarted() throws InterruptedException {
-            m_startWaiter.await();
+            ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                @Override
+                public boolean isReleasable() {
+                    return m_startWaiter.getCount() == 0;
+                }
+
+                @Override
+                public boolean block() throws InterruptedException {
+                    m_startWaiter.await();
+                    return true;
+                }
+            });
         }
 
         /**
@@ -154,14 +219,15 @@ public void waitUntilStarted() throws InterruptedException {
          */
         @Override
         public T get() throws InterruptedException, ExecutionException {
-            if (Thread.currentThread() instanceof Worker) {
-                Worker w = (Worker)Thread.currentThread();
-                w.m_startedFrom.m_invisibleThreads.incrementAndGet();
+            ScheduledTask task = CURRENT_TASK.get();
+            if (task != null) {
+                task.m_pool.m_invisibleThreads.incrementAndGet();
                 try {
                     checkQueue();
+                    awaitDone(-1);
                     return super.get();
                 } finally {
-                    w.m_startedFrom.m_invisibleThreads.decrementAndGet();
+                    task.m_pool.m_invisibleThreads.decrementAndGet();
                 }
             } else {
                 return super.get();
@@ -179,44 +245,185 @@ void checkException() throws InterruptedException, ExecutionException {
         public T get(final long timeout, final TimeUnit unit)
                 throws InterruptedException, ExecutionException,
                 TimeoutException {
-            if (Thread.currentThread() instanceof Worker) {
-                Worker w = (Worker)Thread.currentThread();
-                w.m_startedFrom.m_invisibleThreads.incrementAndGet();
+            ScheduledTask task = CURRENT_TASK.get();
+            if (task != null) {
+                task.m_pool.m_invisibleThreads.incrementAndGet();
                 try {
                     checkQueue();
-                    return super.get(timeout, unit);
+                    awaitDone(Math.max(0, unit.toNanos(timeout)));
+                    if (!isDone()) {
+                        throw new TimeoutException();
+                    }
+                    return super.get();
                 } finally {
-                    w.m_startedFrom.m_invisibleThreads.decrementAndGet();
+                    task.m_pool.m_invisibleThreads.decrementAndGet();
                 }
             } else {
                 return super.get(timeout, unit);
             }
         }
+
+        /**
+         * Waits until the future is done or the timeout has elapsed, allowing a fork/join pool to compensate for the
+         * blocked thread.
+         *
+         * @param timeoutNanos the timeout in nanoseconds, or a negative value to wait without timeout
+         */
+        private void awaitDone(final long timeoutNanos) throws InterruptedException {
+            ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                @Override
+                public boolean isReleasable() {
+                    return isDone();
+                }
+
+                @Override
+                public boolean block() throws InterruptedException {
+                    try {
+                        if (timeoutNanos < 0) {
+                            MyFuture.super.get();
+                        } else {
+                            MyFuture.super.get(timeoutNanos, TimeUnit.NANOSECONDS);
+                        }
+                    } catch (ExecutionException | CancellationException | TimeoutException ex) { // NOSONAR
+                        // reported by the subsequent call to get
+                    }
+                    return true;
+                }
+            });
+        }
+    }
+
+    /**
+     * A future that has been admitted to run by its pool and all ancestor pools. It occupies a slot in each of them
+     * until it has finished.
+     */
+    private static final class ScheduledTask implements Runnable {
+        private final MyFuture<?> m_future;
+
+        private final ThreadPool m_pool;
+
+        private volatile Thread m_thread;
+
+        ScheduledTask(final MyFuture<?> future) {
+            m_future = future;
+            m_pool = future.getPool();
+        }
+
+        /** Runs the future in the current thread and reports any exception. */
+        void execute() {
+            final Thread thread = Thread.currentThread();
+            final ScheduledTask previousTask = CURRENT_TASK.get();
+            // set context class loader after each runnable#run -- we had problems with some cxf web service client
+            // that hijacked the current thread and subsequent runnables were using some URL class loader set by cxf
+            final ClassLoader contextClassLoader = thread.getContextClassLoader();
+            m_thread = thread;
+            CURRENT_TASK.set(this);
+            try {
+                m_future.run();
+                m_future.checkException();
+            } catch (InterruptedException ex) {
+                NodeLogger.getLogger(ThreadPool.class).debug("Thread was interrupted");
+            } catch (CancellationException ex) {
+                NodeLogger.getLogger(ThreadPool.class).debug("Future was canceled");
+            } catch (ExecutionException ex) {
+                if (!(ex.getCause() instanceof CanceledExecutionException)) {
+                    // canceled execution exception is fine and will not be reported
+                    NodeLogger.getLogger(ThreadPool.class).error(
+                        "An exception occurred while executing a runnable.", ex.getCause());
+                }
+            } catch (Exception ex) {
+                // prevent the thread from being terminated
+                NodeLogger.getLogger(ThreadPool.class).error("An exception occurred while executing a runnable.", ex);
+            } finally {
+                thread.setContextClassLoader(contextClassLoader);
+                CURRENT_TASK.set(previousTask);
+                m_thread = null;
+                // an interrupt was meant for the task, not for the thread that is going to run the next one
+                Thread.interrupted(); // NOSONAR
+            }
+        }
+
+        /** Frees the slots occupied by this task and starts queued tasks. */
+        void release() {
+            m_pool.taskFinished(this);
+        }
+
+        @Override
+        public void run() {
+            try {
+                execute();
+            } finally {
+                release();
+            }
+        }
+
+        void interrupt() {
+            Thread thread = m_thread;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Provides the threads for a root pool and all its sub pools.
+     */
+    private abstract static class Dispatcher {
+        /**
+         * Runs the task asynchronously; must call {@link ScheduledTask#execute()} and then
+         * {@link ScheduledTask#release()}.
+         *
+         * @param task an admitted task
+         */
+        abstract void dispatch(ScheduledTask task);
+
+        /**
+         * Called when the maximum thread count of the root pool has changed.
+         *
+         * @param oldValue the previous maximum thread count
+         * @param newValue the new maximum thread count
+         */
+        void maxThreadsChanged(final int oldValue, final int newValue) {
+            // nothing to do by default
+        }
+
+        /** Called when the root pool is garbage collected. */
+        void dispose() {
+            // nothing to do by default
+        }
+
+        static Dispatcher create(final Backend backend, final int maxThreads) {
+            switch (backend) {
+                case FORK_JOIN:
+                    return new ForkJoinDispatcher(maxThreads);
+                case VIRTUAL_THREADS:
+                    return VirtualThreadDispatcher.isSupported() ? new VirtualThreadDispatcher()
+                        : new ForkJoinDispatcher(maxThreads);
+                default:
+                    return new WorkerDispatcher();
+            }
+        }
     }
 
-    private static int workerCounter;
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
 
-    private static class Worker extends Thread {
+    private static final class Worker extends Thread {
         private final Object m_lock = new Object();
 
-        private MyFuture<?> m_runnable;
+        private final WorkerDispatcher m_dispatcher;
 
-        private ThreadPool m_startedFrom;
+        private ScheduledTask m_task;
 
         private boolean m_stopped;
 
-        // set context class loader after each runnable#run -- we had problems with some cxf web service client that
-        // hijacked the current thread and subsequent runnables were using some URL class loader set by cxf
-        private final ClassLoader m_contextClassLoaderAtInit;
-
         /**
          * Creates a new worker.
          */
-        public Worker() {
-            super("KNIME-Worker-" + workerCounter++);
+        Worker(final WorkerDispatcher dispatcher) {
+            super("KNIME-Worker-" + WORKER_COUNTER.getAndIncrement());
             setPriority(Thread.MIN_PRIORITY + 2);
             setDaemon(true);
-            m_contextClassLoaderAtInit = getContextClassLoader();
+            m_dispatcher = dispatcher;
         }
 
         /**
@@ -224,74 +431,193 @@ public Worker() {
          */
         @Override
         public void run() {
-            while (!isInterrupted()) {
-                ThreadPool startedFrom;
+            while (true) {
+                ScheduledTask task;
                 synchronized (m_lock) {
-                    if (m_runnable == null) {
+                    if (m_task == null) {
                         try {
                             m_lock.wait(90 * 1000);
-                            if (m_runnable == null) {
-                                // then the timeout has occurred
-                                // and we end the thread
-                                m_stopped = true;
-                                return;
-                            }
-                        } catch (InterruptedException ex) {
+                        } catch (InterruptedException ex) { // NOSONAR
+                            // the worker is not needed any more, unless it has been woken up at the same time
+                        }
+                        if (m_task == null) {
+                            // then the timeout has occurred (or the worker has been interrupted)
+                            // and we end the thread
+                            m_stopped = true;
                             return;
                         }
                     }
-                    startedFrom = m_startedFrom;
-
-                    try {
-                        m_runnable.run();
-                        m_runnable.checkException();
-                    } catch (InterruptedException ex) {
-                        NodeLogger.getLogger(ThreadPool.class).debug("Thread was interrupted");
-                    } catch (CancellationException ex) {
-                        NodeLogger.getLogger(ThreadPool.class).debug("Future was canceled");
-                    } catch (ExecutionException ex) {
-                        if (!(ex.getCause() instanceof CanceledExecutionException)) {
-                            // canceled execution exception is fine and will not be reported
-                            NodeLogger.getLogger(ThreadPool.class).error(
-                                "An exception occurred while executing a runnable.", ex.getCause());
-                        }
-                    } catch (Exception ex) {
-                        // prevent the worker from being terminated
-                        NodeLogger.getLogger(ThreadPool.class).error("An exception occurred while executing "
-                                + "a runnable.", ex);
-                    } finally {
-                        setContextClassLoader(m_contextClassLoaderAtInit);
+                    task = m_task;
+                }
+                try {
+                    task.execute();
+                } catch (Error e) { // NOSONAR
+                    synchronized (m_lock) {
+                        m_stopped = true;
                     }
-                    m_runnable = null;
+                    task.release();
+                    throw e;
+                }
+                synchronized (m_lock) {
+                    m_task = null;
                 }
-                startedFrom.workerFinished(this);
+                // become available before releasing the slot, so that a queued task can re-use this thread
+                m_dispatcher.m_availableWorkers.add(this);
+                task.release();
             }
         }
 
         /**
-         * Sets the runnable for this (sleeping) worker and awakes it. This
-         * method waits until the worker has finished the previous task if it is
-         * currently executing one.
+         * Sets the task for this (sleeping) worker and awakes it.
          *
-         * @param r the Runnable to run
-         * @param pool the pool from which the worker is taken from
+         * @param task the task to run
          * @return <code>true</code> if the worker has been woken up,
          *         <code>false</code> if not because the thread has already died
          */
-        public boolean wakeup(final MyFuture<?> r, final ThreadPool pool) {
+        boolean wakeup(final ScheduledTask task) {
             synchronized (m_lock) {
-                if (m_stopped || !isAlive()) {
+                if (m_stopped || !isAlive() || (m_task != null)) {
                     return false;
                 }
-                m_runnable = r;
-                m_startedFrom = pool;
+                m_task = task;
                 m_lock.notifyAll();
             }
             return true;
         }
     }
 
-    private final Queue<Worker> m_availableWorkers;
+    private static final class WorkerDispatcher extends Dispatcher {
+        private final Queue<Worker> m_availableWorkers = new ConcurrentLinkedQueue<>();
+
+        @Override
+        void dispatch(final ScheduledTask task) {
+            Worker w = m_availableWorkers.poll();
+            while ((w == null) || !w.wakeup(task)) {
+                w = new Worker(this);
+                w.start();
+            }
+        }
+
+        @Override
+        void maxThreadsChanged(final int oldValue, final int newValue) {
+            if (newValue < oldValue) {
+                for (int i = oldValue - newValue; i >= 0; i--) {
+                    Worker w = m_availableWorkers.poll();
+                    if (w != null) {
+                        w.interrupt();
+                    }
+                }
+            }
+        }
+
+        @Override
+        void dispose() {
+            while (true) {
+                Worker w = m_availableWorkers.poll();
+                if (w == null) {
+                    break;
+                }
+                w.interrupt();
+            }
+        }
+    }
+
+    private static final class ForkJoinDispatcher extends Dispatcher {
+        private static final int MAX_PARALLELISM = 0x7fff;
+
+        /** Time after which idle threads, in particular compensating ones, terminate. */
+        private static final long KEEP_ALIVE_SECONDS = 60;
+
+        private volatile ForkJoinPool m_pool;
+
+        ForkJoinDispatcher(final int parallelism) {
+            m_pool = createForkJoinPool(parallelism);
+        }
+
+        /**
+         * Threads that wait in a managed block are compensated for, hence the parallelism only needs to match the
+         * number of (visible) running tasks. The number of compensating threads is not limited to the default of 256
+         * (many nodes may wait in {@link ThreadPool#runInvisible(Callable)} at the same time), and if the hard limit
+         * of threads is reached a managed block waits without compensation instead of failing.
+         */
+        static ForkJoinPool createForkJoinPool(final int parallelism) {
+            final int p = Math.min(parallelism, MAX_PARALLELISM);
+            return new ForkJoinPool(p, pool -> {
+                ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                t.setName("KNIME-FJ-Worker-" + WORKER_COUNTER.getAndIncrement());
+                t.setPriority(Thread.MIN_PRIORITY + 2);
+                return t;
+            }, null, true, p, MAX_PARALLELISM, 1, pool -> true, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        }
+
+        @Override
+        void dispatch(final ScheduledTask task) {
+            m_pool.execute(task);
+        }
+
+        @Override
+        synchronized void maxThreadsChanged(final int oldValue, final int newValue) {
+            ForkJoinPool pool = m_pool;
+            if (newValue > pool.getParallelism()) {
+                // the parallelism of a fork/join pool is fixed, tasks already submitted to the old one still complete
+                m_pool = createForkJoinPool(newValue);
+                pool.shutdown();
+            }
+        }
+
+        @Override
+        void dispose() {
+            m_pool.shutdown();
+        }
+    }
+
+    private static final class VirtualThreadDispatcher extends Dispatcher {
+        /** Only available in Java 21+. */
+        private static final Method NEW_EXECUTOR = findExecutorFactory();
+
+        private static final AtomicBoolean WARNED = new AtomicBoolean();
+
+        private final ExecutorService m_executor;
+
+        VirtualThreadDispatcher() {
+            try {
+                m_executor = (ExecutorService)NEW_EXECUTOR.invoke(null);
+            } catch (IllegalAccessException | InvocationTargetException ex) {
+                throw new IllegalStateException("Could not create virtual thread executor: " + ex.getMessage(), ex);
+            }
+        }
+
+        private static Method findExecutorFactory() {
+            try {
+                return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            } catch (NoSuchMethodException ex) { // NOSONAR
+                return null;
+            }
+        }
+
+        static boolean isSupported() {
+            if (NEW_EXECUTOR == null && !WARNED.getAndSet(true)) {
+                // no NodeLogger if called during initialization of KNIMEConstants
+                System.err.println("Virtual threads are not supported by this Java runtime ("
+                    + System.getProperty("java.version") + "), using a fork/join pool instead");
+            }
+            return NEW_EXECUTOR != null;
+        }
+
+        @Override
+        void dispatch(final ScheduledTask task) {
+            m_executor.execute(task);
+        }
+
+        @Override
+        void dispose() {
+            m_executor.shutdown();
+        }
+    }
+
+    private final Backend m_backend;
+
+    private final Dispatcher m_dispatcher;
 
     private final AtomicInteger m_maxThreads = new AtomicInteger();
 
@@ -299,11 +625,13 @@ public boolean wakeup(final MyFuture<?> r, final ThreadPool pool) {
 
     private final AtomicInteger m_pendingJobs = new AtomicInteger();
 
+    private final AtomicInteger m_runningThreads = new AtomicInteger();
+
     private final ThreadPool m_parent;
 
     private final Queue<MyFuture<?>> m_queuedFutures;
 
-    private final Set<Worker> m_runningWorkers = new HashSet<Worker>();
+    private final Set<ScheduledTask> m_runningTasks = ConcurrentHashMap.newKeySet();
 
     /**
      * Creates a new ThreadPool with a maximum number of threads.
@@ -311,13 +639,28 @@ public boolean wakeup(final MyFuture<?> r, final ThreadPool pool) {
      * @param maxThreads the maximum number of threads
      */
     public ThreadPool(final int maxThreads) {
+        this(maxThreads, Backend.WORKER_THREADS);
+    }
+
+    /**
+     * Creates a new ThreadPool with a maximum number of threads, whose tasks are run by the given backend.
+     *
+     * @param maxThreads the maximum number of threads
+     * @param backend the backend that provides the threads
+     * @since 5.3
+     */
+    public ThreadPool(final int maxThreads, final Backend backend) {
         if (maxThreads < 1) {
             throw new IllegalArgumentException("Thread count must be > 0");
         }
+        if (backend == null) {
+            throw new IllegalArgumentException("Backend must not be null");
+        }
         m_maxThreads.set(maxThreads);
         m_parent = null;
-        m_queuedFutures = new LinkedList<MyFuture<?>>();
-        m_availableWorkers = new ConcurrentLinkedQueue<Worker>();
+        m_queuedFutures = new ConcurrentLinkedQueue<MyFuture<?>>();
+        m_backend = backend;
+        m_dispatcher = Dispatcher.create(backend, maxThreads);
     }
 
     /**
@@ -333,25 +676,100 @@ protected ThreadPool(final int maxThreads, final ThreadPool parent) {
         m_parent = parent;
         m_maxThreads.set(maxThreads);
         m_queuedFutures = m_parent.m_queuedFutures;
-        m_availableWorkers = null;
+        m_backend = m_parent.m_backend;
+        m_dispatcher = m_parent.m_dispatcher;
     }
 
+    /**
+     * Starts as many queued futures as the pools currently allow.
+     *
+     * @return <code>true</code> if at least one future has been started
+     */
     private boolean checkQueue() {
-        synchronized (m_queuedFutures) {
-            for (Iterator<MyFuture<?>> it = m_queuedFutures.iterator(); it
-                    .hasNext();) {
-                MyFuture<?> f = it.next();
-                if (f.isCancelled()) {
-                    it.remove();
+        ThreadPool root = this;
+        while (root.m_parent != null) {
+            root = root.m_parent;
+        }
+        boolean started = false;
+        for (Iterator<MyFuture<?>> it = m_queuedFutures.iterator(); it.hasNext() && root.hasFreeThread();) {
+            MyFuture<?> f = it.next();
+            if (f.isCancelled()) {
+                if (m_queuedFutures.remove(f)) {
+                    f.getPool().decrementPendingJobs();
+                }
+            } else if (f.getPool().tryAcquireThread()) {
+                // another thread may have started the future in the meantime
+                if (m_queuedFutures.remove(f)) {
+                    f.getPool().start(f);
+                    started = true;
                 } else {
-                    ThreadPool pool = f.getPool();
-                    if (pool.wakeupWorker(f, pool) != null) {
-                        it.remove();
-                        return true;
-                    }
+                    f.getPool().releaseThread();
                 }
             }
         }
+        return started;
+    }
+
+    private boolean hasFreeThread() {
+        return m_runningThreads.get() - m_invisibleThreads.get() < m_maxThreads.get();
+    }
+
+    /**
+     * Reserves a thread in this pool and all its ancestors, if all of them have one available.
+     *
+     * @return <code>true</code> if a thread has been reserved, <code>false</code> otherwise
+     */
+    private boolean tryAcquireThread() {
+        while (true) {
+            int running = m_runningThreads.get();
+            if (running - m_invisibleThreads.get() >= m_maxThreads.get()) {
+                return false;
+            }
+            if (m_runningThreads.compareAndSet(running, running + 1)) {
+                if ((m_parent == null) || m_parent.tryAcquireThread()) {
+                    return true;
+                }
+                m_runningThreads.decrementAndGet();
+                return false;
+            }
+        }
+    }
+
+    /** Gives back a thread reserved by {@link #tryAcquireThread()} without having started a task. */
+    private void releaseThread() {
+        for (ThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_runningThreads.decrementAndGet();
+        }
+    }
+
+    /** Runs the future on a thread reserved by {@link #tryAcquireThread()}. */
+    private void start(final MyFuture<?> future) {
+        ScheduledTask task = new ScheduledTask(future);
+        for (ThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_runningTasks.add(task);
+        }
+        m_dispatcher.dispatch(task);
+    }
+
+    /** Starts the future immediately if this pool allows, otherwise queues it. */
+    private void startOrQueue(final MyFuture<?> future) {
+        incrementPendingJobs();
+        if (tryAcquireThread()) {
+            start(future);
+        } else {
+            m_queuedFutures.add(future);
+            // a thread may have become available after the failed attempt but before the future was queued
+            checkQueue();
+        }
+    }
+
+    /** Starts the future immediately if this pool allows. */
+    private boolean tryStart(final MyFuture<?> future) {
+        if (tryAcquireThread()) {
+            incrementPendingJobs();
+            start(future);
+            return true;
+        }
         return false;
     }
 
@@ -377,6 +795,16 @@ public ThreadPool createSubPool(final int maxThreads) {
         return new ThreadPool(maxThreads, this);
     }
 
+    /**
+     * Returns the backend that runs the tasks of this pool.
+     *
+     * @return the backend, never <code>null</code>
+     * @since 5.3
+     */
+    public Backend getBackend() {
+        return m_backend;
+    }
+
     /**
      * Submits a value-returning task for execution and returns a Future
      * representing the pending results of the task. The method immediately
@@ -405,14 +833,7 @@ public <T> Future<T> enqueue(final Callable<T> task) {
         }
 
         MyFuture<T> ftask = new MyFuture<T>(task);
-
-        synchronized (m_queuedFutures) {
-            incrementPendingJobs();
-            if (wakeupWorker(ftask, this) == null) {
-                m_queuedFutures.add(ftask);
-            }
-        }
-
+        startOrQueue(ftask);
         return ftask;
     }
 
@@ -447,14 +868,7 @@ private void decrementPendingJobs() {
      */
     public Future<?> enqueue(final Runnable r) {
         MyFuture<?> ftask = new MyFuture<Object>(r, null);
-
-        synchronized (m_queuedFutures) {
-            incrementPendingJobs();
-            if (wakeupWorker(ftask, this) == null) {
-                m_queuedFutures.add(ftask);
-            }
-        }
-
+        startOrQueue(ftask);
         return ftask;
     }
 
@@ -484,16 +898,7 @@ public Future<?> enqueue(final Runnable r) {
      */
     public <T> Future<T> trySubmit(final Callable<T> t) {
         MyFuture<T> ftask = new MyFuture<T>(t);
-
-        synchronized (m_queuedFutures) {
-            incrementPendingJobs();
-            if (wakeupWorker(ftask, this) == null) {
-                decrementPendingJobs();
-                return null;
-            }
-        }
-
-        return ftask;
+        return tryStart(ftask) ? ftask : null;
     }
 
     /**
@@ -510,41 +915,7 @@ public <T> Future<T> trySubmit(final Callable<T> t) {
      */
     public Future<?> trySubmit(final Runnable r) {
         MyFuture<?> ftask = new MyFuture<Object>(r, null);
-
-        synchronized (m_queuedFutures) {
-            incrementPendingJobs();
-            if (wakeupWorker(ftask, this) == null) {
-                decrementPendingJobs();
-                return null;
-            }
-        }
-
-        return ftask;
-    }
-
-    private Worker wakeupWorker(final MyFuture<?> task, final ThreadPool pool) {
-        synchronized (m_runningWorkers) {
-            if (m_runningWorkers.size() - m_invisibleThreads.get() < m_maxThreads
-                    .get()) {
-                Worker w;
-                if (m_parent == null) {
-                    w = m_availableWorkers.poll();
-                    while ((w == null) || !w.wakeup(task, pool)) {
-                        w = new Worker();
-                        w.start();
-                    }
-                } else {
-                    w = m_parent.wakeupWorker(task, pool);
-                }
-
-                if (w != null) {
-                    m_runningWorkers.add(w);
-                }
-                return w;
-            } else {
-                return null;
-            }
-        }
+        return tryStart(ftask) ? ftask : null;
     }
 
     /**
@@ -563,7 +934,7 @@ public int getMaxThreads() {
      * @return the number of running threads
      */
     public int getRunningThreads() {
-        return m_runningWorkers.size() - m_invisibleThreads.get();
+        return m_runningThreads.get() - m_invisibleThreads.get();
     }
 
     /**
@@ -583,43 +954,78 @@ public int getRunningThreads() {
      *             reason
      */
     public <T> T runInvisible(final Callable<T> r) throws ExecutionException {
-        if (!(Thread.currentThread() instanceof Worker)) {
+        ScheduledTask task = CURRENT_TASK.get();
+        if (task == null) {
             throw new IllegalThreadStateException("The current thread is not "
                     + "taken out of a thread pool");
         }
 
-        Worker thisWorker = (Worker)Thread.currentThread();
+        if (!task.m_pool.isSubPoolOf(this)) {
+            return task.m_pool.runInvisible(r);
+        }
 
-        boolean b;
-        synchronized (m_runningWorkers) {
-            b = m_runningWorkers.contains(thisWorker);
+        m_invisibleThreads.incrementAndGet();
+        try {
+            checkQueue();
+            InvisibleCall<T> call = new InvisibleCall<>(r);
+            ForkJoinPool.managedBlock(call);
+            return call.getResult();
+        } catch (Exception ex) {
+            throw new ExecutionException(ex);
+        } finally {
+            m_invisibleThreads.decrementAndGet();
         }
+    }
 
-        if (!b) {
-            synchronized (thisWorker.m_startedFrom.m_runningWorkers) {
-                b =
-                        thisWorker.m_startedFrom.m_runningWorkers
-                                .contains(thisWorker);
-            }
+    /** Runs a callable as a managed block, so that a fork/join pool can compensate for the invisible thread. */
+    private static final class InvisibleCall<T> implements ForkJoinPool.ManagedBlocker {
+        private final Callable<T> m_callable;
 
-            if (!b) {
-                throw new IllegalThreadStateException("The current thread is "
-                        + "not taken out of this thread pool");
-            }
-            return thisWorker.m_startedFrom.runInvisible(r);
-        } else {
-            m_invisibleThreads.incrementAndGet();
-            checkQueue();
+        private T m_result;
+
+        private Exception m_exception;
+
+        private boolean m_done;
+
+        InvisibleCall(final Callable<T> callable) {
+            m_callable = callable;
+        }
 
+        @Override
+        public boolean block() {
             try {
-                return r.call();
-            } catch (Exception ex) {
-                throw new ExecutionException(ex);
+                m_result = m_callable.call();
+            } catch (Exception ex) { // NOSONAR
+                m_exception = ex;
             } finally {
-                m_invisibleThreads.decrementAndGet();
+                m_done = true;
             }
+            return true;
         }
 
+        @Override
+        public boolean isReleasable() {
+            return m_done;
+        }
+
+        T getResult() throws Exception {
+            if (m_exception != null) {
+                throw m_exception;
+            }
+            return m_result;
+        }
+    }
+
+    /**
+     * Returns whether this pool is the given pool or one of its (transitive) sub pools.
+     */
+    private boolean isSubPoolOf(final ThreadPool pool) {
+        for (ThreadPool p = this; p != null; p = p.m_parent) {
+            if (p == pool) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -634,15 +1040,10 @@ public void setMaxThreads(final int newValue) {
         if (newValue < 0) {
             throw new IllegalArgumentException("Thread count must be >= 0");
         }
-        if ((m_parent == null) && (newValue < m_maxThreads.get())) {
-            for (int i = (m_maxThreads.get() - newValue); i >= 0; i--) {
-                Worker w = m_availableWorkers.poll();
-                if (w != null) {
-                    w.interrupt();
-                }
-            }
+        int oldValue = m_maxThreads.getAndSet(newValue);
+        if (m_parent == null) {
+            m_dispatcher.maxThreadsChanged(oldValue, newValue);
         }
-        m_maxThreads.set(newValue);
         checkQueue();
     }
 
@@ -650,15 +1051,10 @@ public void setMaxThreads(final int newValue) {
      * Shuts the pool down, still running threads are not interrupted.
      */
     public void shutdown() {
-        synchronized (m_queuedFutures) {
-            Iterator<MyFuture<?>> it = m_queuedFutures.iterator();
-            while (it.hasNext()) {
-                MyFuture<?> future = it.next();
-                if (future.getPool() == this) {
-                    decrementPendingJobs();
-                    future.cancel(true);
-                    it.remove();
-                }
+        for (MyFuture<?> future : m_queuedFutures) {
+            if ((future.getPool() == this) && m_queuedFutures.remove(future)) {
+                decrementPendingJobs();
+                future.cancel(true);
             }
         }
         setMaxThreads(0);
@@ -669,8 +1065,8 @@ public void shutdown() {
      * Interrupts all running jobs.
      */
     public void interruptAll() {
-        for (Worker w : m_runningWorkers) {
-            w.interrupt();
+        for (ScheduledTask t : m_runningTasks) {
+            t.interrupt();
         }
     }
 
@@ -725,50 +1121,47 @@ public Future<?> submit(final Runnable task) throws InterruptedException {
      * @throws InterruptedException if the thread is interrupted while waiting
      */
     public void waitForTermination() throws InterruptedException {
-        synchronized (m_pendingJobs) {
-            ThreadPool currentPool = currentPool();
-            if (currentPool != null) {
-                currentPool.m_invisibleThreads.incrementAndGet();
-            }
-            try {
-                checkQueue();
-                while (m_pendingJobs.get() != 0) {
-                    m_pendingJobs.wait();
+        ThreadPool currentPool = currentPool();
+        if (currentPool != null) {
+            currentPool.m_invisibleThreads.incrementAndGet();
+        }
+        try {
+            checkQueue();
+            ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                @Override
+                public boolean isReleasable() {
+                    return m_pendingJobs.get() == 0;
                 }
-            } finally {
-                if (currentPool != null) {
-                    currentPool.m_invisibleThreads.decrementAndGet();
+
+                @Override
+                public boolean block() throws InterruptedException {
+                    synchronized (m_pendingJobs) {
+                        while (m_pendingJobs.get() != 0) {
+                            m_pendingJobs.wait();
+                        }
+                    }
+                    return true;
                 }
+            });
+        } finally {
+            if (currentPool != null) {
+                currentPool.m_invisibleThreads.decrementAndGet();
             }
         }
     }
 
     /**
-     * This method is called every time a worker has finished.
+     * This method is called every time a task that has been started from this pool has finished.
      *
-     * @param w the finished worker
+     * @param task the finished task
      */
-    protected void workerFinished(final Worker w) {
-        if (m_pendingJobs.decrementAndGet() == 0) {
-            synchronized (m_pendingJobs) {
-                m_pendingJobs.notifyAll();
-            }
-        }
-
-        if (m_parent != null) {
-            synchronized (m_runningWorkers) {
-                m_runningWorkers.remove(w);
-            }
-            m_parent.workerFinished(w);
-        } else { // this is the root pool
-            synchronized (m_runningWorkers) {
-                m_runningWorkers.remove(w);
-                m_availableWorkers.add(w);
-            }
-            if (checkQueue()) {
-                return;
-            }
+    private void taskFinished(final ScheduledTask task) {
+        for (ThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_runningTasks.remove(task);
+            p.m_runningThreads.decrementAndGet();
         }
+        decrementPendingJobs();
+        checkQueue();
     }
 
     /**
@@ -776,14 +1169,8 @@ protected void workerFinished(final Worker w) {
      */
     @Override
     protected void finalize() throws Throwable {
-        if (m_availableWorkers != null) {
-            while (true) {
-                Worker w = m_availableWorkers.poll();
-                if (w == null) {
-                    break;
-                }
-                w.interrupt();
-            }
+        if (m_parent == null) {
+            m_dispatcher.dispose();
         }
         super.finalize();
     }
@@ -795,11 +1182,8 @@ protected void finalize() throws Throwable {
      * @return a thread pool or <code>null</code>
      */
     public static ThreadPool currentPool() {
-        if (Thread.currentThread() instanceof Worker) {
-            return ((Worker)Thread.currentThread()).m_startedFrom;
-        } else {
-            return null;
-        }
+        ScheduledTask task = CURRENT_TASK.get();
+        return task == null ? null : task.m_pool;
     }
 
     /**
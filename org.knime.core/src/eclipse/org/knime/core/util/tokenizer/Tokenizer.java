@@ -76,6 +76,11 @@
  * inside a token or quoted string.
  * <p>
  * You can push back one (the last) token.
+ * <p>
+ * If a read block size is set (see {@link TokenizerSettings#setReadBlockSize(int)}), the tokenizer reads blocks of
+ * characters from the source instead of single characters and copies runs of ordinary characters into the token at
+ * once. With {@link #nextTokenSequence()} tokens can then be read without creating a new string for each of them.
+ * Files can be split into chunks that are tokenized independently, see {@link TokenizerFileChunk}.
  *
  * @author Peter Ohl, University of Konstanz
  */
@@ -165,11 +170,26 @@ public class Tokenizer {
     private int m_eobIdx;
 
     /* we build the token in here */
-    private StringBuffer m_newToken;
+    private StringBuilder m_newToken;
 
-    /* the token returned by the last call to next() */
+    /* the token returned by the last call to next(), created lazily from m_lastTokenSequence */
     private String m_lastToken;
 
+    /* the token returned by the last call to next() or nextTokenSequence(), possibly m_newToken itself */
+    private CharSequence m_lastTokenSequence;
+
+    /* the number of chars read from the source at once, 0 if it's read char by char */
+    private int m_readBlockSize;
+
+    /* the block read from the source if m_readBlockSize > 0, otherwise null */
+    private char[] m_block;
+
+    /* the index of the next char to return from m_block */
+    private int m_blockPos;
+
+    /* the number of valid chars in m_block */
+    private int m_blockLen;
+
     /* flag to remember which quotes we've seen with the last token */
     private Quote m_lastQuotes;
 
@@ -235,8 +255,9 @@ public Tokenizer(final Reader source) {
         m_linesSkipped = 0;
         m_allowLFinQuotes = false;
 
-        m_newToken = new StringBuffer();
+        m_newToken = new StringBuilder();
         m_lastToken = null;
+        m_lastTokenSequence = null;
         m_pushedBack = false;
         m_lastQuotes = null;
         m_lastDelimiter = null;
@@ -275,6 +296,7 @@ public void resetToDefault() {
         m_combineMultipleDelimiters = false;
         m_linesToSkip = 0;
         m_allowLFinQuotes = false;
+        setReadBlockSize(0);
     }
 
     /**
@@ -301,19 +323,40 @@ public boolean lastTokenWasDelimited() {
      * @throws TokenizerException if something goes wrong during tokenizing.
      */
     public String nextToken() throws TokenizerException {
+        nextTokenSequence();
+        if (m_lastToken == null && m_lastTokenSequence != null) {
+            m_lastToken = m_lastTokenSequence.toString();
+        }
+        return m_lastToken;
+    }
+
+    /**
+     * Reads the next token from the stream, like {@link #nextToken()}, but doesn't necessarily create a new string
+     * for it. The returned character sequence may be a view on an internal buffer, which is only valid until the next
+     * call to {@link #nextToken()} or {@link #nextTokenSequence()} and must not be kept by the caller (it can be
+     * converted into a string if needed, though).
+     *
+     * @return The next token from the stream or null at the EOF.
+     * @throws TokenizerException if something goes wrong during tokenizing.
+     * @since 5.3
+     */
+    public CharSequence nextTokenSequence() throws TokenizerException {
 
         m_settingsLocked = true;
 
         if (m_pushedBack) {
             // if the last token got pushed back just return it again.
             m_pushedBack = false;
-            return m_lastToken;
+            return m_lastTokenSequence;
         }
+        m_lastToken = null;
+        m_lastTokenSequence = null;
         if (m_lastDelimiter != null) {
             // if the last delmiter we read must be returned as token, we do so.
             String tmp = m_lastDelimiter;
             m_lastDelimiter = null;
             m_lastToken = tmp;
+            m_lastTokenSequence = tmp;
             m_tokenWasDelimiter = true;
             m_lastTokenWasDelimited = false; // a delimiter is not delimited
             m_lastQuotes = null; // delimiters are not quoted
@@ -330,7 +373,6 @@ public String nextToken() throws TokenizerException {
                 m_linesSkipped++;
             }
         }
-        m_lastToken = null;
         m_newToken.setLength(0);
         m_lastQuotes = null;
         m_tokenWasDelimiter = false;
@@ -346,6 +388,9 @@ public String nextToken() throws TokenizerException {
             if (ctype == 0) {
                 // it's an ordinary character - just add it to the result
                 m_newToken.append((char)c);
+                if (m_block != null) {
+                    appendOrdinaryChars();
+                }
                 c = getNextChar();
                 continue;
             }
@@ -464,12 +509,55 @@ public String nextToken() throws TokenizerException {
             cutOffWhiteSpaces(m_newToken, lastEndQuoteIdx);
         }
         if ((c == EOF) && (m_newToken.length() == 0)) {
-            m_lastToken = null;
+            m_lastTokenSequence = null;
         } else {
-            m_lastToken = m_newToken.toString();
+            m_lastTokenSequence = m_newToken;
         }
-        return m_lastToken;
-    } // nextToken()
+        return m_lastTokenSequence;
+    } // nextTokenSequence()
+
+    /*
+     * Appends all ordinary characters (no special type, no CR or LF) that directly follow in the current block to
+     * the token, saving a call to getNextChar() per character. Only applicable if no characters are pushed back.
+     */
+    private void appendOrdinaryChars() {
+        if (m_eobIdx != m_currIdx) {
+            return;
+        }
+        final int start = m_blockPos;
+        int end = start;
+        while (end < m_blockLen) {
+            final char ch = m_block[end];
+            if ((m_charType[ch & MAX_CHAR] != 0) || (ch == CR) || (ch == LF)) {
+                break;
+            }
+            end++;
+        }
+        if (end > start) {
+            m_newToken.append(m_block, start, end - start);
+            m_readBytes += end - start;
+            m_blockPos = end;
+        }
+    }
+
+    /*
+     * Reads the next character from the source, either directly or from the current block.
+     */
+    private int readSourceChar() throws IOException {
+        if (m_block == null) {
+            return m_source.read();
+        }
+        if (m_blockPos == m_blockLen) {
+            // throws an IOException if the source is closed, just like read()
+            final int read = m_source.read(m_block, 0, m_block.length);
+            m_blockPos = 0;
+            m_blockLen = Math.max(read, 0);
+            if (read <= 0) {
+                return EOF;
+            }
+        }
+        return m_block[m_blockPos++];
+    }
 
     /*
      * Reads the next character either from the readBuffer or the stream. <p> A
@@ -484,7 +572,7 @@ private int getNextChar() {
             // m_currIdx points to the last char read from the buffer
             if (m_eobIdx == m_currIdx) {
                 // we need to read a new character from the stream
-                if ((m_readBuffer[m_currIdx] = m_source.read()) == -1) {
+                if ((m_readBuffer[m_currIdx] = readSourceChar()) == -1) {
                     // seen the EOF. Any further read will cause IOException.
                     m_source.close();
                 }
@@ -492,7 +580,7 @@ private int getNextChar() {
                 if (m_readBuffer[m_currIdx] == CR) {
                     // read the next char to see if we need to swallow the CR
                     m_eobIdx = (m_eobIdx + 1) % BUFFER_LENGTH;
-                    if ((m_readBuffer[m_eobIdx] = m_source.read()) == LF) {
+                    if ((m_readBuffer[m_eobIdx] = readSourceChar()) == LF) {
                         m_currIdx = m_eobIdx;
                         // incr currIdx as well, which makes them equal again...
                     }
@@ -585,7 +673,7 @@ public boolean isWhiteSpace(final char c) {
      * @param str the stringbuffer to modify
      * @param index the lowest index we may modify
      */
-    private void cutOffWhiteSpaces(final StringBuffer str, final int index) {
+    private void cutOffWhiteSpaces(final StringBuilder str, final int index) {
 
         if (str.length() == 0) {
             return;
@@ -681,7 +769,7 @@ private int matchPattern(final String[] patterns) {
         int possibleMatches = patterns.length;
         int charPos;
         int nextChar;
-        StringBuffer buffer = new StringBuffer();
+        StringBuilder buffer = new StringBuilder();
         int result;
         /*
          * Here is what we do: We read one char after each other. With each new
@@ -744,7 +832,7 @@ private int matchPattern(final String[] patterns) {
      * comment begin pattern. Otherwise an assertion will go off. <br>
      */
     private String readComment(final Comment comment) {
-        StringBuffer result = new StringBuffer();
+        StringBuilder result = new StringBuilder();
         String endPattern = comment.getEnd();
         int nextChar;
         int patternLength;
@@ -837,7 +925,7 @@ private String readDelimiter(final Delimiter delim) {
             // if we are not supposed to combine different delims - we still
             // need to check if we should combine delims of this kind
             if (delim.combineConsecutiveDelims()) {
-                StringBuffer buffer = new StringBuffer();
+                StringBuilder buffer = new StringBuilder();
                 int index = 0;
                 while ((nextChar = getNextChar()) != EOF) {
 
@@ -1132,8 +1220,9 @@ public long getReadBytes() {
      * <code>null</code> (indicating the end of the file).
      */
     public void closeSourceStream() {
-        // discard any characters pushed back.
+        // discard any characters pushed back or read ahead.
         clearReadBuffer();
+        m_blockPos = m_blockLen;
         try {
             m_source.close();
         } catch (IOException ioe) {
@@ -1208,6 +1297,14 @@ public void setSettings(final TokenizerSettings ftSettings) {
         m_linesToSkip = ftSettings.getSkipFirstLines();
         // the flag to allow new lines in quoted strings
         m_allowLFinQuotes = ftSettings.allowLFinQuotes();
+        setReadBlockSize(ftSettings.getReadBlockSize());
+    }
+
+    private void setReadBlockSize(final int readBlockSize) {
+        m_readBlockSize = readBlockSize;
+        m_block = readBlockSize > 0 ? new char[readBlockSize] : null;
+        m_blockPos = 0;
+        m_blockLen = 0;
     }
 
     /**
@@ -1234,6 +1331,7 @@ public TokenizerSettings getSettings() {
         result.setCombineMultipleDelimiters(m_combineMultipleDelimiters);
         result.setSkipFirstLines(m_linesToSkip);
         result.allowLFinQuotes(m_allowLFinQuotes);
+        result.setReadBlockSize(m_readBlockSize);
         return result;
     }
 
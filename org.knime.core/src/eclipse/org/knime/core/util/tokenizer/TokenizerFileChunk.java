@@ -0,0 +1,270 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG): created
+ */
+package org.knime.core.util.tokenizer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A range of bytes of a file that can be tokenized independently of the rest of the file, e.g. in order to tokenize a
+ * large file on several threads. A file is split into chunks with {@link #split(Path, Charset, TokenizerSettings, int)}
+ * at line feeds, which is only possible if no token can span across a line feed (see
+ * {@link TokenizerSettings#canSplitAtLineFeeds()}) and the charset encodes a line feed as a single byte that isn't
+ * part of any other character (as in UTF-8 and the single byte charsets). Otherwise the file is a single chunk.
+ *
+ * <p>
+ * The tokenizer of a chunk returns the same tokens as a tokenizer of the whole file would return for this range of the
+ * file. Its line numbers and number of read bytes are relative to the start of the chunk though.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.3
+ */
+public final class TokenizerFileChunk {
+
+    private static final int SCAN_BUFFER_SIZE = 1 << 16;
+
+    private static final byte LF = '\n';
+
+    private static final byte CR = '\r';
+
+    private final Path m_file;
+
+    private final Charset m_charset;
+
+    private final TokenizerSettings m_settings;
+
+    private final long m_start;
+
+    private final long m_end;
+
+    private TokenizerFileChunk(final Path file, final Charset charset, final TokenizerSettings settings,
+        final long start, final long end) {
+        m_file = file;
+        m_charset = charset;
+        m_settings = settings;
+        m_start = start;
+        m_end = end;
+    }
+
+    /**
+     * Splits the file into at most the given number of chunks of about the same size. Each chunk except for the last
+     * one ends after a line feed (and any immediately following line breaks).
+     *
+     * @param file the file to split
+     * @param charset the charset of the file
+     * @param settings the settings of the tokenizers
+     * @param maxChunks the maximum number of chunks, must be &gt;= 1
+     * @return the chunks in the order of the file, at least one
+     * @throws IOException if the file can't be read
+     */
+    public static List<TokenizerFileChunk> split(final Path file, final Charset charset,
+        final TokenizerSettings settings, final int maxChunks) throws IOException {
+        if (maxChunks < 1) {
+            throw new IllegalArgumentException("Number of chunks must be >= 1 but is " + maxChunks);
+        }
+        final var settingsCopy = new TokenizerSettings(settings);
+        final long size = Files.size(file);
+        final List<TokenizerFileChunk> chunks = new ArrayList<>();
+        long start = 0;
+        if (maxChunks > 1 && size > 0 && settingsCopy.canSplitAtLineFeeds() && isLineFeedSingleByte(charset)) {
+            try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final var buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+                for (var i = 1; i < maxChunks; i++) {
+                    final long candidate = Math.max(size * i / maxChunks, start);
+                    final long end = findLineStart(channel, buffer, candidate, size);
+                    if (end >= size) {
+                        break;
+                    }
+                    if (end > start) {
+                        chunks.add(new TokenizerFileChunk(file, charset, settingsCopy, start, end));
+                        start = end;
+                    }
+                }
+            }
+        }
+        chunks.add(new TokenizerFileChunk(file, charset, settingsCopy, start, size));
+        return chunks;
+    }
+
+    /**
+     * Checks that a line feed is encoded as a single byte which doesn't occur in the encoding of any other character.
+     * The latter can't be tested directly, but holds for all ASCII compatible charsets in which the line feed is a
+     * single byte.
+     */
+    private static boolean isLineFeedSingleByte(final Charset charset) {
+        return charset.canEncode() && Arrays.equals("\n".getBytes(charset), new byte[]{LF})
+            && Arrays.equals("\r".getBytes(charset), new byte[]{CR});
+    }
+
+    /**
+     * Finds the start of the first line starting at or after the given position, skipping empty lines (line comments
+     * swallow the line feeds following them). Returns the size of the file if there is none.
+     */
+    private static long findLineStart(final FileChannel channel, final ByteBuffer buffer, final long from,
+        final long size) throws IOException {
+        var seenLF = false;
+        long pos = from;
+        // position of a pending carriage return, only skipped if followed by a line feed
+        long crPos = -1;
+        while (pos < size) {
+            buffer.clear();
+            final int read = channel.read(buffer, pos);
+            if (read <= 0) {
+                break;
+            }
+            for (var i = 0; i < read; i++, pos++) {
+                final byte b = buffer.get(i);
+                if (b == LF) {
+                    seenLF = true;
+                    crPos = -1;
+                } else if (b == CR && seenLF) {
+                    crPos = pos;
+                } else if (seenLF) {
+                    return crPos >= 0 ? crPos : pos;
+                } else {
+                    crPos = -1;
+                }
+            }
+        }
+        return crPos >= 0 ? crPos : size;
+    }
+
+    /**
+     * @return the index of the first byte of the chunk in the file
+     */
+    public long getStart() {
+        return m_start;
+    }
+
+    /**
+     * @return the index after the last byte of the chunk in the file
+     */
+    public long getEnd() {
+        return m_end;
+    }
+
+    /**
+     * Creates a new tokenizer reading the chunk. Lines to be skipped (see
+     * {@link TokenizerSettings#setSkipFirstLines(long)}) are only skipped in the first chunk of the file.
+     *
+     * @return a new tokenizer, it closes the file when it reaches the end of the chunk or
+     *         {@link Tokenizer#closeSourceStream()} is called
+     * @throws IOException if the file can't be opened
+     */
+    public Tokenizer createTokenizer() throws IOException {
+        final var channel = FileChannel.open(m_file, StandardOpenOption.READ);
+        final var tokenizer = new Tokenizer(new InputStreamReader(new RangeInputStream(channel, m_start, m_end),
+            m_charset));
+        if (m_start > 0 && m_settings.getSkipFirstLines() > 0) {
+            final var settings = new TokenizerSettings(m_settings);
+            settings.setSkipFirstLines(0);
+            tokenizer.setSettings(settings);
+        } else {
+            tokenizer.setSettings(m_settings);
+        }
+        return tokenizer;
+    }
+
+    @Override
+    public String toString() {
+        return m_file + " [" + m_start + ", " + m_end + ")";
+    }
+
+    /** Reads a range of a file channel using positional reads. */
+    private static final class RangeInputStream extends InputStream {
+
+        private final FileChannel m_channel;
+
+        private final long m_end;
+
+        private long m_position;
+
+        RangeInputStream(final FileChannel channel, final long start, final long end) {
+            m_channel = channel;
+            m_position = start;
+            m_end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = new byte[1];
+            return read(b, 0, 1) <= 0 ? -1 : (b[0] & 0xFF);
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            final long remaining = m_end - m_position;
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int read = m_channel.read(ByteBuffer.wrap(b, off, (int)Math.min(len, remaining)), m_position);
+            if (read > 0) {
+                m_position += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            m_channel.close();
+        }
+    }
+}
@@ -97,6 +97,8 @@ public class TokenizerSettings {
 
     private boolean m_allowLFinQuotes;
 
+    private int m_readBlockSize;
+
     /* keys used to store parameters in a config object */
     private static final String CFGKEY_DELIMS = "Delimiters";
 
@@ -122,6 +124,15 @@ public class TokenizerSettings {
 
     private static final String CFGKEY_LFINQUOTES = "NewLineInQuotes";
 
+    private static final String CFGKEY_READBLOCKSIZE = "ReadBlockSize";
+
+    /**
+     * A recommended block size for {@link #setReadBlockSize(int)}.
+     *
+     * @since 5.3
+     */
+    public static final int DEFAULT_READ_BLOCK_SIZE = 1 << 16;
+
     /**
      * Creates a new Settings for FileTokenizer object with default settings.
      *
@@ -138,6 +149,7 @@ public TokenizerSettings() {
         m_combineMultiple = false;
         m_skipFirstLines = 0;
         m_allowLFinQuotes = false;
+        m_readBlockSize = 0;
     }
 
     /**
@@ -155,6 +167,7 @@ public TokenizerSettings(final TokenizerSettings clonee) {
         m_combineMultiple = clonee.m_combineMultiple;
         m_skipFirstLines = clonee.m_skipFirstLines;
         m_allowLFinQuotes = clonee.m_allowLFinQuotes;
+        m_readBlockSize = clonee.m_readBlockSize;
     }
 
     /**
@@ -214,6 +227,12 @@ public TokenizerSettings(final NodeSettingsRO settings)
             setSkipFirstLines(settings.getLong(CFGKEY_SKIPLINES, 0));
             // since v2.7.0 - be backward compatible
             allowLFinQuotes(settings.getBoolean(CFGKEY_LFINQUOTES, false));
+            // since v5.3 - be backward compatible
+            final int readBlockSize = settings.getInt(CFGKEY_READBLOCKSIZE, 0);
+            if (readBlockSize < 0) {
+                throw new InvalidSettingsException("Read block size must not be negative: " + readBlockSize);
+            }
+            setReadBlockSize(readBlockSize);
         } // if (settings != null)
     }
 
@@ -257,6 +276,7 @@ public void saveToConfiguration(final NodeSettingsWO cfg) {
         cfg.addBoolean(CFGKEY_COMBMULTI, getCombineMultipleDelimiters());
         cfg.addLong(CFGKEY_SKIPLINES, m_skipFirstLines);
         cfg.addBoolean(CFGKEY_LFINQUOTES, m_allowLFinQuotes);
+        cfg.addInt(CFGKEY_READBLOCKSIZE, m_readBlockSize);
     }
 
     /*
@@ -1179,6 +1199,64 @@ public boolean allowLFinQuotes() {
         return m_allowLFinQuotes;
     }
 
+    /**
+     * Sets the number of characters the tokenizer reads from its source at once. With a block size larger than zero
+     * the tokenizer buffers the source itself and copies runs of ordinary characters into the token at once, which is
+     * considerably faster on large inputs. It reads ahead of the returned tokens though, i.e. the source must not be
+     * read by anyone else while it is tokenized. With zero (the default) the source is read character by character.
+     *
+     * @param readBlockSize the number of characters read at once, 0 to read character by character
+     * @see #DEFAULT_READ_BLOCK_SIZE
+     * @since 5.3
+     */
+    public void setReadBlockSize(final int readBlockSize) {
+        if (readBlockSize < 0) {
+            throw new IllegalArgumentException("Read block size must not be negative: " + readBlockSize);
+        }
+        m_readBlockSize = readBlockSize;
+    }
+
+    /**
+     * @return the number of characters the tokenizer reads from its source at once, 0 if it reads character by
+     *         character
+     * @since 5.3
+     */
+    public int getReadBlockSize() {
+        return m_readBlockSize;
+    }
+
+    /**
+     * Checks whether an input can be split after any line feed into parts that are tokenized independently, with the
+     * same tokens as if the whole input was tokenized at once. This is the case if line feeds are delimiters and no
+     * token or delimiter can span across a line feed, i.e. line feeds are not allowed in quotes, there are no block
+     * comments or line continuations and line feeds are not combined with subsequent delimiters.
+     *
+     * @return <code>true</code> if the input can be split at line feeds
+     * @see TokenizerFileChunk
+     * @since 5.3
+     */
+    public boolean canSplitAtLineFeeds() {
+        if (m_allowLFinQuotes || (m_lineContChar != null) || m_combineMultiple) {
+            return false;
+        }
+        for (Comment comment : m_commentPatterns) {
+            if (!Tokenizer.LF_STR.equals(comment.getEnd())) {
+                return false;
+            }
+        }
+        boolean isLFDelimiter = false;
+        for (Delimiter delim : m_delimPatterns) {
+            final String pattern = delim.getDelimiter();
+            if (pattern.indexOf(Tokenizer.LF_STR) >= 0) {
+                if (!Tokenizer.LF_STR.equals(pattern) || delim.combineConsecutiveDelims()) {
+                    return false;
+                }
+                isLFDelimiter = true;
+            }
+        }
+        return isLFDelimiter;
+    }
+
     /**
      * @return a new vector, with items of type <code>Comment</code>, containing
      *         all currently defined comment patterns. Could be emtpy, but never